@@ -89,7 +89,7 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
     @Override
     protected boolean shouldNotFilter(HttpServletRequest request) {
         String path = request.getServletPath();
-        return path.startsWith("/api/auth/") || path.equals("/api/pot/search") || path.equals("/api/pot/near") || path.equals("/api/pot") ||
+        return path.startsWith("/api/auth/") || path.equals("/api/pot/search") || path.equals("/api/pot/search/page") || path.equals("/api/pot/suggest") || path.equals("/api/pot/near") || path.equals("/api/pot/near/page") || path.equals("/api/pot/changes") || path.equals("/api/pot/cluster") || path.equals("/api/pot") ||
                path.startsWith("/h2-console/");
 //               path.startsWith("/h2-console/") || path.equals("/api/user/me");
     }
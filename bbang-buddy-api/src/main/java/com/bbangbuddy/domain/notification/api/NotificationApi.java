@@ -1,15 +1,21 @@
 package com.bbangbuddy.domain.notification.api;
 
 import com.bbangbuddy.domain.notification.domain.Notification;
+import com.bbangbuddy.domain.notification.dto.NotificationPageDto;
+import com.bbangbuddy.domain.notification.dto.NotificationReadRequestDto;
 import com.bbangbuddy.domain.notification.dto.NotificationRequestDto;
 import com.bbangbuddy.domain.notification.service.NotificationService;
+import com.bbangbuddy.domain.notification.sse.SseEmitterRegistry;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
 import javax.servlet.http.HttpServletResponse;
 import javax.validation.Valid;
+import java.time.LocalDateTime;
 import java.util.List;
 
 /**
@@ -32,16 +38,47 @@ public class NotificationApi {
         return notificationService.getNotifications(token);
     }
 
+    /**
+     * 알림함 키셋 페이지 조회
+     *
+     * 최신순으로 limit건씩 조회하며, 응답의 nextCreatedAt/nextId를 다음 요청의 커서로 전달
+     *
+     * @param token 사용자 토큰
+     * @return 알림 목록과 다음 페이지 커서
+     */
+    @GetMapping("/page")
+    public NotificationPageDto getNotificationPage(@RequestParam("token") String token,
+                                                   @RequestParam(defaultValue = "20") int limit,
+                                                   @RequestParam(required = false)
+                                                   @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime lastCreatedAt,
+                                                   @RequestParam(required = false) Long lastId) {
+        return notificationService.getNotificationPage(token, limit, lastCreatedAt, lastId);
+    }
+
+    /**
+     * 안 읽은 알림 수 조회 (알림 배지)
+     *
+     * @param token 사용자 토큰
+     * @return 안 읽은 알림 수
+     */
+    @GetMapping("/unread-count")
+    public long getUnreadCount(@RequestParam("token") String token) {
+        return notificationService.getUnreadCount(token);
+    }
+
     /**
      * SSE를 통해 알림을 구독하는 엔드포인트
      * @param token 사용자 토큰
+     * @param lastEventId 재연결 시 브라우저가 보내는 마지막 이벤트 id (놓친 알림 재전송)
      * @return SseEmitter 객체
      */
     @CrossOrigin(origins = {"http://localhost:3000", "http://158.180.88.31:3000", "http://bbangbuddy.com", "https://158.180.88.31:3000", "https://bbangbuddy.com"})
     @GetMapping("/subscribe")
-    public SseEmitter subscribe(@RequestParam("token") String token, HttpServletResponse response) {
+    public SseEmitter subscribe(@RequestParam("token") String token,
+                                @RequestHeader(value = "Last-Event-ID", required = false) String lastEventId,
+                                HttpServletResponse response) {
         response.setHeader("X-Accel-Buffering", "no");
-        return notificationService.subscribe(token);
+        return notificationService.subscribe(token, lastEventId);
     }
 
     /**
@@ -55,13 +92,45 @@ public class NotificationApi {
     }
 
     /**
-     * 특정 알림을 읽음 처리하는 엔드포인트s
-     * @param notificationId 사용자 ID
+     * 특정 알림을 읽음 처리하는 엔드포인트
+     * @param notificationId 알림 ID
      */
     @PutMapping("/read-all/{notificationId}")
     public void markAsRead(@PathVariable Long notificationId) {
         notificationService.markAsRead(notificationId);
     }
 
+    /**
+     * 사용자의 알림 중 순번이 upToSeq 이하인 알림을 모두 읽음 처리하는 엔드포인트
+     * @param token 사용자 토큰
+     * @param upToSeq 클라이언트가 본 가장 큰 알림 순번 (알림함 seq, SSE 이벤트 id의 앞부분)
+     * @return 읽음으로 바뀐 알림 수
+     */
+    @PutMapping("/read-all")
+    public int markAllAsRead(@RequestParam("token") String token, @RequestParam Long upToSeq) {
+        return notificationService.markAllAsRead(token, upToSeq);
+    }
+
+    /**
+     * 여러 알림을 한 번에 읽음 처리하는 엔드포인트
+     * @param token 사용자 토큰
+     * @param request 읽음 처리할 알림 ID 목록
+     * @return 읽음으로 바뀐 알림 수
+     */
+    @PutMapping("/read")
+    public int markAsRead(@RequestParam("token") String token, @Valid @RequestBody NotificationReadRequestDto request) {
+        return notificationService.markAsRead(token, request.getNotificationIds());
+    }
+
+    /**
+     * SSE 연결/전송 큐 통계 조회
+     *
+     * @return 연결 수, 전송 대기 메시지 수, 큐 초과로 버린 메시지/끊은 연결 수, 정리한 연결 수
+     */
+    @GetMapping("/sse-stats")
+    public ResponseEntity<SseEmitterRegistry.Stats> getSseStats() {
+        return ResponseEntity.ok(notificationService.getSseStats());
+    }
+
 }
 
@@ -0,0 +1,130 @@
+package com.bbangbuddy.domain.notification.cache;
+
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * @PackageName : com.bbangbuddy.domain.notification.cache
+ * @FileName : NotificationUnreadCache
+ * @Author : hjsim
+ * @Date : 2026-10-18
+ * @Description : 사용자별 안 읽은 알림 수 카운터 캐시 (알림 배지 조회용)
+ *                처음 조회할 때 DB에서 안 읽은 수와 마지막 알림 순번을 같이 채우고, 이후 전송은 증가, 읽음 처리는 감소시켜 DB를 다시 읽지 않는다.
+ *                알림 순번은 사용자별로 커밋 순서대로 빈틈없이 매겨지므로, 전송된 순번이 마지막 순번보다 크면 그 차이만큼 더하고
+ *                (전송 전에 커밋된 알림도 함께 셈) 크지 않으면 적재 때 이미 셌거나 outbox 재시도로 다시 온 알림이라 무시한다.
+ *                읽음 처리는 UPDATE 전에 beginChange()로 받은 값을 decrement에 넘겨, UPDATE 도중 적재된 값은 빼지 않고 다시 세게 한다.
+ *                다른 서버에서의 읽음 처리는 반영되지 않으므로 ttl마다 DB 값으로 다시 채운다.
+ */
+@Component
+public class NotificationUnreadCache {
+
+    private final Cache<String, Counter> counters;
+
+    // 카운터 변경 횟수, 조회 중에 변경이 일어났으면 읽어 온 값을 캐시에 넣지 않는다.
+    private final AtomicLong changes = new AtomicLong();
+
+    public NotificationUnreadCache(@Value("${notification.unread-cache.max-users:100000}") long maxUsers,
+                                   @Value("${notification.unread-cache.ttl-seconds:600}") long ttlSeconds) {
+        this.counters = CacheBuilder.newBuilder()
+                .maximumSize(maxUsers)
+                .expireAfterWrite(ttlSeconds, TimeUnit.SECONDS)
+                .build();
+    }
+
+    /**
+     * 안 읽은 알림 수, 캐시에 없으면 null
+     */
+    public Long get(String userId) {
+        Counter counter = counters.getIfPresent(userId);
+        return counter == null ? null : counter.unread.get();
+    }
+
+    /**
+     * DB 조회 전에 받아 두고 put에 넘기는 변경 횟수
+     */
+    public long stamp() {
+        return changes.get();
+    }
+
+    /**
+     * DB에서 읽은 안 읽은 알림 수 저장
+     * stamp 이후 전송/읽음 처리가 있었으면 읽은 값이 이미 지난 상태일 수 있으므로 저장하지 않는다.
+     */
+    public synchronized void put(String userId, long unread, long lastSeq, long stamp) {
+        if (changes.get() == stamp) {
+            counters.put(userId, new Counter(unread, lastSeq, stamp));
+        }
+    }
+
+    /**
+     * 알림 전송 시 증가, 캐시에 있는 마지막 순번 뒤의 알림만 센다. (캐시에 없으면 다음 조회 때 DB에서 센다)
+     * 읽음 처리처럼 변경 횟수를 올리지 않아도, 적재 값과 같은 시점의 순번으로 이미 센 알림을 가르므로 두 번 세지 않는다.
+     *
+     * @param seq 전송한 알림의 사용자별 순번
+     */
+    public synchronized void increment(String userId, long seq) {
+        Counter counter = counters.getIfPresent(userId);
+        if (counter == null || seq <= counter.lastSeq) {
+            return;
+        }
+        counter.unread.addAndGet(seq - counter.lastSeq);
+        counter.lastSeq = seq;
+    }
+
+    /**
+     * 읽음 처리 UPDATE 직전에 호출, 진행 중인 조회 결과가 캐시에 들어가지 않게 하고 decrement에 넘길 값을 반환
+     */
+    public synchronized long beginChange() {
+        return changes.incrementAndGet();
+    }
+
+    /**
+     * 읽음 처리한 알림 수만큼 감소 (0 아래로 내려가지 않음)
+     * beginChange 이후에 적재된 값은 UPDATE 반영 여부를 알 수 없으므로 빼지 않고 항목을 제거한다.
+     *
+     * @param count 읽음으로 바뀐 알림 수 (UPDATE 결과)
+     * @param changeStamp UPDATE 전에 beginChange()로 받은 값
+     */
+    public synchronized void decrement(String userId, long count, long changeStamp) {
+        changes.incrementAndGet();
+        Counter counter = counters.getIfPresent(userId);
+        if (counter == null || count <= 0) {
+            return;
+        }
+        if (counter.loadStamp >= changeStamp) {
+            counters.invalidate(userId);
+            return;
+        }
+        counter.unread.updateAndGet(unread -> Math.max(0L, unread - count));
+    }
+
+    /**
+     * 증감으로 맞출 수 없는 변경(전송 없이 저장한 알림, 순번 없이 전송된 알림 등) 시 사용자 항목 제거
+     */
+    public synchronized void invalidate(String userId) {
+        changes.incrementAndGet();
+        counters.invalidate(userId);
+    }
+
+    // 사용자 한 명의 안 읽은 알림 수
+    private static final class Counter {
+
+        private final AtomicLong unread;
+        private final long loadStamp;
+        // 센 알림 중 마지막 순번 (increment에서만 바꾸며 synchronized 안에서 읽고 씀)
+        private long lastSeq;
+
+        private Counter(long unread, long lastSeq, long loadStamp) {
+            this.unread = new AtomicLong(unread);
+            this.lastSeq = lastSeq;
+            this.loadStamp = loadStamp;
+        }
+
+    }
+
+}
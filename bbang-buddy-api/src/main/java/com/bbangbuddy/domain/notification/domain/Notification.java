@@ -18,10 +18,16 @@ import java.time.LocalDateTime;
 @NoArgsConstructor
 @AllArgsConstructor
 @Getter
-@Table(name = "NOTIFICATION")
+@Table(name = "NOTIFICATION",
+        indexes = {
+                @Index(name = "IDX_NOTIFICATION_USER_CREATED", columnList = "USER_ID, CREATED_AT, ID"),
+                @Index(name = "UK_NOTIFICATION_USER_SEQ", columnList = "USER_ID, SEQ", unique = true)
+        })
 public class Notification {
+    // IDENTITY는 insert마다 키를 받아와야 해 JDBC 배치가 꺼지므로 시퀀스에서 50개씩 미리 할당(pooled)한다.
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "NOTIFICATION_SEQ_GENERATOR")
+    @SequenceGenerator(name = "NOTIFICATION_SEQ_GENERATOR", sequenceName = "NOTIFICATION_SEQ", allocationSize = 50)
     @Column(name = "ID")
     private Long id;
 
@@ -40,6 +46,14 @@ public class Notification {
     @Column(nullable = false, name="IS_READ")
     private boolean isRead;
 
+    // 사용자별 알림 순번 (커밋 순서와 같음, SSE 이벤트 id와 재연결 재전송 기준), NotificationSeqService가 저장 전에 매긴다.
+    @Column(name = "SEQ")
+    private Long seq;
+
+    public void assignSeq(long seq) {
+        this.seq = seq;
+    }
+
     @PrePersist
     protected void onCreate() {
         this.createdAt = LocalDateTime.now();
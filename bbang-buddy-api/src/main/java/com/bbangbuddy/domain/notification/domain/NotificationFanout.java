@@ -0,0 +1,50 @@
+package com.bbangbuddy.domain.notification.domain;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import javax.persistence.*;
+import java.time.LocalDateTime;
+
+/**
+ * @PackageName : com.bbangbuddy.domain.notification.domain
+ * @FileName : NotificationFanout
+ * @Author : hjsim
+ * @Date : 2026-10-18
+ * @Description :  서버(노드) 간 알림 전달 엔티티
+ *                 한 노드의 outbox 전송 batch 하나가 행 하나(MESSAGES에 수신자별 메시지 JSON 배열)로 저장되고,
+ *                 다른 노드들이 ID 순으로 읽어 자기 노드에 연결된 사용자에게만 전송한다.
+ */
+@Entity
+@Table(name = "NOTIFICATION_FANOUT")
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class NotificationFanout {
+
+    // 노드들이 ID 순서로 따라 읽으므로 미리 할당(pooled)하지 않고 하나씩 받는다. (batch당 한 행이라 부담이 적음)
+    @Id
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "NOTIFICATION_FANOUT_SEQ_GENERATOR")
+    @SequenceGenerator(name = "NOTIFICATION_FANOUT_SEQ_GENERATOR", sequenceName = "NOTIFICATION_FANOUT_SEQ", allocationSize = 1)
+    @Column(name = "ID")
+    private Long id;
+
+    @Column(name = "ORIGIN_NODE", nullable = false, length = 100)
+    private String originNode;
+
+    @Lob
+    @Column(name = "MESSAGES", nullable = false)
+    private String messages;
+
+    @Column(name = "CREATED_AT", nullable = false, updatable = false)
+    private LocalDateTime createdAt;
+
+    @PrePersist
+    protected void onCreate() {
+        this.createdAt = LocalDateTime.now();
+    }
+
+}
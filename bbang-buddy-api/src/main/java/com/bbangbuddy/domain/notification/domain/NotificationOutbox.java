@@ -0,0 +1,126 @@
+package com.bbangbuddy.domain.notification.domain;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import javax.persistence.*;
+import java.time.LocalDateTime;
+
+/**
+ * @PackageName : com.bbangbuddy.domain.notification.domain
+ * @FileName : NotificationOutbox
+ * @Author : hjsim
+ * @Date : 2026-10-18
+ * @Description :  알림 전송 대기(outbox) 엔티티
+ *                 참가/탈퇴 트랜잭션 안에서 알림과 함께 저장되고, 커밋 후 NotificationOutboxDispatcher가 전송한 뒤 완료 처리한다.
+ */
+@Entity
+@Table(name = "NOTIFICATION_OUTBOX",
+        indexes = {
+                @Index(name = "IDX_NOTIFICATION_OUTBOX_STATUS", columnList = "STATUS, NEXT_ATTEMPT_AT, ID"),
+                @Index(name = "IDX_NOTIFICATION_OUTBOX_CLAIM", columnList = "CLAIMED_BY")
+        })
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class NotificationOutbox {
+
+    public enum Channel {
+        SSE, // 구독 중인 사용자에게 SSE 전송 (RECIPIENT = 사용자 ID)
+        TELEGRAM // 운영 채팅방에 텔레그램 전송 (RECIPIENT 없음)
+    }
+
+    public enum Status {
+        PENDING, // 전송 대기 (실패 후 재시도 대기 포함)
+        DONE, // 전송 완료
+        FAILED // 최대 시도 횟수 초과
+    }
+
+    // 알림과 같이 한 번에 insert되도록 시퀀스에서 50개씩 미리 할당(pooled)한다.
+    @Id
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "NOTIFICATION_OUTBOX_SEQ_GENERATOR")
+    @SequenceGenerator(name = "NOTIFICATION_OUTBOX_SEQ_GENERATOR", sequenceName = "NOTIFICATION_OUTBOX_SEQ", allocationSize = 50)
+    @Column(name = "ID")
+    private Long id;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "CHANNEL", nullable = false, length = 20)
+    private Channel channel;
+
+    @Column(name = "RECIPIENT")
+    private String recipient;
+
+    // SSE 알림의 알림 ID와 사용자별 알림 순번, 둘을 묶어 SSE 이벤트 id로 보낸다. (재연결 시 Last-Event-ID의 순번 뒤부터 재전송)
+    @Column(name = "NOTIFICATION_ID")
+    private Long notificationId;
+
+    @Column(name = "SEQ")
+    private Long seq;
+
+    @Column(name = "PAYLOAD", nullable = false, length = 4000)
+    private String payload;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "STATUS", nullable = false, length = 20)
+    private Status status;
+
+    @Column(name = "ATTEMPTS", nullable = false)
+    private int attempts;
+
+    @Column(name = "NEXT_ATTEMPT_AT", nullable = false)
+    private LocalDateTime nextAttemptAt;
+
+    @Column(name = "LAST_ERROR", length = 500)
+    private String lastError;
+
+    // 전송을 맡은 디스패처의 선점 토큰, 여러 노드가 같은 행을 중복 전송하지 않도록 한다.
+    @Column(name = "CLAIMED_BY", length = 100)
+    private String claimedBy;
+
+    @Column(name = "CREATED_AT", nullable = false, updatable = false)
+    private LocalDateTime createdAt;
+
+    @Column(name = "PROCESSED_AT")
+    private LocalDateTime processedAt;
+
+    @PrePersist
+    protected void onCreate() {
+        this.createdAt = LocalDateTime.now();
+        if (this.status == null) {
+            this.status = Status.PENDING;
+        }
+        if (this.nextAttemptAt == null) {
+            this.nextAttemptAt = this.createdAt;
+        }
+    }
+
+    // payload는 NotificationEvent JSON, 같은 알림을 받는 수신자들은 같은 payload를 공유한다.
+    public static NotificationOutbox sse(Notification notification, String payload) {
+        return NotificationOutbox.builder()
+                .channel(Channel.SSE)
+                .recipient(notification.getUserId())
+                .notificationId(notification.getId())
+                .seq(notification.getSeq())
+                .payload(payload)
+                .build();
+    }
+
+    public static NotificationOutbox sse(String userId, String payload) {
+        return NotificationOutbox.builder()
+                .channel(Channel.SSE)
+                .recipient(userId)
+                .payload(payload)
+                .build();
+    }
+
+    public static NotificationOutbox telegram(String message) {
+        return NotificationOutbox.builder()
+                .channel(Channel.TELEGRAM)
+                .payload(message)
+                .build();
+    }
+
+}
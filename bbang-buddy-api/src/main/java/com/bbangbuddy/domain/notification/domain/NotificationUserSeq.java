@@ -0,0 +1,36 @@
+package com.bbangbuddy.domain.notification.domain;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import javax.persistence.Column;
+import javax.persistence.Entity;
+import javax.persistence.Id;
+import javax.persistence.Table;
+
+/**
+ * @PackageName : com.bbangbuddy.domain.notification.domain
+ * @FileName : NotificationUserSeq
+ * @Author : hjsim
+ * @Date : 2026-10-18
+ * @Description :  사용자별 알림 순번 엔티티 (사용자가 마지막으로 받은 알림 순번)
+ *                 알림을 저장하는 트랜잭션이 이 행을 UPDATE로 잠근 채 순번을 받고 커밋할 때까지 잠금을 유지하므로,
+ *                 한 사용자의 알림 순번은 커밋 순서와 같고 빠진 번호가 없다. (롤백되면 올린 순번도 되돌아감)
+ *                 알림 ID(pooled 시퀀스)와 달리 순번만으로 "이 알림 뒤에 커밋된 알림"을 가를 수 있어 SSE 이벤트 id와 재전송에 쓴다.
+ */
+@Entity
+@Table(name = "NOTIFICATION_USER_SEQ")
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+public class NotificationUserSeq {
+
+    @Id
+    @Column(name = "USER_ID", length = 50)
+    private String userId;
+
+    @Column(name = "LAST_SEQ", nullable = false)
+    private long lastSeq;
+
+}
@@ -0,0 +1,62 @@
+package com.bbangbuddy.domain.notification.dto;
+
+import com.bbangbuddy.domain.notification.domain.Notification;
+import com.fasterxml.jackson.annotation.JsonPropertyOrder;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.nio.charset.StandardCharsets;
+
+/**
+ * @PackageName : com.bbangbuddy.domain.notification.dto
+ * @FileName : NotificationEvent
+ * @Author : hjsim
+ * @Date : 2026-10-18
+ * @Description :  SSE로 클라이언트에게 보내는 알림 이벤트 본문
+ *                 수신자와 관계없는 내용만 담아 같은 알림을 받는 모든 사용자가 같은 JSON(바이트)을 공유한다.
+ *                 알림 ID는 수신자마다 다르므로 본문이 아닌 SSE id 필드에 사용자별 알림 순번과 함께 "순번-알림 ID"로 보낸다. (클라이언트는 lastEventId로 확인)
+ */
+@Getter
+@AllArgsConstructor
+@JsonPropertyOrder({"type", "title", "message", "createdAt", "read"})
+public class NotificationEvent {
+
+    private static final ObjectMapper OBJECT_MAPPER = new ObjectMapper();
+    private static final String TYPE = "notification";
+
+    private final String type;
+    private final String title;
+    private final String message;
+    private final String createdAt;
+    private final boolean read;
+
+    /**
+     * SSE 이벤트 id ("순번-알림 ID"), 재연결 시 Last-Event-ID로 돌아오면 앞의 순번 뒤 알림부터 다시 보낸다.
+     */
+    public static String eventId(Long seq, Long notificationId) {
+        return seq + "-" + notificationId;
+    }
+
+    public static NotificationEvent of(Notification notification) {
+        return new NotificationEvent(TYPE, notification.getTitle(), notification.getMessage(),
+                String.valueOf(notification.getCreatedAt()), notification.isRead());
+    }
+
+    /**
+     * JSON(UTF-8) 바이트로 변환, 제목/내용의 따옴표 등은 Jackson이 이스케이프한다.
+     */
+    public byte[] toBytes() {
+        try {
+            return OBJECT_MAPPER.writeValueAsBytes(this);
+        } catch (JsonProcessingException e) {
+            throw new IllegalArgumentException("알림 이벤트 변환에 실패했습니다.", e);
+        }
+    }
+
+    public String toJson() {
+        return new String(toBytes(), StandardCharsets.UTF_8);
+    }
+
+}
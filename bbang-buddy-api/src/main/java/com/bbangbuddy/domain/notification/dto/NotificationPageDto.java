@@ -0,0 +1,32 @@
+package com.bbangbuddy.domain.notification.dto;
+
+import com.bbangbuddy.domain.notification.domain.Notification;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * @PackageName : com.bbangbuddy.domain.notification.dto
+ * @FileName : NotificationPageDto
+ * @Author : hjsim
+ * @Date : 2026-10-18
+ * @Description :  알림함 키셋 페이지 응답
+ */
+@Getter
+@Builder
+@AllArgsConstructor
+@NoArgsConstructor
+public class NotificationPageDto {
+
+    // 최신순(생성 시각, ID 내림차순)으로 정렬된 알림 목록
+    private List<Notification> content;
+    // 다음 페이지 요청 시 lastCreatedAt, lastId로 전달할 커서 (마지막 페이지면 null)
+    private LocalDateTime nextCreatedAt;
+    private Long nextId;
+    private boolean hasNext;
+
+}
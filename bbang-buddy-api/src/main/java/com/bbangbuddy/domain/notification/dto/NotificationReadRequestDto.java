@@ -0,0 +1,27 @@
+package com.bbangbuddy.domain.notification.dto;
+
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import javax.validation.constraints.NotEmpty;
+import javax.validation.constraints.Size;
+import java.util.List;
+
+/**
+ * @PackageName : com.bbangbuddy.domain.notification.dto
+ * @FileName : NotificationReadRequestDto
+ * @Author : hjsim
+ * @Date : 2026-10-18
+ * @Description :  여러 알림 읽음 처리 요청, UPDATE 한 번의 IN 목록으로 처리한다. (Oracle IN 목록 최대 1000개)
+ */
+@Getter
+@Setter
+@NoArgsConstructor
+public class NotificationReadRequestDto {
+
+    @NotEmpty(message = "알림 ID 목록은 필수입니다")
+    @Size(max = 1000, message = "한 번에 1000개를 초과하여 읽음 처리할 수 없습니다")
+    private List<Long> notificationIds;
+
+}
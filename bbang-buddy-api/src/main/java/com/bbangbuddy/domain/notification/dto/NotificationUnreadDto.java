@@ -0,0 +1,21 @@
+package com.bbangbuddy.domain.notification.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * @PackageName : com.bbangbuddy.domain.notification.dto
+ * @FileName : NotificationUnreadDto
+ * @Author : hjsim
+ * @Date : 2026-10-18
+ * @Description :  안 읽은 알림 수 캐시 적재용 조회 결과, 같은 시점에 센 안 읽은 알림 수와 마지막 알림 순번
+ */
+@Getter
+@AllArgsConstructor
+public class NotificationUnreadDto {
+
+    private long unread;
+
+    private long lastSeq;
+
+}
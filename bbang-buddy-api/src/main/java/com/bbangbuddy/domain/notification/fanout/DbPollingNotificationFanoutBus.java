@@ -0,0 +1,226 @@
+package com.bbangbuddy.domain.notification.fanout;
+
+import com.bbangbuddy.domain.notification.domain.NotificationFanout;
+import com.bbangbuddy.domain.notification.repository.NotificationFanoutRepository;
+import com.bbangbuddy.domain.notification.service.NotificationService;
+import com.bbangbuddy.global.util.StringUtils;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.annotation.PostConstruct;
+import javax.annotation.PreDestroy;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * @PackageName : com.bbangbuddy.domain.notification.fanout
+ * @FileName : DbPollingNotificationFanoutBus
+ * @Author : hjsim
+ * @Date : 2026-10-18
+ * @Description : DB 테이블(NOTIFICATION_FANOUT)을 폴링하는 노드 간 버스, 별도 메시지 브로커 없이 H2/Oracle에서 동작한다.
+ *                publish()는 메시지 묶음을 행 하나로 저장한 뒤 자기 노드 연결로 바로 전송하고,
+ *                각 노드의 폴링 스레드는 마지막으로 읽은 ID 이후 행을 batch-size만큼 읽어 다른 노드가 저장한 행만 자기 노드 연결로 전송한다.
+ *                ID는 시퀀스 순서지만 커밋 순서와 다를 수 있으므로, 건너뛴 ID는 gap-timeout 동안 다시 확인해 늦게 커밋된 행도 전달한다.
+ *                노드는 시작 시점의 마지막 ID부터 읽으며, 그 전에 놓친 알림은 클라이언트가 재연결 시 Last-Event-ID로 다시 받는다.
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "notification.fanout.mode", havingValue = "db")
+public class DbPollingNotificationFanoutBus implements NotificationFanoutBus {
+
+    private static final long PURGE_INTERVAL_MILLIS = TimeUnit.MINUTES.toMillis(1);
+    private static final TypeReference<List<NotificationFanoutMessage>> MESSAGES = new TypeReference<List<NotificationFanoutMessage>>() {
+    };
+
+    private final NotificationFanoutRepository notificationFanoutRepository;
+    private final NotificationService notificationService;
+    private final ObjectMapper objectMapper;
+    private final TransactionTemplate transactionTemplate;
+
+    private final String nodeId;
+    private final long pollIntervalMillis;
+    private final int batchSize;
+    private final long gapTimeoutNanos;
+    private final int maxGaps;
+    private final long retentionMinutes;
+
+    private final AtomicLong received = new AtomicLong();
+
+    // 아래 상태는 폴링 스레드만 사용한다.
+    private long cursor;
+    private final Map<Long, Long> gaps = new LinkedHashMap<>(); // 건너뛴 ID → 포기 시각(nanoTime)
+    private long lastPurgeMillis;
+
+    private Thread poller;
+    private volatile boolean running;
+
+    public DbPollingNotificationFanoutBus(NotificationFanoutRepository notificationFanoutRepository,
+                                          NotificationService notificationService,
+                                          ObjectMapper objectMapper,
+                                          PlatformTransactionManager transactionManager,
+                                          @Value("${notification.fanout.node-id:}") String nodeId,
+                                          @Value("${notification.fanout.poll-interval-ms:200}") long pollIntervalMillis,
+                                          @Value("${notification.fanout.batch-size:100}") int batchSize,
+                                          @Value("${notification.fanout.gap-timeout-ms:5000}") long gapTimeoutMillis,
+                                          @Value("${notification.fanout.max-gaps:1000}") int maxGaps,
+                                          @Value("${notification.fanout.retention-minutes:10}") long retentionMinutes) {
+        this.notificationFanoutRepository = notificationFanoutRepository;
+        this.notificationService = notificationService;
+        this.objectMapper = objectMapper;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.nodeId = StringUtils.isBlank(nodeId) ? UUID.randomUUID().toString() : nodeId;
+        this.pollIntervalMillis = pollIntervalMillis;
+        this.batchSize = batchSize;
+        this.gapTimeoutNanos = TimeUnit.MILLISECONDS.toNanos(gapTimeoutMillis);
+        this.maxGaps = maxGaps;
+        this.retentionMinutes = retentionMinutes;
+    }
+
+    @PostConstruct
+    public void start() {
+        Long maxId = notificationFanoutRepository.findMaxId();
+        cursor = maxId == null ? 0L : maxId;
+        running = true;
+        poller = new Thread(this::pollLoop, "notification-fanout-poller");
+        poller.setDaemon(true);
+        poller.start();
+    }
+
+    @PreDestroy
+    public void stop() {
+        running = false;
+        if (poller != null) {
+            poller.interrupt();
+        }
+    }
+
+    /**
+     * 메시지 묶음을 행 하나로 저장한 뒤 자기 노드 연결로 전송
+     * 저장이 실패하면 예외를 그대로 던져 호출한 디스패처가 재시도하게 한다.
+     */
+    @Override
+    public void publish(List<NotificationFanoutMessage> messages) {
+        if (messages.isEmpty()) {
+            return;
+        }
+        NotificationFanout fanout = NotificationFanout.builder()
+                .originNode(nodeId)
+                .messages(write(messages))
+                .build();
+        transactionTemplate.executeWithoutResult(status -> notificationFanoutRepository.save(fanout));
+        LocalNotificationFanoutBus.deliverLocally(notificationService, messages);
+    }
+
+    public String getNodeId() {
+        return nodeId;
+    }
+
+    // 다른 노드에서 받아 전송한 메시지 수
+    public long getReceivedCount() {
+        return received.get();
+    }
+
+    private void pollLoop() {
+        while (running) {
+            try {
+                int read;
+                do {
+                    read = poll();
+                } while (running && read >= batchSize);
+                purge();
+                Thread.sleep(pollIntervalMillis);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            } catch (RuntimeException e) {
+                log.error("노드 간 알림 수신 중 오류", e);
+                sleep(pollIntervalMillis);
+            }
+        }
+    }
+
+    /**
+     * 늦게 커밋된 행과 마지막으로 읽은 ID 이후 행을 읽어 다른 노드가 저장한 행만 전송, 읽은 행 수 반환
+     */
+    int poll() {
+        long now = System.nanoTime();
+        List<NotificationFanout> rows = new ArrayList<>();
+        if (!gaps.isEmpty()) {
+            List<NotificationFanout> late = notificationFanoutRepository.findByIdInOrderByIdAsc(new ArrayList<>(gaps.keySet()));
+            late.forEach(row -> gaps.remove(row.getId()));
+            rows.addAll(late);
+            // 롤백 등으로 끝내 커밋되지 않는 ID는 gap-timeout이 지나면 포기
+            gaps.values().removeIf(giveUpAt -> giveUpAt - now < 0);
+        }
+
+        List<NotificationFanout> next = notificationFanoutRepository.findByIdGreaterThanOrderByIdAsc(cursor, PageRequest.of(0, batchSize));
+        for (NotificationFanout row : next) {
+            for (long id = cursor + 1; id < row.getId() && gaps.size() < maxGaps; id++) {
+                gaps.put(id, now + gapTimeoutNanos);
+            }
+            cursor = row.getId();
+        }
+        rows.addAll(next);
+
+        for (NotificationFanout row : rows) {
+            if (!nodeId.equals(row.getOriginNode())) {
+                deliver(row);
+            }
+        }
+        return next.size();
+    }
+
+    private void deliver(NotificationFanout row) {
+        List<NotificationFanoutMessage> messages;
+        try {
+            messages = objectMapper.readValue(row.getMessages(), MESSAGES);
+        } catch (JsonProcessingException e) {
+            log.error("노드 간 알림 변환 실패: fanoutId = {}", row.getId(), e);
+            return;
+        }
+        LocalNotificationFanoutBus.deliverLocally(notificationService, messages);
+        received.addAndGet(messages.size());
+    }
+
+    private String write(List<NotificationFanoutMessage> messages) {
+        try {
+            return objectMapper.writeValueAsString(messages);
+        } catch (JsonProcessingException e) {
+            throw new IllegalArgumentException("노드 간 알림 변환에 실패했습니다.", e);
+        }
+    }
+
+    // 모든 노드가 읽었을 보관 기간이 지난 행은 1분에 한 번 정리
+    private void purge() {
+        long nowMillis = System.currentTimeMillis();
+        if (nowMillis - lastPurgeMillis < PURGE_INTERVAL_MILLIS) {
+            return;
+        }
+        lastPurgeMillis = nowMillis;
+        transactionTemplate.executeWithoutResult(status -> notificationFanoutRepository.deleteCreatedBefore(
+                LocalDateTime.now().minusMinutes(retentionMinutes)));
+    }
+
+    private static void sleep(long millis) {
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+}
@@ -0,0 +1,49 @@
+package com.bbangbuddy.domain.notification.fanout;
+
+import com.bbangbuddy.domain.notification.service.NotificationService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * @PackageName : com.bbangbuddy.domain.notification.fanout
+ * @FileName : LocalNotificationFanoutBus
+ * @Author : hjsim
+ * @Date : 2026-10-18
+ * @Description : 단일 노드용 버스, 자기 노드 연결로만 바로 전송한다. (기본값)
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "notification.fanout.mode", havingValue = "local", matchIfMissing = true)
+public class LocalNotificationFanoutBus implements NotificationFanoutBus {
+
+    private final NotificationService notificationService;
+
+    @Override
+    public void publish(List<NotificationFanoutMessage> messages) {
+        deliverLocally(notificationService, messages);
+    }
+
+    // 연결이 없는 사용자는 SseEmitterRegistry가 무시하므로 노드마다 전체 메시지를 그대로 넘긴다.
+    // 같은 payload는 한 번만 바이트로 인코딩해 모든 수신자가 같은 배열을 공유한다.
+    // 한 사용자 전송이 실패해도 나머지 사용자에게는 보낸다. (끊긴 클라이언트는 재연결 시 Last-Event-ID로 다시 받음)
+    static void deliverLocally(NotificationService notificationService, List<NotificationFanoutMessage> messages) {
+        Map<String, byte[]> frames = new HashMap<>();
+        for (NotificationFanoutMessage message : messages) {
+            byte[] frame = frames.computeIfAbsent(message.getPayload(), payload -> payload.getBytes(StandardCharsets.UTF_8));
+            try {
+                notificationService.send(message.getRecipient(), message.getNotificationId(), message.getSeq(), frame);
+            } catch (RuntimeException e) {
+                log.warn("SSE 알림 전송 실패: userId = {}, error = {}", message.getRecipient(), e.toString());
+            }
+        }
+    }
+
+}
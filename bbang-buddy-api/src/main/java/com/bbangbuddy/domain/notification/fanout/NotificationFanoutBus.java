@@ -0,0 +1,22 @@
+package com.bbangbuddy.domain.notification.fanout;
+
+import java.util.List;
+
+/**
+ * @PackageName : com.bbangbuddy.domain.notification.fanout
+ * @FileName : NotificationFanoutBus
+ * @Author : hjsim
+ * @Date : 2026-10-18
+ * @Description : SSE 알림을 모든 서버(노드)로 전달하는 버스
+ *                SSE 연결은 노드마다 따로 있으므로, 각 노드는 받은 메시지를 자기 노드에 연결된 사용자에게만 전송한다.
+ *                notification.fanout.mode로 구현을 고른다. (local: 단일 노드, db: DB 테이블 폴링)
+ *                SSE 알림만 전달하며, 팟 메모리 상태(검색/지도 인덱스, 변경 로그, 대기열, 좌석 수)는 노드 간에 맞추지 않는다.
+ */
+public interface NotificationFanoutBus {
+
+    /**
+     * 메시지 묶음을 모든 노드(자기 노드 포함)의 로컬 연결로 전달
+     */
+    void publish(List<NotificationFanoutMessage> messages);
+
+}
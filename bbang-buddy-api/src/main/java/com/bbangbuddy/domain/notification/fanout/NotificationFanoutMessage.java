@@ -0,0 +1,24 @@
+package com.bbangbuddy.domain.notification.fanout;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * @PackageName : com.bbangbuddy.domain.notification.fanout
+ * @FileName : NotificationFanoutMessage
+ * @Author : hjsim
+ * @Date : 2026-10-18
+ * @Description : 노드 간에 전달하는 사용자 한 명의 SSE 알림
+ */
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+public class NotificationFanoutMessage {
+
+    private String recipient;
+    private Long notificationId;
+    private Long seq;
+    private String payload;
+
+}
@@ -0,0 +1,309 @@
+package com.bbangbuddy.domain.notification.outbox;
+
+import com.bbangbuddy.domain.notification.domain.NotificationOutbox;
+import com.bbangbuddy.domain.notification.fanout.NotificationFanoutBus;
+import com.bbangbuddy.domain.notification.fanout.NotificationFanoutMessage;
+import com.bbangbuddy.domain.notification.repository.NotificationOutboxRepository;
+import com.bbangbuddy.domain.notification.service.TelegramService;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.annotation.PostConstruct;
+import javax.annotation.PreDestroy;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * @PackageName : com.bbangbuddy.domain.notification.outbox
+ * @FileName : NotificationOutboxDispatcher
+ * @Author : hjsim
+ * @Date : 2026-10-18
+ * @Description : 알림 전송 대기(NOTIFICATION_OUTBOX)를 백그라운드에서 전송하는 디스패처
+ *                폴링 스레드 하나가 전송할 차례가 된 행을 batch-size만큼 선점(claim)해 읽고,
+ *                SSE 행은 한 번에 NotificationFanoutBus로 모든 노드에 넘기고, 텔레그램 행은 크기가 고정된 전송 스레드 풀에 나눠 보낸다.
+ *                성공한 행은 한 번의 UPDATE로 완료 처리, 실패하거나 send-timeout 안에 끝나지 않은 행은 지수 백오프로 재시도한다.
+ *                SSE 행의 완료(DONE)는 버스에 넘겼다는 뜻일 뿐 브라우저 도착을 보장하지 않는다. (best-effort)
+ *                연결 전송 큐 초과(DROP_OLDEST/DISCONNECT)나 닫힌 연결로 빠진 알림은 재시도하지 않으며,
+ *                클라이언트가 Last-Event-ID로 재연결할 때 링 버퍼/알림 테이블에서 다시 받는다. 재시도는 버스 전달 실패에만 적용된다.
+ *                outbox가 커밋되면 wakeUp()으로 바로 깨우며, 그 외에는 poll-interval마다 확인한다.
+ *                여러 노드가 같은 outbox를 폴링해도 선점한 노드만 전송하며, 선점 후 lease 안에 끝내지 못하면 다른 노드가 다시 가져간다.
+ */
+@Slf4j
+@Component
+public class NotificationOutboxDispatcher {
+
+    private static final int MAX_ERROR_LENGTH = 500;
+    private static final long MAX_BACKOFF_MILLIS = TimeUnit.MINUTES.toMillis(10);
+    private static final long PURGE_INTERVAL_MILLIS = TimeUnit.MINUTES.toMillis(1);
+
+    private final NotificationOutboxRepository notificationOutboxRepository;
+    private final NotificationFanoutBus notificationFanoutBus;
+    private final TelegramService telegramService;
+    private final TransactionTemplate transactionTemplate;
+
+    private final boolean enabled;
+    private final int batchSize;
+    private final int workers;
+    private final long pollIntervalMillis;
+    private final long sendTimeoutMillis;
+    private final int maxAttempts;
+    private final long retryBackoffMillis;
+    private final long retentionHours;
+    private final long leaseMillis;
+
+    // 선점 토큰 = 디스패처 ID + batch 순번
+    private final String dispatcherId = UUID.randomUUID().toString();
+    private final AtomicLong claims = new AtomicLong();
+
+    private final Semaphore signal = new Semaphore(0);
+    private final AtomicLong delivered = new AtomicLong();
+    private final AtomicLong failures = new AtomicLong();
+
+    private ExecutorService senders;
+    private Thread poller;
+    private volatile boolean running;
+    private long lastPurgeMillis;
+
+    public NotificationOutboxDispatcher(NotificationOutboxRepository notificationOutboxRepository,
+                                        NotificationFanoutBus notificationFanoutBus,
+                                        TelegramService telegramService,
+                                        PlatformTransactionManager transactionManager,
+                                        @Value("${notification.outbox.enabled:true}") boolean enabled,
+                                        @Value("${notification.outbox.batch-size:100}") int batchSize,
+                                        @Value("${notification.outbox.workers:4}") int workers,
+                                        @Value("${notification.outbox.poll-interval-ms:1000}") long pollIntervalMillis,
+                                        @Value("${notification.outbox.send-timeout-ms:5000}") long sendTimeoutMillis,
+                                        @Value("${notification.outbox.max-attempts:5}") int maxAttempts,
+                                        @Value("${notification.outbox.retry-backoff-ms:1000}") long retryBackoffMillis,
+                                        @Value("${notification.outbox.retention-hours:24}") long retentionHours,
+                                        @Value("${notification.outbox.lease-ms:60000}") long leaseMillis) {
+        this.notificationOutboxRepository = notificationOutboxRepository;
+        this.notificationFanoutBus = notificationFanoutBus;
+        this.telegramService = telegramService;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.enabled = enabled;
+        this.batchSize = batchSize;
+        this.workers = workers;
+        this.pollIntervalMillis = pollIntervalMillis;
+        this.sendTimeoutMillis = sendTimeoutMillis;
+        this.maxAttempts = maxAttempts;
+        this.retryBackoffMillis = retryBackoffMillis;
+        this.retentionHours = retentionHours;
+        this.leaseMillis = leaseMillis;
+    }
+
+    @PostConstruct
+    public void start() {
+        // 폴링 스레드가 batch 하나를 다 보낼 때까지 기다리므로 대기 큐는 batch-size면 충분하다. (스레드는 첫 전송 때 생성)
+        AtomicInteger sequence = new AtomicInteger();
+        senders = new ThreadPoolExecutor(workers, workers, 0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(batchSize),
+                runnable -> daemon(runnable, "notification-outbox-sender-" + sequence.incrementAndGet()),
+                new ThreadPoolExecutor.CallerRunsPolicy());
+        if (!enabled) {
+            return;
+        }
+        running = true;
+        poller = daemon(this::pollLoop, "notification-outbox-poller");
+        poller.start();
+    }
+
+    @PreDestroy
+    public void stop() {
+        running = false;
+        if (poller != null) {
+            poller.interrupt();
+        }
+        if (senders != null) {
+            senders.shutdownNow();
+        }
+    }
+
+    /**
+     * outbox 커밋 후 호출, 폴링 주기를 기다리지 않고 바로 전송을 시작한다.
+     */
+    public void wakeUp() {
+        if (signal.availablePermits() == 0) {
+            signal.release();
+        }
+    }
+
+    public long getDeliveredCount() {
+        return delivered.get();
+    }
+
+    public long getFailureCount() {
+        return failures.get();
+    }
+
+    private void pollLoop() {
+        while (running) {
+            try {
+                drain();
+                signal.tryAcquire(pollIntervalMillis, TimeUnit.MILLISECONDS);
+                signal.drainPermits();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            } catch (RuntimeException e) {
+                log.error("알림 outbox 전송 중 오류", e);
+                sleep(pollIntervalMillis);
+            }
+        }
+    }
+
+    // 전송할 차례가 된 행이 batch-size보다 적어질 때까지 연속으로 전송
+    private void drain() {
+        int read;
+        do {
+            read = dispatchBatch();
+        } while (running && read == batchSize);
+        purge();
+    }
+
+    /**
+     * batch 하나 전송 후 읽은 행 수 반환
+     */
+    int dispatchBatch() {
+        LocalDateTime now = LocalDateTime.now();
+        List<Long> ids = notificationOutboxRepository.findDispatchableIds(
+                NotificationOutbox.Status.PENDING, now, PageRequest.of(0, batchSize));
+        if (ids.isEmpty()) {
+            return 0;
+        }
+        List<NotificationOutbox> batch = claim(ids, now);
+
+        List<Long> done = new ArrayList<>(batch.size());
+        Map<NotificationOutbox, String> failed = new LinkedHashMap<>();
+        List<NotificationOutbox> sse = new ArrayList<>();
+        Map<NotificationOutbox, Future<?>> sending = new LinkedHashMap<>();
+        for (NotificationOutbox outbox : batch) {
+            if (outbox.getChannel() == NotificationOutbox.Channel.SSE) {
+                sse.add(outbox);
+            } else {
+                sending.put(outbox, senders.submit(() -> deliver(outbox)));
+            }
+        }
+        publish(sse, done, failed);
+
+        long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(sendTimeoutMillis);
+        for (Map.Entry<NotificationOutbox, Future<?>> entry : sending.entrySet()) {
+            try {
+                entry.getValue().get(Math.max(0L, deadline - System.nanoTime()), TimeUnit.NANOSECONDS);
+                done.add(entry.getKey().getId());
+            } catch (TimeoutException e) {
+                entry.getValue().cancel(true);
+                failed.put(entry.getKey(), "전송 시간 초과");
+            } catch (ExecutionException e) {
+                failed.put(entry.getKey(), String.valueOf(e.getCause()));
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return ids.size();
+            }
+        }
+
+        LocalDateTime processedAt = LocalDateTime.now();
+        transactionTemplate.executeWithoutResult(status -> {
+            if (!done.isEmpty()) {
+                notificationOutboxRepository.markProcessed(done, NotificationOutbox.Status.DONE, processedAt);
+            }
+            failed.forEach((outbox, error) -> retryLater(outbox, error, processedAt));
+        });
+        delivered.addAndGet(done.size());
+        failures.addAndGet(failed.size());
+        return ids.size();
+    }
+
+    // 조회한 행 중 다른 노드가 먼저 선점하지 않은 행만 이 디스패처 몫으로 가져온다.
+    private List<NotificationOutbox> claim(List<Long> ids, LocalDateTime now) {
+        String token = dispatcherId + "-" + claims.incrementAndGet();
+        LocalDateTime leaseUntil = now.plusNanos(TimeUnit.MILLISECONDS.toNanos(leaseMillis));
+        Integer claimed = transactionTemplate.execute(status -> notificationOutboxRepository.claim(
+                ids, NotificationOutbox.Status.PENDING, now, leaseUntil, token));
+        if (claimed == null || claimed == 0) {
+            return new ArrayList<>();
+        }
+        return notificationOutboxRepository.findByClaimedByOrderByIdAsc(token);
+    }
+
+    // SSE 행은 batch 단위로 한 번에 버스에 넘기고, 넘기면 바로 완료 처리한다. (연결별 도착은 재연결 재전송에 맡김)
+    // 버스 전달이 실패하면 batch의 SSE 행 전체를 재시도한다.
+    private void publish(List<NotificationOutbox> sse, List<Long> done, Map<NotificationOutbox, String> failed) {
+        if (sse.isEmpty()) {
+            return;
+        }
+        // outbox ID는 미리 할당(pooled)되어 커밋 순서와 다르므로, 사용자별로 알림 순번 순서가 되도록 순번으로 정렬해 넘긴다.
+        List<NotificationFanoutMessage> messages = new ArrayList<>(sse.size());
+        for (NotificationOutbox outbox : sse) {
+            messages.add(new NotificationFanoutMessage(outbox.getRecipient(), outbox.getNotificationId(), outbox.getSeq(), outbox.getPayload()));
+        }
+        messages.sort(Comparator.comparing(NotificationFanoutMessage::getSeq, Comparator.nullsFirst(Comparator.naturalOrder())));
+        try {
+            notificationFanoutBus.publish(messages);
+            sse.forEach(outbox -> done.add(outbox.getId()));
+        } catch (RuntimeException e) {
+            sse.forEach(outbox -> failed.put(outbox, String.valueOf(e)));
+        }
+    }
+
+    private void deliver(NotificationOutbox outbox) {
+        switch (outbox.getChannel()) {
+            case TELEGRAM:
+                telegramService.sendTelegramMessageAndWait(outbox.getPayload(), Duration.ofMillis(sendTimeoutMillis));
+                break;
+            default:
+                throw new IllegalArgumentException("지원하지 않는 알림 채널입니다: " + outbox.getChannel());
+        }
+    }
+
+    // 실패 횟수에 따라 1, 2, 4, ... 배로 다음 시도를 늦추고, 최대 시도 횟수를 넘으면 FAILED로 남긴다.
+    private void retryLater(NotificationOutbox outbox, String error, LocalDateTime now) {
+        int attempts = outbox.getAttempts() + 1;
+        NotificationOutbox.Status status = attempts >= maxAttempts ? NotificationOutbox.Status.FAILED : NotificationOutbox.Status.PENDING;
+        long backoff = Math.min(MAX_BACKOFF_MILLIS, retryBackoffMillis << Math.min(attempts - 1, 20));
+        String lastError = error.length() > MAX_ERROR_LENGTH ? error.substring(0, MAX_ERROR_LENGTH) : error;
+        notificationOutboxRepository.markRetry(outbox.getId(), status, attempts, now.plusNanos(TimeUnit.MILLISECONDS.toNanos(backoff)), lastError);
+        if (status == NotificationOutbox.Status.FAILED) {
+            log.warn("알림 전송 최종 실패: outboxId = {}, channel = {}, error = {}", outbox.getId(), outbox.getChannel(), lastError);
+        }
+    }
+
+    // 보관 기간이 지난 완료 행은 1분에 한 번 정리
+    private void purge() {
+        long nowMillis = System.currentTimeMillis();
+        if (nowMillis - lastPurgeMillis < PURGE_INTERVAL_MILLIS) {
+            return;
+        }
+        lastPurgeMillis = nowMillis;
+        transactionTemplate.executeWithoutResult(status -> notificationOutboxRepository.deleteProcessedBefore(
+                NotificationOutbox.Status.DONE, LocalDateTime.now().minusHours(retentionHours)));
+    }
+
+    private static Thread daemon(Runnable runnable, String name) {
+        Thread thread = new Thread(runnable, name);
+        thread.setDaemon(true);
+        return thread;
+    }
+
+    private static void sleep(long millis) {
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+}
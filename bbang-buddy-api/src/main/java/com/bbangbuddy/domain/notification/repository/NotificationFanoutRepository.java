@@ -0,0 +1,38 @@
+package com.bbangbuddy.domain.notification.repository;
+
+import com.bbangbuddy.domain.notification.domain.NotificationFanout;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * @PackageName : com.bbangbuddy.domain.notification.repository
+ * @FileName : NotificationFanoutRepository
+ * @Author : hjsim
+ * @Date : 2026-10-18
+ * @Description : 서버(노드) 간 알림 전달 데이터베이스 작업을 처리하는 레포지토리 인터페이스
+ */
+public interface NotificationFanoutRepository extends JpaRepository<NotificationFanout, Long> {
+
+    // 마지막으로 읽은 ID 이후 행을 ID 순으로 조회
+    List<NotificationFanout> findByIdGreaterThanOrderByIdAsc(Long id, Pageable pageable);
+
+    // 늦게 커밋된 행(건너뛴 ID) 조회
+    List<NotificationFanout> findByIdInOrderByIdAsc(Collection<Long> ids);
+
+    // 노드 시작 시 읽기 시작할 위치
+    @Query("SELECT MAX(f.id) FROM NotificationFanout f")
+    Long findMaxId();
+
+    // 보관 기간이 지난 행 삭제
+    @Modifying
+    @Query("DELETE FROM NotificationFanout f WHERE f.createdAt < :before")
+    int deleteCreatedBefore(@Param("before") LocalDateTime before);
+
+}
@@ -0,0 +1,66 @@
+package com.bbangbuddy.domain.notification.repository;
+
+import com.bbangbuddy.domain.notification.domain.NotificationOutbox;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * @PackageName : com.bbangbuddy.domain.notification.repository
+ * @FileName : NotificationOutboxRepository
+ * @Author : hjsim
+ * @Date : 2026-10-18
+ * @Description : 알림 전송 대기(outbox) 데이터베이스 작업을 처리하는 레포지토리 인터페이스
+ */
+public interface NotificationOutboxRepository extends JpaRepository<NotificationOutbox, Long> {
+
+    // 전송할 차례가 된 대기 건의 ID를 저장 순서대로 조회 (선점 후 내용을 다시 읽으므로 ID만 가져온다)
+    @Query("SELECT o.id FROM NotificationOutbox o WHERE o.status = :status AND o.nextAttemptAt <= :now ORDER BY o.id")
+    List<Long> findDispatchableIds(@Param("status") NotificationOutbox.Status status,
+                                   @Param("now") LocalDateTime now,
+                                   Pageable pageable);
+
+    // 조회한 대기 건을 이 디스패처가 선점, 다른 노드가 먼저 선점한 행은 조건에 걸려 제외된다.
+    // 선점한 행은 NEXT_ATTEMPT_AT을 임대 만료 시각으로 미뤄, 전송 중 노드가 죽으면 만료 후 다른 노드가 다시 가져간다.
+    @Modifying
+    @Query("UPDATE NotificationOutbox o SET o.claimedBy = :claim, o.nextAttemptAt = :leaseUntil "
+            + "WHERE o.id IN :ids AND o.status = :status AND o.nextAttemptAt <= :now")
+    int claim(@Param("ids") Collection<Long> ids,
+              @Param("status") NotificationOutbox.Status status,
+              @Param("now") LocalDateTime now,
+              @Param("leaseUntil") LocalDateTime leaseUntil,
+              @Param("claim") String claim);
+
+    // 선점한 건을 ID(저장 순서)순으로 조회
+    List<NotificationOutbox> findByClaimedByOrderByIdAsc(String claimedBy);
+
+    // 전송한 건을 한 번에 완료 처리
+    @Modifying
+    @Query("UPDATE NotificationOutbox o SET o.status = :status, o.processedAt = :now WHERE o.id IN :ids")
+    int markProcessed(@Param("ids") Collection<Long> ids,
+                      @Param("status") NotificationOutbox.Status status,
+                      @Param("now") LocalDateTime now);
+
+    // 전송 실패 건의 시도 횟수와 다음 시도 시각 갱신
+    @Modifying
+    @Query("UPDATE NotificationOutbox o SET o.status = :status, o.attempts = :attempts, o.nextAttemptAt = :nextAttemptAt, "
+            + "o.lastError = :lastError WHERE o.id = :id")
+    int markRetry(@Param("id") Long id,
+                  @Param("status") NotificationOutbox.Status status,
+                  @Param("attempts") int attempts,
+                  @Param("nextAttemptAt") LocalDateTime nextAttemptAt,
+                  @Param("lastError") String lastError);
+
+    // 보관 기간이 지난 완료 건 삭제
+    @Modifying
+    @Query("DELETE FROM NotificationOutbox o WHERE o.status = :status AND o.processedAt < :before")
+    int deleteProcessedBefore(@Param("status") NotificationOutbox.Status status,
+                              @Param("before") LocalDateTime before);
+
+}
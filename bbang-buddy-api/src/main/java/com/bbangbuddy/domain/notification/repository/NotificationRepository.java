@@ -1,13 +1,18 @@
 package com.bbangbuddy.domain.notification.repository;
 
 import com.bbangbuddy.domain.notification.domain.Notification;
+import com.bbangbuddy.domain.notification.dto.NotificationUnreadDto;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
+import java.util.Optional;
 
 /**
  * @PackageName : com.bbangbuddy.domain.notification.repository
@@ -30,6 +35,70 @@ public interface NotificationRepository extends JpaRepository<Notification, Stri
      */
     List<Notification> findByUserId(String userId);
 
+    /**
+     * 사용자의 알림 중 순번이 afterSeq보다 큰 알림을 순번 오름차순으로 조회 (SSE 재연결 재전송용)
+     * 순번은 사용자별 커밋 순서이므로 afterSeq 뒤에 커밋된 알림만 빠짐/중복 없이 읽는다.
+     *
+     * @param userId 사용자 ID
+     * @param afterSeq 클라이언트가 마지막으로 받은 알림 순번 (제외)
+     * @return 알림 목록
+     */
+    List<Notification> findByUserIdAndSeqGreaterThanOrderBySeqAsc(String userId, Long afterSeq, Pageable pageable);
+
+    /**
+     * 사용자 알림함 첫 페이지 (최신순)
+     *
+     * @param userId 사용자 ID
+     * @return 알림 목록
+     */
+    List<Notification> findByUserIdOrderByCreatedAtDescIdDesc(String userId, Pageable pageable);
+
+    /**
+     * 사용자 알림함 다음 페이지, 직전 페이지 마지막 알림의 (생성 시각, ID) 뒤부터 최신순으로 조회
+     *
+     * @param userId 사용자 ID
+     * @param lastCreatedAt 직전 페이지 마지막 알림의 생성 시각
+     * @param lastId 직전 페이지 마지막 알림 ID
+     * @return 알림 목록
+     */
+    @Query("SELECT n FROM Notification n WHERE n.userId = :userId "
+            + "AND (n.createdAt < :lastCreatedAt OR (n.createdAt = :lastCreatedAt AND n.id < :lastId)) "
+            + "ORDER BY n.createdAt DESC, n.id DESC")
+    List<Notification> findPageAfter(@Param("userId") String userId,
+                                     @Param("lastCreatedAt") LocalDateTime lastCreatedAt,
+                                     @Param("lastId") Long lastId,
+                                     Pageable pageable);
+
+    /**
+     * 사용자의 안 읽은 알림 수 조회 (안 읽은 알림 수 캐시 적재용)
+     *
+     * @param userId 사용자 ID
+     * @return 안 읽은 알림 수
+     */
+    @Query("SELECT COUNT(n) FROM Notification n WHERE n.userId = :userId AND n.isRead = false")
+    long countUnread(@Param("userId") String userId);
+
+    /**
+     * 사용자의 안 읽은 알림 수와 마지막 알림 순번을 한 쿼리로 조회 (안 읽은 알림 수 캐시 적재용)
+     * 두 값이 같은 시점이므로, 이후 전송되는 알림 중 순번이 더 큰 것만 캐시에 더하면 된다.
+     *
+     * @param userId 사용자 ID
+     * @return 안 읽은 알림 수, 마지막 알림 순번 (알림이 없으면 0)
+     */
+    @Query("SELECT new com.bbangbuddy.domain.notification.dto.NotificationUnreadDto("
+            + "COALESCE(SUM(CASE WHEN n.isRead = false THEN 1 ELSE 0 END), 0), COALESCE(MAX(n.seq), 0)) "
+            + "FROM Notification n WHERE n.userId = :userId")
+    NotificationUnreadDto findUnread(@Param("userId") String userId);
+
+    /**
+     * 알림을 받은 사용자 ID 조회
+     *
+     * @param notificationId 알림 ID
+     * @return 사용자 ID
+     */
+    @Query("SELECT n.userId FROM Notification n WHERE n.id = :notificationId")
+    Optional<String> findUserIdById(@Param("notificationId") Long notificationId);
+
 
 
 
@@ -37,9 +106,36 @@ public interface NotificationRepository extends JpaRepository<Notification, Stri
      * 알림을 읽음 상태로 업데이트하는 메소드
      *
      * @param notificationId 알림 ID
+     * @return 읽음으로 바뀐 알림 수 (이미 읽었거나 없으면 0)
+     */
+    @Transactional
+    @Modifying
+    @Query("UPDATE Notification n SET n.isRead = true WHERE n.id = :notificationId AND n.isRead = false")
+    int markAsRead(@Param("notificationId") Long notificationId);
+
+    /**
+     * 사용자의 알림 중 순번이 maxSeq 이하인 안 읽은 알림을 한 번에 읽음 처리
+     * 알림 ID는 노드마다 미리 할당(pooled)해 커밋 순서와 다르므로, 커밋 순서대로 매긴 사용자별 순번으로 범위를 정한다.
+     * (클라이언트가 본 뒤에 커밋된 알림은 항상 더 큰 순번이라 보지 않은 알림을 읽음 처리하지 않음)
+     *
+     * @param userId 사용자 ID
+     * @param maxSeq 클라이언트가 본 가장 큰 알림 순번
+     * @return 읽음으로 바뀐 알림 수
+     */
+    @Transactional
+    @Modifying
+    @Query("UPDATE Notification n SET n.isRead = true WHERE n.userId = :userId AND n.seq <= :maxSeq AND n.isRead = false")
+    int markAllAsReadUpTo(@Param("userId") String userId, @Param("maxSeq") Long maxSeq);
+
+    /**
+     * 사용자의 알림 중 지정한 ID의 안 읽은 알림을 한 번에 읽음 처리 (다른 사용자의 알림 ID는 무시)
+     *
+     * @param userId 사용자 ID
+     * @param notificationIds 알림 ID 목록
+     * @return 읽음으로 바뀐 알림 수
      */
     @Transactional
     @Modifying
-    @Query("UPDATE Notification n SET n.isRead = true WHERE n.id = :notificationId")
-    void markAsRead(@Param("notificationId") Long notificationId);
+    @Query("UPDATE Notification n SET n.isRead = true WHERE n.userId = :userId AND n.id IN :notificationIds AND n.isRead = false")
+    int markAsRead(@Param("userId") String userId, @Param("notificationIds") Collection<Long> notificationIds);
 }
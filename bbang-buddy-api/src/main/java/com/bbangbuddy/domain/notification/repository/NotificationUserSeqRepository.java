@@ -0,0 +1,51 @@
+package com.bbangbuddy.domain.notification.repository;
+
+import com.bbangbuddy.domain.notification.domain.NotificationUserSeq;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * @PackageName : com.bbangbuddy.domain.notification.repository
+ * @FileName : NotificationUserSeqRepository
+ * @Author : hjsim
+ * @Date : 2026-10-18
+ * @Description : 사용자별 알림 순번 데이터베이스 작업을 처리하는 레포지토리 인터페이스
+ */
+public interface NotificationUserSeqRepository extends JpaRepository<NotificationUserSeq, String> {
+
+    /**
+     * 사용자들의 순번을 각각 count만큼 올리고 행을 잠근다. (호출한 트랜잭션이 끝날 때까지 같은 사용자의 다른 알림 저장은 대기)
+     *
+     * @param userIds 사용자 ID 목록
+     * @param count 사용자별로 저장할 알림 수
+     * @return 바뀐 행 수 (사용자 행이 아직 없으면 그만큼 적음)
+     */
+    @Modifying
+    @Query("UPDATE NotificationUserSeq s SET s.lastSeq = s.lastSeq + :count WHERE s.userId IN :userIds")
+    int incrementAll(@Param("userIds") Collection<String> userIds, @Param("count") long count);
+
+    /**
+     * 사용자들이 마지막으로 받은 알림 순번 조회 (영속성 컨텍스트를 거치지 않고 UPDATE 결과를 읽는다)
+     *
+     * @param userIds 사용자 ID 목록
+     * @return 사용자별 마지막 순번 (관리되지 않는 엔티티)
+     */
+    @Query("SELECT new com.bbangbuddy.domain.notification.domain.NotificationUserSeq(s.userId, s.lastSeq) "
+            + "FROM NotificationUserSeq s WHERE s.userId IN :userIds")
+    List<NotificationUserSeq> findLastSeqs(@Param("userIds") Collection<String> userIds);
+
+    /**
+     * 순번 행이 있는 사용자 ID 조회
+     *
+     * @param userIds 사용자 ID 목록
+     * @return 행이 있는 사용자 ID
+     */
+    @Query("SELECT s.userId FROM NotificationUserSeq s WHERE s.userId IN :userIds")
+    List<String> findExistingUserIds(@Param("userIds") Collection<String> userIds);
+
+}
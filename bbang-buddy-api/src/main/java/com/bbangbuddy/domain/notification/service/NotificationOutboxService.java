@@ -0,0 +1,79 @@
+package com.bbangbuddy.domain.notification.service;
+
+import com.bbangbuddy.domain.notification.domain.Notification;
+import com.bbangbuddy.domain.notification.domain.NotificationOutbox;
+import com.bbangbuddy.domain.notification.dto.NotificationEvent;
+import com.bbangbuddy.domain.notification.outbox.NotificationOutboxDispatcher;
+import com.bbangbuddy.domain.notification.repository.NotificationOutboxRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * @PackageName : com.bbangbuddy.domain.notification.service
+ * @FileName : NotificationOutboxService
+ * @Author : hjsim
+ * @Date : 2026-10-18
+ * @Description : 알림 전송 요청을 호출한 트랜잭션 안에서 outbox에 기록하는 서비스
+ *                실제 SSE/텔레그램 전송은 커밋 후 NotificationOutboxDispatcher가 백그라운드에서 처리하므로,
+ *                참가/탈퇴 요청은 구독자 수나 느린 SSE 클라이언트와 관계없이 DB 쓰기만 하고 끝난다.
+ */
+@Service
+@RequiredArgsConstructor
+public class NotificationOutboxService {
+
+    private final NotificationOutboxRepository notificationOutboxRepository;
+    private final NotificationOutboxDispatcher notificationOutboxDispatcher;
+
+    /**
+     * 저장한 알림들을 각 사용자에게 SSE로 보내도록 기록
+     * SSE 전송은 best-effort로, 느리거나 끊긴 연결에서 빠진 알림은 재시도 없이 재연결(Last-Event-ID) 시 알림 테이블에서 다시 보낸다.
+     * 팟 참가자 전원에게 보내는 알림처럼 제목/내용이 같은 알림은 NotificationEvent를 한 번만 JSON으로 변환해 같은 payload를 쓴다.
+     */
+    @Transactional
+    public void appendSse(List<Notification> notifications) {
+        List<NotificationOutbox> outboxes = new ArrayList<>(notifications.size());
+        Map<List<String>, String> payloads = new HashMap<>();
+        for (Notification notification : notifications) {
+            String payload = payloads.computeIfAbsent(Arrays.asList(notification.getTitle(), notification.getMessage()),
+                    key -> NotificationEvent.of(notification).toJson());
+            outboxes.add(NotificationOutbox.sse(notification, payload));
+        }
+        append(outboxes);
+    }
+
+    /**
+     * 운영 채팅방으로 텔레그램 메시지를 보내도록 기록
+     */
+    @Transactional
+    public void appendTelegram(String message) {
+        append(Collections.singletonList(NotificationOutbox.telegram(message)));
+    }
+
+    private void append(List<NotificationOutbox> outboxes) {
+        if (outboxes.isEmpty()) {
+            return;
+        }
+        notificationOutboxRepository.saveAll(outboxes);
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    notificationOutboxDispatcher.wakeUp();
+                }
+            });
+        } else {
+            notificationOutboxDispatcher.wakeUp();
+        }
+    }
+
+}
@@ -0,0 +1,41 @@
+package com.bbangbuddy.domain.notification.service;
+
+import com.bbangbuddy.domain.notification.dto.NotificationEvent;
+import com.bbangbuddy.domain.notification.repository.NotificationRepository;
+import com.bbangbuddy.domain.notification.sse.SseEvent;
+import com.bbangbuddy.domain.notification.sse.SseReplayStore;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Component;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.stream.Collectors;
+
+/**
+ * @PackageName : com.bbangbuddy.domain.notification.service
+ * @FileName : NotificationReplayStore
+ * @Author : hjsim
+ * @Date : 2026-10-18
+ * @Description : 링 버퍼로 이어 줄 수 없는 SSE 재전송(재연결, 늦게 도착한 앞 순번)을 알림 테이블에서 사용자별 알림 순번으로 읽는 저장소
+ */
+@Component
+@RequiredArgsConstructor
+public class NotificationReplayStore implements SseReplayStore {
+
+    private final NotificationRepository notificationRepository;
+
+    @Override
+    public List<SseEvent> findAfter(String userId, long afterSeq, int limit) {
+        if (limit <= 0) {
+            return Collections.emptyList();
+        }
+        return notificationRepository.findByUserIdAndSeqGreaterThanOrderBySeqAsc(userId, afterSeq, PageRequest.of(0, limit))
+                .stream()
+                .map(notification -> new SseEvent(notification.getSeq(),
+                        NotificationEvent.eventId(notification.getSeq(), notification.getId()),
+                        NotificationEvent.of(notification).toBytes()))
+                .collect(Collectors.toList());
+    }
+
+}
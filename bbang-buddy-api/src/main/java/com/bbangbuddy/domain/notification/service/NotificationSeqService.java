@@ -0,0 +1,116 @@
+package com.bbangbuddy.domain.notification.service;
+
+import com.bbangbuddy.domain.notification.domain.Notification;
+import com.bbangbuddy.domain.notification.domain.NotificationUserSeq;
+import com.bbangbuddy.domain.notification.repository.NotificationUserSeqRepository;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.TreeSet;
+import java.util.stream.Collectors;
+
+/**
+ * @PackageName : com.bbangbuddy.domain.notification.service
+ * @FileName : NotificationSeqService
+ * @Author : hjsim
+ * @Date : 2026-10-18
+ * @Description : 저장할 알림에 사용자별 순번을 매기는 서비스
+ *                알림을 저장하는 트랜잭션 안에서 사용자 순번 행을 잠근 채 순번을 받으므로, 한 사용자의 알림 순번은 커밋 순서와 같고 빠진 번호가 없다.
+ *                여러 사용자에게 보내는 알림은 사용자 ID 순서로 잠가 서로 다른 팟의 알림 저장끼리 교착되지 않게 한다.
+ */
+@Service
+public class NotificationSeqService {
+
+    private final NotificationUserSeqRepository notificationUserSeqRepository;
+    private final TransactionTemplate newTransaction;
+
+    public NotificationSeqService(NotificationUserSeqRepository notificationUserSeqRepository,
+                                  PlatformTransactionManager transactionManager) {
+        this.notificationUserSeqRepository = notificationUserSeqRepository;
+        this.newTransaction = new TransactionTemplate(transactionManager);
+        this.newTransaction.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+    }
+
+    /**
+     * 저장 전 알림에 사용자별 순번을 목록 순서대로 매긴다.
+     * 순번 행 잠금이 알림 커밋까지 유지되어야 하므로 알림을 저장하는 트랜잭션 안에서만 호출한다.
+     */
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void assign(List<Notification> notifications) {
+        if (notifications.isEmpty()) {
+            return;
+        }
+        Map<String, List<Notification>> byUser = new TreeMap<>();
+        for (Notification notification : notifications) {
+            byUser.computeIfAbsent(notification.getUserId(), key -> new ArrayList<>()).add(notification);
+        }
+        createIfAbsent(byUser.keySet());
+        Map<String, Long> lastSeqs = allocate(byUser);
+        byUser.forEach((userId, userNotifications) -> {
+            long seq = lastSeqs.get(userId) - userNotifications.size();
+            for (Notification notification : userNotifications) {
+                notification.assignSeq(++seq);
+            }
+        });
+    }
+
+    // 사용자별 순번을 알림 수만큼 올리고 마지막 순번 반환
+    // 보통은 사용자마다 알림 하나라 UPDATE 한 번으로 올리고(PK 인덱스 순으로 잠금), 알림 수가 다르면 사용자 ID 순으로 하나씩 올린다.
+    private Map<String, Long> allocate(Map<String, List<Notification>> byUser) {
+        Set<Integer> counts = byUser.values().stream().map(List::size).collect(Collectors.toSet());
+        int updated = 0;
+        if (counts.size() == 1) {
+            updated = notificationUserSeqRepository.incrementAll(byUser.keySet(), counts.iterator().next());
+        } else {
+            for (Map.Entry<String, List<Notification>> entry : byUser.entrySet()) {
+                updated += notificationUserSeqRepository.incrementAll(
+                        Collections.singletonList(entry.getKey()), entry.getValue().size());
+            }
+        }
+        if (updated != byUser.size()) {
+            throw new IllegalStateException("알림 순번을 할당하지 못했습니다: " + byUser.keySet());
+        }
+        return notificationUserSeqRepository.findLastSeqs(byUser.keySet()).stream()
+                .collect(Collectors.toMap(NotificationUserSeq::getUserId, NotificationUserSeq::getLastSeq));
+    }
+
+    // 처음 알림을 받는 사용자들의 순번 행을 별도 트랜잭션으로 생성 (호출한 트랜잭션은 롤백 대상이 되지 않음)
+    // 다른 트랜잭션이 같은 사용자 행을 동시에 만들었으면 사용자별로 다시 확인해 없는 행만 만든다.
+    private void createIfAbsent(Set<String> userIds) {
+        Set<String> missing = new TreeSet<>(userIds);
+        missing.removeAll(notificationUserSeqRepository.findExistingUserIds(userIds));
+        if (missing.isEmpty()) {
+            return;
+        }
+        try {
+            newTransaction.executeWithoutResult(status -> notificationUserSeqRepository.saveAll(
+                    missing.stream().map(userId -> new NotificationUserSeq(userId, 0L)).collect(Collectors.toList())));
+        } catch (DataIntegrityViolationException e) {
+            missing.forEach(this::createIfAbsent);
+        }
+    }
+
+    private void createIfAbsent(String userId) {
+        try {
+            newTransaction.executeWithoutResult(status -> {
+                if (!notificationUserSeqRepository.existsById(userId)) {
+                    notificationUserSeqRepository.saveAndFlush(new NotificationUserSeq(userId, 0L));
+                }
+            });
+        } catch (DataIntegrityViolationException e) {
+            // 동시에 같은 사용자 행을 만든 경우
+        }
+    }
+
+}
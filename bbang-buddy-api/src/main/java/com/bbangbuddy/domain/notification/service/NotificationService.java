@@ -1,11 +1,15 @@
 package com.bbangbuddy.domain.notification.service;
 
 import com.bbangbuddy.domain.auth.jwt.JwtUtil;
-import javax.annotation.PreDestroy;
 
+import com.bbangbuddy.domain.notification.cache.NotificationUnreadCache;
 import com.bbangbuddy.domain.notification.domain.Notification;
+import com.bbangbuddy.domain.notification.dto.NotificationEvent;
+import com.bbangbuddy.domain.notification.dto.NotificationPageDto;
 import com.bbangbuddy.domain.notification.dto.NotificationRequestDto;
+import com.bbangbuddy.domain.notification.dto.NotificationUnreadDto;
 import com.bbangbuddy.domain.notification.repository.NotificationRepository;
+import com.bbangbuddy.domain.notification.sse.SseEmitterRegistry;
 import com.bbangbuddy.domain.pot.domain.Pot;
 import com.bbangbuddy.domain.pot.domain.PotParticipant;
 import com.bbangbuddy.domain.pot.dto.PotParticipantDto;
@@ -14,15 +18,16 @@ import com.bbangbuddy.domain.pot.repository.PotRepository;
 import com.bbangbuddy.global.util.ApplicationContextUtils;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 import org.springframework.web.bind.annotation.CrossOrigin;
 import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
-import java.io.IOException;
+import java.time.LocalDateTime;
 import java.util.ArrayList;
 import java.util.List;
-import java.util.Map;
-import java.util.concurrent.ConcurrentHashMap;
+import java.util.Optional;
 
 /**
  * @PackageName : com.bbangbuddy.domain.notification.service
@@ -40,9 +45,15 @@ public class NotificationService {
     private final NotificationRepository notificationRepository;
     private final PotRepository potRepository;
     private final PotParticipantRepository potParticipantRepository;
+    private final NotificationSeqService notificationSeqService;
 
-    // 사용자별 emitter 저장소
-    private final Map<String, SseEmitter> emitters = new ConcurrentHashMap<>();
+    // 사용자별 emitter 저장소 (탭/기기마다 연결 하나)
+    private final SseEmitterRegistry sseEmitterRegistry;
+
+    // 사용자별 안 읽은 알림 수
+    private final NotificationUnreadCache notificationUnreadCache;
+
+    private static final int MAX_INBOX_PAGE_SIZE = 100;
 
     // 알림 목록 조회 (임시 구현)
     public List<Notification> getNotifications(String token) {
@@ -51,11 +62,60 @@ public class NotificationService {
         return notificationRepository.findByUserId(userId);
     }
 
+    /**
+     * 알림함 키셋 페이지 조회
+     * 최신순으로 limit + 1건을 읽어 다음 페이지 여부를 판단하며, COUNT 쿼리는 실행하지 않는다.
+     * @param token 사용자 토큰
+     * @param limit 페이지 크기 (최대 100)
+     * @param lastCreatedAt 직전 페이지 마지막 알림의 생성 시각 (첫 페이지면 null)
+     * @param lastId 직전 페이지 마지막 알림 ID (첫 페이지면 null)
+     * @return 알림 목록과 다음 페이지 커서
+     */
+    public NotificationPageDto getNotificationPage(String token, int limit, LocalDateTime lastCreatedAt, Long lastId) {
+        String userId = jwtUtil.getUserIdFromToken(token);
+        int pageSize = Math.max(1, Math.min(limit, MAX_INBOX_PAGE_SIZE));
+        PageRequest page = PageRequest.of(0, pageSize + 1);
+        List<Notification> content = lastCreatedAt == null || lastId == null
+                ? notificationRepository.findByUserIdOrderByCreatedAtDescIdDesc(userId, page)
+                : notificationRepository.findPageAfter(userId, lastCreatedAt, lastId, page);
+
+        boolean hasNext = content.size() > pageSize;
+        if (hasNext) {
+            content = content.subList(0, pageSize);
+        }
+        Notification last = content.isEmpty() ? null : content.get(content.size() - 1);
+        return NotificationPageDto.builder()
+                .content(content)
+                .hasNext(hasNext)
+                .nextCreatedAt(hasNext ? last.getCreatedAt() : null)
+                .nextId(hasNext ? last.getId() : null)
+                .build();
+    }
+
+    /**
+     * 안 읽은 알림 수 조회 (알림 배지)
+     * 캐시에 있으면 DB를 조회하지 않으며, 없을 때만(처음 조회, 전송 없이 알림 저장 후) DB에서 세어 캐시에 채운다.
+     * @param token 사용자 토큰
+     * @return 안 읽은 알림 수
+     */
+    public long getUnreadCount(String token) {
+        String userId = jwtUtil.getUserIdFromToken(token);
+        Long cached = notificationUnreadCache.get(userId);
+        if (cached != null) {
+            return cached;
+        }
+        long stamp = notificationUnreadCache.stamp();
+        NotificationUnreadDto unread = notificationRepository.findUnread(userId);
+        notificationUnreadCache.put(userId, unread.getUnread(), unread.getLastSeq(), stamp);
+        return unread.getUnread();
+    }
+
     /**
      * 알림 생성 메서드
      * @param request 알림 생성 요청 DTO
      * @return 생성된 Notification 객체
      */
+    @Transactional
     public void createNotification(PotParticipantDto.Request request) {
         List<PotParticipant> participants = potParticipantRepository.findByPotId(request.getPotId());
 
@@ -70,56 +130,126 @@ public class NotificationService {
                 .message(pot.getTitle()+" 팟에 "+ request.getNotificationMessage())
                 .isRead(false)
                 .build();
-            notifications.add(notificationRepository.save(notification));
+            notifications.add(notification);
         }
+        notificationSeqService.assign(notifications);
+        notificationRepository.saveAll(notifications);
+        // 전송 없이 저장만 하므로 증가로 맞출 수 없어 다음 조회 때 DB에서 다시 센다.
+        notifications.forEach(notification -> notificationUnreadCache.invalidate(notification.getUserId()));
     }
 
     /**
      * SSE를 통해 알림을 구독하는 메서드
+     * Last-Event-ID가 있으면 그 순번 뒤에 커밋된 알림만 실시간 알림보다 먼저 보낸다. (최근 알림은 메모리 버퍼, 없으면 DB에서 조회)
      * @param token 사용자 토큰
+     * @param lastEventId 재연결 시 브라우저가 보내는 Last-Event-ID 헤더 값 ("순번-알림 ID", 처음 연결이거나 형식이 다르면 무시)
      * @return SseEmitter 객체
      */
     @CrossOrigin(origins = {"http://localhost:3000", "http://158.180.88.31:3000", "http://bbangbuddy.com", "https://158.180.88.31:3000", "https://bbangbuddy.com"})
-    public SseEmitter subscribe(String token) {
+    public SseEmitter subscribe(String token, String lastEventId) {
         String userId = jwtUtil.getUserIdFromToken(token);
         log.info("🛰️ 구독 요청됨 userId = " + userId);
         SseEmitter emitter = new SseEmitter(60 * 60 * 1000L); // 1시간 타임아웃
-        emitters.put(userId, emitter);
 
-        // 종료 및 에러 처리
-        emitter.onCompletion(() -> emitters.remove(userId));
-        emitter.onTimeout(() -> emitters.remove(userId));
-        emitter.onError((e) -> emitters.remove(userId));
-
-        return emitter;
+        // 종료 및 에러 처리는 저장소에서 등록
+        return sseEmitterRegistry.register(userId, emitter, parseEventId(lastEventId));
     }
 
     /**
      * 사용자에게 알림 메시지를 전송하는 메서드
+     * 사용자의 모든 연결 전송 큐에 넣고 바로 반환하며, 실제 전송은 SseEmitterRegistry의 전송 스레드가 한다.
      * @param userId 사용자 ID
      * @param message 전송할 메시지
      */
     public void send(String userId, String message) {
-        SseEmitter emitter = emitters.get(userId);
-        if (emitter != null) {
-            try {
-                emitter.send(SseEmitter.event()
-                        .data(message));
-            } catch (IOException e) {
-                emitter.completeWithError(e);
-                emitters.remove(userId);
-            }
+        sseEmitterRegistry.send(userId, message);
+    }
+
+    /**
+     * 사용자별 알림 순번과 알림 ID를 SSE 이벤트 id로 붙여 전송 (재연결 시 Last-Event-ID의 순번 뒤부터 이어 받을 수 있음)
+     * 같은 알림을 여러 사용자에게 보낼 때는 한 번 인코딩한 payload 배열을 그대로 넘긴다. (수신자마다 새로 만들지 않음)
+     * @param userId 사용자 ID
+     * @param notificationId 알림 ID
+     * @param seq 사용자별 알림 순번 (없으면 재전송 대상이 아닌 일반 전송)
+     * @param payload 인코딩된 메시지 (UTF-8 JSON)
+     */
+    public void send(String userId, Long notificationId, Long seq, byte[] payload) {
+        if (seq != null) {
+            // 순번으로 이미 센 알림(outbox 재시도 포함)을 걸러 증가
+            notificationUnreadCache.increment(userId, seq);
+        } else if (notificationId != null) {
+            // 순번 없이 전송된 알림은 센 알림인지 가를 수 없어 다음 조회 때 DB에서 다시 센다.
+            notificationUnreadCache.invalidate(userId);
         }
+        sseEmitterRegistry.send(userId, seq, seq == null ? null : NotificationEvent.eventId(seq, notificationId), payload);
     }
 
+    /**
+     * 알림 읽음 처리, 실제로 안 읽음에서 읽음으로 바뀐 경우에만 안 읽은 알림 수를 줄인다.
+     * @param notificationId 알림 ID
+     */
     public void markAsRead(Long notificationId) {
-        notificationRepository.markAsRead(notificationId);
-        log.info("알림 읽음 처리: userId = {}", notificationId);
+        Optional<String> userId = notificationRepository.findUserIdById(notificationId);
+        long changeStamp = notificationUnreadCache.beginChange();
+        int updated = notificationRepository.markAsRead(notificationId);
+        userId.ifPresent(id -> notificationUnreadCache.decrement(id, updated, changeStamp));
+        log.info("알림 읽음 처리: notificationId = {}", notificationId);
+    }
+
+    /**
+     * 사용자의 알림 중 순번이 upToSeq 이하인 알림을 UPDATE 한 번으로 모두 읽음 처리하고, 바뀐 수만큼 안 읽은 알림 수를 줄인다.
+     * @param token 사용자 토큰
+     * @param upToSeq 클라이언트가 본 가장 큰 알림 순번
+     * @return 읽음으로 바뀐 알림 수
+     */
+    public int markAllAsRead(String token, Long upToSeq) {
+        String userId = jwtUtil.getUserIdFromToken(token);
+        long changeStamp = notificationUnreadCache.beginChange();
+        int updated = notificationRepository.markAllAsReadUpTo(userId, upToSeq);
+        notificationUnreadCache.decrement(userId, updated, changeStamp);
+        log.info("알림 일괄 읽음 처리: userId = {}, upToSeq = {}, updated = {}", userId, upToSeq, updated);
+        return updated;
+    }
+
+    /**
+     * 사용자의 알림 중 지정한 ID 목록을 UPDATE 한 번으로 읽음 처리하고, 바뀐 수만큼 안 읽은 알림 수를 줄인다.
+     * @param token 사용자 토큰
+     * @param notificationIds 알림 ID 목록
+     * @return 읽음으로 바뀐 알림 수
+     */
+    public int markAsRead(String token, List<Long> notificationIds) {
+        String userId = jwtUtil.getUserIdFromToken(token);
+        long changeStamp = notificationUnreadCache.beginChange();
+        int updated = notificationRepository.markAsRead(userId, notificationIds);
+        notificationUnreadCache.decrement(userId, updated, changeStamp);
+        log.info("알림 일괄 읽음 처리: userId = {}, requested = {}, updated = {}", userId, notificationIds.size(), updated);
+        return updated;
     }
 
-    @PreDestroy
-    public void cleanup() {
-        emitters.clear();
+    /**
+     * SSE 연결/전송 큐 통계 조회
+     */
+    public SseEmitterRegistry.Stats getSseStats() {
+        return sseEmitterRegistry.stats();
+    }
+
+    // Last-Event-ID("순번-알림 ID")에서 순번만 꺼낸다.
+    private Long parseEventId(String lastEventId) {
+        if (lastEventId == null || lastEventId.trim().isEmpty()) {
+            return null;
+        }
+        String value = lastEventId.trim();
+        int separator = value.indexOf('-');
+        if (separator <= 0) {
+            log.info("잘못된 Last-Event-ID 무시: {}", lastEventId);
+            return null;
+        }
+        try {
+            return Long.valueOf(value.substring(0, separator));
+        } catch (NumberFormatException e) {
+            log.info("잘못된 Last-Event-ID 무시: {}", lastEventId);
+            return null;
+        }
     }
 
 }
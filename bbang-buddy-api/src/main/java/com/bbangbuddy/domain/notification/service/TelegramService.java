@@ -6,7 +6,9 @@ import org.springframework.http.MediaType;
 import org.springframework.stereotype.Service;
 import org.springframework.web.reactive.function.BodyInserters;
 import org.springframework.web.reactive.function.client.WebClient;
+import reactor.core.publisher.Mono;
 
+import java.time.Duration;
 import java.util.HashMap;
 import java.util.Map;
 
@@ -29,18 +31,30 @@ public class TelegramService {
     private String chatId;
 
     public void sendTelegramMessage(String message) {
+        request(message).subscribe();
+    }
+
+    /**
+     * 텔레그램 메시지를 전송하고 응답을 기다린다. (알림 outbox 전송용)
+     *
+     * @throws RuntimeException 전송에 실패했거나 timeout 안에 응답이 없는 경우
+     */
+    public void sendTelegramMessageAndWait(String message, Duration timeout) {
+        request(message).block(timeout);
+    }
+
+    private Mono<String> request(String message) {
         String url = "https://api.telegram.org/bot" + botToken + "/sendMessage";
 
         Map<String, String> body = new HashMap<>();
         body.put("chat_id", chatId);
         body.put("text", message);
 
-        webClient.post()
+        return webClient.post()
                 .uri(url)
                 .contentType(MediaType.APPLICATION_JSON)
                 .body(BodyInserters.fromValue(body))
                 .retrieve()
-                .bodyToMono(String.class)
-                .subscribe();
+                .bodyToMono(String.class);
     }
 }
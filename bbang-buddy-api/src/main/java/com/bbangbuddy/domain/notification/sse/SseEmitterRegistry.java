@@ -0,0 +1,603 @@
+package com.bbangbuddy.domain.notification.sse;
+
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import javax.annotation.PostConstruct;
+import javax.annotation.PreDestroy;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * @PackageName : com.bbangbuddy.domain.notification.sse
+ * @FileName : SseEmitterRegistry
+ * @Author : hjsim
+ * @Date : 2026-10-18
+ * @Description : 사용자별 SSE 연결(탭/기기) 저장소
+ *                한 사용자가 여러 연결을 가질 수 있고(max-connections-per-user 초과 시 가장 오래된 연결 종료),
+ *                연결마다 크기가 정해진 전송 큐를 두어 send()는 큐에 넣기만 하고 바로 반환한다.
+ *                큐는 전송 스레드 풀이 연결 단위로 순서대로 비우며, 한 번에 한 스레드만 한 연결을 맡는다.
+ *                큐가 가득 차면 overflow-policy에 따라 가장 오래된 메시지를 버리거나(DROP_OLDEST) 느린 연결을 끊는다(DISCONNECT).
+ *                순번(사용자별 알림 순번, 커밋 순서)이 있는 이벤트는 사용자별 링 버퍼(replay-size)에 순번 순서로 남기고, 연결마다 순번이 커지는 순서로만 보낸다.
+ *                이미 보낸 순번(outbox 재시도, 노드 간 중복 전달)은 버리고, 앞 순번이 아직 오지 않았으면 DB(SseReplayStore)에서 채워 빠진 번호 없이 보낸다.
+ *                Last-Event-ID로 다시 연결하면 그 순번 뒤 이벤트만 링 버퍼에서, 이어 줄 수 없으면(버퍼 밀림/서버 재시작) DB에서 읽어 먼저 보낸다.
+ *                연결은 해시 타이밍 휠에도 넣어, 스레드 하나가 heartbeat-interval마다 연결별로 주석 heartbeat를 큐에 넣는다.
+ *                끊긴 연결은 heartbeat 전송 실패로 바로 닫히고, 쓰기가 막혀 dead-after 동안 아무것도 보내지 못한 연결은 tick에서 한꺼번에 정리한다.
+ *                SseEmitter.complete()는 막힌 send()가 잡은 emitter 잠금을 기다리므로, 연결 종료(complete)는 종료 전용 스레드에서 한다.
+ *                (heartbeat 스레드나 알림을 넣는 스레드가 느린 연결 때문에 멈추지 않도록)
+ */
+@Slf4j
+@Component
+public class SseEmitterRegistry {
+
+    public enum OverflowPolicy {
+        DROP_OLDEST, // 가장 오래된 대기 메시지를 버리고 새 메시지를 넣는다.
+        DISCONNECT // 느린 연결을 끊는다. (클라이언트가 다시 연결)
+    }
+
+    private final int queueCapacity;
+    private final int maxConnectionsPerUser;
+    private final OverflowPolicy overflowPolicy;
+    private final ExecutorService senders;
+    private final ExecutorService closers;
+
+    private final int replaySize;
+    private final Cache<String, ReplayBuffer> replayBuffers;
+    private final SseReplayStore replayStore;
+
+    // 아직 보낸 순번이 없음
+    private static final long NONE = -1L;
+
+    private final Map<String, Set<Connection>> connections = new ConcurrentHashMap<>();
+    private final AtomicLong sequence = new AtomicLong();
+
+    private final TimingWheel<Connection> heartbeatWheel;
+    private final long heartbeatTickMillis;
+    private final long deadAfterNanos;
+    private ScheduledExecutorService heartbeatScheduler;
+
+    // 큐가 가득 차 버린 메시지 수 / 큐가 가득 차 끊은 연결 수 / 전송 실패나 응답 없음으로 정리한 연결 수
+    private final AtomicLong drops = new AtomicLong();
+    private final AtomicLong slowDisconnects = new AtomicLong();
+    private final AtomicLong reaped = new AtomicLong();
+
+    public SseEmitterRegistry(SseReplayStore replayStore,
+                              @Value("${notification.sse.queue-capacity:32}") int queueCapacity,
+                              @Value("${notification.sse.max-connections-per-user:5}") int maxConnectionsPerUser,
+                              @Value("${notification.sse.overflow-policy:DROP_OLDEST}") OverflowPolicy overflowPolicy,
+                              @Value("${notification.sse.sender-threads:4}") int senderThreads,
+                              @Value("${notification.sse.replay-size:100}") int replaySize,
+                              @Value("${notification.sse.replay-ttl-seconds:7200}") long replayTtlSeconds,
+                              @Value("${notification.sse.replay-max-users:100000}") long replayMaxUsers,
+                              @Value("${notification.sse.heartbeat-interval-ms:15000}") long heartbeatIntervalMillis,
+                              @Value("${notification.sse.heartbeat-slots:30}") int heartbeatSlots,
+                              @Value("${notification.sse.dead-after-ms:45000}") long deadAfterMillis,
+                              @Value("${notification.sse.closer-threads:2}") int closerThreads) {
+        this.queueCapacity = queueCapacity;
+        this.replayStore = replayStore;
+        this.replaySize = replaySize;
+        // 오래 연결하지 않은 사용자의 버퍼는 비우고(최대 사용자 수를 넘어도 오래 안 쓴 버퍼부터 제거), 다시 연결하면 DB에서 채운다.
+        this.replayBuffers = CacheBuilder.newBuilder()
+                .maximumSize(replayMaxUsers)
+                .expireAfterAccess(replayTtlSeconds, TimeUnit.SECONDS)
+                .build();
+        this.maxConnectionsPerUser = maxConnectionsPerUser;
+        this.overflowPolicy = overflowPolicy;
+        // 연결마다 대기 작업은 최대 하나이므로 작업 큐 길이는 연결 수를 넘지 않는다.
+        AtomicInteger threadSequence = new AtomicInteger();
+        this.senders = new ThreadPoolExecutor(senderThreads, senderThreads, 0L, TimeUnit.MILLISECONDS,
+                new LinkedBlockingQueue<>(),
+                runnable -> {
+                    Thread thread = new Thread(runnable, "sse-sender-" + threadSequence.incrementAndGet());
+                    thread.setDaemon(true);
+                    return thread;
+                });
+        // complete()가 막힌 연결 하나에 스레드 하나가 묶여도 나머지 종료는 다른 스레드가 처리한다.
+        AtomicInteger closerSequence = new AtomicInteger();
+        ThreadPoolExecutor closerPool = new ThreadPoolExecutor(closerThreads, closerThreads, 60L, TimeUnit.SECONDS,
+                new LinkedBlockingQueue<>(),
+                runnable -> {
+                    Thread thread = new Thread(runnable, "sse-closer-" + closerSequence.incrementAndGet());
+                    thread.setDaemon(true);
+                    return thread;
+                });
+        closerPool.allowCoreThreadTimeOut(true);
+        this.closers = closerPool;
+        // 한 바퀴가 heartbeat 간격이 되도록 tick 간격을 나눈다.
+        this.heartbeatWheel = new TimingWheel<>(heartbeatSlots);
+        this.heartbeatTickMillis = Math.max(1L, heartbeatIntervalMillis / Math.max(1, heartbeatSlots));
+        this.deadAfterNanos = TimeUnit.MILLISECONDS.toNanos(deadAfterMillis);
+    }
+
+    @PostConstruct
+    public void startHeartbeat() {
+        heartbeatScheduler = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "sse-heartbeat");
+            thread.setDaemon(true);
+            return thread;
+        });
+        heartbeatScheduler.scheduleAtFixedRate(this::heartbeatTick, heartbeatTickMillis, heartbeatTickMillis, TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * 사용자의 새 연결 등록, 연결 수가 max-connections-per-user를 넘으면 가장 오래된 연결을 종료한다.
+     */
+    public SseEmitter register(String userId, SseEmitter emitter) {
+        return register(userId, emitter, null);
+    }
+
+    /**
+     * 사용자의 새 연결 등록 후 lastSeq 뒤의 이벤트를 실시간 이벤트보다 먼저 보낸다.
+     * 링 버퍼로 이어 줄 수 없으면 DB에서 순번 순서로 읽으며, 연결은 재전송한 마지막 순번 이하의 실시간 이벤트를 건너뛴다.
+     *
+     * @param lastSeq 클라이언트가 마지막으로 받은 이벤트 순번 (처음 연결이면 null)
+     */
+    public SseEmitter register(String userId, SseEmitter emitter, Long lastSeq) {
+        ReplayBuffer buffer = replayBufferOf(userId);
+        Connection connection;
+        List<Connection> evicted = new ArrayList<>();
+        // 링 버퍼 추가(send)와 같은 잠금 안에서 재전송 이벤트를 큐에 넣고 연결을 공개해, 사이에 온 이벤트가 빠지거나 두 번 가지 않게 한다.
+        // DB 조회도 이 잠금 안에서 해, 조회 후 도착한 이벤트는 순번으로 걸러진다. (잠금은 사용자 단위)
+        synchronized (buffer) {
+            List<SseEvent> replay = lastSeq == null ? Collections.emptyList() : missedEvents(userId, buffer, lastSeq);
+            connection = new Connection(userId, emitter, sequence.incrementAndGet(), queueCapacity + replay.size());
+            replay.forEach(connection.queue::offer);
+            if (lastSeq == null) {
+                connection.lastSeq = buffer.lastSeq;
+            } else {
+                connection.lastSeq = replay.isEmpty() ? lastSeq : replay.get(replay.size() - 1).getSeq();
+            }
+            connections.compute(userId, (key, current) -> {
+                Set<Connection> userConnections = current != null ? current : ConcurrentHashMap.newKeySet();
+                userConnections.add(connection);
+                if (userConnections.size() > maxConnectionsPerUser) {
+                    List<Connection> oldest = new ArrayList<>(userConnections);
+                    oldest.sort(Comparator.comparingLong(Connection::getSequence));
+                    evicted.addAll(oldest.subList(0, userConnections.size() - maxConnectionsPerUser));
+                }
+                return userConnections;
+            });
+        }
+
+        emitter.onCompletion(() -> remove(connection));
+        emitter.onTimeout(() -> remove(connection));
+        emitter.onError(e -> remove(connection));
+        heartbeatWheel.add(connection, connection.getSequence());
+        evicted.forEach(old -> close(old, null));
+        if (!connection.queue.isEmpty()) {
+            schedule(connection);
+        }
+        return emitter;
+    }
+
+    /**
+     * 사용자의 모든 연결 큐에 메시지를 넣고 바로 반환, 메시지를 넣은 연결 수 반환 (재전송 대상 아님)
+     */
+    public int send(String userId, String data) {
+        return offerAll(userId, new SseEvent(null, null, data.getBytes(StandardCharsets.UTF_8)));
+    }
+
+    /**
+     * 순번이 있는 이벤트를 링 버퍼에 남기고 사용자의 모든 연결 큐에 넣는다.
+     * 이미 보낸 순번은 버리고, 앞 순번이 빠져 있으면(다른 노드나 재시도로 늦게 오는 알림) DB에서 먼저 채워 순번 순서로 보낸다.
+     * data는 인코딩된 바이트를 그대로 공유하므로 여러 사용자에게 같은 배열을 넘겨도 된다.
+     *
+     * @param seq 사용자별 알림 순번 (없으면 재전송 대상이 아닌 일반 전송)
+     * @param id SSE id 필드 값
+     */
+    public int send(String userId, Long seq, String id, byte[] data) {
+        SseEvent event = new SseEvent(seq, id, data);
+        if (seq == null) {
+            return offerAll(userId, event);
+        }
+        ReplayBuffer buffer = replayBuffers.getIfPresent(userId);
+        if (buffer == null) {
+            // 노드 간 전달로 모든 노드가 모든 사용자의 알림을 받으므로, 이 노드에 연결한 적 없는 사용자는 링 버퍼를 만들지 않는다.
+            // (나중에 이 노드로 연결하면 놓친 알림은 DB에서 조회)
+            if (!connections.containsKey(userId)) {
+                return 0;
+            }
+            buffer = replayBufferOf(userId);
+        }
+        synchronized (buffer) {
+            if (buffer.lastSeq != NONE && seq <= buffer.lastSeq) {
+                return 0; // 이미 보낸 순번 (outbox 재시도, 노드 간 중복 전달, 재연결 때 DB에서 먼저 읽음)
+            }
+            List<SseEvent> events = new ArrayList<>();
+            if (buffer.lastSeq != NONE && seq > buffer.lastSeq + 1) {
+                // 순번 seq 알림이 커밋됐으면 앞 순번 알림도 모두 커밋되어 있으므로 DB에서 채운다.
+                int missing = (int) Math.min(replaySize, seq - buffer.lastSeq - 1);
+                for (SseEvent missed : replayStore.findAfter(userId, buffer.lastSeq, missing)) {
+                    if (missed.getSeq() < seq) {
+                        events.add(missed);
+                    }
+                }
+            }
+            events.add(event);
+            int queued = 0;
+            for (SseEvent next : events) {
+                buffer.add(next);
+                queued = offerAll(userId, next);
+            }
+            return queued;
+        }
+    }
+
+    private int offerAll(String userId, SseEvent event) {
+        Set<Connection> userConnections = connections.get(userId);
+        if (userConnections == null) {
+            return 0;
+        }
+        int queued = 0;
+        for (Connection connection : userConnections) {
+            if (offer(connection, event)) {
+                schedule(connection);
+                queued++;
+            }
+        }
+        return queued;
+    }
+
+    // 링 버퍼로 이어 주고, 안 되면 DB에서 순번 순서로 읽은 뒤 링 버퍼의 나머지를 붙인다. (새로 만든 링 버퍼는 읽은 이벤트로 시작)
+    // 놓친 이벤트가 replay-size보다 많아 링 버퍼와도 이어지지 않으면 읽은 만큼만 보낸다. (나머지는 알림함에서 확인)
+    private List<SseEvent> missedEvents(String userId, ReplayBuffer buffer, long lastSeq) {
+        List<SseEvent> fromBuffer = buffer.after(lastSeq);
+        if (fromBuffer != null) {
+            return fromBuffer;
+        }
+        List<SseEvent> stored = replayStore.findAfter(userId, lastSeq, replaySize);
+        if (buffer.lastSeq == NONE) {
+            buffer.lastSeq = lastSeq;
+            stored.forEach(buffer::add);
+            return stored;
+        }
+        List<SseEvent> rest = buffer.after(stored.isEmpty() ? lastSeq : stored.get(stored.size() - 1).getSeq());
+        if (rest == null || rest.isEmpty()) {
+            return stored;
+        }
+        List<SseEvent> missed = new ArrayList<>(stored);
+        missed.addAll(rest);
+        return missed;
+    }
+
+    private ReplayBuffer replayBufferOf(String userId) {
+        return replayBuffers.asMap().computeIfAbsent(userId, key -> new ReplayBuffer(replaySize));
+    }
+
+    public int getConnectionCount() {
+        int count = 0;
+        for (Set<Connection> userConnections : connections.values()) {
+            count += userConnections.size();
+        }
+        return count;
+    }
+
+    public int getConnectionCount(String userId) {
+        Set<Connection> userConnections = connections.get(userId);
+        return userConnections != null ? userConnections.size() : 0;
+    }
+
+    // 전체 연결의 전송 대기 메시지 수
+    public int getQueueDepth() {
+        int depth = 0;
+        for (Set<Connection> userConnections : connections.values()) {
+            for (Connection connection : userConnections) {
+                depth += connection.queue.size();
+            }
+        }
+        return depth;
+    }
+
+    public int getReplaySize() {
+        return replaySize;
+    }
+
+    public long getDropCount() {
+        return drops.get();
+    }
+
+    public long getSlowDisconnectCount() {
+        return slowDisconnects.get();
+    }
+
+    public long getReapedCount() {
+        return reaped.get();
+    }
+
+    /**
+     * 연결 수, 전송 대기 메시지 수, 큐 초과로 버린 메시지/끊은 연결 수, 정리한 연결 수 조회
+     */
+    public Stats stats() {
+        return Stats.builder()
+                .connectionCount(getConnectionCount())
+                .queueDepth(getQueueDepth())
+                .dropCount(getDropCount())
+                .slowDisconnectCount(getSlowDisconnectCount())
+                .reapedCount(getReapedCount())
+                .build();
+    }
+
+    /**
+     * 타이밍 휠의 다음 슬롯 연결에 heartbeat를 넣고, 닫혔거나 응답 없는 연결은 휠에서 빼고 한꺼번에 정리
+     */
+    void heartbeatTick() {
+        try {
+            long now = System.nanoTime();
+            List<Connection> dead = new ArrayList<>();
+            heartbeatWheel.tick(connection -> {
+                if (connection.closed.get()) {
+                    return false;
+                }
+                if (now - connection.lastWriteNanos > deadAfterNanos) {
+                    dead.add(connection);
+                    return false;
+                }
+                // 큐가 차 있으면 곧 보낼 이벤트가 있으므로 heartbeat는 생략한다.
+                if (connection.queue.offer(SseEvent.HEARTBEAT)) {
+                    schedule(connection);
+                }
+                return true;
+            });
+            for (Connection connection : dead) {
+                if (remove(connection)) {
+                    reaped.incrementAndGet();
+                    completeQuietly(connection, null);
+                }
+            }
+            if (!dead.isEmpty()) {
+                log.info("응답 없는 SSE 연결 정리: {}건", dead.size());
+            }
+        } catch (RuntimeException e) {
+            log.warn("SSE heartbeat 처리 중 오류", e);
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        if (heartbeatScheduler != null) {
+            heartbeatScheduler.shutdownNow();
+        }
+        for (Set<Connection> userConnections : connections.values()) {
+            for (Connection connection : userConnections) {
+                close(connection, null);
+            }
+        }
+        closers.shutdown();
+        senders.shutdownNow();
+    }
+
+    private boolean offer(Connection connection, SseEvent event) {
+        if (connection.closed.get()) {
+            return false;
+        }
+        // 이미 보낸 순번 이하(재연결 때 먼저 보냈거나 클라이언트가 이미 받음)는 건너뛰어 연결마다 순번이 커지는 순서로만 보낸다.
+        if (event.getSeq() != null) {
+            if (event.getSeq() <= connection.lastSeq) {
+                return false;
+            }
+            connection.lastSeq = event.getSeq();
+        }
+        if (connection.queue.offer(event)) {
+            return true;
+        }
+        if (overflowPolicy == OverflowPolicy.DISCONNECT) {
+            drops.incrementAndGet();
+            slowDisconnects.incrementAndGet();
+            log.info("SSE 전송 큐 초과로 연결 종료: userId = {}", connection.userId);
+            close(connection, null);
+            return false;
+        }
+        // 다른 스레드가 그 사이 큐를 채워도 새 메시지가 들어갈 때까지 오래된 것부터 버린다.
+        while (!connection.queue.offer(event)) {
+            if (connection.queue.poll() != null) {
+                drops.incrementAndGet();
+            }
+        }
+        return true;
+    }
+
+    // 연결에 맡은 스레드가 없으면 전송 작업을 하나 등록
+    private void schedule(Connection connection) {
+        if (connection.scheduled.compareAndSet(false, true)) {
+            try {
+                senders.execute(() -> drain(connection));
+            } catch (RuntimeException e) {
+                connection.scheduled.set(false);
+                log.warn("SSE 전송 작업 등록 실패: userId = {}", connection.userId, e);
+            }
+        }
+    }
+
+    // 한 번에 큐 크기만큼 보내고 남으면 다시 등록해 한 연결이 스레드를 오래 잡지 않도록 한다.
+    private void drain(Connection connection) {
+        try {
+            for (int i = 0; i < queueCapacity && !connection.closed.get(); i++) {
+                SseEvent event = connection.queue.poll();
+                if (event == null) {
+                    break;
+                }
+                if (event == SseEvent.HEARTBEAT) {
+                    connection.emitter.send(SseEmitter.event().comment("heartbeat"));
+                } else {
+                    SseEmitter.SseEventBuilder builder = SseEmitter.event();
+                    if (event.getId() != null) {
+                        builder.id(event.getId());
+                    }
+                    connection.emitter.send(builder.data(event.getData()));
+                }
+                connection.lastWriteNanos = System.nanoTime();
+            }
+        } catch (IOException | IllegalStateException e) {
+            // 끊긴 연결(broken pipe)은 heartbeat나 알림 전송 실패로 바로 정리
+            if (remove(connection)) {
+                reaped.incrementAndGet();
+                completeQuietly(connection, e);
+            }
+        } finally {
+            connection.scheduled.set(false);
+        }
+        if (!connection.closed.get() && !connection.queue.isEmpty()) {
+            schedule(connection);
+        }
+    }
+
+    private void close(Connection connection, Throwable error) {
+        if (remove(connection)) {
+            completeQuietly(connection, error);
+        }
+    }
+
+    // 종료 전용 스레드에서 complete, 호출 스레드는 emitter 잠금을 기다리지 않는다.
+    private void completeQuietly(Connection connection, Throwable error) {
+        try {
+            closers.execute(() -> {
+                try {
+                    if (error != null) {
+                        connection.emitter.completeWithError(error);
+                    } else {
+                        connection.emitter.complete();
+                    }
+                } catch (RuntimeException e) {
+                    log.debug("SSE 연결 종료 중 오류: userId = {}", connection.userId, e);
+                }
+            });
+        } catch (RejectedExecutionException e) {
+            log.debug("SSE 연결 종료 작업 등록 실패: userId = {}", connection.userId, e);
+        }
+    }
+
+    // 저장소에서 제거, 이미 제거된 연결이면 false
+    private boolean remove(Connection connection) {
+        if (!connection.closed.compareAndSet(false, true)) {
+            return false;
+        }
+        connections.computeIfPresent(connection.userId, (key, userConnections) -> {
+            userConnections.remove(connection);
+            return userConnections.isEmpty() ? null : userConnections;
+        });
+        connection.queue.clear();
+        return true;
+    }
+
+    // SSE 연결 하나와 전송 대기 큐
+    static final class Connection {
+
+        private final String userId;
+        private final SseEmitter emitter;
+        private final long sequence;
+        private final ArrayBlockingQueue<SseEvent> queue;
+        // 이 연결로 보낸 마지막 순번, 사용자 링 버퍼 잠금 안에서만 읽고 쓴다.
+        private long lastSeq = NONE;
+        private final AtomicBoolean scheduled = new AtomicBoolean();
+        private final AtomicBoolean closed = new AtomicBoolean();
+        private volatile long lastWriteNanos = System.nanoTime();
+
+        Connection(String userId, SseEmitter emitter, long sequence, int queueCapacity) {
+            this.userId = userId;
+            this.emitter = emitter;
+            this.sequence = sequence;
+            this.queue = new ArrayBlockingQueue<>(queueCapacity);
+        }
+
+        long getSequence() {
+            return sequence;
+        }
+
+    }
+
+    @Getter
+    @Builder
+    @AllArgsConstructor
+    @NoArgsConstructor
+    public static class Stats {
+        private int connectionCount;
+        // 전체 연결의 전송 대기 메시지 수
+        private int queueDepth;
+        // 큐가 가득 차 버린 메시지 수
+        private long dropCount;
+        // 큐가 가득 차 끊은 연결 수 (DISCONNECT)
+        private long slowDisconnectCount;
+        // 전송 실패나 응답 없음으로 정리한 연결 수
+        private long reapedCount;
+    }
+
+    // 사용자 한 명의 최근 이벤트 (순번 순서, 최대 replaySize개), 호출자가 버퍼 객체로 동기화한다.
+    static final class ReplayBuffer {
+
+        private final int capacity;
+        private final ArrayDeque<SseEvent> events;
+        // 마지막으로 보낸 순번 (아직 없으면 NONE), 버퍼의 이벤트는 이 순번까지 빠진 번호 없이 이어진다.
+        private long lastSeq = NONE;
+
+        ReplayBuffer(int capacity) {
+            this.capacity = capacity;
+            this.events = new ArrayDeque<>(capacity);
+        }
+
+        void add(SseEvent event) {
+            // DB에서도 채우지 못해 순번이 건너뛰면 앞 이벤트로는 이어 줄 수 없으므로 비운다.
+            if (lastSeq != NONE && event.getSeq() != lastSeq + 1) {
+                events.clear();
+            }
+            lastSeq = event.getSeq();
+            if (capacity == 0) {
+                return;
+            }
+            if (events.size() == capacity) {
+                events.pollFirst();
+            }
+            events.addLast(event);
+        }
+
+        // seq 뒤 이벤트, 버퍼로 이어 줄 수 없으면 null
+        List<SseEvent> after(long seq) {
+            if (lastSeq == NONE) {
+                return null;
+            }
+            if (seq >= lastSeq) {
+                // 이미 모두 받았거나 다른 노드에서 더 받은 클라이언트 (그 순번까지는 실시간 전송에서 건너뜀)
+                return new ArrayList<>();
+            }
+            SseEvent first = events.peekFirst();
+            if (first == null || first.getSeq() > seq + 1) {
+                return null;
+            }
+            List<SseEvent> missed = new ArrayList<>();
+            for (SseEvent event : events) {
+                if (event.getSeq() > seq) {
+                    missed.add(event);
+                }
+            }
+            return missed;
+        }
+
+    }
+
+}
@@ -0,0 +1,27 @@
+package com.bbangbuddy.domain.notification.sse;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * @PackageName : com.bbangbuddy.domain.notification.sse
+ * @FileName : SseEvent
+ * @Author : hjsim
+ * @Date : 2026-10-18
+ * @Description : SSE로 보낼 이벤트 하나
+ *                seq는 사용자별 알림 순번(커밋 순서, 빠진 번호 없음)으로 연결마다 순번이 커지는 순서로만 보내며, id는 SSE id 필드 값이다.
+ *                클라이언트가 재연결하면 id가 Last-Event-ID로 돌아오고 그 안의 순번 뒤 이벤트만 다시 보낸다. (seq 없는 이벤트는 재전송 대상이 아님)
+ *                data는 미리 인코딩한 바이트로, 같은 알림을 받는 모든 연결과 링 버퍼가 같은 배열을 공유한다. (변경 금지)
+ */
+@Getter
+@RequiredArgsConstructor
+public final class SseEvent {
+
+    // 연결 확인용 주석 이벤트 (":heartbeat"), 링 버퍼에 남기지 않는다.
+    static final SseEvent HEARTBEAT = new SseEvent(null, null, null);
+
+    private final Long seq;
+    private final String id;
+    private final byte[] data;
+
+}
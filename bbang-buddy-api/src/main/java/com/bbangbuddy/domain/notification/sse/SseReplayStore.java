@@ -0,0 +1,20 @@
+package com.bbangbuddy.domain.notification.sse;
+
+import java.util.List;
+
+/**
+ * @PackageName : com.bbangbuddy.domain.notification.sse
+ * @FileName : SseReplayStore
+ * @Author : hjsim
+ * @Date : 2026-10-18
+ * @Description : 링 버퍼로 이어 줄 수 없을 때 SseEmitterRegistry가 놓친 이벤트를 읽어 오는 저장소 (알림 테이블)
+ *                순번은 커밋 순서이므로 순번 s 알림이 커밋됐으면 s 이하 알림도 모두 커밋되어 있어 빠짐 없이 읽힌다.
+ */
+public interface SseReplayStore {
+
+    /**
+     * 사용자의 이벤트 중 순번이 afterSeq보다 큰 이벤트를 순번 오름차순으로 최대 limit개 조회
+     */
+    List<SseEvent> findAfter(String userId, long afterSeq, int limit);
+
+}
@@ -0,0 +1,73 @@
+package com.bbangbuddy.domain.notification.sse;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Predicate;
+
+/**
+ * @PackageName : com.bbangbuddy.domain.notification.sse
+ * @FileName : TimingWheel
+ * @Author : hjsim
+ * @Date : 2026-10-18
+ * @Description : 주기 작업용 해시 타이밍 휠
+ *                항목을 hash로 슬롯 하나에 넣고, tick마다 다음 슬롯의 항목만 방문한다. 한 바퀴(슬롯 수만큼 tick)에 모든 항목을 한 번씩 방문하므로
+ *                항목마다 타이머를 두지 않고 스레드 하나로 tick당 (항목 수 / 슬롯 수)만큼만 처리한다.
+ */
+final class TimingWheel<T> {
+
+    private final List<List<T>> slots;
+    private int cursor;
+
+    TimingWheel(int slotCount) {
+        int count = Math.max(1, slotCount);
+        this.slots = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            slots.add(new ArrayList<>());
+        }
+    }
+
+    void add(T item, long hash) {
+        List<T> slot = slots.get((int) Math.floorMod(hash, (long) slots.size()));
+        synchronized (slot) {
+            slot.add(item);
+        }
+    }
+
+    /**
+     * 다음 슬롯의 항목을 방문하고, visitor가 false를 반환한 항목은 휠에서 제거한다. (tick 스레드 하나에서만 호출)
+     *
+     * @return 제거한 항목 수
+     */
+    int tick(Predicate<T> visitor) {
+        List<T> slot = slots.get(cursor);
+        cursor = (cursor + 1) % slots.size();
+
+        List<T> due;
+        synchronized (slot) {
+            due = new ArrayList<>(slot);
+            slot.clear();
+        }
+        List<T> kept = new ArrayList<>(due.size());
+        for (T item : due) {
+            if (visitor.test(item)) {
+                kept.add(item);
+            }
+        }
+        // 방문하는 동안 새로 들어온 항목은 그대로 두고 남길 항목을 다시 넣는다.
+        synchronized (slot) {
+            slot.addAll(kept);
+        }
+        return due.size() - kept.size();
+    }
+
+    int size() {
+        int size = 0;
+        for (List<T> slot : slots) {
+            synchronized (slot) {
+                size += slot.size();
+            }
+        }
+        return size;
+    }
+
+}
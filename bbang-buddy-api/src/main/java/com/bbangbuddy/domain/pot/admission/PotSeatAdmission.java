@@ -0,0 +1,198 @@
+package com.bbangbuddy.domain.pot.admission;
+
+import com.bbangbuddy.domain.pot.domain.Pot;
+import com.bbangbuddy.domain.pot.event.PotChangedEvent;
+import com.bbangbuddy.domain.pot.repository.PotRepository;
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.Objects;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * @PackageName : com.bbangbuddy.domain.pot.admission
+ * @FileName : PotSeatAdmission
+ * @Author : hjsim
+ * @Date : 2026-10-18
+ * @Description : 팟별 좌석 카운터로 참가 요청을 잠금 없이(CAS) 먼저 거르는 참가 허용 관리자
+ *                카운터는 처음 요청 시 DB의 현재 참가 인원으로 채우고, 참가 insert 전에 좌석을 예약한다.
+ *                트랜잭션이 롤백되면 예약한 좌석을 돌려주므로, 정원이 찬 팟의 참가 요청은 팟 행을 잠그지 않고 바로 걸러진다.
+ *                최종 정원 보장은 조건부 UPDATE(updateCurrentParticipants)가 맡으며, 카운터는 그 앞의 관문 역할이다.
+ */
+@Component
+public class PotSeatAdmission {
+
+    private final PotRepository potRepository;
+    private final Cache<Long, Seats> seats;
+
+    // 정원 초과 또는 앞선 대기자 때문에 바로 참가하지 못하고 대기열로 보낸 참가 요청 수
+    private final AtomicLong rejections = new AtomicLong();
+
+    public PotSeatAdmission(PotRepository potRepository,
+                            @Value("${pot.admission.max-pots:100000}") long maxPots,
+                            @Value("${pot.admission.ttl-seconds:300}") long ttlSeconds) {
+        this.potRepository = potRepository;
+        // 다른 서버에서의 참가/탈퇴는 카운터에 반영되지 않으므로 일정 시간마다 DB 값으로 다시 채운다.
+        this.seats = CacheBuilder.newBuilder()
+                .maximumSize(maxPots)
+                .expireAfterWrite(ttlSeconds, TimeUnit.SECONDS)
+                .build();
+    }
+
+    /**
+     * 정원이 바뀌거나 팟이 삭제되면 커밋 이후 카운터 제거 (다음 요청 시 DB 값으로 다시 채움)
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onPotChanged(PotChangedEvent event) {
+        if (event.getType() == PotChangedEvent.Type.DELETED
+                || (event.getType() == PotChangedEvent.Type.UPDATED
+                && !Objects.equals(event.getBefore().getMaxParticipants(), event.getAfter().getMaxParticipants()))) {
+            seats.invalidate(event.getPotId());
+        }
+    }
+
+    /**
+     * 좌석 예약
+     * 트랜잭션 안에서 호출하면 롤백 시 예약이 자동으로 해제된다.
+     *
+     * @return 정원이 찼으면 false
+     * @throws RuntimeException 팟이 없는 경우
+     */
+    public boolean tryReserve(Long potId) {
+        if (!seatsOf(potId).tryAcquire()) {
+            rejections.incrementAndGet();
+            return false;
+        }
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCompletion(int status) {
+                    if (status != STATUS_COMMITTED) {
+                        releaseNow(potId);
+                    }
+                }
+            });
+        }
+        return true;
+    }
+
+    /**
+     * 좌석을 예약하지 않고 빈 자리가 있는지만 확인
+     *
+     * @throws RuntimeException 팟이 없는 경우
+     */
+    public boolean hasAvailableSeat(Long potId) {
+        return seatsOf(potId).isAvailable();
+    }
+
+    /**
+     * 탈퇴 시 좌석 반환
+     * 트랜잭션 안에서 호출하면 커밋된 뒤에 반환한다.
+     */
+    public void release(Long potId) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    releaseNow(potId);
+                }
+            });
+        } else {
+            releaseNow(potId);
+        }
+    }
+
+    /**
+     * 카운터를 거치지 않고 참가 인원이 바뀐 경우(대기열 승격) 카운터 제거 (다음 요청 시 DB 값으로 다시 채움)
+     * 트랜잭션 안에서 호출하면 커밋된 뒤에 제거한다.
+     */
+    public void invalidate(Long potId) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    seats.invalidate(potId);
+                }
+            });
+        } else {
+            seats.invalidate(potId);
+        }
+    }
+
+    /**
+     * 좌석 예약을 거치지 않고 대기열로 보낸 참가 요청(앞선 대기자가 있는 경우)을 거절 수에 더한다.
+     */
+    public void recordRejection() {
+        rejections.incrementAndGet();
+    }
+
+    public long getRejectionCount() {
+        return rejections.get();
+    }
+
+    private void releaseNow(Long potId) {
+        Seats current = seats.getIfPresent(potId);
+        if (current != null) {
+            current.release();
+        }
+    }
+
+    // 카운터가 없으면 DB 값으로 채운다. 동시에 채우면 먼저 넣은 카운터를 사용
+    private Seats seatsOf(Long potId) {
+        Seats current = seats.getIfPresent(potId);
+        if (current != null) {
+            return current;
+        }
+        Pot pot = potRepository.findById(potId)
+                .orElseThrow(() -> new RuntimeException("팟을 찾을 수 없습니다."));
+        Seats created = new Seats(pot.getCurrentParticipants(), pot.getMaxParticipants());
+        Seats existing = seats.asMap().putIfAbsent(potId, created);
+        return existing != null ? existing : created;
+    }
+
+    // 팟 하나의 좌석 카운터
+    static final class Seats {
+
+        private final AtomicInteger taken;
+        private final int max;
+
+        Seats(int taken, int max) {
+            this.taken = new AtomicInteger(taken);
+            this.max = max;
+        }
+
+        boolean tryAcquire() {
+            while (true) {
+                int current = taken.get();
+                if (current >= max) {
+                    return false;
+                }
+                if (taken.compareAndSet(current, current + 1)) {
+                    return true;
+                }
+            }
+        }
+
+        boolean isAvailable() {
+            return taken.get() < max;
+        }
+
+        void release() {
+            while (true) {
+                int current = taken.get();
+                if (current <= 0 || taken.compareAndSet(current, current - 1)) {
+                    return;
+                }
+            }
+        }
+
+    }
+
+}
@@ -0,0 +1,208 @@
+package com.bbangbuddy.domain.pot.admission;
+
+import com.bbangbuddy.domain.pot.event.PotChangedEvent;
+import com.bbangbuddy.domain.pot.repository.PotWaitlistRepository;
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * @PackageName : com.bbangbuddy.domain.pot.admission
+ * @FileName : PotWaitlistQueue
+ * @Author : hjsim
+ * @Date : 2026-10-18
+ * @Description : 팟별 참가 대기열(BBANGPOT_WAITLIST)의 메모리 사본
+ *                대기 순서를 LinkedHashSet으로 보관해 등록/취소/맨 앞 조회/순번(맨 뒤 기준)을 O(1)로 처리한다.
+ *                처음 사용할 때 DB에서 팟 단위로 채우며, 등록과 삭제(승격/취소)는 커밋 후 반영하므로 사본에는 커밋된 대기 행만 담긴다.
+ *                삭제한 트랜잭션 안에서는 커밋 전에도 삭제한 사용자를 건너뛰고 조회한다.
+ *                승격 대상 확정은 DB 대기 행 삭제 결과로 하므로, 다른 트랜잭션이 이미 지운 항목은 승격 시도 중에 정리된다.
+ *                다른 서버의 등록/취소는 사본에 반영되지 않으므로 일정 시간마다 DB에서 다시 채운다.
+ */
+@Component
+public class PotWaitlistQueue {
+
+    private final PotWaitlistRepository potWaitlistRepository;
+    private final Cache<Long, Waitlist> waitlists;
+
+    public PotWaitlistQueue(PotWaitlistRepository potWaitlistRepository,
+                            @Value("${pot.waitlist.max-pots:100000}") long maxPots,
+                            @Value("${pot.waitlist.ttl-seconds:300}") long ttlSeconds) {
+        this.potWaitlistRepository = potWaitlistRepository;
+        this.waitlists = CacheBuilder.newBuilder()
+                .maximumSize(maxPots)
+                .expireAfterWrite(ttlSeconds, TimeUnit.SECONDS)
+                .build();
+    }
+
+    /**
+     * 팟 삭제 커밋 이후 대기열 사본 제거
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onPotChanged(PotChangedEvent event) {
+        if (event.getType() == PotChangedEvent.Type.DELETED) {
+            waitlists.invalidate(event.getPotId());
+        }
+    }
+
+    /**
+     * 대기열 맨 뒤에 등록하고 예상 대기 순번(1부터) 반환, 트랜잭션 안에서 호출하면 커밋된 뒤에 사본에 반영한다.
+     * 커밋 전의 대기자가 사본에 보이면 다른 트랜잭션의 승격 시도에서 대기 행 삭제가 0건이 되어 사본에서 빠지므로,
+     * 중복 대기는 사본 확인과 DB 유일 제약(UK_BBANGPOT_WAITLIST_POT_USER)으로 막는다.
+     * 이미 대기 중이면 0
+     */
+    public int add(Long potId, String userId) {
+        Waitlist waitlist = waitlistOf(potId);
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            return waitlist.add(userId);
+        }
+        Set<String> removed = removedInTransaction(potId);
+        if (waitlist.contains(userId) && !removed.contains(userId)) {
+            return 0;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                waitlist.add(userId);
+            }
+        });
+        return waitlist.size(removed) + 1;
+    }
+
+    public boolean contains(Long potId, String userId) {
+        return waitlistOf(potId).contains(userId) && !removedInTransaction(potId).contains(userId);
+    }
+
+    /**
+     * 대기열 맨 앞 사용자, 없으면 null (현재 트랜잭션에서 제거한 사용자는 건너뜀)
+     */
+    public String head(Long potId) {
+        return waitlistOf(potId).head(removedInTransaction(potId));
+    }
+
+    /**
+     * 대기열에서 제거 (승격/취소), 트랜잭션 안에서 호출하면 커밋된 뒤에 제거하고 그 전까지는 이 트랜잭션에서만 건너뛴다.
+     */
+    public void remove(Long potId, String userId) {
+        Waitlist waitlist = waitlistOf(potId);
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            removedInTransaction().computeIfAbsent(potId, key -> new HashSet<>()).add(userId);
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    waitlist.remove(userId);
+                }
+            });
+        } else {
+            waitlist.remove(userId);
+        }
+    }
+
+    /**
+     * DB에 이미 없는 항목을 즉시 제거 (다른 트랜잭션이 승격/취소를 커밋한 경우)
+     * 사본에는 커밋된 대기 행만 담기므로 대기 행 삭제가 0건이면 다른 트랜잭션이 이미 지운 행이다.
+     */
+    public void discard(Long potId, String userId) {
+        waitlistOf(potId).remove(userId);
+    }
+
+    public int size(Long potId) {
+        return waitlistOf(potId).size(removedInTransaction(potId));
+    }
+
+    // 현재 트랜잭션에서 제거했지만 아직 커밋되지 않은 팟별 대기자, 트랜잭션이 끝나면 함께 정리된다.
+    @SuppressWarnings("unchecked")
+    private Map<Long, Set<String>> removedInTransaction() {
+        Map<Long, Set<String>> removed = (Map<Long, Set<String>>) TransactionSynchronizationManager.getResource(this);
+        if (removed == null) {
+            removed = new HashMap<>();
+            TransactionSynchronizationManager.bindResource(this, removed);
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCompletion(int status) {
+                    TransactionSynchronizationManager.unbindResourceIfPossible(PotWaitlistQueue.this);
+                }
+            });
+        }
+        return removed;
+    }
+
+    @SuppressWarnings("unchecked")
+    private Set<String> removedInTransaction(Long potId) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            return Collections.emptySet();
+        }
+        Map<Long, Set<String>> removed = (Map<Long, Set<String>>) TransactionSynchronizationManager.getResource(this);
+        if (removed == null) {
+            return Collections.emptySet();
+        }
+        return removed.getOrDefault(potId, Collections.emptySet());
+    }
+
+    private Waitlist waitlistOf(Long potId) {
+        Waitlist current = waitlists.getIfPresent(potId);
+        if (current != null) {
+            return current;
+        }
+        Waitlist created = new Waitlist(potWaitlistRepository.findUserIdsByPotId(potId));
+        Waitlist existing = waitlists.asMap().putIfAbsent(potId, created);
+        return existing != null ? existing : created;
+    }
+
+    // 팟 하나의 대기 순서
+    static final class Waitlist {
+
+        private final LinkedHashSet<String> userIds;
+
+        Waitlist(Iterable<String> userIds) {
+            this.userIds = new LinkedHashSet<>();
+            for (String userId : userIds) {
+                this.userIds.add(userId);
+            }
+        }
+
+        synchronized int add(String userId) {
+            return userIds.add(userId) ? userIds.size() : 0;
+        }
+
+        synchronized boolean contains(String userId) {
+            return userIds.contains(userId);
+        }
+
+        synchronized String head(Set<String> skipped) {
+            for (String userId : userIds) {
+                if (!skipped.contains(userId)) {
+                    return userId;
+                }
+            }
+            return null;
+        }
+
+        synchronized void remove(String userId) {
+            userIds.remove(userId);
+        }
+
+        synchronized int size(Set<String> skipped) {
+            int size = userIds.size();
+            for (String userId : skipped) {
+                if (userIds.contains(userId)) {
+                    size--;
+                }
+            }
+            return size;
+        }
+
+    }
+
+}
@@ -1,16 +1,31 @@
 package com.bbangbuddy.domain.pot.api;
 
+import com.bbangbuddy.domain.pot.cache.PotTileCache;
 import com.bbangbuddy.domain.pot.dto.PotDto;
+import com.bbangbuddy.domain.pot.index.PotSuggestIndex;
 import com.bbangbuddy.domain.pot.service.PotService;
 import com.bbangbuddy.global.util.ApplicationContextUtils;
+import com.bbangbuddy.global.util.IdempotencyStore;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
 import org.springframework.web.multipart.MultipartFile;
+import javax.servlet.http.HttpServletResponse;
 import javax.validation.Valid;
 import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
 import java.util.List;
+import java.util.concurrent.atomic.AtomicReference;
 
 /**
  * @PackageName : com.bbangbuddy.domain.pot.api
@@ -26,15 +41,54 @@ import java.util.List;
 public class PotApi {
 
     private final PotService potService;
+    private final ObjectMapper objectMapper;
+    private final IdempotencyStore idempotencyStore;
 
     /**
-     * 모든 팟 목록 조회
+     * 팟 목록 페이지 조회
      *
-     * @return 팟 목록
+     * ID 순으로 limit건씩 조회하며, 응답의 nextId를 다음 요청의 lastId로 전달
+     * 조회한 팟을 목록으로 모으지 않고 JSON 스트리밍으로 바로 응답한다.
+     *
+     * @param status 마감일 기준 필터 (ALL, OPEN, EXPIRED)
+     * @param includeDescription 설명 포함 여부
+     * @return {"content": [...], "hasNext": boolean, "nextId": number}, 전체(ALL) 조회는 변경이 없으면 304
      */
     @GetMapping
-    public ResponseEntity<Object> getAllPots() {
-        return ResponseEntity.ok(potService.getAllPots());
+    public void getAllPots(@RequestParam(defaultValue = "ALL") PotDto.Status status,
+                           @RequestParam(defaultValue = "false") boolean includeDescription,
+                           @RequestParam(required = false) Long lastId,
+                           @RequestParam(defaultValue = "100") int limit,
+                           WebRequest webRequest,
+                           HttpServletResponse response) throws IOException {
+        // 진행 중/마감 구분은 시간이 지나면 바뀌므로 변경 버전으로 캐시할 수 있는 전체 조회만 ETag 사용
+        if (status == PotDto.Status.ALL && webRequest.checkNotModified(potService.getChangeWatermark())) {
+            return;
+        }
+        response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+        response.setCharacterEncoding(StandardCharsets.UTF_8.name());
+        try (JsonGenerator generator = objectMapper.getFactory().createGenerator(response.getOutputStream())) {
+            generator.writeStartObject();
+            generator.writeArrayFieldStart("content");
+            AtomicReference<Long> lastWrittenId = new AtomicReference<>();
+            boolean hasNext;
+            try {
+                hasNext = potService.streamPotPage(status, includeDescription, lastId, limit, pot -> {
+                    try {
+                        generator.writeObject(pot);
+                    } catch (IOException e) {
+                        throw new UncheckedIOException(e);
+                    }
+                    lastWrittenId.set(pot.getId());
+                });
+            } catch (UncheckedIOException e) {
+                throw e.getCause();
+            }
+            generator.writeEndArray();
+            generator.writeBooleanField("hasNext", hasNext);
+            generator.writeObjectField("nextId", hasNext ? lastWrittenId.get() : null);
+            generator.writeEndObject();
+        }
     }
 
     /**
@@ -48,17 +102,68 @@ public class PotApi {
         return ResponseEntity.ok(potService.searchPots(keyword));
     }
 
+    /**
+     * 조건별 팟 키셋 페이지 조회
+     *
+     * 정렬 기준 순서로 limit건씩 조회하며, 응답의 nextDueDate/nextId를 다음 요청의 커서로 전달
+     *
+     * @param keyword 검색어 (부분 일치)
+     * @param sort 정렬 기준 (-dueDate, +dueDate, -id, +id)
+     * @return 팟 목록과 다음 페이지 커서
+     */
+    @GetMapping("/search/page")
+    public ResponseEntity<PotDto.SearchPage> getSearchPotPage(@RequestParam(required = false) String keyword,
+                                                              @RequestParam(defaultValue = "-dueDate") String sort,
+                                                              @RequestParam(defaultValue = "20") int limit,
+                                                              @RequestParam(required = false)
+                                                              @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime lastDueDate,
+                                                              @RequestParam(required = false) Long lastId) {
+        return ResponseEntity.ok(potService.getSearchPotPage(keyword, sort, limit, lastDueDate, lastId));
+    }
+
+    /**
+     * 검색어 자동완성
+     *
+     * 입력 중인 검색어로 시작하는 팟 제목/주소 추천어 조회
+     *
+     * @param prefix 입력 중인 검색어
+     * @param limit 최대 추천어 수 (최대 10)
+     * @return 추천어 목록
+     */
+    @GetMapping("/suggest")
+    public ResponseEntity<List<String>> suggestPots(@RequestParam String prefix,
+                                                    @RequestParam(defaultValue = "10") int limit) {
+        return ResponseEntity.ok(potService.suggestPots(prefix, limit));
+    }
+
+    /**
+     * 자동완성 인덱스 메모리 사용량 조회
+     *
+     * @return 추천어 수, 트라이 노드 수, 추정 메모리 사용량
+     */
+    @GetMapping("/suggest/stats")
+    public ResponseEntity<PotSuggestIndex.Stats> getSuggestStats() {
+        return ResponseEntity.ok(potService.getSuggestStats());
+    }
+
     /**
      * 팟 조회
      *
      * 현재 사용자가 참여하고 있는 팟 목록을 조회
      *
-     * @return 팟 목록
+     * 응답이 사용자마다 다르므로 ETag에 사용자 ID를 넣고, 공유 캐시에 저장되지 않도록 private으로 응답한다.
+     *
+     * @return 팟 목록, 변경이 없으면 304
      */
     @RequestMapping("my")
     @GetMapping
-    public ResponseEntity<List<PotDto.Response>> getMyPotList() {
+    public ResponseEntity<List<PotDto.Response>> getMyPotList(WebRequest webRequest, HttpServletResponse response) {
         String userId = ApplicationContextUtils.getUserId();
+        response.setHeader(HttpHeaders.CACHE_CONTROL, CacheControl.noCache().cachePrivate().getHeaderValue());
+        response.setHeader(HttpHeaders.VARY, HttpHeaders.AUTHORIZATION);
+        if (webRequest.checkNotModified(userId + "-" + potService.getChangeWatermark())) {
+            return null;
+        }
         return ResponseEntity.ok(potService.getMyPotList(userId));
     }
 
@@ -67,29 +172,95 @@ public class PotApi {
      *
      * 현재 사용자의 위치 기반으로 근처의 팟 목록을 조회
      *
-     * @return 팟 목록
+     * @return 팟 목록, 변경이 없으면 304
      */
     @GetMapping("near")
     public ResponseEntity<Object> getNearPotList(@RequestParam double latitude,
                                                  @RequestParam double longitude,
-                                                 @RequestParam int distance) {
+                                                 @RequestParam int distance,
+                                                 WebRequest webRequest) {
+        if (webRequest.checkNotModified(potService.getChangeWatermark())) {
+            return null;
+        }
         return ResponseEntity
                 .ok(potService.getNearPotList(latitude, longitude, distance));
     }
 
+    /**
+     * 팟 변경분 조회
+     *
+     * since(이전 응답의 watermark) 이후 생성/수정/삭제된 팟만 조회, 삭제된 팟은 deleted만 표시
+     * reset이 true면 변경분을 알 수 없으므로 전체 목록을 다시 조회해야 한다.
+     *
+     * @param since 이전 응답의 watermark (처음 요청이면 생략)
+     * @return 변경된 팟 목록과 다음 요청에 사용할 watermark
+     */
+    @GetMapping("changes")
+    public ResponseEntity<PotDto.Changes> getPotChanges(@RequestParam(required = false) String since) {
+        return ResponseEntity.ok(potService.getPotChanges(since));
+    }
+
+    /**
+     * 근처 팟 타일 캐시 통계 조회
+     *
+     * @return 캐시 적중/실패 횟수, 제거 횟수, 캐시된 타일 수
+     */
+    @GetMapping("near/cache-stats")
+    public ResponseEntity<PotTileCache.Stats> getNearPotCacheStats() {
+        return ResponseEntity.ok(potService.getNearPotCacheStats());
+    }
+
+    /**
+     * 근처 팟 거리순 페이지 조회
+     *
+     * 가까운 순으로 limit건씩 조회하며, 응답의 nextDistance/nextId를 다음 요청의 커서로 전달
+     *
+     * @return 거리순 팟 목록과 다음 페이지 커서
+     */
+    @GetMapping("near/page")
+    public ResponseEntity<PotDto.NearbyPage> getNearPotPage(@RequestParam double latitude,
+                                                            @RequestParam double longitude,
+                                                            @RequestParam int distance,
+                                                            @RequestParam(defaultValue = "20") int limit,
+                                                            @RequestParam(required = false) Double lastDistance,
+                                                            @RequestParam(required = false) Long lastId) {
+        return ResponseEntity
+                .ok(potService.getNearPotPage(latitude, longitude, distance, limit, lastDistance, lastId));
+    }
+
+
+    /**
+     * 지도 클러스터 조회
+     *
+     * 지도 뷰포트와 줌 레벨에 맞춰 격자별로 묶은 팟 개수와 중심 좌표를 조회
+     *
+     * @return 클러스터 목록
+     */
+    @GetMapping("cluster")
+    public ResponseEntity<List<PotDto.Cluster>> getPotClusters(@RequestParam double minLatitude,
+                                                               @RequestParam double maxLatitude,
+                                                               @RequestParam double minLongitude,
+                                                               @RequestParam double maxLongitude,
+                                                               @RequestParam int zoom) {
+        return ResponseEntity
+                .ok(potService.getPotClusters(minLatitude, maxLatitude, minLongitude, maxLongitude, zoom));
+    }
 
     /**
      * 팟 생성 또는 수정 (upsert)
+     * Idempotency-Key가 같은 재시도는 팟을 다시 만들지 않고 처음 응답(팟 ID)을 그대로 돌려준다.
      *
      * @param upsert 생성 또는 수정할 팟 정보
      * @return 생성 또는 수정된 팟의 ID
      */
     @PostMapping(value = "/upsert")
     public ResponseEntity<Object> upsertPot (
+            @RequestHeader(value = IdempotencyStore.HEADER, required = false) String idempotencyKey,
             @RequestPart(value = "image", required = false) MultipartFile image,
             @RequestPart(value = "potData") PotDto.Upsert upsert) {
         String userId = ApplicationContextUtils.getUserId();
-        return ResponseEntity.ok(potService.upsertPot(upsert, image, userId));
+        return idempotencyStore.execute(idempotencyKey,
+                () -> ResponseEntity.ok(potService.upsertPot(upsert, image, userId)));
     }
 
     /**
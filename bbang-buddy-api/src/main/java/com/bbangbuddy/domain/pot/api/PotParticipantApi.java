@@ -2,6 +2,7 @@ package com.bbangbuddy.domain.pot.api;
 
 import com.bbangbuddy.domain.notification.service.NotificationService;
 import com.bbangbuddy.global.util.ApplicationContextUtils;
+import com.bbangbuddy.global.util.IdempotencyStore;
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
@@ -23,6 +24,7 @@ public class PotParticipantApi {
 
     private final PotParticipantService potParticipantService;
     private final NotificationService notificationService;
+    private final IdempotencyStore idempotencyStore;
 
     /**
      * 팟 참가자 전체 조회
@@ -58,15 +60,23 @@ public class PotParticipantApi {
 
 
     /**
-     * 팟 참가자 추가
+     * 팟 참가자 추가 (정원이 찼으면 대기열 등록)
+     * Idempotency-Key가 같은 재시도는 처음 응답을 그대로 돌려준다.
      *
      * @param request 팟 참가자 요청
      * @return 성공 메시지
      */
     @PostMapping
-    public ResponseEntity<Object> savePotParticipant(@RequestBody PotParticipantDto.Request request) {
-        potParticipantService.savePotParticipant(request);
-        return ResponseEntity.ok("팟 참가자가 성공적으로 추가되었습니다.");
+    public ResponseEntity<Object> savePotParticipant(
+            @RequestHeader(value = IdempotencyStore.HEADER, required = false) String idempotencyKey,
+            @RequestBody PotParticipantDto.Request request) {
+        return idempotencyStore.execute(idempotencyKey, () -> {
+            PotParticipantDto.JoinResult result = potParticipantService.savePotParticipant(request);
+            if (result.isWaitlisted()) {
+                return ResponseEntity.ok("팟 정원이 차서 대기열에 등록되었습니다. (대기 순번: " + result.getWaitlistPosition() + ")");
+            }
+            return ResponseEntity.ok("팟 참가자가 성공적으로 추가되었습니다.");
+        });
     }
 
     /**
@@ -76,9 +86,29 @@ public class PotParticipantApi {
      * @return 성공 메시지
      */
     @DeleteMapping("{potId}")
-    public ResponseEntity<Object> deletePotParticipant(@PathVariable Long potId) {
-        potParticipantService.deletePotParticipant(potId,ApplicationContextUtils.getUserId());
-        return ResponseEntity.ok("팟 참가자가 성공적으로 삭제되었습니다.");
+    public ResponseEntity<Object> deletePotParticipant(
+            @RequestHeader(value = IdempotencyStore.HEADER, required = false) String idempotencyKey,
+            @PathVariable Long potId) {
+        return idempotencyStore.execute(idempotencyKey, () -> {
+            potParticipantService.deletePotParticipant(potId, ApplicationContextUtils.getUserId());
+            return ResponseEntity.ok("팟 참가자가 성공적으로 삭제되었습니다.");
+        });
+    }
+
+    /**
+     * 팟 대기 취소
+     *
+     * @param potId 대기를 취소할 팟 ID
+     * @return 성공 메시지
+     */
+    @DeleteMapping("{potId}/waitlist")
+    public ResponseEntity<Object> deletePotWaitlist(
+            @RequestHeader(value = IdempotencyStore.HEADER, required = false) String idempotencyKey,
+            @PathVariable Long potId) {
+        return idempotencyStore.execute(idempotencyKey, () -> {
+            potParticipantService.deletePotWaitlist(potId, ApplicationContextUtils.getUserId());
+            return ResponseEntity.ok("팟 대기가 취소되었습니다.");
+        });
     }
 
 }
\ No newline at end of file
@@ -0,0 +1,111 @@
+package com.bbangbuddy.domain.pot.cache;
+
+import com.bbangbuddy.domain.pot.dto.PotDto;
+import com.bbangbuddy.domain.pot.event.PotChangedEvent;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * @PackageName : com.bbangbuddy.domain.pot.cache
+ * @FileName : PotChangeLog
+ * @Author : hjsim
+ * @Date : 2026-10-18
+ * @Description : 팟 변경마다 1씩 증가하는 전역 변경 버전과 최근 변경 내역을 보관하는 링 버퍼
+ *                변경 버전은 팟 목록 응답의 ETag로 쓰여 변경이 없으면 DB 조회 없이 304를 응답하고,
+ *                변경 내역은 클라이언트가 마지막으로 받은 버전 이후의 생성/수정/삭제분만 받아가는 데 사용한다.
+ *                버전 표기(watermark)는 "기동시각-버전" 형식이며, 재기동 전 버전이나 보관 범위를 벗어난 버전은 전체 재조회를 요청한다.
+ *                목록 ETag와 변경분 조회가 같은 버전을 쓰므로, 전체/근처 목록 응답의 ETag 값을 그대로 since로 넘겨 이후 변경분만 받을 수 있다.
+ */
+@Component
+public class PotChangeLog {
+
+    private static final String SEPARATOR = "-";
+
+    private final PotDto.Change[] entries;
+    // 재기동 후 버전이 다시 1부터 시작해도 이전 ETag와 겹치지 않도록 기동 시각을 앞에 붙인다.
+    private final String epoch = Long.toString(System.currentTimeMillis(), 36);
+
+    // entries, version은 this로 동기화
+    private long version;
+    // 304 판단은 잠금 없이 읽을 수 있도록 최신 watermark를 따로 보관
+    private volatile String watermark = epoch + SEPARATOR + 0;
+
+    public PotChangeLog(@Value("${pot.changes.capacity:10000}") int capacity) {
+        this.entries = new PotDto.Change[capacity];
+    }
+
+    /**
+     * 팟 생성/수정/삭제, 참가 인원 변경 커밋 이후 버전 증가 및 변경 내역 기록
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public synchronized void onPotChanged(PotChangedEvent event) {
+        version++;
+        boolean deleted = event.getType() == PotChangedEvent.Type.DELETED;
+        entries[(int) (version % entries.length)] = PotDto.Change.builder()
+                .version(version)
+                .id(event.getPotId())
+                .deleted(deleted)
+                .pot(deleted ? null : event.getAfter())
+                .build();
+        watermark = epoch + SEPARATOR + version;
+    }
+
+    /**
+     * 현재 변경 버전 (ETag 및 변경분 조회 기준값)
+     */
+    public String getWatermark() {
+        return watermark;
+    }
+
+    /**
+     * since 이후 변경된 팟 목록 조회
+     * 같은 팟이 여러 번 바뀌었으면 마지막 상태만 마지막 변경 순서에 담고, 삭제된 팟은 pot 없이 deleted만 표시한다.
+     * since가 없거나, 다른 기동 시점의 값이거나, 보관 범위를 벗어났으면 reset을 표시하고 변경 목록은 비워 둔다.
+     */
+    public synchronized PotDto.Changes changesSince(String since) {
+        long sinceVersion = parseVersion(since);
+        long oldestVersion = Math.max(1, version - entries.length + 1);
+        if (sinceVersion < 0 || sinceVersion > version || sinceVersion + 1 < oldestVersion) {
+            return PotDto.Changes.builder()
+                    .watermark(watermark)
+                    .reset(true)
+                    .changes(new ArrayList<>())
+                    .build();
+        }
+
+        Map<Long, PotDto.Change> latest = new LinkedHashMap<>();
+        for (long v = sinceVersion + 1; v <= version; v++) {
+            PotDto.Change change = entries[(int) (v % entries.length)];
+            // 마지막 변경 순서로 정렬되도록 이전 항목을 지우고 다시 넣는다.
+            latest.remove(change.getId());
+            latest.put(change.getId(), change);
+        }
+        return PotDto.Changes.builder()
+                .watermark(watermark)
+                .reset(false)
+                .changes(new ArrayList<>(latest.values()))
+                .build();
+    }
+
+    // 이번 기동의 watermark면 버전, 아니면 -1 (ETag 헤더 값처럼 따옴표로 감싼 값도 허용)
+    private long parseVersion(String since) {
+        if (since == null) {
+            return -1;
+        }
+        String value = since.replace("\"", "");
+        if (!value.startsWith(epoch + SEPARATOR)) {
+            return -1;
+        }
+        try {
+            return Long.parseLong(value.substring(epoch.length() + SEPARATOR.length()));
+        } catch (NumberFormatException e) {
+            return -1;
+        }
+    }
+
+}
@@ -0,0 +1,93 @@
+package com.bbangbuddy.domain.pot.cache;
+
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * @PackageName : com.bbangbuddy.domain.pot.cache
+ * @FileName : PotMembershipCache
+ * @Author : hjsim
+ * @Date : 2026-10-18
+ * @Description : 사용자별 참가 팟 ID 목록(userId → potId long 배열)을 보관하는 LRU/TTL 캐시
+ *                내 팟 목록 조회 시 참가 테이블 조인 없이 팟 PK로 바로 조회하고, 참가한 팟이 없으면 DB 조회를 생략한다.
+ *                팟 참가/탈퇴 시 해당 사용자 항목을 즉시, 그리고 트랜잭션 종료 후 한 번 더 제거한다.
+ */
+@Component
+public class PotMembershipCache {
+
+    private static final long[] EMPTY = new long[0];
+
+    private final boolean enabled;
+    private final Cache<String, long[]> memberships;
+
+    // 항목 제거 횟수, 조회 중에 제거가 일어났으면 읽어 온 목록을 캐시에 넣지 않는다.
+    private final AtomicLong invalidations = new AtomicLong();
+
+    public PotMembershipCache(@Value("${pot.membership-cache.enabled:true}") boolean enabled,
+                              @Value("${pot.membership-cache.max-users:100000}") long maxUsers,
+                              @Value("${pot.membership-cache.ttl-seconds:600}") long ttlSeconds) {
+        this.enabled = enabled;
+        this.memberships = CacheBuilder.newBuilder()
+                .maximumSize(maxUsers)
+                .expireAfterWrite(ttlSeconds, TimeUnit.SECONDS)
+                .build();
+    }
+
+    /**
+     * 사용자가 참가한 팟 ID 목록, 캐시에 없거나 캐시를 사용하지 않으면 null
+     */
+    public long[] get(String userId) {
+        return enabled ? memberships.getIfPresent(userId) : null;
+    }
+
+    /**
+     * DB 조회 전에 받아 두고 put에 넘기는 제거 횟수
+     */
+    public long stamp() {
+        return invalidations.get();
+    }
+
+    /**
+     * DB에서 읽은 참가 팟 ID 목록 저장
+     * stamp 이후 제거가 있었으면 읽은 목록이 이미 지난 상태일 수 있으므로 저장하지 않는다.
+     */
+    public void put(String userId, long[] potIds, long stamp) {
+        if (!enabled) {
+            return;
+        }
+        synchronized (this) {
+            if (invalidations.get() == stamp) {
+                memberships.put(userId, potIds.length == 0 ? EMPTY : potIds);
+            }
+        }
+    }
+
+    /**
+     * 팟 참가/탈퇴 시 사용자 항목 제거
+     * 커밋 전에 다른 요청이 이전 상태를 다시 캐시에 넣을 수 있으므로 트랜잭션이 끝난 뒤에도 한 번 더 제거한다.
+     */
+    public void invalidate(String userId) {
+        evict(userId);
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCompletion(int status) {
+                    evict(userId);
+                }
+            });
+        }
+    }
+
+    private synchronized void evict(String userId) {
+        invalidations.incrementAndGet();
+        memberships.invalidate(userId);
+    }
+
+}
@@ -0,0 +1,188 @@
+package com.bbangbuddy.domain.pot.cache;
+
+import com.bbangbuddy.domain.pot.dto.PotDto;
+import com.bbangbuddy.domain.pot.event.PotChangedEvent;
+import com.bbangbuddy.domain.pot.repository.PotRepository;
+import com.bbangbuddy.global.util.GeoUtils;
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import com.google.common.cache.CacheStats;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Collectors;
+
+/**
+ * @PackageName : com.bbangbuddy.domain.pot.cache
+ * @FileName : PotTileCache
+ * @Author : hjsim
+ * @Date : 2026-10-18
+ * @Description : 근처 팟 조회 결과를 geohash 타일 단위로 캐싱하는 LRU/TTL 캐시
+ *                조회 반경(distance)에 따라 타일 크기(geohash 자릿수)를 정하고, 반경을 덮는 타일들의 팟을 합쳐
+ *                정확한 거리로 다시 거른다. 팟 변경 시에는 해당 좌표가 속한 타일만 제거한다.
+ */
+@Component
+public class PotTileCache {
+
+    // 사용하는 geohash 자릿수 범위 (6자리: 약 1.2km x 0.6km, 3자리: 약 156km x 156km)
+    static final int MAX_PRECISION = 6;
+    static final int MIN_PRECISION = 3;
+    // 한 번의 조회에서 합칠 수 있는 최대 타일 수, 이보다 많으면 더 큰 타일을 사용
+    static final int MAX_TILES_PER_QUERY = 9;
+
+    private final PotRepository potRepository;
+    private final boolean enabled;
+    private final Cache<String, List<PotDto.Response>> tiles;
+
+    // 타일 제거 횟수, 조회 중에 제거가 일어났으면 읽어 온 타일을 캐시에 넣지 않는다.
+    private final AtomicLong invalidations = new AtomicLong();
+
+    public PotTileCache(PotRepository potRepository,
+                        @Value("${pot.nearby.tile-cache.enabled:true}") boolean enabled,
+                        @Value("${pot.nearby.tile-cache.max-pots:200000}") long maxPots,
+                        @Value("${pot.nearby.tile-cache.ttl-seconds:60}") long ttlSeconds) {
+        this.potRepository = potRepository;
+        this.enabled = enabled;
+        // 타일마다 팟 수가 달라 타일 개수가 아닌 캐시된 팟 수(최소 1)로 용량을 제한
+        this.tiles = CacheBuilder.newBuilder()
+                .maximumWeight(maxPots)
+                .weigher((String key, List<PotDto.Response> pots) -> Math.max(1, pots.size()))
+                .expireAfterWrite(ttlSeconds, TimeUnit.SECONDS)
+                .recordStats()
+                .build();
+    }
+
+    /**
+     * 팟 생성/수정/삭제 커밋 이후 변경 전후 좌표가 속한 타일만 제거
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onPotChanged(PotChangedEvent event) {
+        if (event.getBefore() != null) {
+            evict(event.getBefore().getLatitude(), event.getBefore().getLongitude());
+        }
+        if (event.getAfter() != null) {
+            evict(event.getAfter().getLatitude(), event.getAfter().getLongitude());
+        }
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * 중심 좌표에서 distance(km) 이내의 팟 조회
+     * 반경을 덮는 타일 수가 MIN_PRECISION에서도 MAX_TILES_PER_QUERY를 넘거나 경도 180도를 넘으면 캐시하지 않고 null을 반환한다.
+     */
+    public List<PotDto.Response> findNearby(double latitude, double longitude, int distance) {
+        List<String> covering = coveringTiles(latitude, longitude, distance);
+        if (covering == null) {
+            return null;
+        }
+        // 타일은 반열린 구간이라 서로 겹치지 않으므로 합치기만 하면 된다
+        return covering.stream()
+                .flatMap(geohash -> tile(geohash).stream())
+                .filter(pot -> GeoUtils.distanceKm(latitude, longitude, pot.getLatitude(), pot.getLongitude()) <= distance)
+                .collect(Collectors.toList());
+    }
+
+    public Stats stats() {
+        CacheStats stats = tiles.stats();
+        return Stats.builder()
+                .hitCount(stats.hitCount())
+                .missCount(stats.missCount())
+                .hitRate(stats.hitRate())
+                .evictionCount(stats.evictionCount())
+                .invalidationCount(invalidations.get())
+                .size(tiles.size())
+                .build();
+    }
+
+    // 좌표가 속한 모든 자릿수의 타일 제거
+    synchronized void evict(double latitude, double longitude) {
+        invalidations.incrementAndGet();
+        for (int precision = MIN_PRECISION; precision <= MAX_PRECISION; precision++) {
+            tiles.invalidate(GeoUtils.geohash(latitude, longitude, precision));
+        }
+    }
+
+    // 반경을 MAX_TILES_PER_QUERY개 이하로 덮을 수 있는 가장 작은 타일 목록
+    static List<String> coveringTiles(double latitude, double longitude, int distance) {
+        double latitudeDelta = GeoUtils.latitudeDelta(distance);
+        double longitudeDelta = GeoUtils.longitudeDelta(latitude, distance);
+        if (longitude - longitudeDelta < -180 || longitude + longitudeDelta > 180) {
+            return null;
+        }
+        double minLat = Math.max(-90, latitude - latitudeDelta);
+        double maxLat = Math.min(90, latitude + latitudeDelta);
+        for (int precision = MAX_PRECISION; precision >= MIN_PRECISION; precision--) {
+            double latSize = GeoUtils.geohashLatitudeSize(precision);
+            double lngSize = GeoUtils.geohashLongitudeSize(precision);
+            long minRow = (long) Math.floor((minLat + 90) / latSize);
+            long maxRow = Math.min((long) Math.floor((maxLat + 90) / latSize), Math.round(180 / latSize) - 1);
+            long minColumn = (long) Math.floor((longitude - longitudeDelta + 180) / lngSize);
+            long maxColumn = (long) Math.floor((longitude + longitudeDelta + 180) / lngSize);
+            if ((maxRow - minRow + 1) * (maxColumn - minColumn + 1) > MAX_TILES_PER_QUERY) {
+                continue;
+            }
+            List<String> covering = new ArrayList<>();
+            for (long row = minRow; row <= maxRow; row++) {
+                for (long column = minColumn; column <= maxColumn; column++) {
+                    // 타일 중심 좌표의 geohash가 곧 타일 키
+                    covering.add(GeoUtils.geohash(-90 + (row + 0.5) * latSize, -180 + (column + 0.5) * lngSize, precision));
+                }
+            }
+            return covering;
+        }
+        return null;
+    }
+
+    private List<PotDto.Response> tile(String geohash) {
+        List<PotDto.Response> cached = tiles.getIfPresent(geohash);
+        if (cached != null) {
+            return cached;
+        }
+        long version = invalidations.get();
+        // geohash()와 같은 반열린 구간으로 조회해 경계 위의 팟이 evict() 대상인 집 타일에만 담기게 한다.
+        // 북극(90)/날짜변경선(180) 끝 타일은 닫힌 경계까지 포함한다.
+        double[] bounds = GeoUtils.geohashBounds(geohash);
+        double maxLatitude = bounds[1] >= 90 ? Math.nextUp(bounds[1]) : bounds[1];
+        double maxLongitude = bounds[3] >= 180 ? Math.nextUp(bounds[3]) : bounds[3];
+        List<PotDto.Response> loaded = Collections.unmodifiableList(
+                potRepository.findPotsInTile(bounds[0], maxLatitude, bounds[2], maxLongitude).stream()
+                        .map(PotDto.Response::from)
+                        .collect(Collectors.toList()));
+        // 읽는 사이 커밋된 변경이 있으면 오래된 타일이 다시 캐시되지 않도록 이번 결과만 사용
+        synchronized (this) {
+            if (invalidations.get() == version) {
+                tiles.put(geohash, loaded);
+            }
+        }
+        return loaded;
+    }
+
+    @Getter
+    @Builder
+    @AllArgsConstructor
+    @NoArgsConstructor
+    public static class Stats {
+        private long hitCount;
+        private long missCount;
+        private double hitRate;
+        // 용량 초과 또는 TTL 만료로 제거된 타일 수
+        private long evictionCount;
+        // 팟 변경으로 제거 요청된 횟수
+        private long invalidationCount;
+        private long size;
+    }
+
+}
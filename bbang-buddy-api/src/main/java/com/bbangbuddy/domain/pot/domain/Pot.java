@@ -16,7 +16,10 @@ import javax.persistence.*;
  * @Description : 빵팟 엔티티
  */
 @Entity
-@Table(name = "BBANGPOT")
+@Table(name = "BBANGPOT", indexes = {
+        @Index(name = "IDX_BBANGPOT_LAT_LNG", columnList = "LATITUDE, LONGITUDE"),
+        @Index(name = "IDX_BBANGPOT_DUE_DATE_ID", columnList = "DUE_DATE, ID")
+})
 @Getter
 @NoArgsConstructor
 @AllArgsConstructor
@@ -16,7 +16,9 @@ import java.time.LocalDateTime;
  * @Description :  빵팟 참여자 엔티티
  */
 @Entity
-@Table(name = "BBANGPOT_PARTICIPANT")
+@Table(name = "BBANGPOT_PARTICIPANT", indexes = {
+        @Index(name = "IDX_BBANGPOT_PARTICIPANT_USER", columnList = "BBD_USER_ID, BBANGPOT_ID")
+})
 @Getter
 @NoArgsConstructor
 @AllArgsConstructor
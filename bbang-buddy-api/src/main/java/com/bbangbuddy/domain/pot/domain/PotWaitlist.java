@@ -0,0 +1,46 @@
+package com.bbangbuddy.domain.pot.domain;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import javax.persistence.*;
+import java.time.LocalDateTime;
+
+/**
+ * @PackageName : com.bbangbuddy.domain.pot.domain
+ * @FileName : PotWaitlist
+ * @Author : hjsim
+ * @Date : 2026-10-18
+ * @Description :  정원이 찬 빵팟의 참가 대기자 엔티티 (팟별 ID 오름차순이 대기 순서)
+ */
+@Entity
+@Table(name = "BBANGPOT_WAITLIST",
+        uniqueConstraints = @UniqueConstraint(name = "UK_BBANGPOT_WAITLIST_POT_USER", columnNames = {"BBANGPOT_ID", "BBD_USER_ID"}),
+        indexes = @Index(name = "IDX_BBANGPOT_WAITLIST_POT_ID", columnList = "BBANGPOT_ID, ID"))
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class PotWaitlist {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @Column(name = "ID")
+    private Long id;
+
+    @Column(name = "BBANGPOT_ID", nullable = false)
+    private Long potId;
+
+    @Column(name = "BBD_USER_ID", nullable = false)
+    private String userId;
+
+    @Column(name = "CREATED_AT", updatable = false)
+    private LocalDateTime createdAt;
+
+    @PrePersist
+    protected void onCreate() {
+        this.createdAt = LocalDateTime.now();
+    }
+
+}
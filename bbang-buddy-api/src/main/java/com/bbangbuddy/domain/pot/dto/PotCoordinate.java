@@ -0,0 +1,16 @@
+package com.bbangbuddy.domain.pot.dto;
+
+/**
+ * @PackageName : com.bbangbuddy.domain.pot.dto
+ * @FileName : PotCoordinate
+ * @Author : hjsim
+ * @Date : 2026-10-18
+ * @Description :  인메모리 공간 인덱스 적재용으로 팟 ID와 좌표만 조회하는 프로젝션 인터페이스
+ */
+public interface PotCoordinate {
+
+    Long getId();
+    Double getLatitude();
+    Double getLongitude();
+
+}
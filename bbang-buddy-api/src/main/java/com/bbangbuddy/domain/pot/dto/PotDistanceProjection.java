@@ -0,0 +1,14 @@
+package com.bbangbuddy.domain.pot.dto;
+
+/**
+ * @PackageName : com.bbangbuddy.domain.pot.dto
+ * @FileName : PotDistanceProjection
+ * @Author : hjsim
+ * @Date : 2026-10-18
+ * @Description :  근처 팟 거리순 조회 시 쿼리에서 계산한 거리(km)를 함께 담는 프로젝션 인터페이스
+ */
+public interface PotDistanceProjection extends PotProjection {
+
+    Double getDistance();
+
+}
@@ -3,11 +3,13 @@ package com.bbangbuddy.domain.pot.dto;
 import com.bbangbuddy.domain.pot.domain.Pot;
 import com.bbangbuddy.domain.user.domain.User;
 import com.bbangbuddy.global.util.QFileVariable;
+import com.fasterxml.jackson.annotation.JsonInclude;
 import lombok.*;
 import org.springframework.web.multipart.MultipartFile;
 
 import javax.validation.constraints.NotBlank;
 import java.time.LocalDateTime;
+import java.util.List;
 
 /**
  * @PackageName : com.bbangbuddy.domain.pot.dto
@@ -69,7 +71,7 @@ public class PotDto {
     }
 
     @Getter
-    @Builder
+    @Builder(toBuilder = true)
     @AllArgsConstructor
     @NoArgsConstructor
     public static class Response {
@@ -88,6 +90,12 @@ public class PotDto {
         private Long createdBy;
         private LocalDateTime createdAt;
         private LocalDateTime updatedAt;
+        // 근처 팟 거리순 조회 시 중심 좌표와의 거리(km)
+        @JsonInclude(JsonInclude.Include.NON_NULL)
+        private Double distance;
+        // 키워드 검색 시 검색어와의 관련도 점수 (높을수록 관련도가 높음)
+        @JsonInclude(JsonInclude.Include.NON_NULL)
+        private Double score;
 
         public static Response from(Pot pot) {
             return Response.builder()
@@ -130,6 +138,83 @@ public class PotDto {
         }
     }
 
+    @Getter
+    @Builder
+    @AllArgsConstructor
+    @NoArgsConstructor
+    public static class NearbyPage {
+        // 거리 -> ID 오름차순으로 정렬된 팟 목록
+        private List<Response> content;
+        // 다음 페이지 요청 시 lastDistance, lastId로 전달할 커서 (마지막 페이지면 null)
+        private Double nextDistance;
+        private Long nextId;
+        private boolean hasNext;
+    }
+
+    @Getter
+    @Builder
+    @AllArgsConstructor
+    @NoArgsConstructor
+    public static class Change {
+        // 변경 버전 (같은 기동 안에서 1씩 증가)
+        private long version;
+        private Long id;
+        // 삭제된 팟이면 true (tombstone, pot은 null)
+        private boolean deleted;
+        // 변경 후 팟 정보
+        private Response pot;
+    }
+
+    @Getter
+    @Builder
+    @AllArgsConstructor
+    @NoArgsConstructor
+    public static class Changes {
+        // 다음 요청의 since로 전달할 현재 변경 버전
+        private String watermark;
+        // true면 since 이후 변경분을 알 수 없으므로 전체 목록을 다시 조회해야 함
+        private boolean reset;
+        // since 이후 변경된 팟 목록 (팟별 마지막 변경만, 변경 순서)
+        private List<Change> changes;
+    }
+
+    // 팟 목록 조회 시 마감일 기준 필터
+    public enum Status {
+        // 전체
+        ALL,
+        // 마감일이 지나지 않은 팟
+        OPEN,
+        // 마감일이 지난 팟
+        EXPIRED
+    }
+
+    @Getter
+    @Builder
+    @AllArgsConstructor
+    @NoArgsConstructor
+    public static class SearchPage {
+        // 요청한 정렬 기준(마감일 또는 ID)으로 정렬된 팟 목록
+        private List<Response> content;
+        // 다음 페이지 요청 시 lastDueDate, lastId로 전달할 커서 (마지막 페이지면 null)
+        private LocalDateTime nextDueDate;
+        private Long nextId;
+        private boolean hasNext;
+    }
+
+    @Getter
+    @Builder
+    @AllArgsConstructor
+    @NoArgsConstructor
+    public static class Cluster {
+        // 격자 안의 팟 개수
+        private int count;
+        // 격자 안 팟 좌표의 평균 (마커 표시 위치)
+        private double latitude;
+        private double longitude;
+        // 격자를 대표하는 팟 ID (count가 1이면 해당 팟)
+        private long samplePotId;
+    }
+
     @Getter
     @Builder
     @AllArgsConstructor
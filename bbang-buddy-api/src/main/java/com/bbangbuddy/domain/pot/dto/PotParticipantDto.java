@@ -52,6 +52,18 @@ public class PotParticipantDto {
         }
     }
 
+    @Getter
+    @Builder
+    @AllArgsConstructor
+    public static class JoinResult {
+        private Long potId;
+        private String userId;
+        // 정원이 차서 대기열에 등록되었는지 여부
+        private boolean waitlisted;
+        // 대기 순번 (1부터, 참가 완료면 0)
+        private int waitlistPosition;
+    }
+
     @Getter
     @Setter
     @Builder
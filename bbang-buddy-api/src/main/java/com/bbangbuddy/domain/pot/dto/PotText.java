@@ -0,0 +1,17 @@
+package com.bbangbuddy.domain.pot.dto;
+
+/**
+ * @PackageName : com.bbangbuddy.domain.pot.dto
+ * @FileName : PotText
+ * @Author : hjsim
+ * @Date : 2026-10-18
+ * @Description :  인메모리 검색 인덱스 적재용으로 팟 ID와 검색 대상 필드만 조회하는 프로젝션 인터페이스
+ */
+public interface PotText {
+
+    Long getId();
+    String getTitle();
+    String getDescription();
+    String getAddress();
+
+}
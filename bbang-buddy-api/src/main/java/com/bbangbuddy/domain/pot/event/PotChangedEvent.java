@@ -0,0 +1,46 @@
+package com.bbangbuddy.domain.pot.event;
+
+import com.bbangbuddy.domain.pot.dto.PotDto;
+import lombok.Getter;
+import lombok.ToString;
+
+/**
+ * @PackageName : com.bbangbuddy.domain.pot.event
+ * @FileName : PotChangedEvent
+ * @Author : hjsim
+ * @Date : 2026-10-18
+ * @Description : 팟 생성/수정/삭제 및 참가 인원 변경 시 발행되는 이벤트, 인메모리 인덱스 등이 커밋 이후 동기화에 사용
+ */
+@Getter
+@ToString
+public class PotChangedEvent {
+
+    public enum Type { CREATED, UPDATED, DELETED }
+
+    private final Type type;
+    private final Long potId;
+    // 변경 전 팟 정보 (생성 시 null)
+    private final PotDto.Response before;
+    // 변경 후 팟 정보 (삭제 시 null)
+    private final PotDto.Response after;
+
+    private PotChangedEvent(Type type, Long potId, PotDto.Response before, PotDto.Response after) {
+        this.type = type;
+        this.potId = potId;
+        this.before = before;
+        this.after = after;
+    }
+
+    public static PotChangedEvent created(PotDto.Response after) {
+        return new PotChangedEvent(Type.CREATED, after.getId(), null, after);
+    }
+
+    public static PotChangedEvent updated(PotDto.Response before, PotDto.Response after) {
+        return new PotChangedEvent(Type.UPDATED, after.getId(), before, after);
+    }
+
+    public static PotChangedEvent deleted(PotDto.Response before) {
+        return new PotChangedEvent(Type.DELETED, before.getId(), before, null);
+    }
+
+}
@@ -0,0 +1,301 @@
+package com.bbangbuddy.domain.pot.index;
+
+import com.bbangbuddy.domain.pot.dto.PotCoordinate;
+import com.bbangbuddy.domain.pot.dto.PotDto;
+import com.bbangbuddy.domain.pot.event.PotChangedEvent;
+import com.bbangbuddy.domain.pot.repository.PotRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * @PackageName : com.bbangbuddy.domain.pot.index
+ * @FileName : PotClusterIndex
+ * @Author : hjsim
+ * @Date : 2026-10-18
+ * @Description : 지도 줌 레벨별 격자에 팟 개수와 좌표 합계를 미리 집계해 두는 인메모리 클러스터 인덱스
+ *                줌 레벨 z의 격자 한 칸은 지도 타일 한 장을 4x4로 나눈 크기(360 / 2^(z+2)도)이며,
+ *                한 단계 낮은 줌의 칸은 정확히 2x2칸을 합친 크기라 팟 생성/삭제 시 모든 레벨을 증분 갱신한다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class PotClusterIndex {
+
+    public static final int MIN_ZOOM = 1;
+    public static final int MAX_ZOOM = 18;
+    // 타일 한 장을 2^2 x 2^2 칸으로 분할 (256px 타일 기준 칸당 64px)
+    private static final int CELLS_PER_TILE_BITS = 2;
+    private static final int FINEST_BITS = MAX_ZOOM + CELLS_PER_TILE_BITS;
+    private static final double FINEST_CELL_SIZE = 360.0 / (1L << FINEST_BITS);
+
+    private final PotRepository potRepository;
+
+    @Value("${pot.index.cluster.enabled:true}")
+    private boolean enabled;
+
+    // 팟 ID -> 좌표
+    private final Map<Long, Point> points = new ConcurrentHashMap<>();
+    // 가장 세밀한 줌 레벨의 격자 키 -> 격자에 속한 팟 ID 목록 (대표 팟 교체용)
+    private final Map<Long, Set<Long>> finestIds = new ConcurrentHashMap<>();
+    // levels.get(z - MIN_ZOOM) : 줌 레벨 z의 격자 키 -> 집계
+    private final List<Map<Long, Cell>> levels = newLevels();
+
+    private volatile boolean ready;
+
+    /**
+     * 애플리케이션 기동 후 DB의 전체 팟 좌표로 모든 줌 레벨의 격자를 적재
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void load() {
+        if (!enabled) {
+            log.info("팟 클러스터 인덱스 비활성화 (pot.index.cluster.enabled=false)");
+            return;
+        }
+        List<PotCoordinate> coordinates = potRepository.findAllCoordinates();
+        synchronized (this) {
+            for (PotCoordinate coordinate : coordinates) {
+                put(coordinate.getId(), coordinate.getLatitude(), coordinate.getLongitude());
+            }
+            ready = true;
+        }
+        log.info("팟 클러스터 인덱스 적재 완료: {}건, 줌 {}~{}", points.size(), MIN_ZOOM, MAX_ZOOM);
+    }
+
+    /**
+     * 팟 생성/수정/삭제 커밋 이후 격자 집계 동기화
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onPotChanged(PotChangedEvent event) {
+        if (event.getType() == PotChangedEvent.Type.DELETED) {
+            remove(event.getPotId());
+            return;
+        }
+        PotDto.Response pot = event.getAfter();
+        put(pot.getId(), pot.getLatitude(), pot.getLongitude());
+    }
+
+    public boolean isReady() {
+        return ready;
+    }
+
+    public int size() {
+        return points.size();
+    }
+
+    // 팟 좌표 등록 또는 이동 (이동이면 기존 좌표의 집계를 먼저 뺀다)
+    public synchronized void put(Long id, double latitude, double longitude) {
+        Point previous = points.get(id);
+        if (previous != null) {
+            if (previous.latitude == latitude && previous.longitude == longitude) {
+                return;
+            }
+            remove(id);
+        }
+        Point point = new Point(latitude, longitude);
+        points.put(id, point);
+        finestIds.computeIfAbsent(point.finestKey(), key -> ConcurrentHashMap.newKeySet()).add(id);
+        for (int zoom = MAX_ZOOM; zoom >= MIN_ZOOM; zoom--) {
+            level(zoom).merge(point.cellKey(zoom), new Cell(1, latitude, longitude, id), Cell::plus);
+        }
+    }
+
+    public synchronized void remove(Long id) {
+        Point point = points.remove(id);
+        if (point == null) {
+            return;
+        }
+        Set<Long> ids = finestIds.get(point.finestKey());
+        ids.remove(id);
+        if (ids.isEmpty()) {
+            finestIds.remove(point.finestKey());
+        }
+        // 세밀한 레벨부터 갱신해야 상위 레벨의 대표 팟을 하위 격자에서 다시 고를 수 있다.
+        for (int zoom = MAX_ZOOM; zoom >= MIN_ZOOM; zoom--) {
+            Map<Long, Cell> level = level(zoom);
+            long key = point.cellKey(zoom);
+            Cell cell = level.get(key);
+            if (cell.count == 1) {
+                level.remove(key);
+                continue;
+            }
+            long sampleId = cell.samplePotId == id ? replacementSample(zoom, key, ids) : cell.samplePotId;
+            level.put(key, new Cell(cell.count - 1, cell.latitudeSum - point.latitude,
+                    cell.longitudeSum - point.longitude, sampleId));
+        }
+    }
+
+    /**
+     * 뷰포트에 걸치는 줌 레벨 격자의 클러스터 목록 조회
+     * 격자 단위로 집계하므로 뷰포트 가장자리 칸에는 화면 밖의 팟도 포함될 수 있다.
+     * minLongitude > maxLongitude이면 경도 180도를 넘는 뷰포트로 보고 양쪽을 모두 조회한다.
+     */
+    public List<PotDto.Cluster> findClusters(double minLatitude, double maxLatitude,
+                                             double minLongitude, double maxLongitude, int zoom) {
+        int level = clampZoom(zoom);
+        List<PotDto.Cluster> result = new ArrayList<>();
+        if (minLongitude > maxLongitude) {
+            collect(result, level, minLatitude, maxLatitude, minLongitude, 180);
+            collect(result, level, minLatitude, maxLatitude, -180, maxLongitude);
+        } else {
+            collect(result, level, minLatitude, maxLatitude, minLongitude, maxLongitude);
+        }
+        return result;
+    }
+
+    /**
+     * 인덱스를 거치지 않고 좌표 목록을 같은 격자 기준으로 집계 (인덱스 미적재 시 DB 조회 결과용)
+     */
+    public static List<PotDto.Cluster> aggregate(List<? extends PotCoordinate> coordinates, int zoom) {
+        int level = clampZoom(zoom);
+        Map<Long, Cell> cells = new LinkedHashMap<>();
+        for (PotCoordinate coordinate : coordinates) {
+            Point point = new Point(coordinate.getLatitude(), coordinate.getLongitude());
+            cells.merge(point.cellKey(level),
+                    new Cell(1, point.latitude, point.longitude, coordinate.getId()), Cell::plus);
+        }
+        List<PotDto.Cluster> result = new ArrayList<>(cells.size());
+        cells.values().forEach(cell -> result.add(cell.toCluster()));
+        return result;
+    }
+
+    public static int clampZoom(int zoom) {
+        return Math.max(MIN_ZOOM, Math.min(MAX_ZOOM, zoom));
+    }
+
+    private void collect(List<PotDto.Cluster> result, int zoom,
+                         double minLatitude, double maxLatitude, double minLongitude, double maxLongitude) {
+        Map<Long, Cell> level = level(zoom);
+        int shift = MAX_ZOOM - zoom;
+        long minLat = finestIndex(minLatitude + 90) >> shift;
+        long maxLat = finestIndex(maxLatitude + 90) >> shift;
+        long minLng = finestIndex(minLongitude + 180) >> shift;
+        long maxLng = finestIndex(maxLongitude + 180) >> shift;
+
+        // 확인할 격자 수가 해당 레벨의 집계 격자 수보다 많으면 집계 격자를 순회하는 편이 빠르다.
+        if ((maxLat - minLat + 1) * (maxLng - minLng + 1) > level.size()) {
+            level.forEach((key, cell) -> {
+                long latIndex = key >>> 32;
+                long lngIndex = key & 0xFFFFFFFFL;
+                if (latIndex >= minLat && latIndex <= maxLat && lngIndex >= minLng && lngIndex <= maxLng) {
+                    result.add(cell.toCluster());
+                }
+            });
+            return;
+        }
+        for (long latIndex = minLat; latIndex <= maxLat; latIndex++) {
+            for (long lngIndex = minLng; lngIndex <= maxLng; lngIndex++) {
+                Cell cell = level.get(cellKey(latIndex, lngIndex));
+                if (cell != null) {
+                    result.add(cell.toCluster());
+                }
+            }
+        }
+    }
+
+    // 삭제된 대표 팟 대신 같은 격자에 남은 팟 하나를 고른다. 하위 레벨은 이미 갱신된 상태다.
+    private long replacementSample(int zoom, long key, Set<Long> finestRemaining) {
+        if (zoom == MAX_ZOOM) {
+            return finestRemaining.iterator().next();
+        }
+        long latIndex = key >>> 32;
+        long lngIndex = key & 0xFFFFFFFFL;
+        Map<Long, Cell> children = level(zoom + 1);
+        for (long childLat = latIndex * 2; childLat <= latIndex * 2 + 1; childLat++) {
+            for (long childLng = lngIndex * 2; childLng <= lngIndex * 2 + 1; childLng++) {
+                Cell child = children.get(cellKey(childLat, childLng));
+                if (child != null) {
+                    return child.samplePotId;
+                }
+            }
+        }
+        throw new IllegalStateException("클러스터 하위 격자가 비어 있습니다.");
+    }
+
+    private Map<Long, Cell> level(int zoom) {
+        return levels.get(zoom - MIN_ZOOM);
+    }
+
+    private static List<Map<Long, Cell>> newLevels() {
+        List<Map<Long, Cell>> levels = new ArrayList<>();
+        for (int zoom = MIN_ZOOM; zoom <= MAX_ZOOM; zoom++) {
+            levels.add(new ConcurrentHashMap<>());
+        }
+        return levels;
+    }
+
+    // 가장 세밀한 격자의 인덱스, 경계값(위도 90, 경도 180)은 마지막 칸에 포함
+    private static long finestIndex(double offsetDegree) {
+        long index = (long) Math.floor(offsetDegree / FINEST_CELL_SIZE);
+        return Math.max(0, Math.min((1L << FINEST_BITS) - 1, index));
+    }
+
+    private static long cellKey(long latIndex, long lngIndex) {
+        return (latIndex << 32) | lngIndex;
+    }
+
+    private static final class Point {
+        private final double latitude;
+        private final double longitude;
+        private final long finestLat;
+        private final long finestLng;
+
+        private Point(double latitude, double longitude) {
+            this.latitude = latitude;
+            this.longitude = longitude;
+            this.finestLat = finestIndex(latitude + 90);
+            this.finestLng = finestIndex(longitude + 180);
+        }
+
+        private long finestKey() {
+            return cellKey(MAX_ZOOM);
+        }
+
+        // 하위 레벨 인덱스를 비트 이동으로 구하므로 모든 레벨의 격자가 정확히 포개진다.
+        private long cellKey(int zoom) {
+            int shift = MAX_ZOOM - zoom;
+            return PotClusterIndex.cellKey(finestLat >> shift, finestLng >> shift);
+        }
+    }
+
+    // 격자 집계 (불변 객체로 교체해 조회 중 일부만 갱신된 값을 읽지 않도록 한다)
+    private static final class Cell {
+        private final int count;
+        private final double latitudeSum;
+        private final double longitudeSum;
+        private final long samplePotId;
+
+        private Cell(int count, double latitudeSum, double longitudeSum, long samplePotId) {
+            this.count = count;
+            this.latitudeSum = latitudeSum;
+            this.longitudeSum = longitudeSum;
+            this.samplePotId = samplePotId;
+        }
+
+        private static Cell plus(Cell cell, Cell added) {
+            return new Cell(cell.count + added.count, cell.latitudeSum + added.latitudeSum,
+                    cell.longitudeSum + added.longitudeSum, cell.samplePotId);
+        }
+
+        private PotDto.Cluster toCluster() {
+            return PotDto.Cluster.builder()
+                    .count(count)
+                    .latitude(latitudeSum / count)
+                    .longitude(longitudeSum / count)
+                    .samplePotId(samplePotId)
+                    .build();
+        }
+    }
+
+}
@@ -0,0 +1,289 @@
+package com.bbangbuddy.domain.pot.index;
+
+import com.bbangbuddy.domain.pot.dto.PotDto;
+import com.bbangbuddy.domain.pot.dto.PotText;
+import com.bbangbuddy.domain.pot.event.PotChangedEvent;
+import com.bbangbuddy.domain.pot.repository.PotRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * @PackageName : com.bbangbuddy.domain.pot.index
+ * @FileName : PotSearchIndex
+ * @Author : hjsim
+ * @Date : 2026-10-18
+ * @Description : 팟 제목/설명/주소를 글자 단위 n-gram(1~2글자)으로 나눈 인메모리 역색인
+ *                한글은 띄어쓰기와 조사 때문에 단어 단위로 자르면 부분 검색이 되지 않으므로 글자 n-gram을 사용한다.
+ *                색인은 후보 팟 ID만 좁히고, 실제 포함 여부와 관련도 점수는 조회한 행으로 계산한다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class PotSearchIndex {
+
+    // 필드별 관련도 가중치
+    static final double TITLE_WEIGHT = 3;
+    static final double ADDRESS_WEIGHT = 2;
+    static final double DESCRIPTION_WEIGHT = 1;
+    // 제목이 검색어로 시작하면 추가 점수
+    static final double TITLE_PREFIX_BONUS = 1;
+
+    private final PotRepository potRepository;
+
+    @Value("${pot.index.search.enabled:true}")
+    private boolean enabled;
+
+    // n-gram 키 -> 해당 n-gram을 포함한 팟 ID 목록 (ID 오름차순)
+    private final Map<Integer, Posting> postings = new HashMap<>();
+    // 팟 ID -> 색인된 n-gram 키 목록 (수정/삭제 시 기존 색인 제거용)
+    private final Map<Long, int[]> documents = new HashMap<>();
+    // 조회는 동시에, 색인 변경은 단독으로 처리
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+
+    private volatile boolean ready;
+
+    /**
+     * 애플리케이션 기동 후 DB의 전체 팟 검색 필드로 색인 적재
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void load() {
+        if (!enabled) {
+            log.info("팟 검색 인덱스 비활성화 (pot.index.search.enabled=false)");
+            return;
+        }
+        List<PotText> texts = potRepository.findAllTexts();
+        lock.writeLock().lock();
+        try {
+            for (PotText text : texts) {
+                put(text.getId(), text.getTitle(), text.getDescription(), text.getAddress());
+            }
+            ready = true;
+        } finally {
+            lock.writeLock().unlock();
+        }
+        log.info("팟 검색 인덱스 적재 완료: {}건, n-gram {}개", size(), postings.size());
+    }
+
+    /**
+     * 팟 생성/수정/삭제 커밋 이후 색인 동기화
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onPotChanged(PotChangedEvent event) {
+        if (event.getType() == PotChangedEvent.Type.DELETED) {
+            remove(event.getPotId());
+            return;
+        }
+        PotDto.Response pot = event.getAfter();
+        put(pot.getId(), pot.getTitle(), pot.getDescription(), pot.getAddress());
+    }
+
+    public boolean isReady() {
+        return ready;
+    }
+
+    public int size() {
+        lock.readLock().lock();
+        try {
+            return documents.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    public void put(Long id, String title, String description, String address) {
+        Set<Integer> keys = new HashSet<>();
+        addGramKeys(keys, title);
+        addGramKeys(keys, description);
+        addGramKeys(keys, address);
+        int[] grams = keys.stream().mapToInt(Integer::intValue).sorted().toArray();
+
+        lock.writeLock().lock();
+        try {
+            int[] previous = documents.put(id, grams);
+            if (previous != null) {
+                for (int gram : previous) {
+                    if (Arrays.binarySearch(grams, gram) < 0) {
+                        removePosting(gram, id);
+                    }
+                }
+            }
+            for (int gram : grams) {
+                postings.computeIfAbsent(gram, key -> new Posting()).add(id);
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public void remove(Long id) {
+        lock.writeLock().lock();
+        try {
+            int[] previous = documents.remove(id);
+            if (previous != null) {
+                for (int gram : previous) {
+                    removePosting(gram, id);
+                }
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * 검색어의 모든 n-gram을 포함한 팟 ID 목록 조회
+     * 한 글자 검색어는 1-gram, 두 글자 이상은 2-gram 목록의 교집합으로 구하며,
+     * n-gram이 떨어져 있는 팟도 포함될 수 있으므로 호출하는 쪽에서 실제 포함 여부를 다시 확인해야 한다.
+     */
+    public List<Long> findCandidateIds(String keyword) {
+        Set<Integer> keys = new HashSet<>();
+        if (keyword.length() == 1) {
+            keys.add(unigramKey(keyword.charAt(0)));
+        } else {
+            for (int i = 0; i + 1 < keyword.length(); i++) {
+                keys.add(bigramKey(keyword.charAt(i), keyword.charAt(i + 1)));
+            }
+        }
+
+        lock.readLock().lock();
+        try {
+            // 팟 수가 적은 n-gram부터 교집합을 구해 비교 횟수를 줄인다.
+            List<Posting> lists = new ArrayList<>();
+            for (Integer key : keys) {
+                Posting posting = postings.get(key);
+                if (posting == null) {
+                    return new ArrayList<>();
+                }
+                lists.add(posting);
+            }
+            lists.sort(Comparator.comparingInt(posting -> posting.size));
+
+            Posting smallest = lists.get(0);
+            List<Long> result = new ArrayList<>();
+            for (int i = 0; i < smallest.size; i++) {
+                long id = smallest.ids[i];
+                boolean matched = true;
+                for (int j = 1; j < lists.size() && matched; j++) {
+                    matched = lists.get(j).contains(id);
+                }
+                if (matched) {
+                    result.add(id);
+                }
+            }
+            return result;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * 검색어 관련도 점수 계산 (검색어를 포함하지 않으면 0)
+     * 필드별로 가중치 x (1 + ln(등장 횟수))를 더하고, 제목이 검색어로 시작하면 가산점을 준다.
+     */
+    public static double score(String keyword, String title, String description, String address) {
+        double score = fieldScore(keyword, title, TITLE_WEIGHT)
+                + fieldScore(keyword, address, ADDRESS_WEIGHT)
+                + fieldScore(keyword, description, DESCRIPTION_WEIGHT);
+        if (title != null && title.startsWith(keyword)) {
+            score += TITLE_PREFIX_BONUS;
+        }
+        return score;
+    }
+
+    private static double fieldScore(String keyword, String text, double weight) {
+        if (text == null) {
+            return 0;
+        }
+        int count = 0;
+        for (int index = text.indexOf(keyword); index >= 0; index = text.indexOf(keyword, index + 1)) {
+            count++;
+        }
+        return count == 0 ? 0 : weight * (1 + Math.log(count));
+    }
+
+    private static void addGramKeys(Set<Integer> keys, String text) {
+        if (text == null) {
+            return;
+        }
+        for (int i = 0; i < text.length(); i++) {
+            keys.add(unigramKey(text.charAt(i)));
+            if (i + 1 < text.length()) {
+                keys.add(bigramKey(text.charAt(i), text.charAt(i + 1)));
+            }
+        }
+    }
+
+    // 두 글자를 int 하나로 묶은 n-gram 키, 1-gram은 두 번째 글자 자리에 문자로 쓰이지 않는 U+FFFF를 둔다.
+    private static int bigramKey(char first, char second) {
+        return (first << 16) | second;
+    }
+
+    private static int unigramKey(char ch) {
+        return bigramKey(ch, '\uFFFF');
+    }
+
+    private void removePosting(int gram, long id) {
+        Posting posting = postings.get(gram);
+        if (posting != null) {
+            posting.remove(id);
+            if (posting.size == 0) {
+                postings.remove(gram);
+            }
+        }
+    }
+
+    // 팟 ID를 오름차순으로 보관하는 목록, 새 팟은 ID가 가장 크므로 대부분 끝에 추가된다.
+    private static final class Posting {
+        private long[] ids = new long[4];
+        private int size;
+
+        private void add(long id) {
+            if (size > 0 && ids[size - 1] >= id) {
+                int index = Arrays.binarySearch(ids, 0, size, id);
+                if (index >= 0) {
+                    return;
+                }
+                insert(-index - 1, id);
+                return;
+            }
+            insert(size, id);
+        }
+
+        private void insert(int index, long id) {
+            if (size == ids.length) {
+                ids = Arrays.copyOf(ids, size * 2);
+            }
+            System.arraycopy(ids, index, ids, index + 1, size - index);
+            ids[index] = id;
+            size++;
+        }
+
+        private void remove(long id) {
+            int index = Arrays.binarySearch(ids, 0, size, id);
+            if (index >= 0) {
+                System.arraycopy(ids, index + 1, ids, index, size - index - 1);
+                size--;
+            }
+        }
+
+        private boolean contains(long id) {
+            return Arrays.binarySearch(ids, 0, size, id) >= 0;
+        }
+    }
+
+}
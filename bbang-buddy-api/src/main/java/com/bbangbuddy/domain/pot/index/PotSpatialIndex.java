@@ -0,0 +1,312 @@
+package com.bbangbuddy.domain.pot.index;
+
+import com.bbangbuddy.domain.pot.dto.PotCoordinate;
+import com.bbangbuddy.domain.pot.dto.PotDto;
+import com.bbangbuddy.domain.pot.event.PotChangedEvent;
+import com.bbangbuddy.domain.pot.repository.PotRepository;
+import com.bbangbuddy.global.util.GeoUtils;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * @PackageName : com.bbangbuddy.domain.pot.index
+ * @FileName : PotSpatialIndex
+ * @Author : hjsim
+ * @Date : 2026-10-18
+ * @Description : 팟 좌표를 고정 크기 격자(grid)로 나누어 보관하는 인메모리 공간 인덱스
+ *                근처 팟 조회 시 전체 테이블에 Haversine 식을 계산하지 않고 주변 격자만 확인한다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class PotSpatialIndex {
+
+    // 격자 한 칸의 크기(도), 위도 기준 약 1.1km
+    static final double CELL_SIZE = 0.01;
+
+    private final PotRepository potRepository;
+
+    @Value("${pot.index.spatial.enabled:true}")
+    private boolean enabled;
+
+    // 팟 ID -> 좌표
+    private final Map<Long, Point> points = new ConcurrentHashMap<>();
+    // 격자 키 -> 격자에 속한 팟 ID 목록
+    private final Map<Long, Set<Long>> cells = new ConcurrentHashMap<>();
+
+    private volatile boolean ready;
+
+    // 적재 중에 받은 변경 이벤트 (적재 결과에 순서대로 다시 반영), 적재 중이 아니면 null
+    private List<PotChangedEvent> pendingEvents;
+
+    /**
+     * 애플리케이션 기동 후 DB의 전체 팟 좌표로 인덱스를 적재
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void load() {
+        if (!enabled) {
+            log.info("팟 공간 인덱스 비활성화 (pot.index.spatial.enabled=false)");
+            return;
+        }
+        // 조회 중 커밋된 변경은 조회 결과보다 새로울 수 있으므로 모아 두었다가 조회 결과를 넣은 뒤 다시 반영한다.
+        synchronized (this) {
+            pendingEvents = new ArrayList<>();
+        }
+        try {
+            List<PotCoordinate> coordinates = potRepository.findAllCoordinates();
+            synchronized (this) {
+                for (PotCoordinate coordinate : coordinates) {
+                    put(coordinate.getId(), coordinate.getLatitude(), coordinate.getLongitude());
+                }
+                pendingEvents.forEach(this::apply);
+                ready = true;
+            }
+        } finally {
+            synchronized (this) {
+                pendingEvents = null;
+            }
+        }
+        log.info("팟 공간 인덱스 적재 완료: {}건, 격자 {}개", points.size(), cells.size());
+    }
+
+    /**
+     * 팟 생성/수정/삭제 커밋 이후 인덱스 동기화
+     * 참가 인원 변경은 좌표에 영향이 없고, 조회 결과는 DB에서 다시 읽으므로 별도 처리하지 않는다.
+     * 적재 중이면 적재가 끝난 뒤에 반영한다.
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public synchronized void onPotChanged(PotChangedEvent event) {
+        if (pendingEvents != null) {
+            pendingEvents.add(event);
+            return;
+        }
+        apply(event);
+    }
+
+    private void apply(PotChangedEvent event) {
+        if (event.getType() == PotChangedEvent.Type.DELETED) {
+            remove(event.getPotId());
+            return;
+        }
+        PotDto.Response pot = event.getAfter();
+        put(pot.getId(), pot.getLatitude(), pot.getLongitude());
+    }
+
+    public boolean isReady() {
+        return ready;
+    }
+
+    public int size() {
+        return points.size();
+    }
+
+    // 팟 좌표 등록 또는 이동
+    public synchronized void put(Long id, double latitude, double longitude) {
+        long cellKey = cellKey(latitude, longitude);
+        Point previous = points.put(id, new Point(latitude, longitude, cellKey));
+        if (previous != null && previous.cellKey != cellKey) {
+            removeFromCell(previous.cellKey, id);
+        }
+        cells.computeIfAbsent(cellKey, key -> ConcurrentHashMap.newKeySet()).add(id);
+    }
+
+    public synchronized void remove(Long id) {
+        Point previous = points.remove(id);
+        if (previous != null) {
+            removeFromCell(previous.cellKey, id);
+        }
+    }
+
+    /**
+     * 중심 좌표에서 distance(km) 이내에 있는 팟 ID 목록 조회
+     * 바운딩 박스에 걸치는 격자만 확인한 뒤 정확한 거리는 네이티브 쿼리와 같은 식으로 계산한다.
+     */
+    public List<Long> findNearbyIds(double latitude, double longitude, double distance) {
+        double latitudeDelta = GeoUtils.latitudeDelta(distance);
+        double longitudeDelta = GeoUtils.longitudeDelta(latitude, distance);
+
+        long minLat = cellIndex(Math.max(-90, latitude - latitudeDelta));
+        long maxLat = cellIndex(Math.min(90, latitude + latitudeDelta));
+        long minLng = cellIndex(longitude - longitudeDelta);
+        long maxLng = cellIndex(longitude + longitudeDelta);
+
+        // 경도 180도를 넘기거나 확인할 격자 수가 등록된 팟 수보다 많으면 전체를 확인하는 편이 빠르다.
+        boolean crossesAntimeridian = longitude - longitudeDelta < -180 || longitude + longitudeDelta > 180;
+        long cellCount = (maxLat - minLat + 1) * (maxLng - minLng + 1);
+        if (crossesAntimeridian || cellCount > cells.size()) {
+            return scanAll(latitude, longitude, distance);
+        }
+
+        List<Long> result = new ArrayList<>();
+        for (long latIndex = minLat; latIndex <= maxLat; latIndex++) {
+            for (long lngIndex = minLng; lngIndex <= maxLng; lngIndex++) {
+                Set<Long> ids = cells.get(cellKey(latIndex, lngIndex));
+                if (ids == null) {
+                    continue;
+                }
+                for (Long id : ids) {
+                    Point point = points.get(id);
+                    if (point != null && point.within(latitude, longitude, distance)) {
+                        result.add(id);
+                    }
+                }
+            }
+        }
+        return result;
+    }
+
+    /**
+     * 중심 좌표에서 가까운 순으로 최대 limit개의 팟 조회 (거리 -> ID 오름차순)
+     * 중심 격자부터 바깥 고리(ring) 방향으로 격자를 넓혀 가며 후보를 limit 크기의 힙에만 유지하고,
+     * 다음 고리의 최소 거리가 힙의 최대 거리보다 멀어지면 탐색을 멈춘다.
+     * (afterDistance, afterId) 이후의 팟만 대상으로 하므로 커서 기반 페이지 조회에 사용한다.
+     */
+    public List<Neighbor> findNearest(double latitude, double longitude, double distance,
+                                      double afterDistance, long afterId, int limit) {
+        PriorityQueue<Neighbor> heap = new PriorityQueue<>(limit + 1, NEIGHBOR_ORDER.reversed());
+
+        double latitudeDelta = GeoUtils.latitudeDelta(distance);
+        double longitudeDelta = GeoUtils.longitudeDelta(latitude, distance);
+        boolean crossesAntimeridian = longitude - longitudeDelta < -180 || longitude + longitudeDelta > 180;
+        long maxRing = Math.max(cellIndex(latitudeDelta) + 1, cellIndex(longitudeDelta) + 1);
+
+        if (crossesAntimeridian || (2 * maxRing + 1) * (2 * maxRing + 1) > cells.size()) {
+            points.forEach((id, point) -> offer(heap, id, point, latitude, longitude, distance, afterDistance, afterId, limit));
+            return drain(heap);
+        }
+
+        long centerLat = cellIndex(latitude);
+        long centerLng = cellIndex(longitude);
+        // 고리 r의 격자는 중심에서 최소 (r - 1)칸 떨어져 있으므로 한 칸의 최소 길이(km)로 하한을 잡는다.
+        // 대원 거리는 위도선을 따라 잰 거리보다 조금 짧을 수 있어 1%의 여유를 둔다.
+        double cellKm = 0.99 * CELL_SIZE * GeoUtils.KM_PER_DEGREE
+                * Math.cos(Math.toRadians(Math.min(90, Math.abs(latitude) + latitudeDelta)));
+        for (long ring = 0; ring <= maxRing; ring++) {
+            double ringMinDistance = (ring - 1) * cellKm;
+            if (ringMinDistance > distance
+                    || (heap.size() == limit && ringMinDistance > heap.peek().distance)) {
+                break;
+            }
+            for (long latIndex = centerLat - ring; latIndex <= centerLat + ring; latIndex++) {
+                // 고리의 위/아래 변은 전체를, 나머지 행은 양 끝 격자만 확인
+                long step = (latIndex == centerLat - ring || latIndex == centerLat + ring) ? 1 : Math.max(1, 2 * ring);
+                for (long lngIndex = centerLng - ring; lngIndex <= centerLng + ring; lngIndex += step) {
+                    Set<Long> ids = cells.get(cellKey(latIndex, lngIndex));
+                    if (ids == null) {
+                        continue;
+                    }
+                    for (Long id : ids) {
+                        Point point = points.get(id);
+                        if (point != null) {
+                            offer(heap, id, point, latitude, longitude, distance, afterDistance, afterId, limit);
+                        }
+                    }
+                }
+            }
+        }
+        return drain(heap);
+    }
+
+    private static void offer(PriorityQueue<Neighbor> heap, Long id, Point point,
+                              double latitude, double longitude, double distance,
+                              double afterDistance, long afterId, int limit) {
+        double pointDistance = GeoUtils.distanceKm(latitude, longitude, point.latitude, point.longitude);
+        if (pointDistance > distance) {
+            return;
+        }
+        if (pointDistance < afterDistance || (pointDistance == afterDistance && id <= afterId)) {
+            return;
+        }
+        Neighbor neighbor = new Neighbor(id, pointDistance);
+        if (heap.size() < limit) {
+            heap.add(neighbor);
+        } else if (NEIGHBOR_ORDER.compare(neighbor, heap.peek()) < 0) {
+            heap.poll();
+            heap.add(neighbor);
+        }
+    }
+
+    private static List<Neighbor> drain(PriorityQueue<Neighbor> heap) {
+        List<Neighbor> result = new ArrayList<>(heap);
+        result.sort(NEIGHBOR_ORDER);
+        return result;
+    }
+
+    private List<Long> scanAll(double latitude, double longitude, double distance) {
+        List<Long> result = new ArrayList<>();
+        points.forEach((id, point) -> {
+            if (point.within(latitude, longitude, distance)) {
+                result.add(id);
+            }
+        });
+        return result;
+    }
+
+    private void removeFromCell(long cellKey, Long id) {
+        Set<Long> ids = cells.get(cellKey);
+        if (ids != null) {
+            ids.remove(id);
+            if (ids.isEmpty()) {
+                cells.remove(cellKey);
+            }
+        }
+    }
+
+    static long cellIndex(double degree) {
+        return (long) Math.floor(degree / CELL_SIZE);
+    }
+
+    static long cellKey(double latitude, double longitude) {
+        return cellKey(cellIndex(latitude), cellIndex(longitude));
+    }
+
+    private static long cellKey(long latIndex, long lngIndex) {
+        return (latIndex << 32) | (lngIndex & 0xFFFFFFFFL);
+    }
+
+    private static final Comparator<Neighbor> NEIGHBOR_ORDER =
+            Comparator.comparingDouble(Neighbor::getDistance).thenComparingLong(Neighbor::getId);
+
+    // 가까운 팟 조회 결과 (팟 ID, 중심 좌표와의 거리 km)
+    @Getter
+    public static final class Neighbor {
+        private final long id;
+        private final double distance;
+
+        public Neighbor(long id, double distance) {
+            this.id = id;
+            this.distance = distance;
+        }
+    }
+
+    private static final class Point {
+        private final double latitude;
+        private final double longitude;
+        private final long cellKey;
+
+        private Point(double latitude, double longitude, long cellKey) {
+            this.latitude = latitude;
+            this.longitude = longitude;
+            this.cellKey = cellKey;
+        }
+
+        private boolean within(double centerLatitude, double centerLongitude, double distance) {
+            return GeoUtils.distanceKm(centerLatitude, centerLongitude, latitude, longitude) <= distance;
+        }
+    }
+
+}
@@ -0,0 +1,407 @@
+package com.bbangbuddy.domain.pot.index;
+
+import com.bbangbuddy.domain.pot.dto.PotDto;
+import com.bbangbuddy.domain.pot.dto.PotText;
+import com.bbangbuddy.domain.pot.event.PotChangedEvent;
+import com.bbangbuddy.domain.pot.repository.PotRepository;
+import com.bbangbuddy.global.util.StringUtils;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.stream.Collectors;
+
+/**
+ * @PackageName : com.bbangbuddy.domain.pot.index
+ * @FileName : PotSuggestIndex
+ * @Author : hjsim
+ * @Date : 2026-10-18
+ * @Description : 팟 제목/주소 자동완성용 인메모리 접두어 트라이(trie)
+ *                각 노드가 하위 추천어 중 상위 MAX_SUGGESTIONS개를 미리 들고 있어 조회는 접두어 길이만큼만 내려가면 된다.
+ *                제목/주소 전체와 띄어쓰기 뒤 단어로 시작하는 부분을 모두 키로 등록해 중간 단어로도 찾을 수 있다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class PotSuggestIndex {
+
+    // 노드별로 미리 계산해 두는 추천어 수 (조회 가능한 최대 개수)
+    public static final int MAX_SUGGESTIONS = 10;
+    // 트라이 깊이 제한, 더 긴 접두어는 이 길이까지만 내려간 뒤 그 노드의 추천어 전체에서 나머지를 비교한다.
+    static final int MAX_KEY_LENGTH = 30;
+
+    private static final Comparator<Suggestion> RANKING = Comparator
+            .comparingInt((Suggestion suggestion) -> -suggestion.count)
+            .thenComparingInt(suggestion -> suggestion.text.length())
+            .thenComparing(suggestion -> suggestion.text);
+
+    private final PotRepository potRepository;
+
+    @Value("${pot.index.suggest.enabled:true}")
+    private boolean enabled;
+
+    private final Node root = new Node();
+    // 추천어 -> 추천어를 가진 팟 수
+    private final Map<String, Suggestion> suggestions = new HashMap<>();
+    // 팟 ID -> 등록된 추천어 (수정/삭제 시 기존 추천어 제거용)
+    private final Map<Long, String[]> documents = new HashMap<>();
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+
+    private volatile boolean ready;
+
+    /**
+     * 애플리케이션 기동 후 DB의 전체 팟 제목/주소로 트라이 적재
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void load() {
+        if (!enabled) {
+            log.info("팟 자동완성 인덱스 비활성화 (pot.index.suggest.enabled=false)");
+            return;
+        }
+        List<PotText> texts = potRepository.findAllTexts();
+        lock.writeLock().lock();
+        try {
+            for (PotText text : texts) {
+                put(text.getId(), text.getTitle(), text.getAddress());
+            }
+            ready = true;
+        } finally {
+            lock.writeLock().unlock();
+        }
+        Stats stats = stats();
+        log.info("팟 자동완성 인덱스 적재 완료: 추천어 {}개, 노드 {}개, 약 {}KB",
+                stats.getSuggestionCount(), stats.getNodeCount(), stats.getEstimatedBytes() / 1024);
+    }
+
+    /**
+     * 팟 생성/수정/삭제 커밋 이후 추천어 동기화
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onPotChanged(PotChangedEvent event) {
+        if (event.getType() == PotChangedEvent.Type.DELETED) {
+            remove(event.getPotId());
+            return;
+        }
+        PotDto.Response pot = event.getAfter();
+        put(pot.getId(), pot.getTitle(), pot.getAddress());
+    }
+
+    public boolean isReady() {
+        return ready;
+    }
+
+    public void put(Long id, String title, String address) {
+        String[] texts = Arrays.stream(new String[]{title, address})
+                .filter(text -> !StringUtils.isBlank(text))
+                .map(String::trim)
+                .distinct()
+                .toArray(String[]::new);
+        lock.writeLock().lock();
+        try {
+            String[] previous = documents.put(id, texts);
+            if (previous != null) {
+                if (Arrays.equals(previous, texts)) {
+                    return;
+                }
+                Arrays.stream(previous).forEach(this::decrement);
+            }
+            Arrays.stream(texts).forEach(this::increment);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public void remove(Long id) {
+        lock.writeLock().lock();
+        try {
+            String[] previous = documents.remove(id);
+            if (previous != null) {
+                Arrays.stream(previous).forEach(this::decrement);
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * 접두어로 시작하는 (또는 접두어로 시작하는 단어를 가진) 추천어를 많이 쓰인 순으로 최대 limit개 조회
+     */
+    public List<String> suggest(String prefix, int limit) {
+        String key = normalize(prefix);
+        if (key.isEmpty()) {
+            return new ArrayList<>();
+        }
+        lock.readLock().lock();
+        try {
+            Node node = root;
+            for (int i = 0; i < Math.min(key.length(), MAX_KEY_LENGTH) && node != null; i++) {
+                node = node.child(key.charAt(i));
+            }
+            if (node == null) {
+                return new ArrayList<>();
+            }
+            if (key.length() > MAX_KEY_LENGTH) {
+                return scan(node, key, limit);
+            }
+            List<String> result = new ArrayList<>();
+            for (Suggestion suggestion : node.top) {
+                if (result.size() >= limit) {
+                    break;
+                }
+                result.add(suggestion.text);
+            }
+            return result;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * 추천어 수, 노드 수와 배열 크기로 추정한 메모리 사용량 (객체 헤더 16바이트, 참조 4바이트 기준)
+     */
+    public Stats stats() {
+        lock.readLock().lock();
+        try {
+            long nodes = 0;
+            long bytes = 0;
+            Deque<Node> stack = new ArrayDeque<>();
+            stack.push(root);
+            while (!stack.isEmpty()) {
+                Node node = stack.pop();
+                nodes++;
+                // 노드 객체 + 자식 글자/자식 노드/추천어 배열
+                bytes += 32 + (16 + 2L * node.keys.length) + (16 + 4L * node.children.length)
+                        + (16 + 4L * node.terminals.length) + (16 + 4L * node.top.length);
+                for (Node child : node.children) {
+                    stack.push(child);
+                }
+            }
+            for (Suggestion suggestion : suggestions.values()) {
+                // 추천어 객체 + 문자열 + 맵 엔트리
+                bytes += 24 + 40 + 2L * suggestion.text.length() + 32;
+            }
+            return Stats.builder()
+                    .suggestionCount(suggestions.size())
+                    .nodeCount(nodes)
+                    .estimatedBytes(bytes)
+                    .build();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    private void increment(String text) {
+        Suggestion suggestion = suggestions.computeIfAbsent(text, Suggestion::new);
+        suggestion.count++;
+        for (String key : keys(text)) {
+            Node[] path = path(key, true);
+            Node terminal = path[path.length - 1];
+            if (!Arrays.asList(terminal.terminals).contains(suggestion)) {
+                terminal.terminals = append(terminal.terminals, suggestion);
+            }
+            refresh(path);
+        }
+    }
+
+    private void decrement(String text) {
+        Suggestion suggestion = suggestions.get(text);
+        if (suggestion == null) {
+            return;
+        }
+        suggestion.count--;
+        if (suggestion.count == 0) {
+            suggestions.remove(text);
+        }
+        for (String key : keys(text)) {
+            Node[] path = path(key, false);
+            if (path == null) {
+                continue;
+            }
+            Node terminal = path[path.length - 1];
+            if (suggestion.count == 0) {
+                terminal.terminals = Arrays.stream(terminal.terminals)
+                        .filter(other -> other != suggestion)
+                        .toArray(Suggestion[]::new);
+            }
+            refresh(path);
+            prune(key, path);
+        }
+    }
+
+    // 트라이 깊이보다 긴 접두어는 미리 계산한 상위 목록만으로는 부족하므로 노드의 추천어 전체에서 나머지 글자까지 비교한다.
+    // 키를 MAX_KEY_LENGTH에서 자르므로 이 깊이의 노드는 자식이 없고, 하위 추천어는 모두 terminals에 있다.
+    private static List<String> scan(Node node, String key, int limit) {
+        return Arrays.stream(node.terminals)
+                .filter(suggestion -> matches(suggestion.text, key))
+                .sorted(RANKING)
+                .limit(limit)
+                .map(suggestion -> suggestion.text)
+                .collect(Collectors.toList());
+    }
+
+    // 추천어 전체나 띄어쓰기 뒤 단어가 key로 시작하는지 (keys()와 같은 기준, 자르지 않은 길이로 비교)
+    static boolean matches(String text, String key) {
+        String normalized = normalize(text);
+        for (int i = 0; i < normalized.length(); i++) {
+            if ((i == 0 || (normalized.charAt(i - 1) == ' ' && normalized.charAt(i) != ' '))
+                    && normalized.startsWith(key, i)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    // 아래 노드부터 올라가며 하위 추천어 상위 목록을 다시 계산
+    private static void refresh(Node[] path) {
+        for (int i = path.length - 1; i >= 0; i--) {
+            Node node = path[i];
+            Set<Suggestion> candidates = new LinkedHashSet<>(Arrays.asList(node.terminals));
+            for (Node child : node.children) {
+                candidates.addAll(Arrays.asList(child.top));
+            }
+            node.top = candidates.stream()
+                    .sorted(RANKING)
+                    .limit(MAX_SUGGESTIONS)
+                    .toArray(Suggestion[]::new);
+        }
+    }
+
+    // 추천어가 없어진 노드를 부모에서 제거
+    private static void prune(String key, Node[] path) {
+        for (int i = path.length - 1; i > 0; i--) {
+            Node node = path[i];
+            if (node.terminals.length > 0 || node.children.length > 0) {
+                return;
+            }
+            path[i - 1].removeChild(key.charAt(i - 1));
+        }
+    }
+
+    // 루트부터 키의 마지막 글자까지의 노드 경로 (create가 false이면 없는 경로는 null)
+    private Node[] path(String key, boolean create) {
+        Node[] path = new Node[key.length() + 1];
+        path[0] = root;
+        for (int i = 0; i < key.length(); i++) {
+            Node child = path[i].child(key.charAt(i));
+            if (child == null) {
+                if (!create) {
+                    return null;
+                }
+                child = path[i].addChild(key.charAt(i));
+            }
+            path[i + 1] = child;
+        }
+        return path;
+    }
+
+    // 추천어 전체와 띄어쓰기 뒤 각 단어로 시작하는 부분을 키로 사용
+    static List<String> keys(String text) {
+        String normalized = normalize(text);
+        Set<String> keys = new LinkedHashSet<>();
+        for (int i = 0; i < normalized.length(); i++) {
+            if (i == 0 || (normalized.charAt(i - 1) == ' ' && normalized.charAt(i) != ' ')) {
+                String key = normalized.substring(i);
+                keys.add(key.length() > MAX_KEY_LENGTH ? key.substring(0, MAX_KEY_LENGTH) : key);
+            }
+        }
+        return new ArrayList<>(keys);
+    }
+
+    static String normalize(String text) {
+        return text == null ? "" : text.trim().replaceAll("\\s+", " ").toLowerCase(Locale.ROOT);
+    }
+
+    private static Suggestion[] append(Suggestion[] array, Suggestion suggestion) {
+        Suggestion[] result = Arrays.copyOf(array, array.length + 1);
+        result[array.length] = suggestion;
+        return result;
+    }
+
+    private static final Suggestion[] EMPTY = new Suggestion[0];
+
+    // 자식은 글자 오름차순 배열로 보관해 HashMap보다 적은 메모리로 이진 탐색한다.
+    private static final class Node {
+        private char[] keys = new char[0];
+        private Node[] children = new Node[0];
+        private Suggestion[] terminals = EMPTY;
+        private Suggestion[] top = EMPTY;
+
+        private Node child(char ch) {
+            int index = Arrays.binarySearch(keys, ch);
+            return index >= 0 ? children[index] : null;
+        }
+
+        private Node addChild(char ch) {
+            int index = -Arrays.binarySearch(keys, ch) - 1;
+            char[] newKeys = new char[keys.length + 1];
+            Node[] newChildren = new Node[children.length + 1];
+            System.arraycopy(keys, 0, newKeys, 0, index);
+            System.arraycopy(children, 0, newChildren, 0, index);
+            Node child = new Node();
+            newKeys[index] = ch;
+            newChildren[index] = child;
+            System.arraycopy(keys, index, newKeys, index + 1, keys.length - index);
+            System.arraycopy(children, index, newChildren, index + 1, children.length - index);
+            keys = newKeys;
+            children = newChildren;
+            return child;
+        }
+
+        private void removeChild(char ch) {
+            int index = Arrays.binarySearch(keys, ch);
+            if (index < 0) {
+                return;
+            }
+            char[] newKeys = new char[keys.length - 1];
+            Node[] newChildren = new Node[children.length - 1];
+            System.arraycopy(keys, 0, newKeys, 0, index);
+            System.arraycopy(children, 0, newChildren, 0, index);
+            System.arraycopy(keys, index + 1, newKeys, index, keys.length - index - 1);
+            System.arraycopy(children, index + 1, newChildren, index, children.length - index - 1);
+            keys = newKeys;
+            children = newChildren;
+        }
+    }
+
+    private static final class Suggestion {
+        private final String text;
+        private int count;
+
+        private Suggestion(String text) {
+            this.text = text;
+        }
+    }
+
+    @Getter
+    @Builder
+    @AllArgsConstructor
+    @NoArgsConstructor
+    public static class Stats {
+        private int suggestionCount;
+        private long nodeCount;
+        // 트라이와 추천어가 차지하는 메모리 추정치(byte)
+        private long estimatedBytes;
+    }
+
+}
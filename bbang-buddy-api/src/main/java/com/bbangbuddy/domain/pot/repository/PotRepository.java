@@ -1,7 +1,11 @@
 package com.bbangbuddy.domain.pot.repository;
 
 import com.bbangbuddy.domain.pot.domain.Pot;
+import com.bbangbuddy.domain.pot.dto.PotCoordinate;
+import com.bbangbuddy.domain.pot.dto.PotDistanceProjection;
 import com.bbangbuddy.domain.pot.dto.PotProjection;
+import com.bbangbuddy.domain.pot.dto.PotText;
+import com.bbangbuddy.global.util.GeoUtils;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.jpa.repository.Modifying;
@@ -9,6 +13,7 @@ import org.springframework.data.repository.query.Param;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.util.List;
+import java.util.stream.Collectors;
 
 /**
  * @PackageName : com.bbangbuddy.domain.pot.repository
@@ -19,9 +24,53 @@ import java.util.List;
  */
 public interface PotRepository extends JpaRepository<Pot, Long> {
 
+    // 근처 팟 조회 네이티브 쿼리에서 공통으로 사용하는 컬럼 목록
+    String POT_PROJECTION_COLUMNS =
+            "p.id AS id, " +
+                    "p.title AS title, " +
+                    "CAST(p.description AS VARCHAR) AS description, " +
+                    "p.latitude AS latitude, " +
+                    "p.longitude AS longitude, " +
+                    "p.max_participants AS maxParticipants, " +
+                    "p.current_participants AS currentParticipants, " +
+                    "p.due_date AS dueDate, " +
+                    "p.image_path AS imagePath, " +
+                    "p.original_file_name AS originalFileName, " +
+                    "p.address AS address, " +
+                    "p.created_by AS createdBy, " +
+                    "p.created_at AS createdAt, " +
+                    "p.updated_at AS updatedAt ";
+
+    String POT_PROJECTION_SELECT = "SELECT " + POT_PROJECTION_COLUMNS + "FROM BBANGPOT p ";
+
+    // 중심 좌표(:latitude, :longitude)와 팟 사이의 거리(km)
+    String DISTANCE_EXPRESSION =
+            "(6371 * ACOS(COS(RADIANS(:latitude)) * COS(RADIANS(p.latitude)) * " +
+                    "COS(RADIANS(p.longitude) - RADIANS(:longitude)) + " +
+                    "SIN(RADIANS(:latitude)) * SIN(RADIANS(p.latitude))))";
+
     // 모든 팟 조회 (기본 제공)
     List<Pot> findAll();
 
+    // 공간 인덱스 적재용 전체 팟 좌표 조회 (CLOB 등 나머지 컬럼은 읽지 않음)
+    @Query("SELECT p.id AS id, p.latitude AS latitude, p.longitude AS longitude FROM Pot p")
+    List<PotCoordinate> findAllCoordinates();
+
+    // 검색 인덱스 적재용 전체 팟 검색 필드 조회
+    @Query("SELECT p.id AS id, p.title AS title, p.description AS description, p.address AS address FROM Pot p")
+    List<PotText> findAllTexts();
+
+    // 위경도 범위 안의 팟 좌표 조회 (클러스터 인덱스 미적재 시 사용)
+    @Query("SELECT p.id AS id, p.latitude AS latitude, p.longitude AS longitude FROM Pot p " +
+            "WHERE p.latitude BETWEEN :minLatitude AND :maxLatitude " +
+            "AND p.longitude BETWEEN :minLongitude AND :maxLongitude")
+    List<PotCoordinate> findCoordinatesInBoundingBox(
+            @Param("minLatitude") double minLatitude,
+            @Param("maxLatitude") double maxLatitude,
+            @Param("minLongitude") double minLongitude,
+            @Param("maxLongitude") double maxLongitude
+    );
+
     // 특정 팟 참가자 업데이트
     /*
     * 동시성 문제: 여러 사용자가 동시에 참가/탈퇴할 경우 경쟁 상태(race condition)가 발생할 수 있습니다.
@@ -31,42 +80,108 @@ public interface PotRepository extends JpaRepository<Pot, Long> {
     @Query("UPDATE Pot p SET p.currentParticipants = (p.currentParticipants+:count) WHERE p.id = :potId")
     void updateCurrentParticipants(@Param("potId") Long potId, @Param("count") int count);
     * */
+    // 참가 인원이 0 미만이나 정원 초과가 되면 갱신하지 않고 0을 반환한다. (호출 측에서 0이면 롤백)
+    // 이전 CASE 방식은 정원 초과 시에도 행이 매칭되어 1을 반환하므로 초과 여부를 알 수 없었다.
     @Modifying
     @Transactional
-    @Query(value = "UPDATE Pot p SET p.currentParticipants = " +
-            "CASE WHEN (p.currentParticipants + :count) >= 0 AND " +
-            "(p.currentParticipants + :count) <= p.maxParticipants " +
-            "THEN (p.currentParticipants + :count) " +
-            "ELSE p.currentParticipants END " +
-            "WHERE p.id = :potId")
+    @Query(value = "UPDATE Pot p SET p.currentParticipants = p.currentParticipants + :count " +
+            "WHERE p.id = :potId " +
+            "AND (p.currentParticipants + :count) >= 0 " +
+            "AND (p.currentParticipants + :count) <= p.maxParticipants")
     int updateCurrentParticipants(@Param("potId") Long potId, @Param("count") int count);
 
-    @Query(value =
-            "SELECT " +
-                    "p.id AS id, " +
-                    "p.title AS title, " +
-                    "CAST(p.description AS VARCHAR) AS description, " +
-                    "p.latitude AS latitude, " +
-                    "p.longitude AS longitude, " +
-                    "p.max_participants AS maxParticipants, " +
-                    "p.current_participants AS currentParticipants, " +
-                    "p.due_date AS dueDate, " +
-                    "p.image_path AS imagePath, " +
-                    "p.original_file_name AS originalFileName, " +
-                    "p.address AS address, " +
-                    "p.created_by AS createdBy, " +
-                    "p.created_at AS createdAt, " +
-                    "p.updated_at AS updatedAt " +
-                    "FROM BBANGPOT p " +
-                    "WHERE (6371 * ACOS(COS(RADIANS(:latitude)) * COS(RADIANS(p.latitude)) * " +
-                    "COS(RADIANS(p.longitude) - RADIANS(:longitude)) + " +
-                    "SIN(RADIANS(:latitude)) * SIN(RADIANS(p.latitude)))) <= :distance",
+    @Query(value = POT_PROJECTION_SELECT +
+                    "WHERE " + DISTANCE_EXPRESSION + " <= :distance",
             nativeQuery = true)
     List<PotProjection> findNearbyPots(
             @Param("latitude") double latitude,
             @Param("longitude") double longitude,
             @Param("distance") int distance
     );
+
+    // 위경도 바운딩 박스 안의 팟 조회 (IDX_BBANGPOT_LAT_LNG 인덱스 범위 스캔)
+    @Query(value = POT_PROJECTION_SELECT +
+                    "WHERE p.latitude BETWEEN :minLatitude AND :maxLatitude " +
+                    "AND p.longitude BETWEEN :minLongitude AND :maxLongitude",
+            nativeQuery = true)
+    List<PotProjection> findPotsInBoundingBox(
+            @Param("minLatitude") double minLatitude,
+            @Param("maxLatitude") double maxLatitude,
+            @Param("minLongitude") double minLongitude,
+            @Param("maxLongitude") double maxLongitude
+    );
+
+    // geohash 타일 안의 팟 조회, 이웃 타일과 겹치지 않도록 위쪽/동쪽 경계는 포함하지 않는다
+    @Query(value = POT_PROJECTION_SELECT +
+                    "WHERE p.latitude >= :minLatitude AND p.latitude < :maxLatitude " +
+                    "AND p.longitude >= :minLongitude AND p.longitude < :maxLongitude",
+            nativeQuery = true)
+    List<PotProjection> findPotsInTile(
+            @Param("minLatitude") double minLatitude,
+            @Param("maxLatitude") double maxLatitude,
+            @Param("minLongitude") double minLongitude,
+            @Param("maxLongitude") double maxLongitude
+    );
+
+    /**
+     * 근처 팟 조회 (바운딩 박스 선필터 방식)
+     * distance로 구한 위경도 범위로 인덱스를 타는 조회를 먼저 하고,
+     * 박스 안의 행만 findNearbyPots와 같은 식으로 정확한 거리를 계산해 거른다.
+     * 경도 180도를 넘는 박스는 범위 조건으로 표현할 수 없으므로 findNearbyPots로 조회한다.
+     */
+    default List<PotProjection> findNearbyPotsInBoundingBox(double latitude, double longitude, int distance) {
+        double latitudeDelta = GeoUtils.latitudeDelta(distance);
+        double longitudeDelta = GeoUtils.longitudeDelta(latitude, distance);
+        if (longitude - longitudeDelta < -180 || longitude + longitudeDelta > 180) {
+            return findNearbyPots(latitude, longitude, distance);
+        }
+        return findPotsInBoundingBox(latitude - latitudeDelta, latitude + latitudeDelta,
+                        longitude - longitudeDelta, longitude + longitudeDelta).stream()
+                .filter(pot -> GeoUtils.distanceKm(latitude, longitude, pot.getLatitude(), pot.getLongitude()) <= distance)
+                .collect(Collectors.toList());
+    }
+
+    // 바운딩 박스 안에서 (lastDistance, lastId) 이후의 팟을 거리 -> ID 순으로 limit건 조회
+    @Query(value = "SELECT * FROM (" +
+                    "SELECT " + POT_PROJECTION_COLUMNS + ", " + DISTANCE_EXPRESSION + " AS distance " +
+                    "FROM BBANGPOT p " +
+                    "WHERE p.latitude BETWEEN :minLatitude AND :maxLatitude " +
+                    "AND p.longitude BETWEEN :minLongitude AND :maxLongitude" +
+                    ") d " +
+                    "WHERE d.distance <= :distance " +
+                    "AND (d.distance > :lastDistance OR (d.distance = :lastDistance AND d.id > :lastId)) " +
+                    "ORDER BY d.distance, d.id " +
+                    "FETCH FIRST :limit ROWS ONLY",
+            nativeQuery = true)
+    List<PotDistanceProjection> findNearestPotsInBoundingBox(
+            @Param("latitude") double latitude,
+            @Param("longitude") double longitude,
+            @Param("distance") int distance,
+            @Param("minLatitude") double minLatitude,
+            @Param("maxLatitude") double maxLatitude,
+            @Param("minLongitude") double minLongitude,
+            @Param("maxLongitude") double maxLongitude,
+            @Param("lastDistance") double lastDistance,
+            @Param("lastId") long lastId,
+            @Param("limit") int limit
+    );
+
+    /**
+     * 근처 팟 거리순 조회 (커서 기반)
+     * 정렬과 건수 제한을 DB에서 처리하므로 반경 안의 전체 후보를 애플리케이션으로 가져오지 않는다.
+     */
+    default List<PotDistanceProjection> findNearestPots(double latitude, double longitude, int distance,
+                                                        double lastDistance, long lastId, int limit) {
+        double latitudeDelta = GeoUtils.latitudeDelta(distance);
+        double longitudeDelta = GeoUtils.longitudeDelta(latitude, distance);
+        boolean crossesAntimeridian = longitude - longitudeDelta < -180 || longitude + longitudeDelta > 180;
+        return findNearestPotsInBoundingBox(latitude, longitude, distance,
+                latitude - latitudeDelta, latitude + latitudeDelta,
+                crossesAntimeridian ? -180 : longitude - longitudeDelta,
+                crossesAntimeridian ? 180 : longitude + longitudeDelta,
+                lastDistance, lastId, limit);
+    }
+
     // 오라클 공간 함수 SDO_WITHIN_DISTANCE를 사용하여 특정 위치에서 지정된 거리 내에 있는 팟을 조회하는 메소드
 
 //    @Query(value =
@@ -1,14 +1,23 @@
 package com.bbangbuddy.domain.pot.repository;
 
 import com.bbangbuddy.domain.pot.domain.QPot;
+import com.bbangbuddy.domain.pot.domain.QPotParticipant;
 import com.bbangbuddy.domain.pot.dto.PotDto;
 import com.bbangbuddy.global.util.ConditionFactory;
 import com.bbangbuddy.global.util.QueryUtils;
+import com.querydsl.core.types.Expression;
+import com.querydsl.core.types.Predicate;
 import com.querydsl.core.types.Projections;
+import com.querydsl.jpa.impl.JPAQuery;
 import com.querydsl.jpa.impl.JPAQueryFactory;
 import lombok.RequiredArgsConstructor;
+import org.hibernate.jpa.QueryHints;
 import org.springframework.stereotype.Repository;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.List;
+import java.util.stream.Stream;
 
 /**
  * @PackageName : com.bbangbuddy.domain.pot.repository
@@ -21,14 +30,104 @@ import java.util.List;
 @RequiredArgsConstructor
 public class PotRepositorySupport {
 
+    // 키셋 페이지 조회에 허용하는 정렬 (IDX_BBANGPOT_DUE_DATE_ID, PK 인덱스를 타는 컬럼만)
+    public static final List<String> PAGE_SORTS = Arrays.asList("-dueDate", "+dueDate", "-id", "+id");
+    public static final String DEFAULT_PAGE_SORT = "-dueDate";
+
+    // 목록 스트리밍 시 DB에서 한 번에 가져올 행 수
+    private static final int STREAM_FETCH_SIZE = 100;
+
     private final JPAQueryFactory queryFactory;
     private final QPot pot = QPot.pot;
+    private final QPotParticipant potParticipant = QPotParticipant.potParticipant;
 
     public List<PotDto.Response> findBySearchCondition(PotDto.Search search){
-        return queryFactory.select(Projections.fields(
-            PotDto.Response.class,
+        ConditionFactory condition = ConditionFactory.of(pot, search);
+        JPAQuery<PotDto.Response> query = selectResponse(true)
+        .where(condition.getPredicateArray())
+        .orderBy(QueryUtils.getSortedColumnList("-dueDate", pot));
+        // 검색어는 바인딩 파라미터로 넣어 검색어가 달라도 같은 JPQL/SQL을 재사용
+        condition.bind(query);
+        return query.fetch();
+    }
+
+    /**
+     * 검색 조건 키셋 페이지 조회
+     * 마지막으로 받은 팟의 (마감일, ID) 다음부터 limit건을 조회하며, COUNT 쿼리는 실행하지 않는다.
+     *
+     * @param sort PAGE_SORTS 중 하나 (-dueDate, +dueDate, -id, +id), 부호가 없으면 오름차순
+     * @param lastDueDate 이전 페이지 마지막 팟의 마감일 (첫 페이지 또는 ID 정렬이면 null)
+     * @param lastId 이전 페이지 마지막 팟의 ID (첫 페이지면 null)
+     */
+    public List<PotDto.Response> findPageBySearchCondition(PotDto.Search search, String sort,
+                                                           LocalDateTime lastDueDate, Long lastId, int limit) {
+        String pageSort = normalizeSort(sort);
+        if (!PAGE_SORTS.contains(pageSort)) {
+            throw new IllegalArgumentException("허용되지 않은 정렬 기준입니다. : " + sort);
+        }
+        boolean descending = pageSort.startsWith(QueryUtils.SORT_DESC_SPECIAL_CHAR);
+        boolean byDueDate = pageSort.endsWith("dueDate");
+        // 마감일이 같은 팟은 ID로 순서를 정해 커서가 항상 한 위치를 가리키도록 한다.
+        String orderBy = byDueDate ? pageSort + QueryUtils.SORT_SEPARATOR + (descending ? "-id" : "+id") : pageSort;
+
+        ConditionFactory condition = ConditionFactory.of(pot, search);
+        JPAQuery<PotDto.Response> query = selectResponse(true)
+                .where(condition.getPredicateArray())
+                .where(byDueDate ? afterDueDate(lastDueDate, lastId, descending) : afterId(lastId, descending))
+                .orderBy(QueryUtils.getSortedColumnList(orderBy, pot))
+                .limit(limit);
+        condition.bind(query);
+        return query.fetch();
+    }
+
+    /**
+     * 팟 목록 ID 키셋 스트림 조회
+     * 엔티티를 영속성 컨텍스트에 올리지 않고 DTO로 바로 조회하며, 결과를 목록으로 모으지 않고 한 행씩 넘긴다.
+     * 트랜잭션 안에서 호출하고 사용 후 스트림을 닫아야 한다.
+     *
+     * @param includeDescription false면 CLOB인 설명 컬럼은 조회하지 않음
+     * @param now 진행 중/마감 구분 기준 시각
+     * @param lastId 이전 페이지 마지막 팟의 ID (첫 페이지면 null)
+     */
+    public Stream<PotDto.Response> streamPots(PotDto.Status status, boolean includeDescription,
+                                              LocalDateTime now, Long lastId, int limit) {
+        return selectResponse(includeDescription)
+                .where(afterId(lastId, false), statusCondition(status, now))
+                .orderBy(pot.id.asc())
+                .limit(limit)
+                .setHint(QueryHints.HINT_FETCH_SIZE, STREAM_FETCH_SIZE)
+                .stream();
+    }
+
+    /**
+     * 사용자가 참가한 팟 목록 조회
+     * 참가 테이블과 조인해 한 번의 쿼리로 DTO를 바로 조회한다. (마감일 내림차순)
+     */
+    public List<PotDto.Response> findByParticipantUserId(String userId) {
+        return selectResponse(true)
+                .innerJoin(potParticipant).on(potParticipant.potId.eq(pot.id))
+                .where(potParticipant.userId.eq(userId))
+                .orderBy(pot.dueDate.desc(), pot.id.desc())
+                .fetch();
+    }
+
+    /**
+     * ID 목록으로 팟 조회 (마감일 내림차순)
+     */
+    public List<PotDto.Response> findByIds(long[] ids) {
+        List<Long> idList = new ArrayList<>(ids.length);
+        for (long id : ids) {
+            idList.add(id);
+        }
+        return selectResponse(true)
+                .where(pot.id.in(idList))
+                .orderBy(pot.dueDate.desc(), pot.id.desc())
+                .fetch();
+    }
+
+    private JPAQuery<PotDto.Response> selectResponse(boolean includeDescription) {
+        List<Expression<?>> columns = new ArrayList<>(Arrays.asList(
             pot.id,
-            pot.description,
             pot.title,
             pot.latitude,
             pot.longitude,
@@ -42,11 +141,50 @@ public class PotRepositorySupport {
             pot.createdAt,
             pot.updatedAt,
             pot.address
-        ))
-        .from(pot)
-        .where(ConditionFactory.of(pot, search).getPredicateArray())
-        .orderBy(QueryUtils.getSortedColumnList("-dueDate", pot))
-        .fetch();
+        ));
+        if (includeDescription) {
+            columns.add(pot.description);
+        }
+        return queryFactory.select(Projections.fields(PotDto.Response.class, columns.toArray(new Expression<?>[0])))
+                .from(pot);
+    }
+
+    // 진행 중(마감 전) / 마감 팟 조건, ALL이면 조건 없음
+    private Predicate statusCondition(PotDto.Status status, LocalDateTime now) {
+        switch (status) {
+            case OPEN:
+                return pot.dueDate.gt(now);
+            case EXPIRED:
+                return pot.dueDate.loe(now);
+            default:
+                return null;
+        }
+    }
+
+    // (마감일, ID) 커서 이후 조건, 커서가 없으면 조건 없음
+    private Predicate afterDueDate(LocalDateTime lastDueDate, Long lastId, boolean descending) {
+        if (lastDueDate == null || lastId == null) {
+            return null;
+        }
+        return descending
+                ? pot.dueDate.lt(lastDueDate).or(pot.dueDate.eq(lastDueDate).and(pot.id.lt(lastId)))
+                : pot.dueDate.gt(lastDueDate).or(pot.dueDate.eq(lastDueDate).and(pot.id.gt(lastId)));
+    }
+
+    // ID 커서 이후 조건, 커서가 없으면 조건 없음
+    private Predicate afterId(Long lastId, boolean descending) {
+        if (lastId == null) {
+            return null;
+        }
+        return descending ? pot.id.lt(lastId) : pot.id.gt(lastId);
+    }
+
+    // URL 쿼리에서 +는 공백으로 바뀌므로 부호가 없으면 오름차순으로 본다.
+    private String normalizeSort(String sort) {
+        String trimmed = sort == null ? DEFAULT_PAGE_SORT : sort.trim();
+        return trimmed.startsWith(QueryUtils.SORT_DESC_SPECIAL_CHAR) || trimmed.startsWith(QueryUtils.SORT_ASC_SPECIAL_CHAR)
+                ? trimmed
+                : QueryUtils.SORT_ASC_SPECIAL_CHAR + trimmed;
     }
 
-}
\ No newline at end of file
+}
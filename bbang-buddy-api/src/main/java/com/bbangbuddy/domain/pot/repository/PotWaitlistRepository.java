@@ -0,0 +1,34 @@
+package com.bbangbuddy.domain.pot.repository;
+
+import com.bbangbuddy.domain.pot.domain.PotWaitlist;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.util.List;
+
+/**
+ * @PackageName : com.bbangbuddy.domain.pot.repository
+ * @FileName : PotWaitlistRepository
+ * @Author : hjsim
+ * @Date : 2026-10-18
+ * @Description : 빵팟 참가 대기열 데이터베이스 작업을 처리하는 레포지토리 인터페이스
+ */
+public interface PotWaitlistRepository extends JpaRepository<PotWaitlist, Long> {
+
+    // 대기 순서(ID 오름차순) 조회 (메모리 대기열 적재용)
+    @Query("SELECT w.userId FROM PotWaitlist w WHERE w.potId = :potId ORDER BY w.id")
+    List<String> findUserIdsByPotId(@Param("potId") Long potId);
+
+    // 대기 행 삭제, 다른 트랜잭션이 먼저 삭제(승격/취소)했으면 0을 반환한다.
+    @Modifying
+    @Query("DELETE FROM PotWaitlist w WHERE w.potId = :potId AND w.userId = :userId")
+    int deleteByPotIdAndUserId(@Param("potId") Long potId, @Param("userId") String userId);
+
+    // 팟 삭제 시 남은 대기 행 삭제
+    @Modifying
+    @Query("DELETE FROM PotWaitlist w WHERE w.potId = :potId")
+    int deleteByPotId(@Param("potId") Long potId);
+
+}
@@ -2,15 +2,24 @@ package com.bbangbuddy.domain.pot.service;
 
 import com.bbangbuddy.domain.notification.domain.Notification;
 import com.bbangbuddy.domain.notification.repository.NotificationRepository;
-import com.bbangbuddy.domain.notification.service.NotificationService;
+import com.bbangbuddy.domain.notification.service.NotificationOutboxService;
+import com.bbangbuddy.domain.notification.service.NotificationSeqService;
+import com.bbangbuddy.domain.pot.admission.PotSeatAdmission;
+import com.bbangbuddy.domain.pot.admission.PotWaitlistQueue;
+import com.bbangbuddy.domain.pot.cache.PotMembershipCache;
+import com.bbangbuddy.domain.pot.dto.PotDto;
 import com.bbangbuddy.domain.pot.dto.PotParticipantDto;
 import com.bbangbuddy.domain.pot.domain.Pot;
 import com.bbangbuddy.domain.pot.domain.PotParticipant;
+import com.bbangbuddy.domain.pot.domain.PotWaitlist;
+import com.bbangbuddy.domain.pot.event.PotChangedEvent;
 import com.bbangbuddy.domain.pot.repository.PotParticipantRepository;
 import com.bbangbuddy.domain.pot.repository.PotRepository;
+import com.bbangbuddy.domain.pot.repository.PotWaitlistRepository;
 import com.bbangbuddy.domain.user.domain.User;
 import com.bbangbuddy.domain.user.repository.UserRepository;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -35,61 +44,56 @@ public class PotParticipantService {
     private final PotRepository potRepository;
     private final UserRepository userRepository;
 
-    private final NotificationService notificationService;
+    private final NotificationOutboxService notificationOutboxService;
+    private final NotificationSeqService notificationSeqService;
+    private final ApplicationEventPublisher eventPublisher;
+    private final PotMembershipCache potMembershipCache;
+    private final PotSeatAdmission potSeatAdmission;
+    private final PotWaitlistRepository potWaitlistRepository;
+    private final PotWaitlistQueue potWaitlistQueue;
+
     /**
      * 팟 참가
+     * - 대기자가 있으면 빈 자리를 대기 순서대로 채운 뒤에도 자리가 남을 때만 참가하고, 아니면 대기열 맨 뒤에 등록
+     * - 팟 좌석 예약 (정원이 찼으면 대기열 등록, 이후 단계에서 실패하면 롤백 시 예약 해제)
+     * - 참가 인원 조건부 증가 (정원 초과로 갱신되지 않으면 롤백)
      * - 팟과 사용자 존재 여부 확인
-     * - 팟 정원 초과 여부 확인
      * - 중복 참가 여부 확인
      *
      * @param request 팟 참가 요청 정보
-     * @throws RuntimeException 팟/사용자가 없거나, 정원 초과, 또는 중복 참가인 경우
+     * @return 참가 완료 또는 대기열 등록 결과
+     * @throws RuntimeException 팟/사용자가 없거나, 정원 초과, 중복 참가 또는 중복 대기인 경우
      */
     @Transactional
-    public void savePotParticipant(PotParticipantDto.Request request) {
+    public PotParticipantDto.JoinResult savePotParticipant(PotParticipantDto.Request request) {
         String userId = request.getUserId();
         Long potId = request.getPotId();
 
-        Pot pot = potRepository.findById(potId)
-            .orElseThrow(() -> new RuntimeException("팟을 찾을 수 없습니다."));
-
-        userRepository.findByUserId(userId)
-            .orElseThrow(() -> new RuntimeException("사용자를 찾을 수 없습니다."));
-
-        if (pot.getCurrentParticipants() >= pot.getMaxParticipants()) {
-            throw new RuntimeException("정원이 초과된 팟입니다.");
+        if (potWaitlistQueue.head(potId) != null) {
+            return joinBehindWaitlist(request);
         }
-
-        if (potParticipantRepository.existsPotParticipant(potId, userId)) {
-            throw new RuntimeException("이미 참가한 팟입니다.");
+        if (!potSeatAdmission.tryReserve(potId)) {
+            return addWaitlist(potId, userId);
         }
+        if (potRepository.updateCurrentParticipants(potId, 1) == 0) {
+            throw new RuntimeException("정원이 초과된 팟입니다.");
+        }
+        return join(request);
+    }
 
-        PotParticipant participant = request.toEntity();
-        potParticipantRepository.save(participant);
-
-        potRepository.updateCurrentParticipants(potId, 1);
-
-        List<PotParticipant> participants = potParticipantRepository.findByPotId(request.getPotId());
-
-        List<Notification> notifications = new ArrayList<>();
-        for (PotParticipant notificationSubject : participants) {
-            Notification notification = Notification.builder()
-                    .userId(notificationSubject.getUserId())
-                    .title(pot.getTitle()) // 팟 제목 저장
-                    .message(pot.getTitle() + " 에 " + request.getNotificationMessage())
-                    .isRead(false)
-                    .build();
-            notifications.add(notificationRepository.save(notification));
-
-            // 알림을 JSON 형태로 변환 (예시)
-            String data = "{\"id\":\"" + notification.getId() + "\","
-                    + "\"type\":\"notification\","
-                    + "\"title\":\"" + notification.getTitle() + "\","
-                    + "\"message\":\"" + notification.getMessage() + "\","
-                    + "\"createdAt\":\"" + notification.getCreatedAt() + "\","
-                    + "\"read\":" + notification.isRead() + "}";
-            notificationService.send(notification.getUserId(), data);
+    /**
+     * 팟 대기 취소
+     *
+     * @param potId 대기를 취소할 팟 ID
+     * @param userId 대기를 취소할 사용자 ID
+     * @throws RuntimeException 대기 중인 팟이 아닌 경우
+     */
+    @Transactional
+    public void deletePotWaitlist(Long potId, String userId) {
+        if (potWaitlistRepository.deleteByPotIdAndUserId(potId, userId) == 0) {
+            throw new RuntimeException("대기 중인 팟이 아닙니다.");
         }
+        potWaitlistQueue.remove(potId, userId);
     }
 
     /**
@@ -132,6 +136,7 @@ public class PotParticipantService {
 
     /**
      * 팟 탈퇴
+     * 대기자가 있으면 같은 트랜잭션에서 대기열 맨 앞 사용자를 참가자로 승격하고(참가 인원 유지) 알린다.
      *
      * @param potId 취소할 팟 ID
      * @param userId 취소할 사용자 ID
@@ -149,28 +154,195 @@ public class PotParticipantService {
                 .orElseThrow(() -> new RuntimeException("팟 참가자를 찾을 수 없습니다."));
 
         potParticipantRepository.delete(participant);
+        potMembershipCache.invalidate(userId);
+
+        // 승격되면 탈퇴한 자리를 그대로 넘겨주므로 참가 인원과 좌석 카운터는 바뀌지 않는다.
+        String promotedUserId = promoteWaitlist(potId);
+        if (promotedUserId == null) {
+            if (potRepository.updateCurrentParticipants(potId, -1) == 0) {
+                throw new RuntimeException("팟 참가 인원을 변경할 수 없습니다.");
+            }
+            potSeatAdmission.release(potId);
+            publishParticipantsChanged(pot, -1);
+        } else {
+            publishParticipantsChanged(pot, 0);
+        }
+
+        List<Notification> notifications = buildNotifications(participants, pot.getTitle(), pot.getTitle() + " 에 " + userId + " 님이 탈퇴하였습니다.");
+        if (promotedUserId != null) {
+            notifications.add(notification(promotedUserId, pot.getTitle(), pot.getTitle() + " 대기가 끝나 참가가 확정되었습니다."));
+        }
+        saveAndSend(notifications);
+    }
+
+    /**
+     * 빈 자리만큼 대기열 앞 사용자부터 참가자로 승격하고 승격한 사용자 ID 목록 반환
+     * 정원이 늘었거나 좌석 카운터가 DB와 어긋나 빈 자리가 남았는데 대기자가 있는 경우 호출한다.
+     * 빈 자리 확인은 좌석 카운터가 아닌 조건부 UPDATE로 하고, 승격이 있으면 커밋 후 좌석 카운터를 DB 값으로 다시 채운다.
+     *
+     * @param potId 대기열을 처리할 팟 ID
+     * @return 승격된 사용자 ID 목록 (대기 순서)
+     * @throws RuntimeException 팟을 찾을 수 없는 경우
+     */
+    @Transactional
+    public List<String> fillWaitlist(Long potId) {
+        List<String> promotedUserIds = new ArrayList<>();
+        while (potWaitlistQueue.head(potId) != null && potRepository.updateCurrentParticipants(potId, 1) == 1) {
+            String promotedUserId = promoteWaitlist(potId);
+            if (promotedUserId == null) {
+                // 사본에 남은 대기자가 모두 이미 승격/취소된 경우 늘린 인원을 되돌린다.
+                potRepository.updateCurrentParticipants(potId, -1);
+                break;
+            }
+            promotedUserIds.add(promotedUserId);
+        }
+        if (promotedUserIds.isEmpty()) {
+            return promotedUserIds;
+        }
+
+        Pot pot = potRepository.findById(potId)
+                .orElseThrow(() -> new RuntimeException("팟을 찾을 수 없습니다."));
+        potSeatAdmission.invalidate(potId);
+        publishParticipantsChanged(pot, promotedUserIds.size());
+
+        List<Notification> notifications = new ArrayList<>(promotedUserIds.size());
+        for (String promotedUserId : promotedUserIds) {
+            notifications.add(notification(promotedUserId, pot.getTitle(), pot.getTitle() + " 대기가 끝나 참가가 확정되었습니다."));
+        }
+        saveAndSend(notifications);
+        return promotedUserIds;
+    }
+
+    /**
+     * 대기자가 있는 팟에 참가 요청하면 빈 자리가 있어도 대기자를 앞지르지 않는다.
+     * 좌석 카운터에 빈 자리가 보이면(정원 증가, 카운터 재적재) 대기열 앞 사용자부터 채우고,
+     * 대기자가 모두 승격되고도 자리가 남으면 바로 참가한다. 그 외에는 대기열 맨 뒤에 등록한다.
+     */
+    private PotParticipantDto.JoinResult joinBehindWaitlist(PotParticipantDto.Request request) {
+        Long potId = request.getPotId();
+        if (potSeatAdmission.hasAvailableSeat(potId)) {
+            fillWaitlist(potId);
+            if (potWaitlistQueue.head(potId) == null && potRepository.updateCurrentParticipants(potId, 1) == 1) {
+                // 좌석 카운터를 거치지 않고 참가 인원이 바뀌었으므로 커밋 후 DB 값으로 다시 채운다.
+                potSeatAdmission.invalidate(potId);
+                return join(request);
+            }
+        }
+        potSeatAdmission.recordRejection();
+        return addWaitlist(potId, request.getUserId());
+    }
+
+    // 늘린 참가 인원에 맞춰 참가자 등록, 참가 인원 변경 이벤트와 참가 알림 발행
+    private PotParticipantDto.JoinResult join(PotParticipantDto.Request request) {
+        String userId = request.getUserId();
+        Long potId = request.getPotId();
+
+        Pot pot = potRepository.findById(potId)
+            .orElseThrow(() -> new RuntimeException("팟을 찾을 수 없습니다."));
+
+        userRepository.findByUserId(userId)
+            .orElseThrow(() -> new RuntimeException("사용자를 찾을 수 없습니다."));
+
+        if (potParticipantRepository.existsPotParticipant(potId, userId)) {
+            throw new RuntimeException("이미 참가한 팟입니다.");
+        }
+
+        PotParticipant participant = request.toEntity();
+        potParticipantRepository.save(participant);
+        potMembershipCache.invalidate(userId);
+        publishParticipantsChanged(pot, 1);
+
+        List<PotParticipant> participants = potParticipantRepository.findByPotId(potId);
+        saveAndSend(buildNotifications(participants, pot.getTitle(), pot.getTitle() + " 에 " + request.getNotificationMessage()));
+        return PotParticipantDto.JoinResult.builder()
+                .potId(potId)
+                .userId(userId)
+                .build();
+    }
+
+    // 정원이 찼거나 대기자가 있는 팟의 대기열 맨 뒤에 등록
+    private PotParticipantDto.JoinResult addWaitlist(Long potId, String userId) {
+        userRepository.findByUserId(userId)
+            .orElseThrow(() -> new RuntimeException("사용자를 찾을 수 없습니다."));
+
+        if (potParticipantRepository.existsPotParticipant(potId, userId)) {
+            throw new RuntimeException("이미 참가한 팟입니다.");
+        }
+
+        int position = potWaitlistQueue.add(potId, userId);
+        if (position == 0) {
+            throw new RuntimeException("이미 대기 중인 팟입니다.");
+        }
+        potWaitlistRepository.save(PotWaitlist.builder()
+                .potId(potId)
+                .userId(userId)
+                .build());
+
+        return PotParticipantDto.JoinResult.builder()
+                .potId(potId)
+                .userId(userId)
+                .waitlisted(true)
+                .waitlistPosition(position)
+                .build();
+    }
+
+    /**
+     * 대기열 맨 앞 사용자를 참가자로 승격하고 사용자 ID 반환, 대기자가 없으면 null
+     * 동시에 탈퇴한 다른 트랜잭션과 같은 사용자를 고르면 대기 행 삭제가 한 쪽에서만 1건이 되므로,
+     * 0건이면 이미 승격/취소된 사용자로 보고 사본에서 지운 뒤 다음 사용자를 시도한다.
+     * 사본에는 커밋된 대기 행만 담기므로 커밋 전의 대기자를 0건으로 보고 지우는 일은 없다.
+     */
+    private String promoteWaitlist(Long potId) {
+        for (String userId = potWaitlistQueue.head(potId); userId != null; userId = potWaitlistQueue.head(potId)) {
+            if (potWaitlistRepository.deleteByPotIdAndUserId(potId, userId) == 1) {
+                potWaitlistQueue.remove(potId, userId);
+                potParticipantRepository.save(PotParticipant.builder()
+                        .potId(potId)
+                        .userId(userId)
+                        .build());
+                potMembershipCache.invalidate(userId);
+                return userId;
+            }
+            potWaitlistQueue.discard(potId, userId);
+        }
+        return null;
+    }
 
-        potRepository.updateCurrentParticipants(potId, -1);
-
-        List<Notification> notifications = new ArrayList<>();
-        for (PotParticipant notificationSubject : participants) {
-            Notification notification = Notification.builder()
-                    .userId(notificationSubject.getUserId())
-                    .title(pot.getTitle()) // 팟 제목 저장
-                    .message(pot.getTitle() + " 에 "+ userId + " 님이 탈퇴하였습니다.")
-                    .isRead(false)
-                    .build();
-            notifications.add(notificationRepository.save(notification));
-
-            // 알림을 JSON 형태로 변환 (예시)
-            String data = "{\"id\":\"" + notification.getId() + "\","
-                    + "\"type\":\"notification\","
-                    + "\"title\":\"" + notification.getTitle() + "\","
-                    + "\"message\":\"" + notification.getMessage() + "\","
-                    + "\"createdAt\":\"" + notification.getCreatedAt() + "\","
-                    + "\"read\":" + notification.isRead() + "}";
-            notificationService.send(notification.getUserId(), data);
+    private List<Notification> buildNotifications(List<PotParticipant> participants, String title, String message) {
+        List<Notification> notifications = new ArrayList<>(participants.size() + 1);
+        for (PotParticipant participant : participants) {
+            notifications.add(notification(participant.getUserId(), title, message));
         }
+        return notifications;
+    }
+
+    private Notification notification(String userId, String title, String message) {
+        return Notification.builder()
+                .userId(userId)
+                .title(title) // 팟 제목 저장
+                .message(message)
+                .isRead(false)
+                .build();
+    }
+
+    /**
+     * 알림을 한 번에 저장하고 사용자별 SSE 전송을 outbox에 기록 (전송은 커밋 후 백그라운드에서 처리)
+     * 알림/outbox ID는 시퀀스에서 미리 할당(pooled)되므로 insert는 커밋 시 테이블별 JDBC 배치로 실행된다.
+     * 저장 전에 사용자별 알림 순번을 받으며, 순번 행 잠금은 이 트랜잭션이 끝날 때까지 유지된다.
+     */
+    private void saveAndSend(List<Notification> notifications) {
+        notificationSeqService.assign(notifications);
+        notificationRepository.saveAll(notifications);
+        notificationOutboxService.appendSse(notifications);
+    }
+
+    // 참가 인원 변경을 팟 변경 이벤트로 알려 근처 팟 타일 캐시 등이 해당 팟을 갱신하도록 한다.
+    private void publishParticipantsChanged(Pot pot, int count) {
+        PotDto.Response before = PotDto.Response.from(pot);
+        PotDto.Response after = before.toBuilder()
+                .currentParticipants(before.getCurrentParticipants() + count)
+                .build();
+        eventPublisher.publishEvent(PotChangedEvent.updated(before, after));
     }
 
-}
\ No newline at end of file
+}
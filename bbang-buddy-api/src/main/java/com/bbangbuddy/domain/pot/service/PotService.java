@@ -1,28 +1,48 @@
 package com.bbangbuddy.domain.pot.service;
 
-import com.bbangbuddy.domain.notification.service.TelegramService;
+import com.bbangbuddy.domain.notification.service.NotificationOutboxService;
+import com.bbangbuddy.domain.pot.cache.PotChangeLog;
+import com.bbangbuddy.domain.pot.cache.PotMembershipCache;
+import com.bbangbuddy.domain.pot.cache.PotTileCache;
 import com.bbangbuddy.domain.pot.domain.Pot;
 import com.bbangbuddy.domain.pot.domain.PotParticipant;
+import com.bbangbuddy.domain.pot.dto.PotCoordinate;
 import com.bbangbuddy.domain.pot.dto.PotDto;
+import com.bbangbuddy.domain.pot.dto.PotProjection;
+import com.bbangbuddy.domain.pot.event.PotChangedEvent;
+import com.bbangbuddy.domain.pot.index.PotClusterIndex;
+import com.bbangbuddy.domain.pot.index.PotSearchIndex;
+import com.bbangbuddy.domain.pot.index.PotSpatialIndex;
+import com.bbangbuddy.domain.pot.index.PotSuggestIndex;
 import com.bbangbuddy.domain.pot.repository.PotParticipantRepository;
 import com.bbangbuddy.domain.pot.repository.PotRepository;
 import com.bbangbuddy.domain.pot.repository.PotRepositorySupport;
+import com.bbangbuddy.domain.pot.repository.PotWaitlistRepository;
 import com.bbangbuddy.domain.user.domain.User;
 import com.bbangbuddy.domain.user.repository.UserRepository;
 import com.bbangbuddy.global.util.FileService;
+import com.bbangbuddy.global.util.StringUtils;
 import lombok.RequiredArgsConstructor;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.http.MediaType;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 import org.springframework.web.multipart.MultipartFile;
 import org.springframework.web.reactive.function.BodyInserters;
 import org.springframework.web.reactive.function.client.WebClient;
 import java.io.IOException;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
 import java.util.HashMap;
+import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
+import java.util.function.Consumer;
 import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 /**
  * @PackageName : com.bbangbuddy.domain.pot.service
@@ -36,68 +56,310 @@ import java.util.stream.Collectors;
 @Transactional(readOnly = true)
 public class PotService {
 
+    // 근처 팟 거리순 조회 시 한 페이지 최대 건수
+    private static final int MAX_NEARBY_PAGE_SIZE = 100;
+    private static final int MAX_SEARCH_PAGE_SIZE = 100;
+    // 목록 조회는 스트리밍으로 응답하므로 페이지를 크게 허용
+    private static final int MAX_LIST_PAGE_SIZE = 1000;
+
     private final PotRepository potRepository;
     private final PotParticipantRepository potParticipantRepository;
     private final UserRepository userRepository;
     private final FileService fileService;
     private final PotRepositorySupport potRepositorySupport;
-    private final TelegramService telegramService;
+    private final NotificationOutboxService notificationOutboxService;
+    private final PotSpatialIndex potSpatialIndex;
+    private final PotClusterIndex potClusterIndex;
+    private final PotTileCache potTileCache;
+    private final PotSearchIndex potSearchIndex;
+    private final PotSuggestIndex potSuggestIndex;
+    private final ApplicationEventPublisher eventPublisher;
+    private final PotChangeLog potChangeLog;
+    private final PotMembershipCache potMembershipCache;
+    private final PotWaitlistRepository potWaitlistRepository;
+    private final PotParticipantService potParticipantService;
+
+    // 인덱스 미적재 시 바운딩 박스 선필터 쿼리 사용 여부 (false면 기존 전체 거리 계산 쿼리)
+    @Value("${pot.nearby.bounding-box.enabled:true}")
+    private boolean boundingBoxEnabled;
+
+    /**
+     * 팟 목록 변경 버전 조회
+     * 팟이 생성/수정/삭제되거나 참가 인원이 바뀔 때마다 달라지며, 목록 API의 ETag로 사용한다.
+     * DB를 사용하지 않으므로 트랜잭션 없이 실행한다.
+     */
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public String getChangeWatermark() {
+        return potChangeLog.getWatermark();
+    }
+
+    /**
+     * since 이후 생성/수정/삭제된 팟 조회 (삭제는 tombstone)
+     */
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public PotDto.Changes getPotChanges(String since) {
+        return potChangeLog.changesSince(since);
+    }
 
     /**
-     * 팟 목록 조회
+     * 팟 목록 ID 순 페이지 조회
+     * 조회한 팟을 목록으로 모으지 않고 한 건씩 consumer로 넘기므로 페이지 크기와 관계없이 메모리 사용량이 일정하다.
+     * 다음 페이지 여부 확인을 위해 한 건 더 조회하며, 그 한 건은 consumer로 넘기지 않는다.
      *
-     * @return 조회된 팟 목록
+     * @param status 마감일 기준 필터 (전체/진행 중/마감)
+     * @param includeDescription 설명(CLOB) 포함 여부
+     * @param lastId 이전 페이지 마지막 팟의 ID (첫 페이지면 null)
+     * @return 다음 페이지 존재 여부
      */
-    public List<Pot> getAllPots() {
-        return potRepository.findAll();
+    public boolean streamPotPage(PotDto.Status status, boolean includeDescription, Long lastId, int limit,
+                                 Consumer<PotDto.Response> consumer) {
+        int pageSize = Math.max(1, Math.min(limit, MAX_LIST_PAGE_SIZE));
+        try (Stream<PotDto.Response> pots = potRepositorySupport.streamPots(
+                status, includeDescription, LocalDateTime.now(), lastId, pageSize + 1)) {
+            Iterator<PotDto.Response> iterator = pots.iterator();
+            for (int count = 0; iterator.hasNext(); count++) {
+                PotDto.Response pot = iterator.next();
+                if (count == pageSize) {
+                    return true;
+                }
+                consumer.accept(pot);
+            }
+        }
+        return false;
     }
 
     /**
      * 검색 조건을 가진 팟 목록 조회
+     * 검색 인덱스가 적재된 경우 n-gram 색인으로 후보 팟을 찾고 해당 행만 조회해 관련도 순으로 정렬한다.
      *
      * @return 조회된 팟 목록
      */
     public List<PotDto.Response> searchPots(String keyword) {
-        PotDto.Search search = PotDto.Search.builder()
-                .title(keyword)
-                .description(keyword)
-                .address(keyword)
+        String term = searchTerm(keyword);
+        if (potSearchIndex.isReady() && term != null) {
+            return searchPotsFromIndex(term);
+        }
+        return potRepositorySupport.findBySearchCondition(searchCondition(term));
+    }
+
+    /**
+     * 검색 조건 키셋 페이지 조회
+     * 정렬 기준(마감일 또는 ID) 순서로 커서 다음의 limit건을 조회하며, 전체 건수는 세지 않고 한 건 더 조회해 다음 페이지 여부만 판단한다.
+     *
+     * @param sort 정렬 기준 (-dueDate, +dueDate, -id, +id, 기본 -dueDate)
+     * @return 팟 목록과 다음 페이지 커서
+     */
+    public PotDto.SearchPage getSearchPotPage(String keyword, String sort, int limit,
+                                              LocalDateTime lastDueDate, Long lastId) {
+        int pageSize = Math.max(1, Math.min(limit, MAX_SEARCH_PAGE_SIZE));
+        List<PotDto.Response> content = potRepositorySupport.findPageBySearchCondition(
+                searchCondition(searchTerm(keyword)), sort, lastDueDate, lastId, pageSize + 1);
+
+        boolean hasNext = content.size() > pageSize;
+        if (hasNext) {
+            content = content.subList(0, pageSize);
+        }
+        PotDto.Response last = content.isEmpty() ? null : content.get(content.size() - 1);
+        return PotDto.SearchPage.builder()
+                .content(content)
+                .hasNext(hasNext)
+                .nextDueDate(hasNext ? last.getDueDate() : null)
+                .nextId(hasNext ? last.getId() : null)
+                .build();
+    }
+
+    // 검색어는 항상 부분 일치로 검색하므로 입력된 %는 무시하고, 빈 검색어는 null(전체 조회)
+    private String searchTerm(String keyword) {
+        String term = keyword == null ? null : keyword.replace("%", "");
+        return StringUtils.isBlank(term) || term.equalsIgnoreCase("null") ? null : term;
+    }
+
+    private PotDto.Search searchCondition(String term) {
+        String pattern = term != null ? "%" + term + "%" : null;
+        return PotDto.Search.builder()
+                .title(pattern)
+                .description(pattern)
+                .address(pattern)
                 .build();
+    }
+
+    /**
+     * 검색어 자동완성
+     * 팟 제목/주소 중 입력한 접두어로 시작하는 추천어를 많이 쓰인 순으로 조회한다.
+     * 인덱스가 적재되지 않았으면 빈 목록을 반환한다.
+     */
+    public List<String> suggestPots(String prefix, int limit) {
+        if (!potSuggestIndex.isReady()) {
+            return new ArrayList<>();
+        }
+        return potSuggestIndex.suggest(prefix, Math.max(1, Math.min(limit, PotSuggestIndex.MAX_SUGGESTIONS)));
+    }
+
+    /**
+     * 자동완성 인덱스 메모리 사용량 조회
+     */
+    public PotSuggestIndex.Stats getSuggestStats() {
+        return potSuggestIndex.stats();
+    }
 
-        return potRepositorySupport.findBySearchCondition(search);
+    private List<PotDto.Response> searchPotsFromIndex(String keyword) {
+        List<Long> candidateIds = potSearchIndex.findCandidateIds(keyword);
+        if (candidateIds.isEmpty()) {
+            return new ArrayList<>();
+        }
+        return potRepository.findAllById(candidateIds).stream()
+                .map(pot -> PotDto.Response.from(pot).toBuilder()
+                        .score(PotSearchIndex.score(keyword, pot.getTitle(), pot.getDescription(), pot.getAddress()))
+                        .build())
+                // n-gram은 모두 포함하지만 검색어가 연속으로 나오지 않는 팟 제외
+                .filter(response -> response.getScore() > 0)
+                .sorted(Comparator.comparing(PotDto.Response::getScore).reversed()
+                        .thenComparing(PotDto.Response::getDueDate, Comparator.reverseOrder()))
+                .collect(Collectors.toList());
     }
 
     /**
      * 근처 팟 목록 조회
+     * 공간 인덱스가 적재된 경우 인덱스에서 팟 ID를 찾고 DB에서는 해당 행만 조회한다.
+     * 인덱스가 준비되지 않았으면 위경도 바운딩 박스로 먼저 거른 뒤 정확한 거리를 계산한다.
+     * 타일 캐시가 켜져 있으면 반경을 덮는 geohash 타일의 캐시 결과를 먼저 사용한다.
      */
     public List<PotDto.Response> getNearPotList(double latitude, double longitude, int distance) {
-        // TODO: 거리 계산 로직 구현 필요
-        // 예: Haversine 공식을 사용하여 현재 위치와의 거리 계산
-        return potRepository.findNearbyPots(latitude, longitude, distance).stream()
+        if (potTileCache.isEnabled()) {
+            List<PotDto.Response> cached = potTileCache.findNearby(latitude, longitude, distance);
+            if (cached != null) {
+                return cached;
+            }
+        }
+        if (potSpatialIndex.isReady()) {
+            List<Long> potIds = potSpatialIndex.findNearbyIds(latitude, longitude, distance);
+            return potIds.isEmpty() ? new ArrayList<>() : potRepository.findAllById(potIds).stream()
+                    .map(PotDto.Response::from)
+                    .collect(Collectors.toList());
+        }
+        List<PotProjection> nearbyPots = boundingBoxEnabled
+                ? potRepository.findNearbyPotsInBoundingBox(latitude, longitude, distance)
+                : potRepository.findNearbyPots(latitude, longitude, distance);
+        return nearbyPots.stream()
                 .map(PotDto.Response::from)
                 .collect(Collectors.toList());
     }
 
     /**
-     * userId로 팟 조회
+     * 근처 팟 타일 캐시 적중/실패 통계 조회
+     */
+    public PotTileCache.Stats getNearPotCacheStats() {
+        return potTileCache.stats();
+    }
+
+    /**
+     * 근처 팟 거리순 페이지 조회
+     * 거리 -> ID 오름차순으로 정렬하고 (lastDistance, lastId) 커서 이후의 팟을 limit건 조회한다.
+     * 거리는 한 번만 계산해 응답의 distance에 담는다.
      *
-     * @param userId  조회할 팟 ID 목록
-     * @return 조회된 팟 목록
+     * @param lastDistance 이전 페이지 마지막 팟의 거리 (첫 페이지면 null)
+     * @param lastId 이전 페이지 마지막 팟의 ID (첫 페이지면 null)
+     * @return 거리순 팟 목록과 다음 페이지 커서
      */
-    public List<PotDto.Response> getMyPotList(String userId) {
-        // 1. 먼저 유저가 참여한 모든 팟 참여 정보를 조회
-        List<PotParticipant> participations = potParticipantRepository.findByUserId(userId);
+    public PotDto.NearbyPage getNearPotPage(double latitude, double longitude, int distance,
+                                            int limit, Double lastDistance, Long lastId) {
+        int pageSize = Math.max(1, Math.min(limit, MAX_NEARBY_PAGE_SIZE));
+        double afterDistance = lastDistance != null ? lastDistance : -1;
+        long afterId = lastId != null ? lastId : Long.MIN_VALUE;
 
-        // 2. 참여 정보에서 팟 ID들을 추출
-        List<Long> potIds = participations.stream()//컬렉션을 스트림으로 변환하는 메서드, 데이터의 흐름을 만들고 순차적 처리 하게 함
-                .map(PotParticipant::getPotId)//스트림 요소를 다른 형태로 변환한다. 메서드 레퍼런스를 이용해 입력요소를 원하는 요소로 변환한다.
-                .collect(Collectors.toList());//스트림의 결과를 원하는 자료구조로 변환하는 최종 연산 toSet이나 toMap 등을 사용하여 변환도 가능
+        // 다음 페이지 존재 여부 확인을 위해 한 건 더 조회
+        List<PotDto.Response> content = potSpatialIndex.isReady()
+                ? findNearestFromIndex(latitude, longitude, distance, afterDistance, afterId, pageSize + 1)
+                : potRepository.findNearestPots(latitude, longitude, distance, afterDistance, afterId, pageSize + 1)
+                        .stream()
+                        .map(projection -> PotDto.Response.from(projection).toBuilder()
+                                .distance(projection.getDistance())
+                                .build())
+                        .collect(Collectors.toList());
+
+        boolean hasNext = content.size() > pageSize;
+        if (hasNext) {
+            content = content.subList(0, pageSize);
+        }
+        PotDto.Response last = content.isEmpty() ? null : content.get(content.size() - 1);
+        return PotDto.NearbyPage.builder()
+                .content(content)
+                .hasNext(hasNext)
+                .nextDistance(hasNext ? last.getDistance() : null)
+                .nextId(hasNext ? last.getId() : null)
+                .build();
+    }
 
-        // 3. 해당 팟들의 정보를 조회
-        return potRepository.findAllById(potIds)
+    // 공간 인덱스에서 거리순 팟 ID를 찾고, 해당 행만 조회해 인덱스 순서대로 응답을 만든다.
+    private List<PotDto.Response> findNearestFromIndex(double latitude, double longitude, int distance,
+                                                       double afterDistance, long afterId, int limit) {
+        List<PotSpatialIndex.Neighbor> neighbors =
+                potSpatialIndex.findNearest(latitude, longitude, distance, afterDistance, afterId, limit);
+        if (neighbors.isEmpty()) {
+            return new ArrayList<>();
+        }
+        Map<Long, Pot> pots = potRepository.findAllById(neighbors.stream()
+                        .map(PotSpatialIndex.Neighbor::getId)
+                        .collect(Collectors.toList()))
                 .stream()
-                .map(PotDto.Response::from)
-                .collect(Collectors.toList());
+                .collect(Collectors.toMap(Pot::getId, pot -> pot));
+
+        List<PotDto.Response> content = new ArrayList<>();
+        for (PotSpatialIndex.Neighbor neighbor : neighbors) {
+            Pot pot = pots.get(neighbor.getId());
+            // 인덱스 반영 전에 삭제된 팟은 건너뛴다.
+            if (pot != null) {
+                content.add(PotDto.Response.from(pot).toBuilder()
+                        .distance(neighbor.getDistance())
+                        .build());
+            }
+        }
+        return content;
+    }
+
+    /**
+     * 지도 뷰포트의 줌 레벨별 팟 클러스터 조회
+     * 팟 마커를 모두 내려주지 않고 격자별 개수, 중심 좌표, 대표 팟 ID만 반환한다.
+     *
+     * @param zoom 지도 줌 레벨 (PotClusterIndex.MIN_ZOOM ~ MAX_ZOOM 범위로 보정)
+     * @return 격자별 클러스터 목록
+     */
+    public List<PotDto.Cluster> getPotClusters(double minLatitude, double maxLatitude,
+                                               double minLongitude, double maxLongitude, int zoom) {
+        if (minLatitude > maxLatitude) {
+            throw new IllegalArgumentException("최소 위도는 최대 위도보다 클 수 없습니다.");
+        }
+        if (potClusterIndex.isReady()) {
+            return potClusterIndex.findClusters(minLatitude, maxLatitude, minLongitude, maxLongitude, zoom);
+        }
+        // 인덱스 미적재 시 뷰포트 안의 좌표만 조회해 같은 격자 기준으로 집계
+        List<PotCoordinate> coordinates = new ArrayList<>();
+        if (minLongitude > maxLongitude) {
+            coordinates.addAll(potRepository.findCoordinatesInBoundingBox(minLatitude, maxLatitude, minLongitude, 180));
+            coordinates.addAll(potRepository.findCoordinatesInBoundingBox(minLatitude, maxLatitude, -180, maxLongitude));
+        } else {
+            coordinates.addAll(potRepository.findCoordinatesInBoundingBox(minLatitude, maxLatitude, minLongitude, maxLongitude));
+        }
+        return PotClusterIndex.aggregate(coordinates, zoom);
+    }
+
+    /**
+     * userId로 팟 조회
+     * 참가 팟 ID가 캐시에 있으면 팟 PK로, 없으면 참가 테이블 조인으로 한 번만 조회하고 참가 팟 ID를 캐시에 넣는다.
+     *
+     * @param userId  조회할 사용자 ID
+     * @return 조회된 팟 목록 (마감일 내림차순)
+     */
+    public List<PotDto.Response> getMyPotList(String userId) {
+        long[] potIds = potMembershipCache.get(userId);
+        if (potIds != null) {
+            return potIds.length == 0 ? new ArrayList<>() : potRepositorySupport.findByIds(potIds);
+        }
+
+        long stamp = potMembershipCache.stamp();
+        List<PotDto.Response> pots = potRepositorySupport.findByParticipantUserId(userId);
+        potMembershipCache.put(userId, pots.stream().mapToLong(PotDto.Response::getId).toArray(), stamp);
+        return pots;
     }
 
     /**
@@ -160,13 +422,16 @@ public class PotService {
                 .userId(user.getUserId())
                 .build();
         potParticipantRepository.save(participant);
+        potMembershipCache.invalidate(user.getUserId());
 
-        telegramService.sendTelegramMessage("새로운 팟이 생성되었습니다: " + upsert.getTitle());
+        eventPublisher.publishEvent(PotChangedEvent.created(PotDto.Response.from(savedPot)));
+        notificationOutboxService.appendTelegram("새로운 팟이 생성되었습니다: " + upsert.getTitle());
         return savedPot.getId();
     }
 
     /**
      * 기존 팟 업데이트
+     * 정원이 늘었으면 같은 트랜잭션에서 늘어난 자리만큼 대기자를 승격한다.
      *
      * @param upsert 수정할 팟 정보
      * @return 수정된 팟의 ID
@@ -176,8 +441,16 @@ public class PotService {
         Pot pot = potRepository.findById(upsert.getId())
                 .orElseThrow(() -> new RuntimeException("팟을 찾을 수 없습니다."));
 
+        PotDto.Response before = PotDto.Response.from(pot);
         pot.updateFromDto(upsert);
-        return potRepository.save(pot).getId();
+        Pot savedPot = potRepository.save(pot);
+
+        eventPublisher.publishEvent(PotChangedEvent.updated(before, PotDto.Response.from(savedPot)));
+        if (before.getMaxParticipants() != null && savedPot.getMaxParticipants() != null
+                && savedPot.getMaxParticipants() > before.getMaxParticipants()) {
+            potParticipantService.fillWaitlist(savedPot.getId());
+        }
+        return savedPot.getId();
     }
 
     /**
@@ -209,16 +482,19 @@ public class PotService {
     }
 
     /**
-     * 팟 삭제
+     * 팟 삭제 (남은 대기 행도 함께 삭제)
      *
      * @param id 삭제할 팟 ID
      * @throws RuntimeException 팟을 찾을 수 없는 경우
      */
     @Transactional
     public void deletePot(Long id) {
-        potRepository.findById(id)
+        Pot pot = potRepository.findById(id)
                 .orElseThrow(() ->  new RuntimeException("팟을 찾을 수 없습니다."));
+        potWaitlistRepository.deleteByPotId(id);
         potRepository.deleteById(id);
+
+        eventPublisher.publishEvent(PotChangedEvent.deleted(PotDto.Response.from(pot)));
     }
 
 }
\ No newline at end of file
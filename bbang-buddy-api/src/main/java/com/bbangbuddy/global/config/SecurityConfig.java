@@ -2,6 +2,7 @@ package com.bbangbuddy.global.config;
 
 import com.bbangbuddy.domain.auth.jwt.JwtAuthenticationFilter;
 import com.bbangbuddy.domain.auth.jwt.JwtUtil;
+import com.bbangbuddy.global.util.IdempotencyStore;
 import lombok.RequiredArgsConstructor;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
@@ -50,7 +51,7 @@ public class SecurityConfig {
                 .sessionManagement(session -> session
                         .sessionCreationPolicy(SessionCreationPolicy.STATELESS))
                 .authorizeHttpRequests(auth -> auth
-                        .antMatchers("/api/auth/**", "/api/pot/near", "/api/pot", "/api/pot/search","/h2-console/**").permitAll()//허용하고자 하는 url SecurityConfig 내 permitAll추가 및 shouldNotFilter 설정 할 것
+                        .antMatchers("/api/auth/**", "/api/pot/near", "/api/pot/near/page", "/api/pot/changes", "/api/pot/cluster", "/api/pot", "/api/pot/search", "/api/pot/search/page", "/api/pot/suggest","/h2-console/**").permitAll()//허용하고자 하는 url SecurityConfig 내 permitAll추가 및 shouldNotFilter 설정 할 것
                         .requestMatchers(new AntPathRequestMatcher("/api/user/**", "DELETE")).authenticated()
                         .anyRequest().authenticated()
                 )
@@ -73,7 +74,8 @@ public class SecurityConfig {
                 , "https://bbangbuddy.com"
         )); // 허용할 출처 설정
         configuration.setAllowedMethods(Arrays.asList("GET", "POST", "PUT", "DELETE", "OPTIONS"));
-        configuration.setAllowedHeaders(Arrays.asList("Authorization", "Content-Type"));
+        configuration.setAllowedHeaders(Arrays.asList("Authorization", "Content-Type", IdempotencyStore.HEADER, "Last-Event-ID"));
+        configuration.setExposedHeaders(Arrays.asList(IdempotencyStore.REPLAYED_HEADER));
         configuration.setAllowCredentials(true);
 
         UrlBasedCorsConfigurationSource source = new UrlBasedCorsConfigurationSource();
@@ -1,17 +1,22 @@
 package com.bbangbuddy.global.util;
 
 import com.querydsl.core.BooleanBuilder;
+import com.querydsl.core.SimpleQuery;
 import com.querydsl.core.types.Path;
 import com.querydsl.core.types.Predicate;
+import com.querydsl.core.types.dsl.Param;
 import lombok.Getter;
 import lombok.EqualsAndHashCode;
+import lombok.RequiredArgsConstructor;
 import lombok.ToString;
+import lombok.Value;
 import lombok.extern.slf4j.Slf4j;
 import java.lang.reflect.Field;
-import java.util.Arrays;
-import java.util.HashMap;
+import java.lang.reflect.Modifier;
+import java.util.ArrayList;
 import java.util.List;
-import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
 import java.util.stream.Collectors;
 
 /**
@@ -20,80 +25,174 @@ import java.util.stream.Collectors;
  * @Author : hjsim
  * @Date : 2025-06-10
  * @Description : dto를 이용해 predicate를 만들고 여러 조건들을 한번에 생성하는 팩토리 클래스
+ *                값이 있는 필드와 연산자 조합별로 바인딩 파라미터 템플릿을 재사용해 요청마다 같은 JPQL을 만든다.
  */
 @Slf4j
-@Getter
 @ToString
 @EqualsAndHashCode
 public class ConditionFactory {
 
-    private final List<Predicate> predicates;
+    // 조건 조합 키는 필드당 2비트(없음/LIKE 계열/EQUAL)로 만든다.
+    private static final int MAX_CONDITION_FIELDS = Long.SIZE / 2;
+    private static final int LIKE_SLOT = 1;
+    private static final int EQUAL_SLOT = 2;
 
-    private ConditionFactory(List<Predicate> predicates) {
-        this.predicates = predicates;
+    // (dto 클래스, 엔티티 경로)별 필드 실행 계획, 요청마다 리플렉션으로 필드를 다시 찾지 않도록 보관
+    private static final ConcurrentMap<PlanKey, Plan> PLANS = new ConcurrentHashMap<>();
+
+    private final Template template;
+    // 템플릿 파라미터 순서대로 바인딩할 값 (조건이 없는 필드는 null)
+    private final Object[] values;
+
+    private ConditionFactory(Template template, Object[] values) {
+        this.template = template;
+        this.values = values;
     }
 
     public static ConditionFactory of(Path<?> entityPath, Object dto) {
-        return new ConditionFactory(createPredicateList(entityPath, dto));
+        PlanKey planKey = new PlanKey(dto.getClass(), entityPath.getClass(), entityPath.getMetadata().getName());
+        Plan plan = PLANS.get(planKey);
+        if (plan == null) {
+            plan = PLANS.computeIfAbsent(planKey, key -> compile(entityPath, key.getDtoClass()));
+        }
+        return plan.apply(dto);
     }
 
-    // dto의 필드와 값을 이용하여 Predicate 리스트를 생성
-    private static List<Predicate> createPredicateList(Path<?> entityPath, Object dto) {
-        Field [] fields = dto.getClass().getDeclaredFields();
-        Map<String, Object> dtoMap = convertUsingReflection(dto, fields);
-        return Arrays.stream(fields)
-            .map((field) -> field.isAnnotationPresent(QFileVariable.class)
-                ? makeFileVariableQueryExpression(entityPath, field, dtoMap.get(field.getName()))
-                : getQueryExpression(entityPath, field.getName(), dtoMap.get(field.getName())))
-            .collect(Collectors.toList());
+    // dto 클래스의 필드별 접근자와 엔티티 경로를 한 번만 찾아 실행 계획으로 만든다.
+    private static Plan compile(Path<?> entityPath, Class<?> dtoClass) {
+        List<FieldCondition> fields = new ArrayList<>();
+        for (Field field : dtoClass.getDeclaredFields()) {
+            if (field.isSynthetic() || Modifier.isStatic(field.getModifiers())) {
+                continue;
+            }
+            field.setAccessible(true);
+            QueryPathBuilder queryPathBuilder = field.isAnnotationPresent(QFileVariable.class)
+                    ? makeFileVariablePathBuilder(entityPath, field)
+                    : QueryPathBuilder.of(entityPath, field.getName());
+            if (queryPathBuilder != null) {
+                fields.add(new FieldCondition(field, queryPathBuilder));
+            }
+        }
+        if (fields.size() > MAX_CONDITION_FIELDS) {
+            throw new IllegalArgumentException("검색 조건 필드는 " + MAX_CONDITION_FIELDS + "개까지 사용할 수 있습니다. : " + dtoClass.getName());
+        }
+        return new Plan(fields.toArray(new FieldCondition[0]));
     }
 
-    // QFileVariable 어노테이션이 붙은 필드에 대한 동적 쿼리 조건 생성
-    private static Predicate makeFileVariableQueryExpression(Path<?> entityPath, Field field, Object value) {
-        QFileVariable qFileVariable = (QFileVariable)field.getAnnotation(QFileVariable.class);
+    // QFileVariable 어노테이션이 붙은 필드에 대한 엔티티 경로 조회
+    private static QueryPathBuilder makeFileVariablePathBuilder(Path<?> entityPath, Field field) {
+        QFileVariable qFileVariable = field.getAnnotation(QFileVariable.class);
         String fieldName = StringUtils.isBlank(qFileVariable.field()) ? field.getName() : qFileVariable.field();
         if (!qFileVariable.qClassName().equalsIgnoreCase(entityPath.getMetadata().getName())) {
             log.debug("QFileVariable variable name '{}' does not match the entityPath metadata name '{}'.", qFileVariable.qClassName(), entityPath.getMetadata().getName());
             return null;
         } else {
-            return qFileVariable.exclusion() ? null : getQueryExpression(entityPath, fieldName, value);
+            return qFileVariable.exclusion() ? null : QueryPathBuilder.of(entityPath, fieldName);
         }
     }
 
-    // 필드 이름과 값에 따라 쿼리 표현식을 생성 pot, title(, description, address), "신전떡볶이"
-    private static Predicate getQueryExpression(Path<?> entityPath, String field, Object value) {
+    // 필드 값을 검색 파라미터 문자열로 변환 (목록은 콤마로 연결)
+    private static String toParameter(Object value) {
         if (value instanceof List && !((List)value).isEmpty()) {
             List<?> listValue = (List)value;
-            String joinParam = (String)listValue.stream().map(Object::toString).collect(Collectors.joining(","));
-            return QueryUtils.getQueryExpression(entityPath, field, joinParam);
+            return listValue.stream().map(Object::toString).collect(Collectors.joining(","));
         } else {
-            return QueryUtils.getQueryExpression(entityPath, field, String.valueOf(value));
+            return String.valueOf(value);
         }
     }
 
-    // 리플렉션을 이용해서 객체의 필드와 값을 Map으로 변환
-    private static Map<String, Object> convertUsingReflection(Object object, Field[] fields) {
-        Map<String, Object> map = new HashMap();
+    // 조건 템플릿 Predicate 반환 (조건이 없으면 빈 배열), 실행 전에 bind로 파라미터 값을 넣어야 한다.
+    public Predicate[] getPredicateArray() {
+        return template.getPredicate() != null ? new Predicate[]{template.getPredicate()} : new Predicate[0];
+    }
 
-        try {
-            for(Field field : fields) {
-                field.setAccessible(true);
-                map.put(field.getName(), field.get(object));
+    // 템플릿의 파라미터에 이번 요청의 값을 바인딩
+    @SuppressWarnings("unchecked")
+    public void bind(SimpleQuery<?> query) {
+        Param<?>[] params = template.getParams();
+        for (int i = 0; i < params.length; i++) {
+            if (params[i] != null) {
+                query.set((Param<Object>) params[i], values[i]);
             }
-        } catch (IllegalAccessException e) {
-            log.error("{}", e.getMessage(), e);
         }
+    }
 
-        return map;
+    // 실행 계획 캐시 키 (dto 클래스, 엔티티 경로)
+    @Value
+    private static class PlanKey {
+        Class<?> dtoClass;
+        Class<?> entityPathClass;
+        String entityPathName;
     }
 
-    // Predicate 타입을 지정하고 List를 배열로 변환후 반환
-    public Predicate[] getPredicateArray() {
-        BooleanBuilder builder = new BooleanBuilder();
-        for (Predicate predicate : predicates) {
-            builder.or(predicate);
+    // dto 클래스 하나에 대한 실행 계획, 값이 있는 필드와 연산자 조합별로 조건 템플릿을 한 번만 만든다.
+    private static class Plan {
+        private final FieldCondition[] fields;
+        private final ConcurrentMap<Long, Template> templates = new ConcurrentHashMap<>();
+
+        private Plan(FieldCondition[] fields) {
+            this.fields = fields;
+        }
+
+        private ConditionFactory apply(Object dto) {
+            QueryOperator[] operators = new QueryOperator[fields.length];
+            Object[] values = new Object[fields.length];
+            long shape = 0;
+            for (int i = 0; i < fields.length; i++) {
+                String parameter = fields[i].read(dto);
+                if (QueryUtils.validateParameter(parameter)) {
+                    continue;
+                }
+                operators[i] = QueryOperator.findOperator(parameter);
+                values[i] = fields[i].queryPathBuilder.bindValue(operators[i], parameter.replace("%", ""));
+                // LIKE, 접두/접미 LIKE는 바인딩 값의 % 위치만 다르므로 같은 템플릿을 쓴다.
+                shape |= (long) (operators[i] == QueryOperator.EQUAL ? EQUAL_SLOT : LIKE_SLOT) << (i * 2);
+            }
+            Template template = templates.get(shape);
+            if (template == null) {
+                template = templates.computeIfAbsent(shape, key -> buildTemplate(operators));
+            }
+            return new ConditionFactory(template, values);
         }
-        return builder.getValue() != null ? new Predicate[]{builder.getValue()} : new Predicate[0];
+
+        // 값이 있는 필드마다 바인딩 파라미터를 두고 OR로 묶은 조건 생성
+        private Template buildTemplate(QueryOperator[] operators) {
+            BooleanBuilder builder = new BooleanBuilder();
+            Param<?>[] params = new Param<?>[fields.length];
+            for (int i = 0; i < fields.length; i++) {
+                if (operators[i] == null) {
+                    continue;
+                }
+                QueryPathBuilder queryPathBuilder = fields[i].queryPathBuilder;
+                params[i] = new Param<>(queryPathBuilder.bindType(operators[i]), fields[i].field.getName());
+                builder.or(queryPathBuilder.expression(operators[i], params[i]));
+            }
+            return new Template(builder.getValue(), params);
+        }
+    }
+
+    // dto 필드 하나와 대응하는 엔티티 경로
+    @RequiredArgsConstructor
+    private static class FieldCondition {
+        private final Field field;
+        private final QueryPathBuilder queryPathBuilder;
+
+        private String read(Object dto) {
+            try {
+                return toParameter(field.get(dto));
+            } catch (IllegalAccessException e) {
+                log.error("{}", e.getMessage(), e);
+                return null;
+            }
+        }
+    }
+
+    // 파라미터 자리만 남겨둔 조건, 같은 조합의 요청은 같은 Predicate를 공유해 같은 JPQL이 만들어진다.
+    @Getter
+    @RequiredArgsConstructor
+    private static class Template {
+        private final Predicate predicate;
+        private final Param<?>[] params;
     }
 
 }
@@ -0,0 +1,130 @@
+package com.bbangbuddy.global.util;
+
+import lombok.AccessLevel;
+import lombok.NoArgsConstructor;
+
+/**
+ * @PackageName : com.bbangbuddy.global.util
+ * @FileName : GeoUtils
+ * @Author : hjsim
+ * @Date : 2026-10-18
+ * @Description : 위경도 좌표 간 거리 계산 및 바운딩 박스 계산을 처리하는 유틸리티 클래스
+ */
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+public class GeoUtils {
+
+    // PotRepository.findNearbyPots 네이티브 쿼리와 동일한 지구 반지름(km)
+    public static final double EARTH_RADIUS_KM = 6371;
+
+    // 위도 1도당 거리(km)
+    public static final double KM_PER_DEGREE = EARTH_RADIUS_KM * Math.PI / 180;
+
+    /**
+     * 두 좌표 간의 거리(km)를 구면 코사인 법칙으로 계산
+     * 네이티브 쿼리의 ACOS(COS * COS * COS + SIN * SIN) 식과 같은 결과를 내도록 동일한 식을 사용한다.
+     */
+    public static double distanceKm(double latitude1, double longitude1, double latitude2, double longitude2) {
+        double lat1 = Math.toRadians(latitude1);
+        double lat2 = Math.toRadians(latitude2);
+        double cosine = Math.cos(lat1) * Math.cos(lat2) * Math.cos(Math.toRadians(longitude2) - Math.toRadians(longitude1))
+                + Math.sin(lat1) * Math.sin(lat2);
+        // 같은 좌표일 때 부동소수점 오차로 1을 넘으면 ACOS가 NaN이 되므로 범위를 보정
+        return EARTH_RADIUS_KM * Math.acos(Math.max(-1, Math.min(1, cosine)));
+    }
+
+    // 중심 좌표에서 distanceKm 만큼 떨어진 위도 범위(도)
+    public static double latitudeDelta(double distanceKm) {
+        return distanceKm / KM_PER_DEGREE;
+    }
+
+    // 중심 위도에서 distanceKm 만큼 떨어진 경도 범위(도), 극지방처럼 계산이 무의미한 경우 180을 반환
+    public static double longitudeDelta(double latitude, double distanceKm) {
+        double maxLatitude = Math.min(90, Math.abs(latitude) + latitudeDelta(distanceKm));
+        double cosine = Math.cos(Math.toRadians(maxLatitude));
+        if (cosine <= 0) {
+            return 180;
+        }
+        return Math.min(180, distanceKm / (KM_PER_DEGREE * cosine));
+    }
+
+    private static final String GEOHASH_BASE32 = "0123456789bcdefghjkmnpqrstuvwxyz";
+
+    /**
+     * 좌표의 geohash 계산 (경도/위도 비트를 번갈아 5비트씩 base32 문자로 변환)
+     * 같은 접두어를 가진 좌표는 같은 사각형 영역에 속한다.
+     */
+    public static String geohash(double latitude, double longitude, int precision) {
+        double minLat = -90, maxLat = 90, minLng = -180, maxLng = 180;
+        StringBuilder hash = new StringBuilder(precision);
+        boolean even = true;
+        int bit = 0;
+        int ch = 0;
+        while (hash.length() < precision) {
+            if (even) {
+                double mid = (minLng + maxLng) / 2;
+                if (longitude >= mid) {
+                    ch = (ch << 1) | 1;
+                    minLng = mid;
+                } else {
+                    ch <<= 1;
+                    maxLng = mid;
+                }
+            } else {
+                double mid = (minLat + maxLat) / 2;
+                if (latitude >= mid) {
+                    ch = (ch << 1) | 1;
+                    minLat = mid;
+                } else {
+                    ch <<= 1;
+                    maxLat = mid;
+                }
+            }
+            even = !even;
+            if (++bit == 5) {
+                hash.append(GEOHASH_BASE32.charAt(ch));
+                bit = 0;
+                ch = 0;
+            }
+        }
+        return hash.toString();
+    }
+
+    // geohash 영역의 {최소 위도, 최대 위도, 최소 경도, 최대 경도}
+    public static double[] geohashBounds(String geohash) {
+        double minLat = -90, maxLat = 90, minLng = -180, maxLng = 180;
+        boolean even = true;
+        for (int i = 0; i < geohash.length(); i++) {
+            int value = GEOHASH_BASE32.indexOf(geohash.charAt(i));
+            for (int mask = 16; mask > 0; mask >>= 1) {
+                if (even) {
+                    double mid = (minLng + maxLng) / 2;
+                    if ((value & mask) != 0) {
+                        minLng = mid;
+                    } else {
+                        maxLng = mid;
+                    }
+                } else {
+                    double mid = (minLat + maxLat) / 2;
+                    if ((value & mask) != 0) {
+                        minLat = mid;
+                    } else {
+                        maxLat = mid;
+                    }
+                }
+                even = !even;
+            }
+        }
+        return new double[]{minLat, maxLat, minLng, maxLng};
+    }
+
+    // precision 자리 geohash 한 칸의 위도 높이(도)
+    public static double geohashLatitudeSize(int precision) {
+        return 180.0 / (1L << (5 * precision / 2));
+    }
+
+    // precision 자리 geohash 한 칸의 경도 너비(도)
+    public static double geohashLongitudeSize(int precision) {
+        return 360.0 / (1L << ((5 * precision + 1) / 2));
+    }
+
+}
@@ -0,0 +1,102 @@
+package com.bbangbuddy.global.util;
+
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.ResponseEntity;
+import org.springframework.stereotype.Component;
+
+import javax.servlet.http.HttpServletRequest;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+/**
+ * @PackageName : com.bbangbuddy.global.util
+ * @FileName : IdempotencyStore
+ * @Author : hjsim
+ * @Date : 2026-10-18
+ * @Description : Idempotency-Key 헤더로 같은 요청의 재시도를 한 번만 처리하는 키 저장소
+ *                (사용자, 메서드, 경로, 키)가 같은 요청은 처음 요청의 응답을 그대로 돌려주며 서비스/DB를 다시 호출하지 않는다.
+ *                처리 중에 같은 키로 들어온 요청은 처음 요청이 끝날 때까지 기다렸다가 같은 응답(또는 같은 예외)을 받는다.
+ *                처리 중 예외가 나면 키를 지워 이후 재시도는 새로 처리한다. 키는 최대 개수와 보관 시간으로 제한한다.
+ */
+@Component
+public class IdempotencyStore {
+
+    public static final String HEADER = "Idempotency-Key";
+    public static final String REPLAYED_HEADER = "Idempotent-Replayed";
+
+    private static final int MAX_KEY_LENGTH = 255;
+
+    private final Cache<String, CompletableFuture<ResponseEntity<Object>>> responses;
+
+    public IdempotencyStore(@Value("${idempotency.max-keys:100000}") long maxKeys,
+                            @Value("${idempotency.ttl-seconds:86400}") long ttlSeconds) {
+        this.responses = CacheBuilder.newBuilder()
+                .maximumSize(maxKeys)
+                .expireAfterWrite(ttlSeconds, TimeUnit.SECONDS)
+                .build();
+    }
+
+    /**
+     * 키가 없으면 action을 그대로 실행하고, 처음 보는 키면 실행 결과를 저장, 이미 처리한 키면 저장된 응답을 돌려준다.
+     *
+     * @param idempotencyKey Idempotency-Key 헤더 값 (없으면 null)
+     * @throws IllegalArgumentException 키가 너무 긴 경우
+     */
+    public ResponseEntity<Object> execute(String idempotencyKey, Supplier<ResponseEntity<Object>> action) {
+        if (StringUtils.isBlank(idempotencyKey)) {
+            return action.get();
+        }
+        if (idempotencyKey.length() > MAX_KEY_LENGTH) {
+            throw new IllegalArgumentException(HEADER + "는 " + MAX_KEY_LENGTH + "자 이하여야 합니다.");
+        }
+
+        String cacheKey = scope() + idempotencyKey;
+        CompletableFuture<ResponseEntity<Object>> created = new CompletableFuture<>();
+        CompletableFuture<ResponseEntity<Object>> existing = responses.asMap().putIfAbsent(cacheKey, created);
+        if (existing != null) {
+            return replay(existing);
+        }
+
+        try {
+            ResponseEntity<Object> response = action.get();
+            created.complete(response);
+            return response;
+        } catch (RuntimeException e) {
+            responses.asMap().remove(cacheKey, created);
+            created.completeExceptionally(e);
+            throw e;
+        }
+    }
+
+    public long size() {
+        return responses.size();
+    }
+
+    // 처음 요청의 응답에 재사용 표시 헤더를 붙여 반환, 처음 요청이 실패했으면 같은 예외
+    private ResponseEntity<Object> replay(CompletableFuture<ResponseEntity<Object>> original) {
+        ResponseEntity<Object> response;
+        try {
+            response = original.join();
+        } catch (CompletionException e) {
+            throw e.getCause() instanceof RuntimeException ? (RuntimeException) e.getCause() : e;
+        }
+        return ResponseEntity.status(response.getStatusCode())
+                .headers(response.getHeaders())
+                .header(REPLAYED_HEADER, "true")
+                .body(response.getBody());
+    }
+
+    // 다른 사용자나 다른 API가 같은 키를 써도 섞이지 않도록 사용자, 메서드, 경로를 키 앞에 붙인다.
+    private String scope() {
+        HttpServletRequest request = ApplicationContextUtils.getRequest();
+        if (request == null) {
+            return "";
+        }
+        return ApplicationContextUtils.getUserId() + " " + request.getMethod() + " " + request.getRequestURI() + " ";
+    }
+
+}
@@ -1,6 +1,5 @@
 package com.bbangbuddy.global.util;
 
-import java.util.Arrays;
 import java.util.regex.Pattern;
 import lombok.Getter;
 import lombok.extern.slf4j.Slf4j;
@@ -21,6 +20,8 @@ public enum QueryOperator {
     LIKE_END_WITH(" like '%%%s' ", Pattern.compile("^%[^%]*$")),
     EQUAL(" = '%s' ", null);
 
+    private static final QueryOperator[] OPERATORS = values();
+
     private final String expression;
     private final Pattern pattern;  // 필드명 변경
 
@@ -30,10 +31,13 @@ public enum QueryOperator {
     }
 
     public static QueryOperator findOperator(String input) {
-        return Arrays.stream(values())
-                .filter(op -> op.pattern != null && op.pattern.matcher(input).find())
-                .findFirst()
-                .orElse(EQUAL);
+        // 검색 요청마다 호출되므로 스트림 대신 상수 배열을 순회
+        for (QueryOperator op : OPERATORS) {
+            if (op.pattern != null && op.pattern.matcher(input).find()) {
+                return op;
+            }
+        }
+        return EQUAL;
     }
 
 }
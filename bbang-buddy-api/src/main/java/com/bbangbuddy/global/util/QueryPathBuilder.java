@@ -1,14 +1,21 @@
 package com.bbangbuddy.global.util;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.querydsl.core.types.Expression;
 import com.querydsl.core.types.Path;
 import com.querydsl.core.types.Predicate;
+import com.querydsl.core.types.dsl.Expressions;
 import com.querydsl.core.types.dsl.PathBuilder;
 import lombok.Getter;
+import lombok.Value;
 import lombok.extern.slf4j.Slf4j;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.util.Arrays;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.function.Function;
 
 /**
  * @PackageName : com.bbangbuddy.global.util
@@ -21,16 +28,36 @@ import java.util.Arrays;
 @Getter
 public class QueryPathBuilder {
 
+    // 문자열 -> 필드 타입 변환용, 설정을 바꾸지 않으므로 모든 요청이 공유한다.
+    private static final ObjectMapper OBJECT_MAPPER = new ObjectMapper();
+    // (엔티티 경로, 필드명)별 QueryPathBuilder, 엔티티에 없는 필드는 빈 Optional로 보관
+    private static final ConcurrentMap<PathKey, Optional<QueryPathBuilder>> CACHE = new ConcurrentHashMap<>();
+
     private final PathBuilder<?> builder;
     private final QueryPath queryPath;
+    // 필드 경로는 요청마다 같으므로 생성 시점에 한 번만 만든다.
+    private final PathBuilder<Object> valuePath;
+    private final Function<Expression<String>, Predicate> likeExpression;
 
     private QueryPathBuilder(PathBuilder<?> builder, QueryPath queryPath) {
         this.builder = builder;
         this.queryPath = queryPath;
+        this.valuePath = builder.get(queryPath.getName());
+        this.likeExpression = makeLikeExpression(builder, queryPath);
     }
 
-    // QueryPathBuilder 객체 생성 및 필드 정보 초기화
+    // QueryPathBuilder 조회, 처음 요청된 (엔티티 경로, 필드명)만 필드 정보를 찾아 생성한다.
     public static QueryPathBuilder of(Path<?> entityPath, final String fieldName) {
+        PathKey key = new PathKey(entityPath.getClass(), entityPath.getMetadata().getName(), fieldName);
+        Optional<QueryPathBuilder> cached = CACHE.get(key);
+        if (cached == null) {
+            cached = CACHE.computeIfAbsent(key, k -> Optional.ofNullable(create(entityPath, fieldName)));
+        }
+        return cached.orElse(null);
+    }
+
+    // QueryPathBuilder 객체 생성 및 필드 정보 초기화
+    private static QueryPathBuilder create(Path<?> entityPath, final String fieldName) {
         try {
             //필드 타입 정보 조회
             QueryPath queryPath = getEntityFieldType(entityPath, fieldName);
@@ -64,36 +91,64 @@ public class QueryPathBuilder {
     }
 
     private Object parse(String valueStr) {
-        ObjectMapper objectMapper = new ObjectMapper();
         if (this.queryPath.getType().equals(LocalDateTime.class)) {
             return this.parseLocalDateTime(valueStr);
+        } else if (this.queryPath.getType().equals(LocalDate.class)) {
+            return this.parseLocalDate(valueStr);
         } else {
-            return this.queryPath.getType().equals(LocalDate.class) ? this.parseLocalDate(valueStr) : objectMapper.convertValue(valueStr, this.queryPath.getType());
+            return this.queryPath.getType().equals(String.class) ? valueStr : OBJECT_MAPPER.convertValue(valueStr, this.queryPath.getType());
         }
     }
 
-    private Predicate makeLikePredicate(String value) {
-        switch (this.queryPath.getType().getSimpleName()) {
+    private static Function<Expression<String>, Predicate> makeLikeExpression(PathBuilder<?> builder, QueryPath queryPath) {
+        switch (queryPath.getType().getSimpleName()) {
             case "Long":
-                return this.builder.getNumber(this.queryPath.getName(), Long.class).like(value);
+                return builder.getNumber(queryPath.getName(), Long.class)::like;
             case "Integer":
-                return this.builder.getNumber(this.queryPath.getName(), Integer.class).like(value);
+                return builder.getNumber(queryPath.getName(), Integer.class)::like;
             case "Double":
-                return this.builder.getNumber(this.queryPath.getName(), Double.class).like(value);
+                return builder.getNumber(queryPath.getName(), Double.class)::like;
             case "Float":
-                return this.builder.getNumber(this.queryPath.getName(), Float.class).like(value);
+                return builder.getNumber(queryPath.getName(), Float.class)::like;
             default:
-                return this.builder.getString(this.queryPath.getName()).like(value);
+                return builder.getString(queryPath.getName())::like;
         }
     }
 
     public Predicate equal(String valueStr) {
-        return this.builder.get(this.queryPath.getName()).eq(this.parse(valueStr));
+        return this.valuePath.eq(this.parse(valueStr));
     }
 
     public Predicate like(String valueStr) {
         String value = "%" + this.parse(valueStr) + "%";
-        return this.makeLikePredicate(value);
+        return this.likeExpression.apply(Expressions.constant(value));
+    }
+
+    // 연산자에 맞는 조건 생성 (값이 바인딩 파라미터이면 값과 관계없이 같은 JPQL이 만들어진다.)
+    @SuppressWarnings("unchecked")
+    public Predicate expression(QueryOperator operator, Expression<?> value) {
+        return operator == QueryOperator.EQUAL
+                ? this.valuePath.eq((Expression<Object>) value)
+                : this.likeExpression.apply((Expression<String>) value);
+    }
+
+    // 연산자에 맞게 바인딩할 값 변환, LIKE 계열은 % 위치를 붙인 문자열
+    public Object bindValue(QueryOperator operator, String valueStr) {
+        switch (operator) {
+            case LIKE_START_WITH:
+                return this.parse(valueStr) + "%";
+            case LIKE_END_WITH:
+                return "%" + this.parse(valueStr);
+            case LIKE:
+                return "%" + this.parse(valueStr) + "%";
+            default:
+                return this.parse(valueStr);
+        }
+    }
+
+    // 연산자별 바인딩 파라미터 타입
+    public Class<?> bindType(QueryOperator operator) {
+        return operator == QueryOperator.EQUAL ? this.queryPath.getType() : String.class;
     }
 
     private LocalDate parseLocalDate(String dateStr) {
@@ -132,5 +187,12 @@ public class QueryPathBuilder {
         }
     }
 
-}
+    // 캐시 키 (엔티티 경로 클래스, 경로 이름, 필드명)
+    @Value
+    private static class PathKey {
+        Class<?> entityPathClass;
+        String entityPathName;
+        String fieldName;
+    }
 
+}
@@ -3,7 +3,6 @@ package com.bbangbuddy.global.util;
 import com.querydsl.core.types.Order;
 import com.querydsl.core.types.OrderSpecifier;
 import com.querydsl.core.types.Path;
-import com.querydsl.core.types.Predicate;
 import com.querydsl.core.types.dsl.PathBuilder;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.data.domain.Sort;
@@ -16,7 +15,7 @@ import java.util.stream.Collectors;
  * @FileName : QueryUtils
  * @Author : hjsim
  * @Date : 2025-06-10
- * @Description :  QueryDSL을 이용하여 정렬, 조건식, 쿼리표현식을 처리하는 유틸리티 클래스
+ * @Description :  QueryDSL을 이용하여 정렬과 검색 파라미터를 처리하는 유틸리티 클래스
  */
 @Slf4j
 public class QueryUtils {
@@ -43,26 +42,6 @@ public class QueryUtils {
         return new OrderSpecifier(direction, orderByExpression.get(order.getProperty()));
     }
 
-    // 검색 조건 관련
-    public static Predicate getQueryExpression(Path<?> entityPath, final String fieldName, String parameter) {
-        if (validateParameter(entityPath, fieldName, parameter)) {
-            return null;
-        }
-        return makeExpression(entityPath, fieldName, parameter);
-    }
-
-    private static Predicate makeExpression(Path<?> entityPath, final String fieldName, String parameter) {
-        QueryPathBuilder queryPathBuilder = QueryPathBuilder.of(entityPath, fieldName);
-        if (queryPathBuilder == null) {
-            return null;
-        }
-
-        QueryOperator operator = QueryOperator.findOperator(parameter);
-        String cleanedParameter = parameter.replaceAll("%", "");
-
-        return queryPathBuilder.like(cleanedParameter);
-    }
-
     // 정렬 문자열 처리
     private static Sort makeSort(String sortString) {
         if (StringUtils.isBlank(sortString)) {
@@ -88,9 +67,8 @@ public class QueryUtils {
                 (sortStr.startsWith(SORT_DESC_SPECIAL_CHAR) || sortStr.startsWith(SORT_ASC_SPECIAL_CHAR));
     }
 
-    private static boolean validateParameter(Path<?> entityPath, final String fieldName, String parameter) {
-        return entityPath == null ||
-                StringUtils.isBlank(parameter) ||
+    public static boolean validateParameter(String parameter) {
+        return StringUtils.isBlank(parameter) ||
                 parameter.equalsIgnoreCase("null") ||
                 parameter.equals("[]");
     }
@@ -0,0 +1,23 @@
+-- 운영(Oracle) / 개발(H2, MODE=Oracle) 공통 마이그레이션
+-- 알림 ID는 노드마다 50개씩 미리 할당(pooled)해 커밋 순서와 다르므로, SSE 이벤트 id와 재연결 재전송 기준으로 쓸 사용자별 알림 순번을 추가한다.
+-- 순번은 알림 저장 트랜잭션에서 NOTIFICATION_USER_SEQ 행을 갱신(잠금)해 매기므로 사용자별로 커밋 순서대로 빈틈없이 증가한다.
+-- 기존 알림은 (CREATED_AT, ID) 순으로 순번을 채우고, 알림을 저장하는 애플리케이션을 내린 상태에서 실행한다.
+CREATE TABLE NOTIFICATION_USER_SEQ (
+    USER_ID  VARCHAR2(50) PRIMARY KEY,
+    LAST_SEQ NUMBER(19) DEFAULT 0 NOT NULL
+);
+
+ALTER TABLE NOTIFICATION ADD SEQ NUMBER(19);
+
+MERGE INTO NOTIFICATION N
+USING (SELECT ID, ROW_NUMBER() OVER (PARTITION BY USER_ID ORDER BY CREATED_AT, ID) AS SEQ FROM NOTIFICATION) S
+ON (N.ID = S.ID)
+WHEN MATCHED THEN UPDATE SET N.SEQ = S.SEQ;
+
+INSERT INTO NOTIFICATION_USER_SEQ (USER_ID, LAST_SEQ)
+SELECT USER_ID, MAX(SEQ) FROM NOTIFICATION GROUP BY USER_ID;
+
+CREATE UNIQUE INDEX UK_NOTIFICATION_USER_SEQ ON NOTIFICATION (USER_ID, SEQ);
+
+-- 전송 대기 중인 SSE outbox는 순번 없이(NULL) 전송되고, 클라이언트는 다음 재연결에 순번 기준으로 이어 받는다.
+ALTER TABLE NOTIFICATION_OUTBOX ADD SEQ NUMBER(19);
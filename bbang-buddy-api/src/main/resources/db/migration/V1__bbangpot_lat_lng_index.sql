@@ -0,0 +1,4 @@
+-- 운영(Oracle) / 개발(H2, MODE=Oracle) 공통 마이그레이션
+-- 근처 팟 조회 시 위경도 바운딩 박스 조건(BETWEEN)이 인덱스 범위 스캔을 타도록 복합 인덱스 추가
+-- 박스 범위는 바인드 파라미터로 계산하므로 별도의 계산 컬럼 없이 LATITUDE, LONGITUDE 컬럼을 그대로 사용
+CREATE INDEX IDX_BBANGPOT_LAT_LNG ON BBANGPOT (LATITUDE, LONGITUDE);
@@ -0,0 +1,4 @@
+-- 운영(Oracle) / 개발(H2, MODE=Oracle) 공통 마이그레이션
+-- 검색 결과를 (마감일, ID) 키셋으로 페이지 조회할 때 정렬과 커서 조건이 인덱스 범위 스캔을 타도록 복합 인덱스 추가
+-- 인덱스 순서대로 읽다가 limit + 1건을 찾으면 멈추므로 LIKE 조건이 있어도 전체 정렬과 COUNT가 필요 없다.
+CREATE INDEX IDX_BBANGPOT_DUE_DATE_ID ON BBANGPOT (DUE_DATE, ID);
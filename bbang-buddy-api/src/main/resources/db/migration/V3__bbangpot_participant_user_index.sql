@@ -0,0 +1,4 @@
+-- 운영(Oracle) / 개발(H2, MODE=Oracle) 공통 마이그레이션
+-- 참가 테이블 PK는 (BBANGPOT_ID, BBD_USER_ID) 순서라 사용자 ID로 찾으면 전체 스캔이 되므로 사용자 ID 선두 인덱스 추가
+-- 팟 ID까지 포함해 내 팟 목록 조인 시 참가 테이블은 인덱스만 읽는다.
+CREATE INDEX IDX_BBANGPOT_PARTICIPANT_USER ON BBANGPOT_PARTICIPANT (BBD_USER_ID, BBANGPOT_ID);
@@ -0,0 +1,13 @@
+-- 운영(Oracle) / 개발(H2, MODE=Oracle) 공통 마이그레이션
+-- 정원이 찬 팟의 참가 대기열 테이블 추가, 팟별 ID 오름차순이 대기 순서이며 같은 팟에 같은 사용자는 한 번만 대기할 수 있다.
+-- 탈퇴 시 대기열 맨 앞 사용자를 (BBANGPOT_ID, ID) 인덱스로 찾아 같은 트랜잭션에서 참가자로 승격한다.
+CREATE TABLE BBANGPOT_WAITLIST
+(
+    ID          NUMBER(19) GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+    BBANGPOT_ID NUMBER(19)         NOT NULL,
+    BBD_USER_ID VARCHAR2(255 CHAR) NOT NULL,
+    CREATED_AT  TIMESTAMP(6),
+    CONSTRAINT UK_BBANGPOT_WAITLIST_POT_USER UNIQUE (BBANGPOT_ID, BBD_USER_ID)
+);
+
+CREATE INDEX IDX_BBANGPOT_WAITLIST_POT_ID ON BBANGPOT_WAITLIST (BBANGPOT_ID, ID);
@@ -0,0 +1,19 @@
+-- 운영(Oracle) 마이그레이션 (개발 H2는 매 기동 시 schema_origin.sql로 시퀀스를 새로 만들므로 해당 없음)
+-- 알림 ID를 IDENTITY에서 NOTIFICATION_SEQ 시퀀스(allocationSize 50, pooled)로 바꿔 알림 insert를 JDBC 배치로 묶는다.
+-- 애플리케이션은 시퀀스 값 v 하나로 ID (v-49 ~ v)를 쓰므로 증가 단위를 50으로 맞춘다.
+-- IDENTITY를 쓰는 동안 NOTIFICATION_SEQ는 사용되지 않아 기존 최대 ID보다 작으므로,
+-- 먼저 시퀀스를 기존 최대 ID 이상인 50의 배수로 올려 첫 pooled 할당 구간이 기존 ID와 겹치지 않게 한다.
+-- 알림을 저장하는 애플리케이션을 내린 상태에서 실행한다.
+DECLARE
+    V_TARGET  NUMBER;
+    V_CURRENT NUMBER;
+BEGIN
+    SELECT CEIL(NVL(MAX(ID), 0) / 50) * 50 INTO V_TARGET FROM NOTIFICATION;
+    SELECT NOTIFICATION_SEQ.NEXTVAL INTO V_CURRENT FROM DUAL;
+    IF V_CURRENT < V_TARGET THEN
+        EXECUTE IMMEDIATE 'ALTER SEQUENCE NOTIFICATION_SEQ INCREMENT BY ' || (V_TARGET - V_CURRENT);
+        SELECT NOTIFICATION_SEQ.NEXTVAL INTO V_CURRENT FROM DUAL;
+    END IF;
+    EXECUTE IMMEDIATE 'ALTER SEQUENCE NOTIFICATION_SEQ INCREMENT BY 50';
+END;
+/
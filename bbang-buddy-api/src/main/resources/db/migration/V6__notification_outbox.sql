@@ -0,0 +1,20 @@
+-- 운영(Oracle) / 개발(H2, MODE=Oracle) 공통 마이그레이션
+-- 알림 전송 대기(outbox) 테이블 추가, 참가/탈퇴 트랜잭션에서 알림과 같이 저장하고 커밋 후 NotificationOutboxDispatcher가 전송한다.
+-- 전송할 차례가 된 행은 (STATUS, NEXT_ATTEMPT_AT, ID) 인덱스로 찾고, ID는 알림처럼 시퀀스에서 50개씩 미리 할당(pooled)한다.
+CREATE SEQUENCE NOTIFICATION_OUTBOX_SEQ INCREMENT BY 50;
+
+CREATE TABLE NOTIFICATION_OUTBOX
+(
+    ID              NUMBER(19)          NOT NULL PRIMARY KEY,
+    CHANNEL         VARCHAR2(20 CHAR)   NOT NULL,
+    RECIPIENT       VARCHAR2(255 CHAR),
+    PAYLOAD         VARCHAR2(4000 CHAR) NOT NULL,
+    STATUS          VARCHAR2(20 CHAR)   NOT NULL,
+    ATTEMPTS        NUMBER(10) DEFAULT 0 NOT NULL,
+    NEXT_ATTEMPT_AT TIMESTAMP(6)        NOT NULL,
+    LAST_ERROR      VARCHAR2(500 CHAR),
+    CREATED_AT      TIMESTAMP(6)        NOT NULL,
+    PROCESSED_AT    TIMESTAMP(6)
+);
+
+CREATE INDEX IDX_NOTIFICATION_OUTBOX_STATUS ON NOTIFICATION_OUTBOX (STATUS, NEXT_ATTEMPT_AT, ID);
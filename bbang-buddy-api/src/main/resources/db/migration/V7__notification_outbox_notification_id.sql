@@ -0,0 +1,4 @@
+-- 운영(Oracle) / 개발(H2, MODE=Oracle) 공통 마이그레이션
+-- SSE 이벤트 id로 보낼 알림 ID 컬럼 추가, 재연결한 클라이언트가 Last-Event-ID로 놓친 알림을 이어 받는다.
+-- 텔레그램 등 알림 행이 없는 outbox는 NULL로 둔다.
+ALTER TABLE NOTIFICATION_OUTBOX ADD NOTIFICATION_ID NUMBER(19);
@@ -0,0 +1,16 @@
+-- 운영(Oracle) / 개발(H2, MODE=Oracle) 공통 마이그레이션
+-- 여러 노드가 outbox를 나눠 전송하도록 선점(CLAIMED_BY) 컬럼 추가, 선점한 행은 NEXT_ATTEMPT_AT을 임대 만료 시각으로 미뤄 둔다.
+-- 노드 간 알림 전달(NOTIFICATION_FANOUT) 테이블 추가, 각 노드가 ID 순으로 읽어 자기 노드에 연결된 사용자에게만 SSE로 전송한다.
+ALTER TABLE NOTIFICATION_OUTBOX ADD CLAIMED_BY VARCHAR2(100 CHAR);
+
+CREATE INDEX IDX_NOTIFICATION_OUTBOX_CLAIM ON NOTIFICATION_OUTBOX (CLAIMED_BY);
+
+CREATE SEQUENCE NOTIFICATION_FANOUT_SEQ;
+
+CREATE TABLE NOTIFICATION_FANOUT
+(
+    ID          NUMBER(19)         NOT NULL PRIMARY KEY,
+    ORIGIN_NODE VARCHAR2(100 CHAR) NOT NULL,
+    MESSAGES    CLOB               NOT NULL,
+    CREATED_AT  TIMESTAMP(6)       NOT NULL
+);
@@ -0,0 +1,4 @@
+-- 운영(Oracle) / 개발(H2, MODE=Oracle) 공통 마이그레이션
+-- 알림함을 (CREATED_AT DESC, ID DESC) 키셋으로 페이지 조회할 때 사용자 조건, 정렬, 커서 조건이 모두 인덱스 범위 스캔을 타도록 복합 인덱스 추가
+-- 안 읽은 알림 수를 캐시에 채울 때의 사용자별 집계도 이 인덱스로 사용자 범위만 읽는다.
+CREATE INDEX IDX_NOTIFICATION_USER_CREATED ON NOTIFICATION (USER_ID, CREATED_AT, ID);
@@ -1,6 +1,14 @@
 -- 테이블 삭제 (IF EXISTS 사용)
+DROP TABLE IF EXISTS NOTIFICATION_FANOUT CASCADE;
+^
+DROP TABLE IF EXISTS NOTIFICATION_USER_SEQ CASCADE;
+^
+DROP TABLE IF EXISTS NOTIFICATION_OUTBOX CASCADE;
+^
 DROP TABLE IF EXISTS NOTIFICATION CASCADE;
 ^
+DROP TABLE IF EXISTS BBANGPOT_WAITLIST CASCADE;
+^
 DROP TABLE IF EXISTS BBANGPOT_PARTICIPANT CASCADE;
 ^
 DROP TABLE IF EXISTS BBANGPOT CASCADE;
@@ -21,6 +29,10 @@ DROP SEQUENCE IF EXISTS BBANGPOT_SEQ;
 ^
 DROP SEQUENCE IF EXISTS NOTIFICATION_SEQ;
 ^
+DROP SEQUENCE IF EXISTS NOTIFICATION_OUTBOX_SEQ;
+^
+DROP SEQUENCE IF EXISTS NOTIFICATION_FANOUT_SEQ;
+^
 DROP SEQUENCE IF EXISTS BBANGPOT_PARTICIPANT_SEQ;
 ^
 -- 시퀀스 생성
@@ -32,7 +44,14 @@ CREATE SEQUENCE BBANGPOT_PARTICIPANT_SEQ
     ^
 CREATE SEQUENCE BBANGPOT_SEQ
     ^
-CREATE SEQUENCE NOTIFICATION_SEQ
+-- 알림 ID는 50개씩 미리 할당(pooled)하므로 증가 단위를 allocationSize와 맞춘다.
+CREATE SEQUENCE NOTIFICATION_SEQ INCREMENT BY 50
+    ^
+-- 알림 outbox ID도 알림과 같이 50개씩 미리 할당(pooled)한다.
+CREATE SEQUENCE NOTIFICATION_OUTBOX_SEQ INCREMENT BY 50
+    ^
+-- 노드 간 알림 전달 ID는 노드들이 순서대로 따라 읽으므로 하나씩 증가한다.
+CREATE SEQUENCE NOTIFICATION_FANOUT_SEQ
     ^
 
 CREATE TABLE ROLE (
@@ -68,6 +87,16 @@ create table BBANGPOT_PARTICIPANT
     primary key (BBANGPOT_ID, BBD_USER_ID)
 )
     ^
+-- 정원이 찬 팟의 참가 대기열 (팟별 ID 오름차순이 대기 순서)
+create table BBANGPOT_WAITLIST
+(
+    ID          BIGINT GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+    BBANGPOT_ID NUMBER(19)         not null,
+    BBD_USER_ID VARCHAR2(255 char) not null,
+    CREATED_AT  TIMESTAMP(6),
+    CONSTRAINT UK_BBANGPOT_WAITLIST_POT_USER UNIQUE (BBANGPOT_ID, BBD_USER_ID)
+)
+    ^
 CREATE TABLE BBANGPOT (
                           ID BIGINT GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
                           TITLE VARCHAR2(255) NOT NULL,
@@ -86,13 +115,69 @@ CREATE TABLE BBANGPOT (
                           UPDATED_AT TIMESTAMP DEFAULT CURRENT_TIMESTAMP
 )
 ^
+-- 근처 팟 조회 바운딩 박스 범위 검색용 인덱스
+CREATE INDEX IDX_BBANGPOT_LAT_LNG ON BBANGPOT (LATITUDE, LONGITUDE)
+^
+-- 검색 결과 마감일순 키셋 페이지 조회용 인덱스
+CREATE INDEX IDX_BBANGPOT_DUE_DATE_ID ON BBANGPOT (DUE_DATE, ID)
+^
+-- 내 팟 목록 조회(사용자 ID로 참가 팟 조인)용 인덱스
+CREATE INDEX IDX_BBANGPOT_PARTICIPANT_USER ON BBANGPOT_PARTICIPANT (BBD_USER_ID, BBANGPOT_ID)
+^
+-- 팟별 대기 순서 조회용 인덱스
+CREATE INDEX IDX_BBANGPOT_WAITLIST_POT_ID ON BBANGPOT_WAITLIST (BBANGPOT_ID, ID)
+^
 CREATE TABLE NOTIFICATION (
                               ID BIGINT GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
                               USER_ID VARCHAR(50) NOT NULL,
                               TITLE VARCHAR2(255) NOT NULL,
                               MESSAGE CLOB NOT NULL,
                               IS_READ NUMBER(1) DEFAULT 0,
+                              SEQ NUMBER(19),
                               CREATED_AT TIMESTAMP DEFAULT CURRENT_TIMESTAMP,
                               CONSTRAINT FK_NOTIFICATION_BBDUSER FOREIGN KEY (USER_ID) REFERENCES BBD_USER(USER_ID) ON DELETE CASCADE
 );
-^
\ No newline at end of file
+^
+-- 사용자별 알림함 키셋 페이지 조회(CREATED_AT DESC, ID DESC)용 인덱스
+CREATE INDEX IDX_NOTIFICATION_USER_CREATED ON NOTIFICATION (USER_ID, CREATED_AT, ID)
+^
+-- 사용자별 알림 순번, SSE 이벤트 id와 재연결 재전송 기준으로 쓴다.
+CREATE UNIQUE INDEX UK_NOTIFICATION_USER_SEQ ON NOTIFICATION (USER_ID, SEQ)
+^
+-- 사용자별 마지막 알림 순번, 알림 저장 트랜잭션에서 행을 갱신(잠금)하므로 순번이 커밋 순서대로 빈틈없이 증가한다.
+CREATE TABLE NOTIFICATION_USER_SEQ (
+                              USER_ID VARCHAR2(50) PRIMARY KEY,
+                              LAST_SEQ NUMBER(19) DEFAULT 0 NOT NULL
+)
+^
+-- 알림 전송 대기(outbox), 참가/탈퇴 트랜잭션에서 알림과 같이 저장하고 커밋 후 백그라운드에서 전송한다.
+CREATE TABLE NOTIFICATION_OUTBOX (
+                              ID BIGINT PRIMARY KEY,
+                              CHANNEL VARCHAR2(20) NOT NULL,
+                              RECIPIENT VARCHAR2(255),
+                              NOTIFICATION_ID BIGINT,
+                              SEQ NUMBER(19),
+                              PAYLOAD VARCHAR2(4000) NOT NULL,
+                              STATUS VARCHAR2(20) NOT NULL,
+                              ATTEMPTS NUMBER(10) DEFAULT 0 NOT NULL,
+                              NEXT_ATTEMPT_AT TIMESTAMP NOT NULL,
+                              LAST_ERROR VARCHAR2(500),
+                              CLAIMED_BY VARCHAR2(100),
+                              CREATED_AT TIMESTAMP DEFAULT CURRENT_TIMESTAMP NOT NULL,
+                              PROCESSED_AT TIMESTAMP
+)
+^
+-- 전송할 차례가 된 outbox 조회용 인덱스
+CREATE INDEX IDX_NOTIFICATION_OUTBOX_STATUS ON NOTIFICATION_OUTBOX (STATUS, NEXT_ATTEMPT_AT, ID)
+^
+-- 노드가 선점(claim)한 outbox 조회용 인덱스
+CREATE INDEX IDX_NOTIFICATION_OUTBOX_CLAIM ON NOTIFICATION_OUTBOX (CLAIMED_BY)
+^
+-- 노드 간 알림 전달, 한 노드의 전송 batch 하나를 행 하나로 저장하고 다른 노드들이 ID 순으로 읽어 자기 노드 연결로 전송한다.
+CREATE TABLE NOTIFICATION_FANOUT (
+                              ID BIGINT PRIMARY KEY,
+                              ORIGIN_NODE VARCHAR2(100) NOT NULL,
+                              MESSAGES CLOB NOT NULL,
+                              CREATED_AT TIMESTAMP DEFAULT CURRENT_TIMESTAMP NOT NULL
+)
+^
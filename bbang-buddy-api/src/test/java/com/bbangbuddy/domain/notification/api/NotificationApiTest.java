@@ -1,5 +1,7 @@
 package com.bbangbuddy.domain.notification.api;
 
+import com.bbangbuddy.domain.notification.dto.NotificationPageDto;
+import com.bbangbuddy.domain.notification.dto.NotificationReadRequestDto;
 import com.bbangbuddy.domain.notification.dto.NotificationRequestDto;
 import com.bbangbuddy.domain.notification.service.NotificationService;
 import com.fasterxml.jackson.databind.ObjectMapper;
@@ -15,6 +17,12 @@ import org.springframework.security.test.context.support.WithMockUser;
 import org.springframework.test.web.servlet.MockMvc;
 import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
+import java.time.LocalDateTime;
+import java.util.Arrays;
+import java.util.Collections;
+
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyLong;
 import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.BDDMockito.given;
 import static org.mockito.Mockito.*;
@@ -63,7 +71,7 @@ class NotificationApiTest {
         // Given
         String token = "Bearer jwt.test.token";
         SseEmitter mockEmitter = mock(SseEmitter.class);
-        given(notificationService.subscribe(token)).willReturn(mockEmitter);
+        given(notificationService.subscribe(token, null)).willReturn(mockEmitter);
 
         // When & Then
         mockMvc.perform(get("/api/notification/subscribe")
@@ -71,7 +79,60 @@ class NotificationApiTest {
                 .andDo(print())
                 .andExpect(status().isOk());
         
-        verify(notificationService, times(1)).subscribe(token);
+        verify(notificationService, times(1)).subscribe(token, null);
+    }
+
+    @Test
+    @DisplayName("SSE 재연결 Last-Event-ID 전달 테스트")
+    void subscribe_lastEventId() throws Exception {
+        // Given
+        String token = "Bearer jwt.test.token";
+        given(notificationService.subscribe(token, "41")).willReturn(mock(SseEmitter.class));
+
+        // When & Then
+        mockMvc.perform(get("/api/notification/subscribe")
+                        .param("token", token)
+                        .header("Last-Event-ID", "41"))
+                .andExpect(status().isOk());
+
+        verify(notificationService, times(1)).subscribe(token, "41");
+    }
+
+    @Test
+    @DisplayName("알림함 키셋 페이지 API 테스트")
+    void getNotificationPage_success() throws Exception {
+        // Given
+        String token = "Bearer jwt.test.token";
+        LocalDateTime lastCreatedAt = LocalDateTime.of(2026, 10, 18, 9, 30, 15, 123456000);
+        given(notificationService.getNotificationPage(token, 2, lastCreatedAt, 41L)).willReturn(NotificationPageDto.builder()
+                .content(Collections.emptyList())
+                .hasNext(false)
+                .build());
+
+        // When & Then
+        mockMvc.perform(get("/api/notification/page")
+                        .param("token", token)
+                        .param("limit", "2")
+                        .param("lastCreatedAt", "2026-10-18T09:30:15.123456")
+                        .param("lastId", "41"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.hasNext").value(false));
+
+        verify(notificationService, times(1)).getNotificationPage(token, 2, lastCreatedAt, 41L);
+    }
+
+    @Test
+    @DisplayName("안 읽은 알림 수 API 테스트")
+    void getUnreadCount_success() throws Exception {
+        // Given
+        String token = "Bearer jwt.test.token";
+        given(notificationService.getUnreadCount(token)).willReturn(7L);
+
+        // When & Then
+        mockMvc.perform(get("/api/notification/unread-count")
+                        .param("token", token))
+                .andExpect(status().isOk())
+                .andExpect(content().string("7"));
     }
 
     @Test
@@ -110,4 +171,69 @@ class NotificationApiTest {
         
         verify(notificationService, never()).send(anyString(), anyString());
     }
-} 
\ No newline at end of file
+
+    @Test
+    @DisplayName("순번 이하 알림 일괄 읽음 처리 API 테스트")
+    void markAllAsRead_success() throws Exception {
+        // Given
+        String token = "Bearer jwt.test.token";
+        given(notificationService.markAllAsRead(token, 42L)).willReturn(5);
+
+        // When & Then
+        mockMvc.perform(put("/api/notification/read-all")
+                        .param("token", token)
+                        .param("upToSeq", "42")
+                        .with(csrf()))
+                .andExpect(status().isOk())
+                .andExpect(content().string("5"));
+    }
+
+    @Test
+    @DisplayName("단건 알림 읽음 처리 API 테스트")
+    void markAsRead_single_success() throws Exception {
+        // When & Then - 토큰 없이 알림 하나만 읽음 처리
+        mockMvc.perform(put("/api/notification/read-all/42")
+                        .with(csrf()))
+                .andExpect(status().isOk());
+
+        verify(notificationService).markAsRead(42L);
+        verify(notificationService, never()).markAllAsRead(anyString(), anyLong());
+    }
+
+    @Test
+    @DisplayName("ID 목록 일괄 읽음 처리 API 테스트")
+    void markAsRead_ids_success() throws Exception {
+        // Given
+        String token = "Bearer jwt.test.token";
+        NotificationReadRequestDto request = new NotificationReadRequestDto();
+        request.setNotificationIds(Arrays.asList(1L, 2L, 3L));
+        given(notificationService.markAsRead(token, Arrays.asList(1L, 2L, 3L))).willReturn(3);
+
+        // When & Then
+        mockMvc.perform(put("/api/notification/read")
+                        .param("token", token)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(request))
+                        .with(csrf()))
+                .andExpect(status().isOk())
+                .andExpect(content().string("3"));
+    }
+
+    @Test
+    @DisplayName("ID 목록 일괄 읽음 처리 API 테스트 - 빈 목록")
+    void markAsRead_ids_validationFail() throws Exception {
+        // Given
+        NotificationReadRequestDto request = new NotificationReadRequestDto();
+        request.setNotificationIds(Collections.emptyList());
+
+        // When & Then
+        mockMvc.perform(put("/api/notification/read")
+                        .param("token", "Bearer jwt.test.token")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(request))
+                        .with(csrf()))
+                .andExpect(status().is4xxClientError());
+
+        verify(notificationService, never()).markAsRead(anyString(), anyList());
+    }
+}
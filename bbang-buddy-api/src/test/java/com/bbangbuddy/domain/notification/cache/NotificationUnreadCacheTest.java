@@ -0,0 +1,86 @@
+package com.bbangbuddy.domain.notification.cache;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.*;
+
+/**
+ * NotificationUnreadCache 단위 테스트
+ *
+ * 테스트 목적: 안 읽은 알림 수가 읽음 처리 시 감소하고 전송 시 순번 차이만큼 증가하며(이미 센 순번은 무시),
+ * 조회 중 변경이 있으면 읽은 값을 저장하지 않는지,
+ * 읽음 처리 도중 적재된 값은 빼지 않고 다시 세게 하는지 검증
+ */
+@DisplayName("NotificationUnreadCache 단위 테스트")
+class NotificationUnreadCacheTest {
+
+    @Test
+    @DisplayName("읽음 처리 시 감소 및 전송 시 순번으로 증가 테스트")
+    void decrementAndIncrement_success() {
+        // Given - DB에서 안 읽은 알림 5건, 마지막 순번 7 적재
+        NotificationUnreadCache cache = new NotificationUnreadCache(100, 60);
+        cache.put("jupiterUser", 5, 7, cache.stamp());
+
+        // When - 3건 읽음 처리 후 순번 9 알림 전송(순번 8은 전송 전), 재시도와 적재 때 센 순번 전송
+        cache.decrement("jupiterUser", 3, cache.beginChange());
+        long afterRead = cache.get("jupiterUser");
+        cache.increment("jupiterUser", 9);
+        long afterSend = cache.get("jupiterUser");
+        cache.increment("jupiterUser", 9);
+        cache.increment("jupiterUser", 8);
+        cache.increment("jupiterUser", 7);
+        cache.increment("marsUser", 1);
+
+        // Then - 순번 9 전송 때 8까지 세고, 이미 센 순번은 다시 세지 않으며 캐시에 없는 사용자는 그대로
+        assertThat(afterRead).isEqualTo(2);
+        assertThat(afterSend).isEqualTo(4);
+        assertThat(cache.get("jupiterUser")).isEqualTo(4);
+        assertThat(cache.get("marsUser")).isNull();
+    }
+
+    @Test
+    @DisplayName("순번 없는 변경 시 제거 테스트")
+    void invalidate_success() {
+        // Given
+        NotificationUnreadCache cache = new NotificationUnreadCache(100, 60);
+        cache.put("jupiterUser", 5, 7, cache.stamp());
+
+        // When - 전송 없이 알림 저장
+        cache.invalidate("jupiterUser");
+
+        // Then - 다음 조회 때 DB에서 다시 센다
+        assertThat(cache.get("jupiterUser")).isNull();
+    }
+
+    @Test
+    @DisplayName("조회 중 변경이 일어나면 읽은 값을 저장하지 않는 테스트")
+    void put_staleAfterChange() {
+        // Given - DB 조회 전에 stamp를 받은 뒤 전송 없이 알림 저장
+        NotificationUnreadCache cache = new NotificationUnreadCache(100, 60);
+        long stamp = cache.stamp();
+        cache.invalidate("jupiterUser");
+
+        // When
+        cache.put("jupiterUser", 0, 0, stamp);
+
+        // Then
+        assertThat(cache.get("jupiterUser")).isNull();
+    }
+
+    @Test
+    @DisplayName("읽음 처리 도중 적재된 값은 감소 대신 제거하는 테스트")
+    void decrement_loadedDuringUpdate() {
+        // Given - 읽음 처리 UPDATE 시작 후 다른 요청이 DB에서 적재 (UPDATE 반영 여부를 알 수 없음)
+        NotificationUnreadCache cache = new NotificationUnreadCache(100, 60);
+        long changeStamp = cache.beginChange();
+        cache.put("jupiterUser", 3, 3, cache.stamp());
+
+        // When - UPDATE로 3건이 읽음으로 바뀜
+        cache.decrement("jupiterUser", 3, changeStamp);
+
+        // Then - 두 번 빼지 않도록 다음 조회 때 DB에서 다시 센다
+        assertThat(cache.get("jupiterUser")).isNull();
+    }
+
+}
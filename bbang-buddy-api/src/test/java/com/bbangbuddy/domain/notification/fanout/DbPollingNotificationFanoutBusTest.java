@@ -0,0 +1,174 @@
+package com.bbangbuddy.domain.notification.fanout;
+
+import com.bbangbuddy.domain.notification.domain.NotificationFanout;
+import com.bbangbuddy.domain.notification.repository.NotificationFanoutRepository;
+import com.bbangbuddy.domain.notification.service.NotificationService;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.SpringBootConfiguration;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.autoconfigure.EnableAutoConfiguration;
+import org.springframework.boot.autoconfigure.domain.EntityScan;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.ComponentScan;
+import org.springframework.context.annotation.FilterType;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.jpa.repository.config.EnableJpaRepositories;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.AdditionalMatchers.aryEq;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+/**
+ * DbPollingNotificationFanoutBus 노드 간 전달 테스트
+ *
+ * 테스트 목적: 같은 DB(H2)를 쓰는 두 애플리케이션 컨텍스트(노드)를 띄워, 한 노드에서 publish한 알림이
+ * 다른 노드의 로컬 전송으로 한 번씩 전달되는지, 저장한 노드는 폴링으로 다시 보내지 않는지,
+ * 늦게 커밋된 행(건너뛴 ID)도 전달되는지 검증
+ * 각 노드의 NotificationService는 mock으로 두고 노드별 전송 호출을 확인한다.
+ */
+@DisplayName("DbPollingNotificationFanoutBus 노드 간 전달 테스트")
+class DbPollingNotificationFanoutBusTest {
+
+    private static ConfigurableApplicationContext nodeA;
+    private static ConfigurableApplicationContext nodeB;
+
+    @BeforeAll
+    static void startNodes() {
+        nodeA = startNode("node-a");
+        nodeB = startNode("node-b");
+    }
+
+    @AfterAll
+    static void stopNodes() {
+        nodeA.close();
+        nodeB.close();
+    }
+
+    @AfterEach
+    void tearDown() {
+        reset(notificationService(nodeA), notificationService(nodeB));
+    }
+
+    @Test
+    @DisplayName("다른 노드 연결로 알림 batch 전달 테스트")
+    void publish_crossNode() {
+        // Given
+        NotificationService serviceA = notificationService(nodeA);
+        NotificationService serviceB = notificationService(nodeB);
+        long receivedBefore = bus(nodeB).getReceivedCount();
+
+        // When - node-a 디스패처가 batch 하나를 publish
+        bus(nodeA).publish(Arrays.asList(
+                new NotificationFanoutMessage("jupiterUser", 1L, 1L, "알림1"),
+                new NotificationFanoutMessage("marsUser", 2L, 1L, "알림2")));
+
+        // Then - node-a는 바로, node-b는 폴링으로 한 번씩 전송
+        verify(serviceA).send(eq("jupiterUser"), eq(1L), eq(1L), aryEq(bytes("알림1")));
+        verify(serviceA).send(eq("marsUser"), eq(2L), eq(1L), aryEq(bytes("알림2")));
+        verify(serviceB, timeout(5_000)).send(eq("jupiterUser"), eq(1L), eq(1L), aryEq(bytes("알림1")));
+        verify(serviceB, timeout(5_000)).send(eq("marsUser"), eq(2L), eq(1L), aryEq(bytes("알림2")));
+        verify(serviceA, after(500).times(2)).send(anyString(), any(), any(), any(byte[].class));
+        verify(serviceB, times(2)).send(anyString(), any(), any(), any(byte[].class));
+        assertThat(bus(nodeB).getReceivedCount() - receivedBefore).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("늦게 커밋된 행 전달 테스트")
+    void publish_lateCommit() throws Exception {
+        // Given - node-a에서 먼저 ID를 받은 트랜잭션이 커밋을 미루는 동안
+        NotificationService serviceB = notificationService(nodeB);
+        CountDownLatch inserted = new CountDownLatch(1);
+        CountDownLatch commit = new CountDownLatch(1);
+        CompletableFuture<Void> slow = CompletableFuture.runAsync(() ->
+                new TransactionTemplate(nodeA.getBean(PlatformTransactionManager.class)).executeWithoutResult(status -> {
+                    nodeA.getBean(NotificationFanoutRepository.class).saveAndFlush(NotificationFanout.builder()
+                            .originNode("node-a")
+                            .messages("[{\"recipient\":\"jupiterUser\",\"notificationId\":3,\"seq\":1,\"payload\":\"알림3\"}]")
+                            .build());
+                    inserted.countDown();
+                    await(commit);
+                }));
+        assertThat(inserted.await(5, TimeUnit.SECONDS)).isTrue();
+
+        // When - 뒤 ID가 먼저 커밋되어 node-b가 읽은 뒤 앞 ID 커밋
+        bus(nodeA).publish(Collections.singletonList(new NotificationFanoutMessage("marsUser", 4L, 2L, "알림4")));
+        verify(serviceB, timeout(5_000)).send(eq("marsUser"), eq(4L), eq(2L), aryEq(bytes("알림4")));
+        commit.countDown();
+        slow.get(5, TimeUnit.SECONDS);
+
+        // Then - 건너뛴 ID도 gap-timeout 안에 전달
+        verify(serviceB, timeout(5_000)).send(eq("jupiterUser"), eq(3L), eq(1L), aryEq(bytes("알림3")));
+    }
+
+    private static ConfigurableApplicationContext startNode(String nodeId) {
+        return new SpringApplicationBuilder(FanoutNode.class)
+                .web(WebApplicationType.NONE)
+                .properties(
+                        "spring.datasource.url=jdbc:h2:mem:fanout;DB_CLOSE_DELAY=-1",
+                        "spring.datasource.username=sa",
+                        "spring.datasource.password=",
+                        "spring.jpa.hibernate.ddl-auto=update",
+                        "spring.sql.init.mode=never",
+                        "notification.fanout.mode=db",
+                        "notification.fanout.node-id=" + nodeId,
+                        "notification.fanout.poll-interval-ms=50",
+                        "notification.fanout.gap-timeout-ms=10000")
+                .run();
+    }
+
+    private static DbPollingNotificationFanoutBus bus(ConfigurableApplicationContext node) {
+        return node.getBean(DbPollingNotificationFanoutBus.class);
+    }
+
+    private static NotificationService notificationService(ConfigurableApplicationContext node) {
+        return node.getBean(NotificationService.class);
+    }
+
+    private static byte[] bytes(String data) {
+        return data.getBytes(StandardCharsets.UTF_8);
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException(e);
+        }
+    }
+
+    // 노드 간 버스와 저장소만 띄우는 노드 하나 (SSE 전송은 mock)
+    @SpringBootConfiguration
+    @EnableAutoConfiguration
+    @EntityScan(basePackageClasses = NotificationFanout.class)
+    @EnableJpaRepositories(basePackageClasses = NotificationFanoutRepository.class,
+            includeFilters = @ComponentScan.Filter(type = FilterType.ASSIGNABLE_TYPE, classes = NotificationFanoutRepository.class))
+    @Import(DbPollingNotificationFanoutBus.class)
+    static class FanoutNode {
+
+        @Bean
+        NotificationService notificationService() {
+            return mock(NotificationService.class);
+        }
+
+    }
+
+}
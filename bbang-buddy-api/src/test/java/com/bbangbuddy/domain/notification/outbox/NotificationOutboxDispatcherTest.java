@@ -0,0 +1,237 @@
+package com.bbangbuddy.domain.notification.outbox;
+
+import com.bbangbuddy.domain.notification.domain.Notification;
+import com.bbangbuddy.domain.notification.domain.NotificationOutbox;
+import com.bbangbuddy.domain.notification.fanout.LocalNotificationFanoutBus;
+import com.bbangbuddy.domain.notification.repository.NotificationOutboxRepository;
+import com.bbangbuddy.domain.notification.service.NotificationService;
+import com.bbangbuddy.domain.notification.service.TelegramService;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InOrder;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.AdditionalMatchers.aryEq;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.isNull;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.willAnswer;
+import static org.mockito.BDDMockito.willThrow;
+import static org.mockito.Mockito.*;
+
+/**
+ * NotificationOutboxDispatcher 테스트
+ *
+ * 테스트 목적: outbox batch를 SSE(노드 간 버스)/텔레그램으로 전송해 완료 처리하는지,
+ * 실패하거나 send-timeout을 넘긴 건은 재시도로 남기고 최대 시도 횟수를 넘으면 FAILED로 처리하는지,
+ * 다른 노드가 선점한 건은 전송하지 않는지 실제 DB(H2)로 검증
+ * 폴링 스레드는 끄고(enabled=false) dispatchBatch()를 직접 호출한다.
+ */
+@DataJpaTest(properties = {
+        "notification.outbox.enabled=false",
+        "notification.outbox.send-timeout-ms=300",
+        "notification.outbox.max-attempts=2",
+        "notification.outbox.retry-backoff-ms=0"
+})
+@ActiveProfiles("test")
+@Import({NotificationOutboxDispatcher.class, LocalNotificationFanoutBus.class})
+@Transactional(propagation = Propagation.NOT_SUPPORTED) // 디스패처가 자체 트랜잭션으로 완료 처리하므로 테스트 트랜잭션 미사용
+@DisplayName("NotificationOutboxDispatcher 테스트")
+class NotificationOutboxDispatcherTest {
+
+    @Autowired
+    private NotificationOutboxDispatcher notificationOutboxDispatcher;
+
+    @Autowired
+    private NotificationOutboxRepository notificationOutboxRepository;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @MockBean
+    private NotificationService notificationService;
+
+    @MockBean
+    private TelegramService telegramService;
+
+    private TransactionTemplate transactionTemplate;
+
+    @BeforeEach
+    void setUp() {
+        transactionTemplate = new TransactionTemplate(transactionManager);
+    }
+
+    @AfterEach
+    void tearDown() {
+        notificationOutboxRepository.deleteAll();
+    }
+
+    @Test
+    @DisplayName("outbox batch 전송 후 완료 처리 테스트")
+    void dispatchBatch_done() {
+        // Given
+        notificationOutboxRepository.saveAll(Arrays.asList(
+                NotificationOutbox.sse("jupiterUser", "{\"message\":\"참가\"}"),
+                NotificationOutbox.sse("marsUser", "{\"message\":\"참가\"}"),
+                NotificationOutbox.telegram("새로운 팟이 생성되었습니다: 성수 빵투어")));
+
+        // When
+        int read = notificationOutboxDispatcher.dispatchBatch();
+
+        // Then
+        assertThat(read).isEqualTo(3);
+        assertThat(notificationOutboxRepository.findAll())
+                .allMatch(outbox -> outbox.getStatus() == NotificationOutbox.Status.DONE && outbox.getProcessedAt() != null);
+        ArgumentCaptor<byte[]> jupiterFrame = ArgumentCaptor.forClass(byte[].class);
+        ArgumentCaptor<byte[]> marsFrame = ArgumentCaptor.forClass(byte[].class);
+        verify(notificationService).send(eq("jupiterUser"), isNull(), isNull(), jupiterFrame.capture());
+        verify(notificationService).send(eq("marsUser"), isNull(), isNull(), marsFrame.capture());
+        assertThat(new String(jupiterFrame.getValue(), StandardCharsets.UTF_8)).isEqualTo("{\"message\":\"참가\"}");
+        assertThat(marsFrame.getValue()).isSameAs(jupiterFrame.getValue()); // 같은 payload는 한 번만 인코딩
+        verify(telegramService).sendTelegramMessageAndWait(eq("새로운 팟이 생성되었습니다: 성수 빵투어"), any(Duration.class));
+        assertThat(notificationOutboxDispatcher.dispatchBatch()).isZero();
+    }
+
+    @Test
+    @DisplayName("같은 사용자 알림 순번 순서 전달 테스트")
+    void dispatchBatch_seqOrder() {
+        // Given - 미리 할당된 outbox ID 순서와 알림 순번 순서가 반대인 같은 사용자 알림 2건
+        transactionTemplate.executeWithoutResult(status -> notificationOutboxRepository.saveAll(Arrays.asList(
+                NotificationOutbox.sse(notification(21L, 2L), "알림2"),
+                NotificationOutbox.sse(notification(11L, 1L), "알림1"))));
+
+        // When
+        notificationOutboxDispatcher.dispatchBatch();
+
+        // Then - 순번 순서로 전달
+        InOrder inOrder = inOrder(notificationService);
+        inOrder.verify(notificationService).send(eq("jupiterUser"), eq(11L), eq(1L), aryEq("알림1".getBytes(StandardCharsets.UTF_8)));
+        inOrder.verify(notificationService).send(eq("jupiterUser"), eq(21L), eq(2L), aryEq("알림2".getBytes(StandardCharsets.UTF_8)));
+    }
+
+    @Test
+    @DisplayName("전송 실패 재시도 및 최대 시도 초과 테스트")
+    void dispatchBatch_retry() {
+        // Given - 두 번째 텔레그램 전송은 계속 실패
+        willThrow(new IllegalStateException("텔레그램 응답 없음")).given(telegramService)
+                .sendTelegramMessageAndWait(eq("실패 메시지"), any(Duration.class));
+        notificationOutboxRepository.saveAll(Arrays.asList(
+                NotificationOutbox.telegram("성공 메시지"),
+                NotificationOutbox.telegram("실패 메시지")));
+
+        // When - 첫 시도
+        notificationOutboxDispatcher.dispatchBatch();
+
+        // Then - 실패 건만 재시도 대기
+        Map<String, NotificationOutbox> first = byPayload();
+        assertThat(first.get("성공 메시지").getStatus()).isEqualTo(NotificationOutbox.Status.DONE);
+        assertThat(first.get("실패 메시지").getStatus()).isEqualTo(NotificationOutbox.Status.PENDING);
+        assertThat(first.get("실패 메시지").getAttempts()).isEqualTo(1);
+        assertThat(first.get("실패 메시지").getLastError()).contains("텔레그램 응답 없음");
+
+        // When - 두 번째 시도 (max-attempts = 2)
+        assertThat(notificationOutboxDispatcher.dispatchBatch()).isEqualTo(1);
+
+        // Then
+        NotificationOutbox failed = byPayload().get("실패 메시지");
+        assertThat(failed.getStatus()).isEqualTo(NotificationOutbox.Status.FAILED);
+        assertThat(failed.getAttempts()).isEqualTo(2);
+        verify(telegramService, times(1)).sendTelegramMessageAndWait(eq("성공 메시지"), any(Duration.class));
+        assertThat(notificationOutboxDispatcher.dispatchBatch()).isZero();
+    }
+
+    @Test
+    @DisplayName("느린 텔레그램 전송 시간 초과 테스트")
+    void dispatchBatch_timeout() {
+        // Given - 첫 번째 전송이 send-timeout(300ms)보다 오래 걸림
+        willAnswer(invocation -> {
+            Thread.sleep(5_000);
+            return null;
+        }).given(telegramService).sendTelegramMessageAndWait(eq("느린 메시지"), any(Duration.class));
+        notificationOutboxRepository.saveAll(Arrays.asList(
+                NotificationOutbox.telegram("느린 메시지"),
+                NotificationOutbox.telegram("빠른 메시지")));
+
+        // When
+        long started = System.nanoTime();
+        notificationOutboxDispatcher.dispatchBatch();
+        long elapsedMillis = Duration.ofNanos(System.nanoTime() - started).toMillis();
+
+        // Then - batch는 timeout 안에 끝나고 느린 건만 재시도 대기
+        assertThat(elapsedMillis).isLessThan(3_000);
+        Map<String, NotificationOutbox> outboxes = byPayload();
+        assertThat(outboxes.get("빠른 메시지").getStatus()).isEqualTo(NotificationOutbox.Status.DONE);
+        assertThat(outboxes.get("느린 메시지").getStatus()).isEqualTo(NotificationOutbox.Status.PENDING);
+        assertThat(outboxes.get("느린 메시지").getLastError()).isEqualTo("전송 시간 초과");
+    }
+
+    @Test
+    @DisplayName("다른 노드가 선점한 outbox 중복 전송 방지 테스트")
+    void dispatchBatch_claimedByOtherNode() {
+        // Given - 다른 노드가 두 건 중 한 건을 먼저 선점
+        List<NotificationOutbox> saved = notificationOutboxRepository.saveAll(Arrays.asList(
+                NotificationOutbox.sse("jupiterUser", "참가"),
+                NotificationOutbox.sse("marsUser", "참가")));
+        LocalDateTime now = LocalDateTime.now();
+        Integer claimed = transactionTemplate.execute(status -> notificationOutboxRepository.claim(
+                Collections.singletonList(saved.get(1).getId()), NotificationOutbox.Status.PENDING, now, now.plusMinutes(1), "other-node-1"));
+
+        // When
+        notificationOutboxDispatcher.dispatchBatch();
+
+        // Then - 선점되지 않은 건만 전송, 이미 선점된 건은 다시 선점되지 않음
+        assertThat(claimed).isEqualTo(1);
+        verify(notificationService).send(eq("jupiterUser"), isNull(), isNull(), aryEq("참가".getBytes(StandardCharsets.UTF_8)));
+        verify(notificationService, never()).send(eq("marsUser"), any(), any(), any(byte[].class));
+        Map<String, NotificationOutbox> outboxes = byRecipient();
+        assertThat(outboxes.get("jupiterUser").getStatus()).isEqualTo(NotificationOutbox.Status.DONE);
+        assertThat(outboxes.get("marsUser").getStatus()).isEqualTo(NotificationOutbox.Status.PENDING);
+        assertThat(outboxes.get("marsUser").getClaimedBy()).isEqualTo("other-node-1");
+        Integer reclaimed = transactionTemplate.execute(status -> notificationOutboxRepository.claim(
+                Collections.singletonList(saved.get(1).getId()), NotificationOutbox.Status.PENDING, now, now.plusMinutes(1), "this-node-1"));
+        assertThat(reclaimed).isZero();
+    }
+
+    private Map<String, NotificationOutbox> byRecipient() {
+        return notificationOutboxRepository.findAll().stream()
+                .collect(Collectors.toMap(NotificationOutbox::getRecipient, Function.identity()));
+    }
+
+    private Map<String, NotificationOutbox> byPayload() {
+        return notificationOutboxRepository.findAll().stream()
+                .collect(Collectors.toMap(NotificationOutbox::getPayload, Function.identity()));
+    }
+
+    private static Notification notification(Long id, Long seq) {
+        return Notification.builder()
+                .id(id)
+                .userId("jupiterUser")
+                .title("성수 빵투어")
+                .message("참가")
+                .seq(seq)
+                .build();
+    }
+
+}
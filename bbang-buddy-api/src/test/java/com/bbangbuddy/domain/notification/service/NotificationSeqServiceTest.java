@@ -0,0 +1,147 @@
+package com.bbangbuddy.domain.notification.service;
+
+import com.bbangbuddy.domain.notification.domain.Notification;
+import com.bbangbuddy.domain.notification.repository.NotificationRepository;
+import com.bbangbuddy.domain.notification.repository.NotificationUserSeqRepository;
+import com.bbangbuddy.domain.notification.sse.SseEvent;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * NotificationSeqService 테스트
+ *
+ * 테스트 목적: 알림 순번이 사용자별로 빈틈없이 커밋 순서대로 매겨지고, 재전송 조회가 순번 뒤의 알림만 순번 순으로 돌려주는지 실제 DB(H2)로 검증
+ */
+@DataJpaTest
+@ActiveProfiles("test")
+@Import({NotificationSeqService.class, NotificationReplayStore.class})
+@Transactional(propagation = Propagation.NOT_SUPPORTED) // 트랜잭션마다 커밋 순서를 확인해야 하므로 테스트 트랜잭션 미사용
+@DisplayName("NotificationSeqService 테스트")
+class NotificationSeqServiceTest {
+
+    @Autowired
+    private NotificationSeqService notificationSeqService;
+
+    @Autowired
+    private NotificationReplayStore notificationReplayStore;
+
+    @Autowired
+    private NotificationRepository notificationRepository;
+
+    @Autowired
+    private NotificationUserSeqRepository notificationUserSeqRepository;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @AfterEach
+    void tearDown() {
+        notificationRepository.deleteAll();
+        notificationUserSeqRepository.deleteAll();
+    }
+
+    @Test
+    @DisplayName("사용자별 순번 할당 테스트")
+    void assign_perUser() {
+        // When - 두 사용자에게 섞어서 알림 저장
+        List<Notification> saved = save(
+                notification("jupiterUser", "알림1"), notification("marsUser", "알림2"), notification("jupiterUser", "알림3"));
+        List<Notification> next = save(notification("jupiterUser", "알림4"));
+
+        // Then - 사용자마다 1부터 빈틈없이 증가
+        assertThat(saved).extracting(Notification::getSeq).containsExactly(1L, 1L, 2L);
+        assertThat(next).extracting(Notification::getSeq).containsExactly(3L);
+    }
+
+    @Test
+    @DisplayName("먼저 순번을 받은 트랜잭션이 커밋할 때까지 다음 순번 대기 테스트")
+    void assign_commitOrder() throws Exception {
+        // Given - 먼저 순번을 받고 커밋하지 않은 트랜잭션
+        TransactionTemplate transactionTemplate = new TransactionTemplate(transactionManager);
+        save(notification("jupiterUser", "첫 알림"));
+        CountDownLatch assigned = new CountDownLatch(1);
+        CountDownLatch commit = new CountDownLatch(1);
+        CompletableFuture<Long> first = CompletableFuture.supplyAsync(() -> transactionTemplate.execute(status -> {
+            Notification notification = notification("jupiterUser", "먼저 순번");
+            notificationSeqService.assign(Arrays.asList(notification));
+            notificationRepository.save(notification);
+            assigned.countDown();
+            await(commit);
+            return notification.getSeq();
+        }));
+        assertThat(assigned.await(5, TimeUnit.SECONDS)).isTrue();
+
+        // When - 다른 트랜잭션이 순번 요청 후 먼저 트랜잭션 커밋
+        CompletableFuture<Long> second = CompletableFuture.supplyAsync(
+                () -> save(notification("jupiterUser", "나중 순번")).get(0).getSeq());
+        Thread.sleep(200);
+        boolean waited = !second.isDone();
+        commit.countDown();
+
+        // Then - 나중 트랜잭션은 커밋을 기다렸다가 다음 순번을 받음
+        assertThat(waited).isTrue();
+        assertThat(first.get(5, TimeUnit.SECONDS)).isEqualTo(2L);
+        assertThat(second.get(5, TimeUnit.SECONDS)).isEqualTo(3L);
+    }
+
+    @Test
+    @DisplayName("재전송 조회 시 순번 뒤의 알림만 순번 순으로 반환 테스트")
+    void findAfter() {
+        // Given
+        List<Notification> saved = save(
+                notification("jupiterUser", "알림1"), notification("jupiterUser", "알림2"),
+                notification("marsUser", "다른 사용자"), notification("jupiterUser", "알림3"));
+
+        // When
+        List<SseEvent> events = notificationReplayStore.findAfter("jupiterUser", 1L, 10);
+
+        // Then - 이벤트 id는 "순번-알림 ID"
+        assertThat(events).extracting(SseEvent::getSeq).containsExactly(2L, 3L);
+        assertThat(events).extracting(SseEvent::getId)
+                .containsExactly("2-" + saved.get(1).getId(), "3-" + saved.get(3).getId());
+        assertThat(notificationReplayStore.findAfter("jupiterUser", 3L, 10)).isEmpty();
+    }
+
+    private List<Notification> save(Notification... notifications) {
+        List<Notification> list = Arrays.stream(notifications).collect(Collectors.toList());
+        return new TransactionTemplate(transactionManager).execute(status -> {
+            notificationSeqService.assign(list);
+            return notificationRepository.saveAll(list);
+        });
+    }
+
+    private Notification notification(String userId, String title) {
+        return Notification.builder()
+                .userId(userId)
+                .title(title)
+                .message(title)
+                .build();
+    }
+
+    private void await(CountDownLatch latch) {
+        try {
+            latch.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+}
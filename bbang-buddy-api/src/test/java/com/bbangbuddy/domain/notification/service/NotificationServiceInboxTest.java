@@ -0,0 +1,285 @@
+package com.bbangbuddy.domain.notification.service;
+
+import com.bbangbuddy.domain.auth.jwt.JwtUtil;
+import com.bbangbuddy.domain.notification.cache.NotificationUnreadCache;
+import com.bbangbuddy.domain.notification.domain.Notification;
+import com.bbangbuddy.domain.notification.dto.NotificationPageDto;
+import com.bbangbuddy.domain.notification.repository.NotificationRepository;
+import com.bbangbuddy.domain.notification.repository.NotificationUserSeqRepository;
+import com.bbangbuddy.domain.notification.sse.SseEmitterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.isNull;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.verify;
+
+/**
+ * NotificationService 알림함 / 안 읽은 알림 수 테스트
+ *
+ * 테스트 목적: 알림함 키셋 페이지가 (생성 시각, ID) 최신순으로 빠짐/중복 없이 이어지는지,
+ * 안 읽은 알림 수가 캐시에 있으면 DB를 다시 세지 않고 전송 시 순번으로 증가하며, ID 순서와 다르게 커밋·전송된 알림도 빠짐/중복 없이 세는지,
+ * 일괄 읽음 처리가 호출한 사용자의 알림만 바꾸고 바뀐 수만큼 안 읽은 알림 수를 줄이는지,
+ * 재연결 시 Last-Event-ID의 알림 순번 뒤부터 재전송을 요청하는지 실제 DB(H2)로 검증
+ */
+@DataJpaTest
+@ActiveProfiles("test")
+@Import({NotificationService.class, NotificationSeqService.class, NotificationUnreadCache.class})
+@Transactional(propagation = Propagation.NOT_SUPPORTED) // 읽음 처리가 자체 트랜잭션으로 커밋되므로 테스트 트랜잭션 미사용
+@DisplayName("NotificationService 알림함 테스트")
+class NotificationServiceInboxTest {
+
+    private static final String TOKEN = "jwt.test.token";
+
+    @Autowired
+    private NotificationService notificationService;
+
+    @Autowired
+    private NotificationRepository notificationRepository;
+
+    @Autowired
+    private NotificationUnreadCache notificationUnreadCache;
+
+    @Autowired
+    private NotificationSeqService notificationSeqService;
+
+    @Autowired
+    private NotificationUserSeqRepository notificationUserSeqRepository;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @MockBean
+    private JwtUtil jwtUtil;
+
+    @MockBean
+    private SseEmitterRegistry sseEmitterRegistry;
+
+    private TransactionTemplate transactionTemplate;
+
+    @BeforeEach
+    void setUp() {
+        transactionTemplate = new TransactionTemplate(transactionManager);
+        given(jwtUtil.getUserIdFromToken(TOKEN)).willReturn("jupiterUser");
+    }
+
+    @AfterEach
+    void tearDown() {
+        notificationRepository.deleteAll();
+        notificationUserSeqRepository.deleteAll();
+        notificationUnreadCache.invalidate("jupiterUser");
+    }
+
+    @Test
+    @DisplayName("알림함 키셋 페이지 최신순 조회 테스트")
+    void getNotificationPage_keyset() {
+        // Given - jupiterUser 알림 7건, 다른 사용자 알림 1건
+        List<Notification> saved = new ArrayList<>();
+        for (int i = 0; i < 7; i++) {
+            saved.add(notification("jupiterUser", "알림" + i));
+        }
+        saved = notificationRepository.saveAll(saved);
+        notificationRepository.save(notification("marsUser", "다른 사용자 알림"));
+
+        // When - 3건씩 끝까지 조회
+        List<Long> ids = new ArrayList<>();
+        List<Boolean> hasNext = new ArrayList<>();
+        NotificationPageDto page = notificationService.getNotificationPage(TOKEN, 3, null, null);
+        while (true) {
+            page.getContent().forEach(notification -> ids.add(notification.getId()));
+            hasNext.add(page.isHasNext());
+            if (!page.isHasNext()) {
+                break;
+            }
+            page = notificationService.getNotificationPage(TOKEN, 3, page.getNextCreatedAt(), page.getNextId());
+        }
+
+        // Then
+        List<Long> expected = notificationRepository.findByUserId("jupiterUser").stream()
+                .sorted(Comparator.comparing(Notification::getCreatedAt).thenComparing(Notification::getId).reversed())
+                .map(Notification::getId)
+                .collect(Collectors.toList());
+        assertThat(ids).hasSize(saved.size()).containsExactlyElementsOf(expected);
+        assertThat(hasNext).containsExactly(true, true, false);
+    }
+
+    @Test
+    @DisplayName("안 읽은 알림 수 캐시 및 전송/읽음 처리 반영 테스트")
+    void getUnreadCount_cached() {
+        // Given - 안 읽은 알림 3건
+        List<Notification> saved = save(
+                notification("jupiterUser", "알림0"), notification("jupiterUser", "알림1"), notification("jupiterUser", "알림2"));
+        long loaded = notificationService.getUnreadCount(TOKEN);
+
+        // When - 캐시 적재 후 새 알림 전송(outbox 재시도로 한 번 더), 같은 알림 두 번 읽음 처리
+        Notification added = save(notification("jupiterUser", "새 알림")).get(0);
+        long cachedBeforeSend = notificationService.getUnreadCount(TOKEN);
+        notificationService.send("jupiterUser", added.getId(), added.getSeq(), "새 알림".getBytes(StandardCharsets.UTF_8));
+        Long cachedAfterSend = notificationUnreadCache.get("jupiterUser");
+        notificationService.send("jupiterUser", added.getId(), added.getSeq(), "새 알림".getBytes(StandardCharsets.UTF_8));
+        long afterRetry = notificationService.getUnreadCount(TOKEN);
+        notificationService.markAsRead(saved.get(0).getId());
+        notificationService.markAsRead(saved.get(0).getId());
+
+        // Then - 전송은 캐시 값을 증가(DB를 다시 세지 않음), 재시도는 한 번만 세고 읽음 처리는 감소로 반영
+        assertThat(loaded).isEqualTo(3);
+        assertThat(cachedBeforeSend).isEqualTo(3);
+        assertThat(cachedAfterSend).isEqualTo(4L);
+        assertThat(afterRetry).isEqualTo(4);
+        assertThat(notificationService.getUnreadCount(TOKEN)).isEqualTo(3);
+    }
+
+    @Test
+    @DisplayName("ID 순서와 다르게 커밋·전송된 알림 안 읽은 알림 수 반영 및 재전송 중복 미집계 테스트")
+    void getUnreadCount_outOfOrderCommit() throws Exception {
+        // Given - 먼저 ID와 순번을 받은 알림의 트랜잭션이 커밋되지 않은 사이 다른 알림 저장 요청, 안 읽은 알림 수 적재
+        CountDownLatch inserted = new CountDownLatch(1);
+        CountDownLatch commit = new CountDownLatch(1);
+        CompletableFuture<Notification> first = CompletableFuture.supplyAsync(() -> transactionTemplate.execute(status -> {
+            Notification notification = notification("jupiterUser", "먼저 저장한 알림");
+            notificationSeqService.assign(Collections.singletonList(notification));
+            Notification saved = notificationRepository.saveAndFlush(notification);
+            inserted.countDown();
+            try {
+                commit.await(5, TimeUnit.SECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            return saved;
+        }));
+        assertThat(inserted.await(5, TimeUnit.SECONDS)).isTrue();
+        CompletableFuture<Notification> second = CompletableFuture.supplyAsync(
+                () -> save(notification("jupiterUser", "나중에 저장한 알림")).get(0));
+        long loaded = notificationService.getUnreadCount(TOKEN);
+
+        // When - 두 알림이 커밋된 뒤 나중 순번이 먼저 전송되고, 앞 순번 전송과 outbox 재시도가 뒤따름
+        commit.countDown();
+        Notification firstNotification = first.get(5, TimeUnit.SECONDS);
+        Notification secondNotification = second.get(5, TimeUnit.SECONDS);
+        notificationService.send("jupiterUser", secondNotification.getId(), secondNotification.getSeq(), "나중".getBytes(StandardCharsets.UTF_8));
+        long afterSecondSend = notificationService.getUnreadCount(TOKEN);
+        notificationService.send("jupiterUser", firstNotification.getId(), firstNotification.getSeq(), "먼저".getBytes(StandardCharsets.UTF_8));
+        notificationService.send("jupiterUser", secondNotification.getId(), secondNotification.getSeq(), "나중".getBytes(StandardCharsets.UTF_8));
+
+        // Then - 순번은 커밋 순서대로, 뒤 순번 전송 때 앞 순번까지 세고 같은 알림을 다시 받아도 세지 않는다
+        assertThat(firstNotification.getSeq()).isEqualTo(1L);
+        assertThat(secondNotification.getSeq()).isEqualTo(2L);
+        assertThat(loaded).isEqualTo(0);
+        assertThat(afterSecondSend).isEqualTo(2);
+        assertThat(notificationService.getUnreadCount(TOKEN)).isEqualTo(2);
+        assertThat(notificationRepository.countUnread("jupiterUser")).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("순번 이하 알림 일괄 읽음 처리 테스트")
+    void markAllAsRead_upToSeq() {
+        // Given - jupiterUser 안 읽은 알림 4건(첫 알림은 이미 읽음), 다른 사용자 알림 1건
+        // 순번 4인 알림은 다른 노드가 미리 받아 둔 더 작은 ID로, 클라이언트가 순번 3까지 본 뒤에 커밋된 알림
+        List<Notification> saved = new ArrayList<>();
+        for (long seq : new long[]{4L, 1L, 2L, 3L}) {
+            Notification notification = notification("jupiterUser", "알림" + seq);
+            notification.assignSeq(seq);
+            saved.add(notification);
+        }
+        saved = notificationRepository.saveAll(saved);
+        Notification other = notification("marsUser", "다른 사용자 알림");
+        other.assignSeq(1L);
+        other = notificationRepository.save(other);
+        notificationService.markAsRead(saved.get(1).getId());
+        long loaded = notificationService.getUnreadCount(TOKEN);
+
+        // When - 순번 3 이하 모두 읽음 처리
+        int updated = notificationService.markAllAsRead(TOKEN, 3L);
+
+        // Then - 이미 읽은 알림과 다른 사용자 알림은 세지 않고, ID가 작아도 나중에 커밋된 알림은 안 읽은 채로 남음
+        assertThat(saved.get(0).getId()).isLessThan(saved.get(3).getId());
+        assertThat(notificationRepository.findAll())
+                .filteredOn(notification -> notification.getUserId().equals("jupiterUser") && !notification.isRead())
+                .extracting(Notification::getSeq).containsExactly(4L);
+        assertThat(loaded).isEqualTo(3);
+        assertThat(updated).isEqualTo(2);
+        assertThat(notificationService.getUnreadCount(TOKEN)).isEqualTo(1);
+        assertThat(notificationRepository.countUnread("marsUser")).isEqualTo(1);
+        assertThat(notificationRepository.findUserIdById(other.getId())).contains("marsUser");
+    }
+
+    @Test
+    @DisplayName("ID 목록 일괄 읽음 처리 테스트")
+    void markAsRead_ids() {
+        // Given - jupiterUser 안 읽은 알림 3건, 다른 사용자 알림 1건
+        List<Notification> saved = new ArrayList<>();
+        for (int i = 0; i < 3; i++) {
+            saved.add(notification("jupiterUser", "알림" + i));
+        }
+        saved = notificationRepository.saveAll(saved);
+        Notification other = notificationRepository.save(notification("marsUser", "다른 사용자 알림"));
+        long loaded = notificationService.getUnreadCount(TOKEN);
+
+        // When - 자기 알림 2건과 다른 사용자 알림 ID를 함께 요청
+        int updated = notificationService.markAsRead(TOKEN,
+                Arrays.asList(saved.get(0).getId(), saved.get(2).getId(), other.getId()));
+
+        // Then - 다른 사용자 알림은 바뀌지 않음
+        assertThat(loaded).isEqualTo(3);
+        assertThat(updated).isEqualTo(2);
+        assertThat(notificationService.getUnreadCount(TOKEN)).isEqualTo(1);
+        assertThat(notificationRepository.countUnread("marsUser")).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("재연결 시 Last-Event-ID의 알림 순번으로 재전송 요청 테스트")
+    void subscribe_lastEventId() {
+        // When - "순번-알림 ID" 형식과 알림 ID만 있는 이전 형식으로 재연결
+        notificationService.subscribe(TOKEN, "7-1234");
+        notificationService.subscribe(TOKEN, "1234");
+
+        // Then - 순번 뒤부터 재전송, 형식이 다르면 처음 연결처럼 실시간 알림만
+        verify(sseEmitterRegistry).register(eq("jupiterUser"), any(SseEmitter.class), eq(7L));
+        verify(sseEmitterRegistry).register(eq("jupiterUser"), any(SseEmitter.class), isNull());
+    }
+
+    // 알림 저장 트랜잭션처럼 순번을 매겨 저장
+    private List<Notification> save(Notification... notifications) {
+        List<Notification> list = Arrays.asList(notifications);
+        return transactionTemplate.execute(status -> {
+            notificationSeqService.assign(list);
+            return notificationRepository.saveAll(list);
+        });
+    }
+
+    private Notification notification(String userId, String message) {
+        return Notification.builder()
+                .userId(userId)
+                .title("성수 빵투어")
+                .message(message)
+                .isRead(false)
+                .build();
+    }
+
+}
@@ -0,0 +1,462 @@
+package com.bbangbuddy.domain.notification.sse;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.web.servlet.mvc.method.annotation.ResponseBodyEmitter;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+import static org.assertj.core.api.Assertions.*;
+
+/**
+ * SseEmitterRegistry 단위 테스트
+ *
+ * 테스트 목적: 한 사용자의 여러 연결이 모두 메시지를 받는지, 사용자당 연결 수 제한,
+ * 느린 연결의 전송 큐가 가득 찼을 때 정책(DROP_OLDEST/DISCONNECT)대로 처리되고 지표가 집계되는지,
+ * Last-Event-ID로 재연결하면 그 순번 뒤 이벤트만 링 버퍼 또는 DB에서 중복 없이 다시 보내는지,
+ * 순번이 뒤바뀌어 도착하거나 다시 온 이벤트도 연결마다 순번 순서로 한 번씩만 보내는지,
+ * heartbeat로 끊긴 연결과 응답 없는 연결을 정리하는지 검증
+ */
+@DisplayName("SseEmitterRegistry 단위 테스트")
+class SseEmitterRegistryTest {
+
+    private final FakeReplayStore store = new FakeReplayStore();
+
+    private SseEmitterRegistry registry;
+
+    @AfterEach
+    void tearDown() {
+        registry.shutdown();
+    }
+
+    @Test
+    @DisplayName("여러 기기 연결 모두 전송 테스트")
+    void send_multipleConnections() throws Exception {
+        // Given
+        registry = new SseEmitterRegistry(store, 8, 5, SseEmitterRegistry.OverflowPolicy.DROP_OLDEST, 2, 100, 3600, 10000, 15000, 1, 45000, 2);
+        RecordingEmitter phone = new RecordingEmitter(2);
+        RecordingEmitter laptop = new RecordingEmitter(2);
+        registry.register("jupiterUser", phone);
+        registry.register("jupiterUser", laptop);
+
+        // When
+        int first = registry.send("jupiterUser", "참가 알림");
+        registry.send("jupiterUser", "탈퇴 알림");
+
+        // Then
+        assertThat(first).isEqualTo(2);
+        assertThat(phone.await()).containsExactly("참가 알림", "탈퇴 알림");
+        assertThat(laptop.await()).containsExactly("참가 알림", "탈퇴 알림");
+        assertThat(registry.getConnectionCount("jupiterUser")).isEqualTo(2);
+        assertThat(registry.send("marsUser", "참가 알림")).isZero();
+    }
+
+    @Test
+    @DisplayName("사용자당 연결 수 초과 시 가장 오래된 연결 종료 테스트")
+    void register_maxConnectionsPerUser() throws Exception {
+        // Given
+        registry = new SseEmitterRegistry(store, 8, 2, SseEmitterRegistry.OverflowPolicy.DROP_OLDEST, 2, 100, 3600, 10000, 15000, 1, 45000, 2);
+        RecordingEmitter oldest = new RecordingEmitter(1);
+
+        // When
+        registry.register("jupiterUser", oldest);
+        registry.register("jupiterUser", new RecordingEmitter(1));
+        registry.register("jupiterUser", new RecordingEmitter(1));
+
+        // Then
+        assertThat(registry.getConnectionCount()).isEqualTo(2);
+        oldest.awaitCompleted();
+    }
+
+    @Test
+    @DisplayName("느린 연결 큐 초과 시 오래된 메시지 버림 테스트")
+    void send_dropOldest() throws Exception {
+        // Given - 첫 메시지 전송이 막힌 연결 (큐 크기 2)
+        registry = new SseEmitterRegistry(store, 2, 5, SseEmitterRegistry.OverflowPolicy.DROP_OLDEST, 1, 100, 3600, 10000, 15000, 1, 45000, 2);
+        RecordingEmitter slow = new RecordingEmitter(3);
+        slow.block();
+        registry.register("jupiterUser", slow);
+        registry.send("jupiterUser", "m1");
+        slow.awaitBlocked();
+
+        // When - 큐에 m2, m3이 찬 뒤 m4, m5
+        for (String message : new String[]{"m2", "m3", "m4", "m5"}) {
+            registry.send("jupiterUser", message);
+        }
+        int depth = registry.getQueueDepth();
+        slow.unblock();
+
+        // Then
+        assertThat(depth).isEqualTo(2);
+        assertThat(slow.await()).containsExactly("m1", "m4", "m5");
+        assertThat(registry.getDropCount()).isEqualTo(2);
+        assertThat(registry.getConnectionCount()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("느린 연결 큐 초과 시 연결 끊기 테스트")
+    void send_disconnectSlowConsumer() throws Exception {
+        // Given
+        registry = new SseEmitterRegistry(store, 2, 5, SseEmitterRegistry.OverflowPolicy.DISCONNECT, 2, 100, 3600, 10000, 15000, 1, 45000, 2);
+        RecordingEmitter slow = new RecordingEmitter(1);
+        RecordingEmitter fast = new RecordingEmitter(4);
+        slow.block();
+        registry.register("jupiterUser", slow);
+        registry.register("jupiterUser", fast);
+        registry.send("jupiterUser", "m1");
+        slow.awaitBlocked();
+
+        // When - 빠른 연결은 매번 받은 뒤 다음 메시지 전송
+        for (String message : new String[]{"m2", "m3", "m4"}) {
+            fast.awaitReceived(message.charAt(1) - '1');
+            registry.send("jupiterUser", message);
+        }
+        slow.unblock();
+
+        // Then - 느린 연결만 끊기고 다른 기기는 모두 받음
+        assertThat(fast.await()).containsExactly("m1", "m2", "m3", "m4");
+        slow.awaitCompleted();
+        assertThat(registry.getConnectionCount("jupiterUser")).isEqualTo(1);
+        assertThat(registry.getSlowDisconnectCount()).isEqualTo(1);
+        assertThat(registry.getDropCount()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("Last-Event-ID 재연결 시 링 버퍼 재전송 테스트")
+    void register_replayFromBuffer() throws Exception {
+        // Given - 이전 연결로 받던 중 알림 1~3
+        registry = new SseEmitterRegistry(store, 8, 5, SseEmitterRegistry.OverflowPolicy.DROP_OLDEST, 2, 100, 3600, 10000, 15000, 1, 45000, 2);
+        registry.register("jupiterUser", new RecordingEmitter(3));
+        for (long seq = 1; seq <= 3; seq++) {
+            send("jupiterUser", seq);
+        }
+        RecordingEmitter reconnected = new RecordingEmitter(3);
+
+        // When - 1번까지 받은 클라이언트가 재연결한 뒤 실시간 알림 4
+        registry.register("jupiterUser", reconnected, 1L);
+        send("jupiterUser", 4L);
+
+        // Then - 링 버퍼로 이어 줄 수 있으면 DB를 조회하지 않음
+        assertThat(reconnected.await()).containsExactly("알림2", "알림3", "알림4");
+        assertThat(reconnected.ids).containsExactly("2-102", "3-103", "4-104");
+        assertThat(store.calls).isZero();
+    }
+
+    @Test
+    @DisplayName("링 버퍼에 없는 Last-Event-ID DB 재전송 및 중복 제외 테스트")
+    void register_replayFromStore() throws Exception {
+        // Given - 링 버퍼(크기 2)에는 알림 4, 5만 남고, DB에는 알림 1~5가 커밋됨
+        registry = new SseEmitterRegistry(store, 8, 5, SseEmitterRegistry.OverflowPolicy.DROP_OLDEST, 2, 2, 3600, 10000, 15000, 1, 45000, 2);
+        store.commit("jupiterUser", 1, 5);
+        registry.register("jupiterUser", new RecordingEmitter(3));
+        for (long seq = 3; seq <= 5; seq++) {
+            send("jupiterUser", seq);
+        }
+        RecordingEmitter reconnected = new RecordingEmitter(4);
+
+        // When - 2번까지 받은 클라이언트가 재연결, 이후 outbox 재시도로 다시 온 4와 새 알림 6
+        registry.register("jupiterUser", reconnected, 2L);
+        send("jupiterUser", 4L);
+        send("jupiterUser", 6L);
+
+        // Then - DB에서 3, 4(replay-size만큼)를 읽고 링 버퍼의 5를 이어 붙여, 2 뒤 알림만 순번 순서로 한 번씩
+        assertThat(reconnected.await()).containsExactly("알림3", "알림4", "알림5", "알림6");
+        assertThat(reconnected.ids).containsExactly("3-103", "4-104", "5-105", "6-106");
+    }
+
+    @Test
+    @DisplayName("앞 순번보다 먼저 도착한 알림 DB 보충 후 순번 순서 전송 테스트")
+    void send_outOfOrder() throws Exception {
+        // Given - 알림 1을 받은 연결, DB에는 알림 1~3이 커밋됨
+        registry = new SseEmitterRegistry(store, 8, 5, SseEmitterRegistry.OverflowPolicy.DROP_OLDEST, 2, 100, 3600, 10000, 15000, 1, 45000, 2);
+        store.commit("jupiterUser", 1, 3);
+        RecordingEmitter connected = new RecordingEmitter(3);
+        registry.register("jupiterUser", connected);
+        send("jupiterUser", 1L);
+
+        // When - 다른 노드를 거친 알림 3이 알림 2보다 먼저 도착
+        send("jupiterUser", 3L);
+        int late = send("jupiterUser", 2L);
+
+        // Then - 빠진 2는 DB에서 채워 순번 순서로 보내고, 늦게 온 2는 다시 보내지 않음
+        assertThat(connected.await()).containsExactly("알림1", "알림2", "알림3");
+        assertThat(late).isZero();
+        Thread.sleep(100);
+        assertThat(connected.ids).containsExactly("1-101", "2-102", "3-103");
+    }
+
+    @Test
+    @DisplayName("이 노드에 연결한 적 없는 사용자 알림 링 버퍼 미보관 테스트")
+    void send_noLocalConnection() throws Exception {
+        // Given - 다른 노드에 연결된 사용자의 알림이 노드 간 전달로 도착
+        registry = new SseEmitterRegistry(store, 8, 5, SseEmitterRegistry.OverflowPolicy.DROP_OLDEST, 2, 100, 3600, 10000, 15000, 1, 45000, 2);
+        store.commit("marsUser", 1, 2);
+        assertThat(send("marsUser", 1L)).isZero();
+        assertThat(send("marsUser", 2L)).isZero();
+        RecordingEmitter moved = new RecordingEmitter(2);
+
+        // When - 사용자가 이 노드로 재연결
+        registry.register("marsUser", moved, 0L);
+
+        // Then - 링 버퍼가 없으므로 DB에서 이어 받음
+        assertThat(moved.await()).containsExactly("알림1", "알림2");
+        assertThat(store.calls).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("heartbeat 전송 및 끊긴 연결 정리 테스트")
+    void heartbeatTick_brokenPipe() throws Exception {
+        // Given - 정상 연결 하나와 쓰기 시 broken pipe가 나는 연결 하나
+        registry = new SseEmitterRegistry(store, 8, 5, SseEmitterRegistry.OverflowPolicy.DROP_OLDEST, 2, 100, 3600, 10000, 15000, 1, 45000, 2);
+        RecordingEmitter alive = new RecordingEmitter(1);
+        RecordingEmitter broken = new RecordingEmitter(1);
+        broken.fail();
+        registry.register("jupiterUser", alive);
+        registry.register("marsUser", broken);
+
+        // When
+        registry.heartbeatTick();
+
+        // Then
+        alive.await();
+        assertThat(alive.comments).containsExactly("heartbeat");
+        broken.await();
+        assertThat(registry.getConnectionCount()).isEqualTo(1);
+        assertThat(registry.getConnectionCount("marsUser")).isZero();
+        assertThat(registry.getReapedCount()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("응답 없는 연결 일괄 정리 테스트")
+    void heartbeatTick_reapStalled() throws Exception {
+        // Given - 쓰기가 막힌 연결 두 개 (dead-after 50ms)
+        registry = new SseEmitterRegistry(store, 8, 5, SseEmitterRegistry.OverflowPolicy.DROP_OLDEST, 2, 100, 3600, 10000, 15000, 1, 50, 2);
+        RecordingEmitter stalled1 = new RecordingEmitter(1);
+        RecordingEmitter stalled2 = new RecordingEmitter(1);
+        stalled1.block();
+        stalled2.block();
+        registry.register("jupiterUser", stalled1);
+        registry.register("marsUser", stalled2);
+        registry.send("jupiterUser", "m1");
+        registry.send("marsUser", "m1");
+        stalled1.awaitBlocked();
+        stalled2.awaitBlocked();
+        Thread.sleep(100);
+
+        // When
+        registry.heartbeatTick();
+
+        // Then
+        assertThat(registry.getConnectionCount()).isZero();
+        assertThat(registry.getReapedCount()).isEqualTo(2);
+        stalled1.awaitCompleted();
+        stalled2.awaitCompleted();
+        stalled1.unblock();
+        stalled2.unblock();
+    }
+
+    @Test
+    @DisplayName("send가 emitter 잠금을 잡고 멈춘 연결 정리 시 heartbeat 스레드 비차단 테스트")
+    void heartbeatTick_reapWhileSendHoldsLock() throws Exception {
+        // Given - SseEmitter.send처럼 emitter 잠금을 잡은 채 끝나지 않는 전송 (dead-after 200ms)
+        registry = new SseEmitterRegistry(store, 8, 5, SseEmitterRegistry.OverflowPolicy.DROP_OLDEST, 2, 100, 3600, 10000, 15000, 1, 200, 2);
+        HangingEmitter hanging = new HangingEmitter();
+        RecordingEmitter alive = new RecordingEmitter(1);
+        registry.register("jupiterUser", hanging);
+        registry.send("jupiterUser", "m1");
+        hanging.awaitSending();
+        Thread.sleep(300);
+        registry.register("marsUser", alive);
+
+        // When - 응답 없는 연결을 정리하는 tick이 잠금을 기다리지 않고 끝나야 한다.
+        CompletableFuture<Void> tick = CompletableFuture.runAsync(registry::heartbeatTick);
+
+        // Then - 같은 tick의 다른 연결도 heartbeat를 받음
+        tick.get(1, TimeUnit.SECONDS);
+        assertThat(registry.getConnectionCount("jupiterUser")).isZero();
+        assertThat(registry.getReapedCount()).isEqualTo(1);
+        alive.await();
+        assertThat(alive.comments).containsExactly("heartbeat");
+    }
+
+    @Test
+    @DisplayName("send가 emitter 잠금을 잡고 멈춘 연결 DISCONNECT 시 알림 전송 스레드 비차단 및 지표 테스트")
+    void send_disconnectWhileSendHoldsLock() throws Exception {
+        // Given - 큐 크기 1, 첫 전송에서 emitter 잠금을 잡은 채 멈춘 연결과 정상 연결
+        registry = new SseEmitterRegistry(store, 1, 5, SseEmitterRegistry.OverflowPolicy.DISCONNECT, 2, 100, 3600, 10000, 15000, 1, 45000, 2);
+        HangingEmitter hanging = new HangingEmitter();
+        RecordingEmitter alive = new RecordingEmitter(1);
+        registry.register("jupiterUser", hanging);
+        registry.register("marsUser", alive);
+        registry.send("jupiterUser", "m1");
+        hanging.awaitSending();
+        registry.send("jupiterUser", "m2");
+
+        // When - 큐가 가득 찬 상태에서 다음 알림을 넣으면 연결을 끊어야 하지만, 호출한 스레드는 잠금을 기다리지 않는다.
+        CompletableFuture<Integer> send = CompletableFuture.supplyAsync(() -> registry.send("jupiterUser", "m3"));
+
+        // Then
+        assertThat(send.get(1, TimeUnit.SECONDS)).isZero();
+        registry.send("marsUser", "m4");
+        assertThat(alive.await()).containsExactly("m4");
+        SseEmitterRegistry.Stats stats = registry.stats();
+        assertThat(stats.getConnectionCount()).isEqualTo(1);
+        assertThat(stats.getSlowDisconnectCount()).isEqualTo(1);
+        assertThat(stats.getDropCount()).isEqualTo(1);
+    }
+
+    private int send(String userId, long seq) {
+        SseEvent event = FakeReplayStore.event(seq);
+        return registry.send(userId, event.getSeq(), event.getId(), event.getData());
+    }
+
+    // 사용자별로 커밋된 이벤트를 순번으로 보관하는 DB 대역
+    static class FakeReplayStore implements SseReplayStore {
+
+        private final Map<String, TreeMap<Long, SseEvent>> committed = new ConcurrentHashMap<>();
+        private volatile int calls;
+
+        static SseEvent event(long seq) {
+            return new SseEvent(seq, seq + "-" + (100 + seq), ("알림" + seq).getBytes(StandardCharsets.UTF_8));
+        }
+
+        void commit(String userId, long fromSeq, long toSeq) {
+            TreeMap<Long, SseEvent> events = committed.computeIfAbsent(userId, key -> new TreeMap<>());
+            for (long seq = fromSeq; seq <= toSeq; seq++) {
+                events.put(seq, event(seq));
+            }
+        }
+
+        @Override
+        public List<SseEvent> findAfter(String userId, long afterSeq, int limit) {
+            calls++;
+            return committed.getOrDefault(userId, new TreeMap<>()).tailMap(afterSeq, false).values().stream()
+                    .limit(limit)
+                    .collect(Collectors.toList());
+        }
+
+    }
+
+    // 받은 메시지를 기록하고, 필요하면 첫 전송에서 멈추는 emitter
+    static class RecordingEmitter extends SseEmitter {
+
+        private final List<String> received = new CopyOnWriteArrayList<>();
+        private final List<String> ids = new CopyOnWriteArrayList<>();
+        private final List<String> comments = new CopyOnWriteArrayList<>();
+        private final CountDownLatch expected;
+        private final CountDownLatch blocked = new CountDownLatch(1);
+        private final CountDownLatch release = new CountDownLatch(1);
+        private volatile boolean blocking;
+        private volatile boolean failing;
+        private final CountDownLatch completion = new CountDownLatch(1);
+
+        RecordingEmitter(int expectedMessages) {
+            this.expected = new CountDownLatch(expectedMessages);
+        }
+
+        void fail() {
+            failing = true;
+        }
+
+        void block() {
+            blocking = true;
+        }
+
+        void awaitBlocked() throws InterruptedException {
+            assertThat(blocked.await(5, TimeUnit.SECONDS)).isTrue();
+        }
+
+        void unblock() {
+            release.countDown();
+        }
+
+        void awaitReceived(int count) throws InterruptedException {
+            long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+            while (received.size() < count && System.nanoTime() < deadline) {
+                Thread.sleep(5);
+            }
+            assertThat(received).hasSizeGreaterThanOrEqualTo(count);
+        }
+
+        void awaitCompleted() throws InterruptedException {
+            assertThat(completion.await(5, TimeUnit.SECONDS)).isTrue();
+        }
+
+        List<String> await() throws InterruptedException {
+            assertThat(expected.await(5, TimeUnit.SECONDS)).isTrue();
+            return received;
+        }
+
+        @Override
+        public void send(SseEventBuilder builder) throws IOException {
+            if (failing) {
+                expected.countDown();
+                throw new IOException("Broken pipe");
+            }
+            if (blocking) {
+                blocked.countDown();
+                try {
+                    release.await(5, TimeUnit.SECONDS);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+            }
+            StringBuilder event = new StringBuilder();
+            for (ResponseBodyEmitter.DataWithMediaType data : builder.build()) {
+                Object value = data.getData();
+                event.append(value instanceof byte[] ? new String((byte[]) value, StandardCharsets.UTF_8) : value);
+            }
+            for (String line : event.toString().split("\n")) {
+                if (line.startsWith("data:")) {
+                    received.add(line.substring("data:".length()));
+                } else if (line.startsWith("id:")) {
+                    ids.add(line.substring("id:".length()));
+                } else if (line.startsWith(":")) {
+                    comments.add(line.substring(1));
+                }
+            }
+            expected.countDown();
+        }
+
+        @Override
+        public synchronized void complete() {
+            completion.countDown();
+        }
+
+    }
+
+    // 실제 SseEmitter처럼 emitter 잠금을 잡고 전송하며, 전송이 끝나지 않는 emitter
+    static class HangingEmitter extends SseEmitter {
+
+        private final CountDownLatch sending = new CountDownLatch(1);
+
+        void awaitSending() throws InterruptedException {
+            assertThat(sending.await(5, TimeUnit.SECONDS)).isTrue();
+        }
+
+        @Override
+        public synchronized void send(SseEventBuilder builder) throws IOException {
+            sending.countDown();
+            try {
+                new CountDownLatch(1).await();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new IOException("Interrupted", e);
+            }
+        }
+
+    }
+
+}
@@ -0,0 +1,63 @@
+package com.bbangbuddy.domain.notification.sse;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.*;
+
+/**
+ * TimingWheel 단위 테스트
+ *
+ * 테스트 목적: 한 바퀴(슬롯 수만큼 tick)에 모든 항목을 정확히 한 번씩 방문하고, tick마다 한 슬롯만 처리하며,
+ * 방문 결과가 false인 항목은 휠에서 제거되는지 검증
+ */
+@DisplayName("TimingWheel 단위 테스트")
+class TimingWheelTest {
+
+    @Test
+    @DisplayName("한 바퀴에 모든 항목 한 번씩 방문 테스트")
+    void tick_visitEachOncePerRevolution() {
+        // Given
+        TimingWheel<Integer> wheel = new TimingWheel<>(4);
+        for (int i = 0; i < 100; i++) {
+            wheel.add(i, i);
+        }
+
+        // When
+        List<Integer> visited = new ArrayList<>();
+        List<Integer> perTick = new ArrayList<>();
+        for (int tick = 0; tick < 4; tick++) {
+            int before = visited.size();
+            wheel.tick(item -> visited.add(item));
+            perTick.add(visited.size() - before);
+        }
+
+        // Then
+        assertThat(visited).hasSize(100).doesNotHaveDuplicates();
+        assertThat(perTick).containsOnly(25);
+    }
+
+    @Test
+    @DisplayName("방문 결과 false 항목 제거 테스트")
+    void tick_remove() {
+        // Given
+        TimingWheel<Integer> wheel = new TimingWheel<>(1);
+        for (int i = 0; i < 10; i++) {
+            wheel.add(i, i);
+        }
+
+        // When - 짝수만 남김
+        int removed = wheel.tick(item -> item % 2 == 0);
+
+        // Then
+        assertThat(removed).isEqualTo(5);
+        assertThat(wheel.size()).isEqualTo(5);
+        List<Integer> remaining = new ArrayList<>();
+        wheel.tick(remaining::add);
+        assertThat(remaining).containsExactly(0, 2, 4, 6, 8);
+    }
+
+}
@@ -3,6 +3,7 @@ package com.bbangbuddy.domain.pot.api;
 import com.bbangbuddy.domain.pot.domain.Pot;
 import com.bbangbuddy.domain.pot.dto.PotDto;
 import com.bbangbuddy.domain.pot.service.PotService;
+import com.bbangbuddy.global.util.IdempotencyStore;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.security.test.context.support.WithMockUser;
 import com.fasterxml.jackson.databind.ObjectMapper;
@@ -12,6 +13,7 @@ import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
 import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.context.annotation.Import;
 
 import org.springframework.data.jpa.mapping.JpaMetamodelMappingContext;
 import org.springframework.http.MediaType;
@@ -22,7 +24,9 @@ import static org.springframework.security.test.web.servlet.request.SecurityMock
 import java.time.LocalDateTime;
 import java.util.Arrays;
 import java.util.List;
+import java.util.function.Consumer;
 
+import static org.hamcrest.Matchers.containsString;
 import static org.mockito.ArgumentMatchers.*;
 import static org.mockito.BDDMockito.given;
 import static org.mockito.Mockito.*;
@@ -38,6 +42,7 @@ import org.springframework.data.jpa.mapping.JpaMetamodelMappingContext;
  * @WebMvcTest를 사용하여 웹 레이어만 로드하고 서비스는 Mock으로 처리
  */
 @WebMvcTest(PotApi.class)
+@Import(IdempotencyStore.class)
 @DisplayName("PotApi 컨트롤러 테스트")
 class PotApiTest {
 
@@ -96,17 +101,26 @@ class PotApiTest {
     @WithMockUser
     @DisplayName("모든 팟 조회 API 테스트")
     void getAllPots_success() throws Exception {
-        // Given
-        List<Pot> potList = Arrays.asList(testPot);
-        given(potService.getAllPots()).willReturn(potList);
+        // Given - 서비스가 넘겨준 팟을 스트리밍으로 응답
+        given(potService.streamPotPage(eq(PotDto.Status.OPEN), eq(false), isNull(), eq(1), any()))
+                .willAnswer(invocation -> {
+                    Consumer<PotDto.Response> consumer = invocation.getArgument(4);
+                    consumer.accept(testPotResponse);
+                    return true;
+                });
 
         // When & Then
-        mockMvc.perform(get("/api/pot"))
+        mockMvc.perform(get("/api/pot")
+                        .param("status", "OPEN")
+                        .param("limit", "1"))
                 .andDo(print())
                 .andExpect(status().isOk())
-                .andExpect(content().contentType(MediaType.APPLICATION_JSON));
-        
-        verify(potService, times(1)).getAllPots();
+                .andExpect(content().contentTypeCompatibleWith(MediaType.APPLICATION_JSON))
+                .andExpect(jsonPath("$.content[0].title").value("테스트 팟"))
+                .andExpect(jsonPath("$.hasNext").value(true))
+                .andExpect(jsonPath("$.nextId").value(1));
+
+        verify(potService, times(1)).streamPotPage(eq(PotDto.Status.OPEN), eq(false), isNull(), eq(1), any());
     }
 
     @Test
@@ -150,6 +164,76 @@ class PotApiTest {
         verify(potService).getNearPotList(37.5665, 126.9780, 1000);
     }
 
+    @Test
+    @WithMockUser
+    @DisplayName("근처 팟 조회 API 테스트 - 변경 버전이 같으면 목록 조회 없이 304")
+    void getNearPotList_notModified() throws Exception {
+        // Given
+        given(potService.getChangeWatermark()).willReturn("boot-7");
+
+        // When & Then
+        mockMvc.perform(get("/api/pot/near")
+                        .param("latitude", "37.5665")
+                        .param("longitude", "126.9780")
+                        .param("distance", "1000")
+                        .header("If-None-Match", "\"boot-7\""))
+                .andDo(print())
+                .andExpect(status().isNotModified())
+                .andExpect(header().string("ETag", "\"boot-7\""));
+
+        verify(potService, never()).getNearPotList(anyDouble(), anyDouble(), anyInt());
+    }
+
+    @Test
+    @WithMockUser
+    @DisplayName("내 팟 목록 조회 API 테스트 - 다른 사용자의 ETag로는 304를 받지 않음")
+    void getMyPotList_etagPerUser() throws Exception {
+        // Given
+        given(potService.getChangeWatermark()).willReturn("boot-42");
+        given(potService.getMyPotList("marsUser")).willReturn(Arrays.asList(testPotResponse));
+
+        // When & Then - jupiterUser가 받은 ETag로 marsUser가 조회
+        mockMvc.perform(get("/api/pot/my")
+                        .header("userId", "marsUser")
+                        .header("If-None-Match", "\"jupiterUser-boot-42\""))
+                .andExpect(status().isOk())
+                .andExpect(header().string("ETag", "\"marsUser-boot-42\""))
+                .andExpect(header().string("Cache-Control", containsString("private")))
+                .andExpect(header().string("Vary", containsString("Authorization")))
+                .andExpect(jsonPath("$[0].title").value("테스트 팟"));
+
+        // 같은 사용자의 ETag면 304
+        mockMvc.perform(get("/api/pot/my")
+                        .header("userId", "marsUser")
+                        .header("If-None-Match", "\"marsUser-boot-42\""))
+                .andExpect(status().isNotModified());
+        verify(potService, times(1)).getMyPotList("marsUser");
+    }
+
+    @Test
+    @WithMockUser
+    @DisplayName("팟 변경분 조회 API 테스트")
+    void getPotChanges_success() throws Exception {
+        // Given
+        PotDto.Changes changes = PotDto.Changes.builder()
+                .watermark("boot-8")
+                .changes(Arrays.asList(
+                        PotDto.Change.builder().version(8L).id(2L).deleted(true).build(),
+                        PotDto.Change.builder().version(7L).id(1L).pot(testPotResponse).build()))
+                .build();
+        given(potService.getPotChanges("boot-6")).willReturn(changes);
+
+        // When & Then
+        mockMvc.perform(get("/api/pot/changes")
+                        .param("since", "boot-6"))
+                .andDo(print())
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.watermark").value("boot-8"))
+                .andExpect(jsonPath("$.reset").value(false))
+                .andExpect(jsonPath("$.changes[0].deleted").value(true))
+                .andExpect(jsonPath("$.changes[1].pot.title").value("테스트 팟"));
+    }
+
     @Test
     @DisplayName("내 팟 목록 조회 API 테스트 - MockedStatic 미지원으로 스킵")
     void getMyPotList_success() throws Exception {
@@ -180,6 +264,31 @@ class PotApiTest {
         // 통합 테스트에서 실제 인증과 함께 테스트해야 함
     }
 
+    @Test
+    @WithMockUser
+    @DisplayName("팟 생성/수정 API 테스트 - 같은 Idempotency-Key 재시도는 처음 응답 재사용")
+    void upsertPot_idempotencyKey() throws Exception {
+        // Given
+        MockMultipartFile potDataFile = new MockMultipartFile("potData", "", "application/json",
+                objectMapper.writeValueAsString(testPotUpsert).getBytes());
+        given(potService.upsertPot(any(PotDto.Upsert.class), any(), eq("testUser"))).willReturn(1L, 2L);
+
+        // When & Then - 두 번째 요청은 팟을 다시 만들지 않고 처음 팟 ID 응답
+        for (String replayed : new String[]{null, "true"}) {
+            mockMvc.perform(multipart("/api/pot/upsert")
+                            .file(potDataFile)
+                            .header("userId", "testUser")
+                            .header(IdempotencyStore.HEADER, "upsert-retry-1")
+                            .with(csrf()))
+                    .andDo(print())
+                    .andExpect(status().isOk())
+                    .andExpect(content().string("1"))
+                    .andExpect(header().string(IdempotencyStore.REPLAYED_HEADER, replayed));
+        }
+
+        verify(potService, times(1)).upsertPot(any(PotDto.Upsert.class), any(), eq("testUser"));
+    }
+
     @Test
     @WithMockUser
     @DisplayName("팟 삭제 API 테스트")
@@ -0,0 +1,67 @@
+package com.bbangbuddy.domain.pot.cache;
+
+import com.bbangbuddy.domain.pot.dto.PotDto;
+import com.bbangbuddy.domain.pot.event.PotChangedEvent;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.*;
+
+/**
+ * PotChangeLog 단위 테스트
+ *
+ * 테스트 목적: 팟 변경마다 변경 버전이 바뀌고, watermark 이후 변경분이 팟별 마지막 상태와 삭제 표시로 조회되는지,
+ * 알 수 없는 watermark는 전체 재조회(reset)를 요청하는지 검증
+ */
+@DisplayName("PotChangeLog 단위 테스트")
+class PotChangeLogTest {
+
+    @Test
+    @DisplayName("watermark 이후 변경분 조회 테스트")
+    void changesSince_success() {
+        // Given
+        PotChangeLog potChangeLog = new PotChangeLog(100);
+        potChangeLog.onPotChanged(PotChangedEvent.created(pot(1L, "첫 번째 팟")));
+        String watermark = potChangeLog.getWatermark();
+
+        // When - 2번 팟 생성 후 수정, 1번 팟 삭제
+        potChangeLog.onPotChanged(PotChangedEvent.created(pot(2L, "두 번째 팟")));
+        potChangeLog.onPotChanged(PotChangedEvent.deleted(pot(1L, "첫 번째 팟")));
+        potChangeLog.onPotChanged(PotChangedEvent.updated(pot(2L, "두 번째 팟"), pot(2L, "수정된 팟")));
+        PotDto.Changes changes = potChangeLog.changesSince(watermark);
+
+        // Then - 팟별 마지막 변경만 변경 순서대로
+        assertThat(potChangeLog.getWatermark()).isNotEqualTo(watermark);
+        assertThat(changes.isReset()).isFalse();
+        assertThat(changes.getWatermark()).isEqualTo(potChangeLog.getWatermark());
+        assertThat(changes.getChanges()).extracting(PotDto.Change::getId).containsExactly(1L, 2L);
+        assertThat(changes.getChanges().get(0).isDeleted()).isTrue();
+        assertThat(changes.getChanges().get(0).getPot()).isNull();
+        assertThat(changes.getChanges().get(1).getPot().getTitle()).isEqualTo("수정된 팟");
+        assertThat(potChangeLog.changesSince(changes.getWatermark()).getChanges()).isEmpty();
+        // 목록 응답의 ETag 헤더 값(따옴표 포함)도 같은 watermark로 인식
+        assertThat(potChangeLog.changesSince("\"" + watermark + "\"").getChanges()).hasSize(2);
+    }
+
+    @Test
+    @DisplayName("알 수 없는 watermark는 전체 재조회 요청 테스트")
+    void changesSince_reset() {
+        // Given - 보관 용량 2건
+        PotChangeLog potChangeLog = new PotChangeLog(2);
+        String first = potChangeLog.getWatermark();
+        for (long id = 1; id <= 3; id++) {
+            potChangeLog.onPotChanged(PotChangedEvent.created(pot(id, "팟 " + id)));
+        }
+
+        // When & Then - 보관 범위를 벗어난 watermark, 다른 기동 시점의 watermark, 첫 요청
+        assertThat(potChangeLog.changesSince(first).isReset()).isTrue();
+        assertThat(potChangeLog.changesSince("oldboot-1").isReset()).isTrue();
+        assertThat(potChangeLog.changesSince(null).isReset()).isTrue();
+        assertThat(potChangeLog.changesSince(null).getWatermark()).isEqualTo(potChangeLog.getWatermark());
+    }
+
+    private PotDto.Response pot(Long id, String title) {
+        return PotDto.Response.builder().id(id).title(title).build();
+    }
+
+}
@@ -0,0 +1,60 @@
+package com.bbangbuddy.domain.pot.cache;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.*;
+
+/**
+ * PotMembershipCache 단위 테스트
+ *
+ * 테스트 목적: 참가/탈퇴로 사용자 항목이 제거되고, 제거 이전에 읽은 참가 목록은 캐시에 다시 들어가지 않는지 검증
+ */
+@DisplayName("PotMembershipCache 단위 테스트")
+class PotMembershipCacheTest {
+
+    @Test
+    @DisplayName("참가 팟 ID 저장 및 제거 테스트")
+    void putAndInvalidate_success() {
+        // Given
+        PotMembershipCache cache = new PotMembershipCache(true, 100, 60);
+        cache.put("jupiterUser", new long[]{3L, 1L}, cache.stamp());
+        cache.put("marsUser", new long[0], cache.stamp());
+
+        // When
+        cache.invalidate("jupiterUser");
+
+        // Then
+        assertThat(cache.get("jupiterUser")).isNull();
+        assertThat(cache.get("marsUser")).isEmpty();
+    }
+
+    @Test
+    @DisplayName("조회 중 제거가 일어나면 읽은 목록을 저장하지 않는 테스트")
+    void put_staleAfterInvalidate() {
+        // Given - DB 조회 전에 stamp를 받은 뒤 다른 요청이 참가
+        PotMembershipCache cache = new PotMembershipCache(true, 100, 60);
+        long stamp = cache.stamp();
+        cache.invalidate("jupiterUser");
+
+        // When
+        cache.put("jupiterUser", new long[]{1L}, stamp);
+
+        // Then
+        assertThat(cache.get("jupiterUser")).isNull();
+    }
+
+    @Test
+    @DisplayName("캐시 미사용 설정 테스트")
+    void disabled() {
+        // Given
+        PotMembershipCache cache = new PotMembershipCache(false, 100, 60);
+
+        // When
+        cache.put("jupiterUser", new long[]{1L}, cache.stamp());
+
+        // Then
+        assertThat(cache.get("jupiterUser")).isNull();
+    }
+
+}
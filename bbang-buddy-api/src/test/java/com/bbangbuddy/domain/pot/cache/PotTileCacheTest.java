@@ -0,0 +1,168 @@
+package com.bbangbuddy.domain.pot.cache;
+
+import com.bbangbuddy.domain.pot.dto.PotDto;
+import com.bbangbuddy.domain.pot.dto.PotProjection;
+import com.bbangbuddy.domain.pot.event.PotChangedEvent;
+import com.bbangbuddy.domain.pot.repository.PotRepository;
+import com.bbangbuddy.global.util.GeoUtils;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.stream.Collectors;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.anyDouble;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.*;
+
+/**
+ * PotTileCache 단위 테스트
+ *
+ * 테스트 목적: 타일을 합친 조회 결과가 전체 거리 계산 결과와 같은지,
+ * 캐시 적중/실패 통계와 팟 변경 시 해당 타일만 제거되는지 검증
+ */
+@ExtendWith(MockitoExtension.class)
+@DisplayName("PotTileCache 단위 테스트")
+class PotTileCacheTest {
+
+    @Mock
+    private PotRepository potRepository;
+
+    private PotTileCache potTileCache;
+
+    private final List<PotProjection> pots = new ArrayList<>();
+
+    private final double latitude = 37.5665;
+    private final double longitude = 126.9780;
+
+    @BeforeEach
+    void setUp() {
+        potTileCache = new PotTileCache(potRepository, true, 10_000, 60);
+
+        // 서울 주변 무작위 좌표, 타일 조회 시 범위 안의 팟만 반환
+        Random random = new Random(42);
+        for (long id = 1; id <= 2000; id++) {
+            pots.add(projection(id, 37.3 + random.nextDouble() * 0.5, 126.7 + random.nextDouble() * 0.6));
+        }
+        lenient().when(potRepository.findPotsInTile(anyDouble(), anyDouble(), anyDouble(), anyDouble()))
+                .thenAnswer(invocation -> pots.stream()
+                        .filter(pot -> pot.getLatitude() >= (double) invocation.getArgument(0)
+                                && pot.getLatitude() < (double) invocation.getArgument(1)
+                                && pot.getLongitude() >= (double) invocation.getArgument(2)
+                                && pot.getLongitude() < (double) invocation.getArgument(3))
+                        .collect(Collectors.toList()));
+    }
+
+    @Test
+    @DisplayName("geohash 계산 테스트")
+    void geohash_success() {
+        // When & Then - 널리 쓰이는 예제 좌표의 geohash와 영역
+        assertThat(GeoUtils.geohash(57.64911, 10.40744, 11)).isEqualTo("u4pruydqqvj");
+        double[] bounds = GeoUtils.geohashBounds("u4pruydqqvj");
+        assertThat(57.64911).isBetween(bounds[0], bounds[1]);
+        assertThat(10.40744).isBetween(bounds[2], bounds[3]);
+    }
+
+    @Test
+    @DisplayName("타일 조회 결과와 전체 거리 계산 결과 일치 테스트")
+    void findNearby_matchesBruteForce() {
+        for (int distance : new int[]{0, 1, 3, 5, 20}) {
+            // Given
+            List<Long> expected = pots.stream()
+                    .filter(pot -> GeoUtils.distanceKm(latitude, longitude, pot.getLatitude(), pot.getLongitude()) <= distance)
+                    .map(PotProjection::getId)
+                    .collect(Collectors.toList());
+
+            // When
+            List<PotDto.Response> actual = potTileCache.findNearby(latitude, longitude, distance);
+
+            // Then
+            assertThat(actual).as("distance=%dkm", distance)
+                    .extracting(PotDto.Response::getId)
+                    .containsExactlyInAnyOrderElementsOf(expected);
+        }
+    }
+
+    @Test
+    @DisplayName("같은 타일 재조회 시 캐시 적중 테스트")
+    void findNearby_hit() {
+        // When
+        potTileCache.findNearby(latitude, longitude, 3);
+        int tileCount = PotTileCache.coveringTiles(latitude, longitude, 3).size();
+        potTileCache.findNearby(latitude, longitude, 3);
+
+        // Then
+        PotTileCache.Stats stats = potTileCache.stats();
+        assertThat(stats.getMissCount()).isEqualTo(tileCount);
+        assertThat(stats.getHitCount()).isEqualTo(tileCount);
+        verify(potRepository, times(tileCount)).findPotsInTile(anyDouble(), anyDouble(), anyDouble(), anyDouble());
+    }
+
+    @Test
+    @DisplayName("팟 변경 시 해당 좌표의 타일만 제거 테스트")
+    void onPotChanged_evictsOnlyAffectedTile() {
+        // Given - 시청 주변과 잠실 주변 타일을 캐시
+        double jamsilLatitude = 37.5133;
+        double jamsilLongitude = 127.1001;
+        potTileCache.findNearby(latitude, longitude, 1);
+        potTileCache.findNearby(jamsilLatitude, jamsilLongitude, 1);
+        clearInvocations(potRepository);
+
+        // When - 시청 근처에 팟 생성
+        PotProjection created = projection(9999L, latitude, longitude);
+        pots.add(created);
+        potTileCache.onPotChanged(PotChangedEvent.created(PotDto.Response.from(created)));
+
+        // Then - 시청 타일은 다시 읽어 새 팟이 보이고, 잠실 타일은 캐시에서 응답
+        assertThat(potTileCache.findNearby(latitude, longitude, 1))
+                .extracting(PotDto.Response::getId).contains(9999L);
+        verify(potRepository, atLeastOnce()).findPotsInTile(anyDouble(), anyDouble(), anyDouble(), anyDouble());
+        clearInvocations(potRepository);
+        potTileCache.findNearby(jamsilLatitude, jamsilLongitude, 1);
+        verifyNoInteractions(potRepository);
+        assertThat(potTileCache.stats().getInvalidationCount()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("타일 경계 위의 팟은 집 타일에만 담기고 변경 시 갱신 테스트")
+    void onPotChanged_boundaryPot() {
+        // Given - 시청 타일 북동쪽 모서리 위에 팟 생성 후 그 주변 타일을 캐시
+        double[] bounds = GeoUtils.geohashBounds(GeoUtils.geohash(latitude, longitude, 6));
+        PotProjection boundary = projection(9999L, bounds[1], bounds[3]);
+        pots.add(boundary);
+        assertThat(potTileCache.findNearby(bounds[1], bounds[3], 1))
+                .extracting(PotDto.Response::getId).containsOnlyOnce(9999L);
+
+        // When - 경계 위의 팟을 삭제
+        pots.remove(boundary);
+        potTileCache.onPotChanged(PotChangedEvent.deleted(PotDto.Response.from(boundary)));
+
+        // Then - 이웃 타일에 남은 사본 없이 삭제가 반영됨
+        assertThat(potTileCache.findNearby(bounds[1], bounds[3], 1))
+                .extracting(PotDto.Response::getId).doesNotContain(9999L);
+    }
+
+    @Test
+    @DisplayName("반경이 너무 크면 캐시하지 않음 테스트")
+    void findNearby_notCacheable() {
+        // When & Then
+        assertThat(potTileCache.findNearby(latitude, longitude, 2000)).isNull();
+        verifyNoInteractions(potRepository);
+    }
+
+    private static PotProjection projection(long id, double latitude, double longitude) {
+        PotProjection projection = mock(PotProjection.class, withSettings().lenient());
+        given(projection.getId()).willReturn(id);
+        given(projection.getLatitude()).willReturn(latitude);
+        given(projection.getLongitude()).willReturn(longitude);
+        return projection;
+    }
+
+}
@@ -0,0 +1,165 @@
+package com.bbangbuddy.domain.pot.index;
+
+import com.bbangbuddy.domain.pot.dto.PotCoordinate;
+import com.bbangbuddy.domain.pot.dto.PotDto;
+import com.bbangbuddy.domain.pot.event.PotChangedEvent;
+import com.bbangbuddy.domain.pot.repository.PotRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.*;
+
+/**
+ * PotClusterIndex 단위 테스트
+ *
+ * 테스트 목적: 줌 레벨별 격자 집계가 좌표 목록을 직접 집계한 결과와 같은지,
+ * 팟 생성/수정/삭제 이벤트로 모든 레벨의 개수와 대표 팟이 올바르게 갱신되는지 검증
+ */
+@ExtendWith(MockitoExtension.class)
+@DisplayName("PotClusterIndex 단위 테스트")
+class PotClusterIndexTest {
+
+    @Mock
+    private PotRepository potRepository;
+
+    @InjectMocks
+    private PotClusterIndex potClusterIndex;
+
+    @BeforeEach
+    void setUp() {
+        potClusterIndex.put(1L, 37.5670, 126.9785);   // 시청 근처
+        potClusterIndex.put(2L, 37.56701, 126.97851);   // 시청 근처
+        potClusterIndex.put(3L, 37.4979, 127.0276);   // 강남역
+        potClusterIndex.put(4L, 35.1796, 129.0756);   // 부산
+    }
+
+    @Test
+    @DisplayName("줌 레벨에 따른 클러스터 집계 테스트")
+    void findClusters_byZoom() {
+        // When - 전국 뷰포트
+        List<PotDto.Cluster> far = potClusterIndex.findClusters(33, 39, 124, 132, 5);
+        List<PotDto.Cluster> near = potClusterIndex.findClusters(37.4, 37.6, 126.9, 127.1, 16);
+
+        // Then - 낮은 줌에서는 서울이 한 칸, 높은 줌에서는 시청과 강남이 나뉜다.
+        assertThat(far).extracting(PotDto.Cluster::getCount).containsExactlyInAnyOrder(3, 1);
+        PotDto.Cluster seoul = far.stream().filter(cluster -> cluster.getCount() == 3).findFirst().get();
+        assertThat(seoul.getLatitude()).isCloseTo((37.5670 + 37.56701 + 37.4979) / 3, within(1e-9));
+        assertThat(seoul.getSamplePotId()).isIn(1L, 2L, 3L);
+        assertThat(near).extracting(PotDto.Cluster::getCount).containsExactlyInAnyOrder(2, 1);
+    }
+
+    @Test
+    @DisplayName("경도 180도를 넘는 뷰포트 조회 테스트")
+    void findClusters_antimeridian() {
+        // Given
+        potClusterIndex.put(10L, -17.7, 179.9);
+        potClusterIndex.put(11L, -17.7, -179.9);
+
+        // When
+        List<PotDto.Cluster> clusters = potClusterIndex.findClusters(-20, -15, 179, -179, 12);
+
+        // Then
+        assertThat(clusters).extracting(PotDto.Cluster::getSamplePotId).containsExactlyInAnyOrder(10L, 11L);
+    }
+
+    @Test
+    @DisplayName("대표 팟 삭제 시 같은 격자의 다른 팟으로 교체 테스트")
+    void onPotChanged_deletedSample() {
+        // Given - 먼저 등록된 1번 팟이 시청 격자의 대표
+        assertThat(potClusterIndex.findClusters(37.56, 37.57, 126.97, 126.98, 18))
+                .extracting(PotDto.Cluster::getSamplePotId).containsExactly(1L);
+        PotDto.Response before = PotDto.Response.builder().id(1L).latitude(37.5670).longitude(126.9785).build();
+
+        // When
+        potClusterIndex.onPotChanged(PotChangedEvent.deleted(before));
+
+        // Then - 모든 줌 레벨에서 삭제된 팟은 대표에서 빠진다.
+        for (int zoom = PotClusterIndex.MIN_ZOOM; zoom <= PotClusterIndex.MAX_ZOOM; zoom++) {
+            assertThat(potClusterIndex.findClusters(33, 39, 124, 132, zoom))
+                    .as("zoom=%d", zoom)
+                    .extracting(PotDto.Cluster::getSamplePotId)
+                    .doesNotContain(1L);
+        }
+        assertThat(potClusterIndex.findClusters(37.56, 37.57, 126.97, 126.98, 18))
+                .extracting(PotDto.Cluster::getSamplePotId).containsExactly(2L);
+        assertThat(potClusterIndex.size()).isEqualTo(3);
+    }
+
+    @Test
+    @DisplayName("증분 갱신 결과와 좌표 목록 직접 집계 결과 일치 테스트")
+    void incrementalUpdates_matchAggregate() {
+        // Given - 무작위 생성/이동/삭제 후 남은 좌표
+        Random random = new Random(42);
+        Map<Long, double[]> alive = new HashMap<>();
+        alive.put(1L, new double[]{37.5670, 126.9785});
+        alive.put(2L, new double[]{37.56701, 126.97851});
+        alive.put(3L, new double[]{37.4979, 127.0276});
+        alive.put(4L, new double[]{35.1796, 129.0756});
+        for (long id = 100; id < 2100; id++) {
+            double[] coordinate = {37.3 + random.nextDouble() * 0.5, 126.7 + random.nextDouble() * 0.6};
+            potClusterIndex.put(id, coordinate[0], coordinate[1]);
+            alive.put(id, coordinate);
+        }
+        for (long id = 100; id < 2100; id += 3) {
+            potClusterIndex.remove(id);
+            alive.remove(id);
+        }
+        for (long id = 101; id < 2100; id += 5) {
+            if (alive.containsKey(id)) {
+                double[] moved = {37.3 + random.nextDouble() * 0.5, 126.7 + random.nextDouble() * 0.6};
+                potClusterIndex.put(id, moved[0], moved[1]);
+                alive.put(id, moved);
+            }
+        }
+        List<PotCoordinate> coordinates = new ArrayList<>();
+        alive.forEach((id, coordinate) -> coordinates.add(coordinate(id, coordinate[0], coordinate[1])));
+
+        for (int zoom = PotClusterIndex.MIN_ZOOM; zoom <= PotClusterIndex.MAX_ZOOM; zoom++) {
+            // When
+            List<PotDto.Cluster> actual = potClusterIndex.findClusters(-90, 90, -180, 180, zoom);
+            List<PotDto.Cluster> expected = PotClusterIndex.aggregate(coordinates, zoom);
+
+            // Then - 격자별 개수와 중심 좌표가 같고, 대표 팟은 살아 있는 팟이다.
+            assertThat(actual).as("zoom=%d", zoom).hasSameSizeAs(expected);
+            for (PotDto.Cluster cluster : actual) {
+                assertThat(expected).as("zoom=%d", zoom).anySatisfy(other -> {
+                    assertThat(other.getCount()).isEqualTo(cluster.getCount());
+                    assertThat(other.getLatitude()).isCloseTo(cluster.getLatitude(), within(1e-6));
+                    assertThat(other.getLongitude()).isCloseTo(cluster.getLongitude(), within(1e-6));
+                });
+                assertThat(alive).containsKey(cluster.getSamplePotId());
+            }
+        }
+    }
+
+    private static PotCoordinate coordinate(long id, double latitude, double longitude) {
+        return new PotCoordinate() {
+            @Override
+            public Long getId() {
+                return id;
+            }
+
+            @Override
+            public Double getLatitude() {
+                return latitude;
+            }
+
+            @Override
+            public Double getLongitude() {
+                return longitude;
+            }
+        };
+    }
+
+}
@@ -0,0 +1,153 @@
+package com.bbangbuddy.domain.pot.index;
+
+import com.bbangbuddy.domain.pot.repository.PotRepository;
+import org.h2.jdbcx.JdbcDataSource;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInstance;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Random;
+import java.util.function.Supplier;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.Mockito.mock;
+
+/**
+ * PotSearchIndex 성능 측정
+ *
+ * 테스트 목적: 20만 건의 가상 팟 데이터에서 기존 LIKE '%검색어%' 쿼리(제목/설명/주소 OR 조건)와
+ * n-gram 색인 후보 조회 + PK 조회 후 포함 여부 확인 방식의 응답 시간을 비교
+ * 기본 빌드에서는 제외되며 ./gradlew benchmark 로 실행한다.
+ */
+@Tag("benchmark")
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+@DisplayName("PotSearchIndex 성능 측정")
+class PotSearchIndexBenchmarkTest {
+
+    private static final int POT_COUNT = 200_000;
+    private static final int WARMUP = 5;
+    private static final int ITERATIONS = 20;
+
+    private static final String[] MENUS = {"떡볶이", "치킨", "피자", "족발", "보쌈", "마라탕", "햄버거", "초밥", "짜장면", "냉면",
+            "곱창", "삼겹살", "샐러드", "커피", "빙수", "도넛", "김밥", "순대", "쌀국수", "파스타"};
+    private static final String[] BRANDS = {"신전", "교촌", "도미노", "원할머니", "엽기", "버거킹", "스타벅스", "배스킨", "홍콩반점", "명동"};
+    private static final String[] DISTRICTS = {"서울시 중구", "서울시 강남구", "서울시 마포구", "부산시 해운대구", "대구시 수성구",
+            "인천시 연수구", "광주시 서구", "대전시 유성구", "수원시 영통구", "성남시 분당구"};
+
+    // PotRepositorySupport.findBySearchCondition 이 만드는 조건과 같은 LIKE 쿼리 (검색 결과와 같이 CLOB까지 조회)
+    private static final String LIKE_SQL = "SELECT ID, TITLE, DESCRIPTION, ADDRESS FROM BBANGPOT " +
+            "WHERE TITLE LIKE :keyword OR DESCRIPTION LIKE :keyword OR ADDRESS LIKE :keyword ORDER BY DUE_DATE DESC";
+
+    private JdbcTemplate jdbcTemplate;
+    private NamedParameterJdbcTemplate namedJdbcTemplate;
+    private PotSearchIndex potSearchIndex;
+
+    @BeforeAll
+    void setUp() {
+        JdbcDataSource dataSource = new JdbcDataSource();
+        dataSource.setURL("jdbc:h2:mem:searchBenchmark;MODE=Oracle;DB_CLOSE_DELAY=-1");
+        jdbcTemplate = new JdbcTemplate(dataSource);
+        namedJdbcTemplate = new NamedParameterJdbcTemplate(jdbcTemplate);
+        potSearchIndex = new PotSearchIndex(mock(PotRepository.class));
+
+        jdbcTemplate.execute("CREATE TABLE BBANGPOT (" +
+                "ID BIGINT PRIMARY KEY, TITLE VARCHAR2(255) NOT NULL, ADDRESS VARCHAR2(255), " +
+                "DUE_DATE TIMESTAMP NOT NULL, DESCRIPTION CLOB)");
+
+        // 메뉴/브랜드/지역을 조합한 가상 팟 생성 후 DB와 색인에 동일하게 적재
+        Random random = new Random(7);
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        List<Object[]> batch = new ArrayList<>();
+        for (long id = 1; id <= POT_COUNT; id++) {
+            String menu = MENUS[random.nextInt(MENUS.length)];
+            String title = BRANDS[random.nextInt(BRANDS.length)] + menu + " 같이 시켜요 " + id;
+            String description = menu + " 좋아하시는 분 " + MENUS[random.nextInt(MENUS.length)] + "도 같이 주문해요. "
+                    + "배달비 나눠서 내요, 도착하면 연락드릴게요.";
+            String address = DISTRICTS[random.nextInt(DISTRICTS.length)];
+            potSearchIndex.put(id, title, description, address);
+            batch.add(new Object[]{id, title, description, address, now});
+            if (batch.size() == 10_000) {
+                insert(batch);
+                batch.clear();
+            }
+        }
+        insert(batch);
+    }
+
+    @AfterAll
+    void tearDown() {
+        jdbcTemplate.execute("DROP TABLE BBANGPOT");
+    }
+
+    @Test
+    @DisplayName("LIKE 쿼리 vs n-gram 색인 키워드 검색")
+    void searchPots_benchmark() {
+        for (String keyword : new String[]{"원할머니보쌈", "마라탕", "해운대"}) {
+            Supplier<List<Long>> likeQuery = () -> namedJdbcTemplate.query(LIKE_SQL,
+                    new MapSqlParameterSource("keyword", "%" + keyword + "%"), (rs, i) -> {
+                        rs.getString("DESCRIPTION");
+                        return rs.getLong("ID");
+                    });
+            Supplier<List<Long>> indexWithHydrate = () -> {
+                List<Long> ids = potSearchIndex.findCandidateIds(keyword);
+                if (ids.isEmpty()) {
+                    return ids;
+                }
+                List<Long> matched = new ArrayList<>();
+                // IN 목록이 너무 길어지지 않도록 1,000건씩 나누어 조회
+                for (int from = 0; from < ids.size(); from += 1000) {
+                    List<Long> chunk = ids.subList(from, Math.min(ids.size(), from + 1000));
+                    namedJdbcTemplate.query("SELECT ID, TITLE, DESCRIPTION, ADDRESS FROM BBANGPOT WHERE ID IN (:ids)",
+                            new MapSqlParameterSource("ids", chunk), rs -> {
+                                if (PotSearchIndex.score(keyword, rs.getString("TITLE"),
+                                        rs.getString("DESCRIPTION"), rs.getString("ADDRESS")) > 0) {
+                                    matched.add(rs.getLong("ID"));
+                                }
+                            });
+                }
+                return matched;
+            };
+
+            // 두 방식 모두 같은 팟 집합을 반환해야 한다.
+            List<Long> expected = likeQuery.get();
+            assertThat(new HashSet<>(indexWithHydrate.get())).isEqualTo(new HashSet<>(expected));
+
+            double likeMs = measure(likeQuery);
+            double candidateMs = measure(() -> potSearchIndex.findCandidateIds(keyword));
+            double hydrateMs = measure(indexWithHydrate);
+
+            System.out.printf("[benchmark] pots=%,d, keyword=%s, matched=%d%n", POT_COUNT, keyword, expected.size());
+            System.out.printf("[benchmark] LIKE '%%kw%%' x3      : %10.3f ms/op%n", likeMs);
+            System.out.printf("[benchmark] n-gram candidates   : %10.3f ms/op%n", candidateMs);
+            System.out.printf("[benchmark] index + PK hydrate  : %10.3f ms/op%n", hydrateMs);
+        }
+    }
+
+    private void insert(List<Object[]> rows) {
+        jdbcTemplate.batchUpdate("INSERT INTO BBANGPOT (ID, TITLE, DESCRIPTION, ADDRESS, DUE_DATE) " +
+                "VALUES (?, ?, ?, ?, ?)", rows);
+    }
+
+    private double measure(Supplier<List<Long>> query) {
+        for (int i = 0; i < WARMUP; i++) {
+            query.get();
+        }
+        long start = System.nanoTime();
+        for (int i = 0; i < ITERATIONS; i++) {
+            query.get();
+        }
+        return (System.nanoTime() - start) / 1_000_000.0 / ITERATIONS;
+    }
+
+}
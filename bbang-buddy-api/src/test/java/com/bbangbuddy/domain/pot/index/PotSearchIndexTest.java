@@ -0,0 +1,82 @@
+package com.bbangbuddy.domain.pot.index;
+
+import com.bbangbuddy.domain.pot.dto.PotDto;
+import com.bbangbuddy.domain.pot.event.PotChangedEvent;
+import com.bbangbuddy.domain.pot.repository.PotRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import static org.assertj.core.api.Assertions.*;
+
+/**
+ * PotSearchIndex 단위 테스트
+ *
+ * 테스트 목적: 글자 n-gram 색인으로 한글 부분 검색 후보를 찾는지,
+ * 팟 수정/삭제 이벤트로 색인이 갱신되고 관련도 점수가 필드 가중치를 따르는지 검증
+ */
+@ExtendWith(MockitoExtension.class)
+@DisplayName("PotSearchIndex 단위 테스트")
+class PotSearchIndexTest {
+
+    @Mock
+    private PotRepository potRepository;
+
+    @InjectMocks
+    private PotSearchIndex potSearchIndex;
+
+    @BeforeEach
+    void setUp() {
+        potSearchIndex.put(1L, "신전떡볶이 같이 먹어요", "매운 떡볶이 좋아하시는 분", "서울시 중구");
+        potSearchIndex.put(2L, "치킨 반반", "떡볶이도 같이 시켜요", "서울시 강남구");
+        potSearchIndex.put(3L, "피자 나눠요", null, "부산시 해운대구");
+    }
+
+    @Test
+    @DisplayName("한글 부분 검색어 후보 조회 테스트")
+    void findCandidateIds_success() {
+        // When & Then - 띄어쓰기 없는 단어 중간, 한 글자, 주소 검색
+        assertThat(potSearchIndex.findCandidateIds("떡볶이")).containsExactlyInAnyOrder(1L, 2L);
+        assertThat(potSearchIndex.findCandidateIds("피")).containsExactly(3L);
+        assertThat(potSearchIndex.findCandidateIds("서울시")).containsExactlyInAnyOrder(1L, 2L);
+        assertThat(potSearchIndex.findCandidateIds("족발")).isEmpty();
+    }
+
+    @Test
+    @DisplayName("팟 수정/삭제 이벤트로 색인 갱신 테스트")
+    void onPotChanged_updatesPostings() {
+        // Given
+        PotDto.Response before = PotDto.Response.builder().id(3L).title("피자 나눠요").address("부산시 해운대구").build();
+        PotDto.Response after = PotDto.Response.builder().id(3L).title("족발 나눠요").address("부산시 해운대구").build();
+
+        // When
+        potSearchIndex.onPotChanged(PotChangedEvent.updated(before, after));
+        potSearchIndex.onPotChanged(PotChangedEvent.deleted(PotDto.Response.builder().id(2L).build()));
+
+        // Then
+        assertThat(potSearchIndex.findCandidateIds("피자")).isEmpty();
+        assertThat(potSearchIndex.findCandidateIds("족발")).containsExactly(3L);
+        assertThat(potSearchIndex.findCandidateIds("떡볶이")).containsExactly(1L);
+        assertThat(potSearchIndex.size()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("관련도 점수 계산 테스트")
+    void score_weightsFields() {
+        // When
+        double titleMatch = PotSearchIndex.score("떡볶이", "신전떡볶이 같이 먹어요", "매운 떡볶이", null);
+        double descriptionMatch = PotSearchIndex.score("떡볶이", "치킨 반반", "떡볶이도 같이 시켜요", null);
+        double prefixMatch = PotSearchIndex.score("떡볶이", "떡볶이 먹어요", null, null);
+        double noMatch = PotSearchIndex.score("떡볶이", "떡 볶이", "볶이떡", null);
+
+        // Then - 제목 일치가 설명 일치보다, 제목 앞부분 일치가 중간 일치보다 높고, 연속으로 나오지 않으면 0
+        assertThat(titleMatch).isGreaterThan(descriptionMatch);
+        assertThat(prefixMatch).isGreaterThan(PotSearchIndex.score("떡볶이", "신전떡볶이", null, null));
+        assertThat(noMatch).isZero();
+    }
+
+}
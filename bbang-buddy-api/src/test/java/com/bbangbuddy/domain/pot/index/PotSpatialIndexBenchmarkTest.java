@@ -0,0 +1,143 @@
+package com.bbangbuddy.domain.pot.index;
+
+import com.bbangbuddy.domain.pot.repository.PotRepository;
+import org.h2.jdbcx.JdbcDataSource;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInstance;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Random;
+import java.util.function.Supplier;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.Mockito.mock;
+
+/**
+ * PotSpatialIndex 성능 측정
+ *
+ * 테스트 목적: 100만 건의 가상 팟 데이터에서 기존 네이티브 쿼리(findNearbyPots)와
+ * 공간 인덱스 조회 + PK 조회(hydrate) 방식의 응답 시간을 비교
+ * 기본 빌드에서는 제외되며 ./gradlew benchmark 로 실행한다.
+ */
+@Tag("benchmark")
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+@DisplayName("PotSpatialIndex 성능 측정")
+class PotSpatialIndexBenchmarkTest {
+
+    private static final int POT_COUNT = 1_000_000;
+    private static final int WARMUP = 5;
+    private static final int ITERATIONS = 20;
+
+    private final double latitude = 37.5665;
+    private final double longitude = 126.9780;
+    private final int distance = 3;
+
+    private JdbcTemplate jdbcTemplate;
+    private NamedParameterJdbcTemplate namedJdbcTemplate;
+    private PotSpatialIndex potSpatialIndex;
+    private String nearbySql;
+
+    @BeforeAll
+    void setUp() throws Exception {
+        JdbcDataSource dataSource = new JdbcDataSource();
+        dataSource.setURL("jdbc:h2:mem:benchmark;MODE=Oracle;DB_CLOSE_DELAY=-1");
+        jdbcTemplate = new JdbcTemplate(dataSource);
+        namedJdbcTemplate = new NamedParameterJdbcTemplate(jdbcTemplate);
+        potSpatialIndex = new PotSpatialIndex(mock(PotRepository.class));
+
+        // 현재 레포지토리에 선언된 네이티브 쿼리를 그대로 사용
+        nearbySql = PotRepository.class
+                .getMethod("findNearbyPots", double.class, double.class, int.class)
+                .getAnnotation(Query.class)
+                .value();
+
+        jdbcTemplate.execute("CREATE TABLE BBANGPOT (" +
+                "ID BIGINT PRIMARY KEY, TITLE VARCHAR2(255) NOT NULL, ADDRESS VARCHAR2(255), " +
+                "DUE_DATE TIMESTAMP NOT NULL, IMAGE_PATH VARCHAR2(255), ORIGINAL_FILE_NAME VARCHAR2(255), " +
+                "DESCRIPTION CLOB, LATITUDE NUMBER NOT NULL, LONGITUDE NUMBER NOT NULL, " +
+                "MAX_PARTICIPANTS NUMBER NOT NULL, CURRENT_PARTICIPANTS NUMBER DEFAULT 0, " +
+                "CREATED_BY NUMBER NOT NULL, CREATED_AT TIMESTAMP, UPDATED_AT TIMESTAMP)");
+
+        // 전국 범위의 가상 팟 좌표 생성 후 DB와 인덱스에 동일하게 적재
+        Random random = new Random(7);
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        List<Object[]> batch = new ArrayList<>();
+        for (long id = 1; id <= POT_COUNT; id++) {
+            double lat = 33.0 + random.nextDouble() * 5.6;
+            double lng = 124.6 + random.nextDouble() * 6.4;
+            potSpatialIndex.put(id, lat, lng);
+            batch.add(new Object[]{id, "팟 " + id, "설명 " + id, lat, lng, now, now, now});
+            if (batch.size() == 10_000) {
+                insert(batch);
+                batch.clear();
+            }
+        }
+        insert(batch);
+    }
+
+    @AfterAll
+    void tearDown() {
+        jdbcTemplate.execute("DROP TABLE BBANGPOT");
+    }
+
+    @Test
+    @DisplayName("네이티브 쿼리 vs 공간 인덱스 근처 팟 조회")
+    void nearbyPots_benchmark() {
+        MapSqlParameterSource params = new MapSqlParameterSource()
+                .addValue("latitude", latitude)
+                .addValue("longitude", longitude)
+                .addValue("distance", distance);
+
+        Supplier<List<Long>> nativeQuery = () -> namedJdbcTemplate.query(nearbySql, params, (rs, i) -> rs.getLong("id"));
+        Supplier<List<Long>> indexLookup = () -> potSpatialIndex.findNearbyIds(latitude, longitude, distance);
+        Supplier<List<Long>> indexWithHydrate = () -> {
+            List<Long> ids = potSpatialIndex.findNearbyIds(latitude, longitude, distance);
+            return namedJdbcTemplate.query("SELECT ID, TITLE, DESCRIPTION FROM BBANGPOT WHERE ID IN (:ids)",
+                    new MapSqlParameterSource("ids", ids), (rs, i) -> rs.getLong("ID"));
+        };
+
+        // 세 방식 모두 같은 팟 집합을 반환해야 한다.
+        List<Long> expected = nativeQuery.get();
+        assertThat(new HashSet<>(indexLookup.get())).isEqualTo(new HashSet<>(expected));
+        assertThat(new HashSet<>(indexWithHydrate.get())).isEqualTo(new HashSet<>(expected));
+
+        double nativeMs = measure(nativeQuery);
+        double indexMs = measure(indexLookup);
+        double hydrateMs = measure(indexWithHydrate);
+
+        System.out.printf("[benchmark] pots=%,d, radius=%dkm, matched=%d%n", POT_COUNT, distance, expected.size());
+        System.out.printf("[benchmark] native findNearbyPots : %10.3f ms/op%n", nativeMs);
+        System.out.printf("[benchmark] spatial index lookup  : %10.3f ms/op%n", indexMs);
+        System.out.printf("[benchmark] index + PK hydrate    : %10.3f ms/op%n", hydrateMs);
+    }
+
+    private void insert(List<Object[]> rows) {
+        jdbcTemplate.batchUpdate("INSERT INTO BBANGPOT (ID, TITLE, DESCRIPTION, LATITUDE, LONGITUDE, " +
+                "MAX_PARTICIPANTS, CURRENT_PARTICIPANTS, CREATED_BY, DUE_DATE, CREATED_AT, UPDATED_AT) " +
+                "VALUES (?, ?, ?, ?, ?, 4, 0, 1, ?, ?, ?)", rows);
+    }
+
+    private double measure(Supplier<List<Long>> query) {
+        for (int i = 0; i < WARMUP; i++) {
+            query.get();
+        }
+        long start = System.nanoTime();
+        for (int i = 0; i < ITERATIONS; i++) {
+            query.get();
+        }
+        return (System.nanoTime() - start) / 1_000_000.0 / ITERATIONS;
+    }
+
+}
@@ -0,0 +1,204 @@
+package com.bbangbuddy.domain.pot.index;
+
+import com.bbangbuddy.domain.pot.dto.PotCoordinate;
+import com.bbangbuddy.domain.pot.dto.PotDto;
+import com.bbangbuddy.domain.pot.event.PotChangedEvent;
+import com.bbangbuddy.domain.pot.repository.PotRepository;
+import com.bbangbuddy.global.util.GeoUtils;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Random;
+import java.util.stream.Collectors;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.BDDMockito.given;
+
+/**
+ * PotSpatialIndex 단위 테스트
+ *
+ * 테스트 목적: 격자 인덱스 조회 결과가 전체 좌표를 거리 계산한 결과와 같은지,
+ * 팟 생성/수정/삭제 이벤트로 인덱스가 올바르게 갱신되는지, 적재 중에 받은 이벤트가 적재 결과에 덮이지 않는지 검증
+ */
+@ExtendWith(MockitoExtension.class)
+@DisplayName("PotSpatialIndex 단위 테스트")
+class PotSpatialIndexTest {
+
+    @Mock
+    private PotRepository potRepository;
+
+    @InjectMocks
+    private PotSpatialIndex potSpatialIndex;
+
+    private final double latitude = 37.5665;
+    private final double longitude = 126.9780;
+
+    @BeforeEach
+    void setUp() {
+        potSpatialIndex.put(1L, 37.5670, 126.9785);   // 시청 근처
+        potSpatialIndex.put(2L, 37.4979, 127.0276);   // 강남역 (약 8.8km)
+        potSpatialIndex.put(3L, 35.1796, 129.0756);   // 부산
+    }
+
+    @Test
+    @DisplayName("반경 내 팟 ID 조회 테스트")
+    void findNearbyIds_success() {
+        // When
+        List<Long> within3km = potSpatialIndex.findNearbyIds(latitude, longitude, 3);
+        List<Long> within10km = potSpatialIndex.findNearbyIds(latitude, longitude, 10);
+
+        // Then
+        assertThat(within3km).containsExactly(1L);
+        assertThat(within10km).containsExactlyInAnyOrder(1L, 2L);
+    }
+
+    @Test
+    @DisplayName("격자 조회 결과와 전체 거리 계산 결과 일치 테스트")
+    void findNearbyIds_matchesBruteForce() {
+        // Given - 서울 주변 무작위 좌표
+        Random random = new Random(42);
+        List<double[]> coordinates = new ArrayList<>();
+        for (long id = 100; id < 5100; id++) {
+            double lat = 37.3 + random.nextDouble() * 0.5;
+            double lng = 126.7 + random.nextDouble() * 0.6;
+            coordinates.add(new double[]{id, lat, lng});
+            potSpatialIndex.put(id, lat, lng);
+        }
+
+        for (int distance : new int[]{1, 3, 5, 20}) {
+            List<Long> expected = new ArrayList<>();
+            for (double[] coordinate : coordinates) {
+                if (GeoUtils.distanceKm(latitude, longitude, coordinate[1], coordinate[2]) <= distance) {
+                    expected.add((long) coordinate[0]);
+                }
+            }
+
+            // When
+            List<Long> actual = potSpatialIndex.findNearbyIds(latitude, longitude, distance);
+
+            // Then
+            actual.removeIf(id -> id < 100);
+            assertThat(actual).containsExactlyInAnyOrderElementsOf(expected);
+        }
+    }
+
+    @Test
+    @DisplayName("팟 수정 이벤트로 좌표 이동 테스트")
+    void onPotChanged_updated() {
+        // Given - 1번 팟을 부산으로 이동
+        PotDto.Response before = PotDto.Response.builder().id(1L).latitude(37.5670).longitude(126.9785).build();
+        PotDto.Response after = PotDto.Response.builder().id(1L).latitude(35.1800).longitude(129.0750).build();
+
+        // When
+        potSpatialIndex.onPotChanged(PotChangedEvent.updated(before, after));
+
+        // Then
+        assertThat(potSpatialIndex.findNearbyIds(latitude, longitude, 3)).isEmpty();
+        assertThat(potSpatialIndex.findNearbyIds(35.1796, 129.0756, 3)).containsExactlyInAnyOrder(1L, 3L);
+        assertThat(potSpatialIndex.size()).isEqualTo(3);
+    }
+
+    @Test
+    @DisplayName("팟 삭제 이벤트로 인덱스 제거 테스트")
+    void onPotChanged_deleted() {
+        // Given
+        PotDto.Response before = PotDto.Response.builder().id(1L).latitude(37.5670).longitude(126.9785).build();
+
+        // When
+        potSpatialIndex.onPotChanged(PotChangedEvent.deleted(before));
+
+        // Then
+        assertThat(potSpatialIndex.findNearbyIds(latitude, longitude, 3)).isEmpty();
+        assertThat(potSpatialIndex.size()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("적재 중 커밋된 변경 이벤트를 적재 결과보다 나중에 반영 테스트")
+    void load_appliesEventsReceivedDuringLoad() {
+        // Given - 좌표 조회 중에 10번 팟 삭제, 11번 팟 부산 이동이 커밋됨 (조회 결과는 변경 전 좌표)
+        ReflectionTestUtils.setField(potSpatialIndex, "enabled", true);
+        given(potRepository.findAllCoordinates()).willAnswer(invocation -> {
+            PotDto.Response moved = PotDto.Response.builder().id(11L).latitude(37.5668).longitude(126.9782).build();
+            potSpatialIndex.onPotChanged(PotChangedEvent.deleted(PotDto.Response.builder().id(10L).build()));
+            potSpatialIndex.onPotChanged(PotChangedEvent.updated(moved, moved.toBuilder().latitude(35.1800).longitude(129.0750).build()));
+            return Arrays.asList(coordinate(10L, 37.5669, 126.9781), coordinate(11L, 37.5668, 126.9782));
+        });
+
+        // When
+        potSpatialIndex.load();
+
+        // Then - 오래된 조회 결과가 이벤트를 덮어쓰지 않음
+        assertThat(potSpatialIndex.isReady()).isTrue();
+        assertThat(potSpatialIndex.findNearbyIds(latitude, longitude, 3)).containsExactly(1L);
+        assertThat(potSpatialIndex.findNearbyIds(35.1796, 129.0756, 3)).containsExactlyInAnyOrder(3L, 11L);
+        assertThat(potSpatialIndex.size()).isEqualTo(4);
+    }
+
+    @Test
+    @DisplayName("거리순 커서 조회 결과와 전체 거리 정렬 결과 일치 테스트")
+    void findNearest_pagesMatchBruteForce() {
+        // Given - 서울 주변 무작위 좌표
+        Random random = new Random(42);
+        List<PotSpatialIndex.Neighbor> expected = new ArrayList<>();
+        expected.add(new PotSpatialIndex.Neighbor(1L, GeoUtils.distanceKm(latitude, longitude, 37.5670, 126.9785)));
+        for (long id = 100; id < 3100; id++) {
+            double lat = 37.3 + random.nextDouble() * 0.5;
+            double lng = 126.7 + random.nextDouble() * 0.6;
+            potSpatialIndex.put(id, lat, lng);
+            double distance = GeoUtils.distanceKm(latitude, longitude, lat, lng);
+            if (distance <= 5) {
+                expected.add(new PotSpatialIndex.Neighbor(id, distance));
+            }
+        }
+        expected.sort(Comparator.comparingDouble(PotSpatialIndex.Neighbor::getDistance)
+                .thenComparingLong(PotSpatialIndex.Neighbor::getId));
+
+        // When - 25건씩 커서를 넘기며 끝까지 조회
+        List<PotSpatialIndex.Neighbor> actual = new ArrayList<>();
+        double lastDistance = -1;
+        long lastId = Long.MIN_VALUE;
+        List<PotSpatialIndex.Neighbor> page;
+        do {
+            page = potSpatialIndex.findNearest(latitude, longitude, 5, lastDistance, lastId, 25);
+            actual.addAll(page);
+            if (!page.isEmpty()) {
+                lastDistance = page.get(page.size() - 1).getDistance();
+                lastId = page.get(page.size() - 1).getId();
+            }
+        } while (page.size() == 25);
+
+        // Then - 순서까지 일치
+        assertThat(actual).extracting(PotSpatialIndex.Neighbor::getId)
+                .containsExactlyElementsOf(expected.stream().map(PotSpatialIndex.Neighbor::getId).collect(Collectors.toList()));
+    }
+
+    private static PotCoordinate coordinate(long id, double latitude, double longitude) {
+        return new PotCoordinate() {
+            @Override
+            public Long getId() {
+                return id;
+            }
+
+            @Override
+            public Double getLatitude() {
+                return latitude;
+            }
+
+            @Override
+            public Double getLongitude() {
+                return longitude;
+            }
+        };
+    }
+
+}
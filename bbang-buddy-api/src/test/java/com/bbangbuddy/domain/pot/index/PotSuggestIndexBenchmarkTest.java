@@ -0,0 +1,71 @@
+package com.bbangbuddy.domain.pot.index;
+
+import com.bbangbuddy.domain.pot.repository.PotRepository;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInstance;
+
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.Mockito.mock;
+
+/**
+ * PotSuggestIndex 성능 측정
+ *
+ * 테스트 목적: 20만 건의 가상 팟 제목/주소로 트라이를 만든 뒤
+ * 한 글자부터 여러 글자 접두어까지의 자동완성 응답 시간과 메모리 사용량을 측정
+ * 기본 빌드에서는 제외되며 ./gradlew benchmark 로 실행한다.
+ */
+@Tag("benchmark")
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+@DisplayName("PotSuggestIndex 성능 측정")
+class PotSuggestIndexBenchmarkTest {
+
+    private static final int POT_COUNT = 200_000;
+    private static final int WARMUP = 10_000;
+    private static final int ITERATIONS = 100_000;
+
+    private static final String[] MENUS = {"떡볶이", "치킨", "피자", "족발", "보쌈", "마라탕", "햄버거", "초밥", "짜장면", "냉면"};
+    private static final String[] BRANDS = {"신전", "교촌", "도미노", "원할머니", "엽기", "버거킹", "스타벅스", "배스킨", "홍콩반점", "명동"};
+    private static final String[] DISTRICTS = {"서울시 중구", "서울시 강남구", "서울시 마포구", "부산시 해운대구", "대구시 수성구"};
+
+    private PotSuggestIndex potSuggestIndex;
+
+    @BeforeAll
+    void setUp() {
+        potSuggestIndex = new PotSuggestIndex(mock(PotRepository.class));
+        Random random = new Random(7);
+        for (long id = 1; id <= POT_COUNT; id++) {
+            // 제목 일부는 같은 문구를 공유해 추천어 빈도 차이가 생기도록 구성
+            String title = BRANDS[random.nextInt(BRANDS.length)] + MENUS[random.nextInt(MENUS.length)]
+                    + " 같이 시켜요 " + random.nextInt(20_000);
+            potSuggestIndex.put(id, title, DISTRICTS[random.nextInt(DISTRICTS.length)] + " " + random.nextInt(300) + "번길");
+        }
+    }
+
+    @Test
+    @DisplayName("접두어 자동완성 조회 시간과 메모리 사용량")
+    void suggest_benchmark() {
+        PotSuggestIndex.Stats stats = potSuggestIndex.stats();
+        System.out.printf("[benchmark] pots=%,d, suggestions=%,d, nodes=%,d, estimated=%,dKB%n",
+                POT_COUNT, stats.getSuggestionCount(), stats.getNodeCount(), stats.getEstimatedBytes() / 1024);
+
+        for (String prefix : new String[]{"신", "원할머니", "서울시 강", "같이 시", "명동냉면 같이 시켜요 1"}) {
+            assertThat(potSuggestIndex.suggest(prefix, 10)).isNotEmpty();
+            for (int i = 0; i < WARMUP; i++) {
+                potSuggestIndex.suggest(prefix, 10);
+            }
+            long start = System.nanoTime();
+            for (int i = 0; i < ITERATIONS; i++) {
+                potSuggestIndex.suggest(prefix, 10);
+            }
+            double micros = (System.nanoTime() - start) / 1_000.0 / ITERATIONS;
+            System.out.printf("[benchmark] prefix=%-16s : %8.3f us/op%n", prefix, micros);
+            assertThat(micros).isLessThan(1_000);
+        }
+    }
+
+}
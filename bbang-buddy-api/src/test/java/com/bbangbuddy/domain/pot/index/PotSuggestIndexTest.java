@@ -0,0 +1,108 @@
+package com.bbangbuddy.domain.pot.index;
+
+import com.bbangbuddy.domain.pot.dto.PotDto;
+import com.bbangbuddy.domain.pot.event.PotChangedEvent;
+import com.bbangbuddy.domain.pot.repository.PotRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import static org.assertj.core.api.Assertions.*;
+
+/**
+ * PotSuggestIndex 단위 테스트
+ *
+ * 테스트 목적: 접두어로 제목/주소 추천어를 많이 쓰인 순으로 찾는지, 트라이 깊이보다 긴 접두어도 빠짐없이 찾는지,
+ * 팟 수정/삭제 이벤트로 추천어와 순위가 갱신되는지 검증
+ */
+@ExtendWith(MockitoExtension.class)
+@DisplayName("PotSuggestIndex 단위 테스트")
+class PotSuggestIndexTest {
+
+    @Mock
+    private PotRepository potRepository;
+
+    @InjectMocks
+    private PotSuggestIndex potSuggestIndex;
+
+    @BeforeEach
+    void setUp() {
+        potSuggestIndex.put(1L, "신전떡볶이 같이 먹어요", "서울시 중구");
+        potSuggestIndex.put(2L, "신전떡볶이 같이 먹어요", "서울시 강남구");
+        potSuggestIndex.put(3L, "신라면 박스 공구", "서울시 중구");
+        potSuggestIndex.put(4L, "Pizza 나눠요", "부산시 해운대구");
+    }
+
+    @Test
+    @DisplayName("접두어 자동완성 테스트")
+    void suggest_success() {
+        // When & Then - 많이 쓰인 추천어가 먼저
+        assertThat(potSuggestIndex.suggest("신", 10)).containsExactly("신전떡볶이 같이 먹어요", "신라면 박스 공구");
+        assertThat(potSuggestIndex.suggest("서울시", 10)).containsExactly("서울시 중구", "서울시 강남구");
+        assertThat(potSuggestIndex.suggest("서울시", 1)).containsExactly("서울시 중구");
+        // 중간 단어, 대소문자, 연속 공백
+        assertThat(potSuggestIndex.suggest("해운", 10)).containsExactly("부산시 해운대구");
+        assertThat(potSuggestIndex.suggest("pIZ", 10)).containsExactly("Pizza 나눠요");
+        assertThat(potSuggestIndex.suggest("같이  먹", 10)).containsExactly("신전떡볶이 같이 먹어요");
+        assertThat(potSuggestIndex.suggest("족발", 10)).isEmpty();
+        assertThat(potSuggestIndex.suggest(" ", 10)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("팟 수정/삭제 이벤트로 추천어 갱신 테스트")
+    void onPotChanged_updatesSuggestions() {
+        // Given - 3번 팟 제목 변경, 1번 팟 삭제
+        PotDto.Response before = PotDto.Response.builder().id(3L).title("신라면 박스 공구").address("서울시 중구").build();
+        PotDto.Response after = PotDto.Response.builder().id(3L).title("족발 같이 먹어요").address("서울시 중구").build();
+
+        // When
+        potSuggestIndex.onPotChanged(PotChangedEvent.updated(before, after));
+        potSuggestIndex.onPotChanged(PotChangedEvent.deleted(PotDto.Response.builder().id(1L).build()));
+
+        // Then
+        assertThat(potSuggestIndex.suggest("신", 10)).containsExactly("신전떡볶이 같이 먹어요");
+        assertThat(potSuggestIndex.suggest("족", 10)).containsExactly("족발 같이 먹어요");
+        assertThat(potSuggestIndex.suggest("같이", 10)).containsExactly("족발 같이 먹어요", "신전떡볶이 같이 먹어요");
+        // 1번 팟이 빠져 서울시 중구(3번)와 서울시 강남구(2번)가 1건씩
+        assertThat(potSuggestIndex.suggest("서울시", 10)).containsExactly("서울시 중구", "서울시 강남구");
+    }
+
+    @Test
+    @DisplayName("트라이 깊이보다 긴 접두어 자동완성 테스트")
+    void suggest_longPrefix() {
+        // Given - 앞 30글자가 같은 추천어 13개, 찾는 추천어는 가장 적게 쓰여 상위 10개 밖
+        String common = "성수동 베이커리 소금빵 오픈런 같이 가실 분 모집해요 ";
+        assertThat(common.length()).isGreaterThanOrEqualTo(PotSuggestIndex.MAX_KEY_LENGTH);
+        for (long id = 10; id < 21; id++) {
+            potSuggestIndex.put(id, common + "평일 오전", null);
+            potSuggestIndex.put(id + 100, common + "평일 오후 " + id, null);
+        }
+        potSuggestIndex.put(200L, common + "주말 오전 열시 반", null);
+
+        // When & Then - 깊이 제한 노드의 상위 10개가 아닌 추천어 전체에서 나머지 글자 비교
+        assertThat(potSuggestIndex.suggest(common + "주말", 10)).containsExactly(common + "주말 오전 열시 반");
+        assertThat(potSuggestIndex.suggest(common + "평일 오전", 10)).containsExactly(common + "평일 오전");
+        assertThat(potSuggestIndex.suggest(common + "평일 오후 1", 3)).hasSize(3);
+        assertThat(potSuggestIndex.suggest(common + "토요일", 10)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("모든 팟 삭제 시 노드 정리 테스트")
+    void remove_prunesNodes() {
+        // When
+        for (long id = 1; id <= 4; id++) {
+            potSuggestIndex.remove(id);
+        }
+
+        // Then - 루트 노드만 남는다.
+        PotSuggestIndex.Stats stats = potSuggestIndex.stats();
+        assertThat(stats.getSuggestionCount()).isZero();
+        assertThat(stats.getNodeCount()).isEqualTo(1);
+        assertThat(potSuggestIndex.suggest("신", 10)).isEmpty();
+    }
+
+}
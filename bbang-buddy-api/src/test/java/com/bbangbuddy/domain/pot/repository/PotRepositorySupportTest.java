@@ -0,0 +1,236 @@
+package com.bbangbuddy.domain.pot.repository;
+
+import com.bbangbuddy.domain.pot.domain.Pot;
+import com.bbangbuddy.domain.pot.domain.PotParticipant;
+import com.bbangbuddy.domain.pot.dto.PotDto;
+import com.bbangbuddy.global.config.QuerydslConfig;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.ActiveProfiles;
+
+import javax.persistence.EntityManagerFactory;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.*;
+
+/**
+ * PotRepositorySupport 데이터 접근 테스트
+ *
+ * 테스트 목적: 조건 템플릿에 검색어를 바인딩한 QueryDSL 검색이 연산자별로 올바른 팟을 조회하는지,
+ * 내 팟 목록이 SQL 한 번으로 조회되는지 검증
+ */
+@DataJpaTest(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+@ActiveProfiles("test")
+@Import({QuerydslConfig.class, PotRepositorySupport.class})
+@DisplayName("PotRepositorySupport 데이터 접근 테스트")
+class PotRepositorySupportTest {
+
+    private static final LocalDateTime DUE_DATE_BASE = LocalDateTime.of(2026, 11, 1, 12, 0);
+
+    @Autowired
+    private TestEntityManager entityManager;
+
+    @Autowired
+    private PotRepositorySupport potRepositorySupport;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @BeforeEach
+    void setUp() {
+        persist("신전떡볶이 같이 먹어요", "서울시 중구", 1);
+        persist("교촌치킨 반반", "서울시 강남구", 2);
+        persist("떡볶이 공구", "부산시 해운대구", 3);
+        entityManager.clear();
+    }
+
+    @Test
+    @DisplayName("검색어 바인딩 검색 테스트")
+    void findBySearchCondition_success() {
+        // When - 같은 조건 템플릿에 다른 검색어 바인딩
+        List<PotDto.Response> tteokbokki = potRepositorySupport.findBySearchCondition(search("%떡볶이%"));
+        List<PotDto.Response> gangnam = potRepositorySupport.findBySearchCondition(search("%강남%"));
+
+        // Then - 마감일 내림차순
+        assertThat(tteokbokki).extracting(PotDto.Response::getTitle)
+                .containsExactly("떡볶이 공구", "신전떡볶이 같이 먹어요");
+        assertThat(gangnam).extracting(PotDto.Response::getTitle).containsExactly("교촌치킨 반반");
+    }
+
+    @Test
+    @DisplayName("연산자별 검색 테스트")
+    void findBySearchCondition_operator() {
+        // When
+        List<PotDto.Response> startsWith = potRepositorySupport.findBySearchCondition(
+                PotDto.Search.builder().title("떡볶이%").build());
+        List<PotDto.Response> equal = potRepositorySupport.findBySearchCondition(
+                PotDto.Search.builder().address("서울시 중구").build());
+        List<PotDto.Response> all = potRepositorySupport.findBySearchCondition(new PotDto.Search());
+
+        // Then
+        assertThat(startsWith).extracting(PotDto.Response::getTitle).containsExactly("떡볶이 공구");
+        assertThat(equal).extracting(PotDto.Response::getTitle).containsExactly("신전떡볶이 같이 먹어요");
+        assertThat(all).hasSize(3);
+    }
+
+    @Test
+    @DisplayName("키셋 페이지 조회 테스트 - 마감일 내림차순")
+    void findPageBySearchCondition_dueDateDesc() {
+        // Given - 마감일이 같은 팟은 ID 내림차순
+        persist("떡볶이 번개", "서울시 마포구", 3);
+        entityManager.clear();
+        PotDto.Search search = search("%떡볶이%");
+
+        // When - 한 건씩 커서를 넘기며 끝까지 조회
+        List<String> titles = new ArrayList<>();
+        LocalDateTime lastDueDate = null;
+        Long lastId = null;
+        List<PotDto.Response> page;
+        do {
+            page = potRepositorySupport.findPageBySearchCondition(search, "-dueDate", lastDueDate, lastId, 1);
+            for (PotDto.Response response : page) {
+                titles.add(response.getTitle());
+                lastDueDate = response.getDueDate();
+                lastId = response.getId();
+            }
+        } while (!page.isEmpty());
+
+        // Then
+        assertThat(titles).containsExactly("떡볶이 번개", "떡볶이 공구", "신전떡볶이 같이 먹어요");
+    }
+
+    @Test
+    @DisplayName("키셋 페이지 조회 테스트 - ID 오름차순, 부호 없는 정렬")
+    void findPageBySearchCondition_idAsc() {
+        // When
+        List<PotDto.Response> firstPage = potRepositorySupport.findPageBySearchCondition(new PotDto.Search(), "id", null, null, 2);
+        List<PotDto.Response> secondPage = potRepositorySupport.findPageBySearchCondition(
+                new PotDto.Search(), " id", null, firstPage.get(1).getId(), 2);
+
+        // Then
+        assertThat(firstPage).extracting(PotDto.Response::getTitle).containsExactly("신전떡볶이 같이 먹어요", "교촌치킨 반반");
+        assertThat(secondPage).extracting(PotDto.Response::getTitle).containsExactly("떡볶이 공구");
+    }
+
+    @Test
+    @DisplayName("키셋 페이지 조회 테스트 - 허용되지 않은 정렬")
+    void findPageBySearchCondition_invalidSort() {
+        // When & Then - 인덱스가 없는 컬럼 정렬은 거부
+        assertThatThrownBy(() -> potRepositorySupport.findPageBySearchCondition(new PotDto.Search(), "-title", null, null, 10))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    @DisplayName("팟 목록 스트림 조회 테스트 - 마감 여부 필터, 설명 제외")
+    void streamPots_success() {
+        // Given - 기준 시각 이후 마감(1일 후)인 팟만 진행 중
+        LocalDateTime now = DUE_DATE_BASE.plusDays(2);
+
+        // When
+        List<PotDto.Response> open;
+        List<PotDto.Response> expired;
+        try (Stream<PotDto.Response> pots = potRepositorySupport.streamPots(PotDto.Status.OPEN, false, now, null, 10)) {
+            open = pots.collect(Collectors.toList());
+        }
+        try (Stream<PotDto.Response> pots = potRepositorySupport.streamPots(PotDto.Status.EXPIRED, true, now, null, 10)) {
+            expired = pots.collect(Collectors.toList());
+        }
+
+        // Then
+        assertThat(open).extracting(PotDto.Response::getTitle).containsExactly("떡볶이 공구");
+        assertThat(open.get(0).getDescription()).isNull();
+        assertThat(expired).extracting(PotDto.Response::getTitle).containsExactly("신전떡볶이 같이 먹어요", "교촌치킨 반반");
+        assertThat(expired.get(0).getDescription()).isEqualTo("신전떡볶이 같이 먹어요 설명");
+    }
+
+    @Test
+    @DisplayName("팟 목록 스트림 조회 테스트 - ID 키셋 페이지")
+    void streamPots_page() {
+        // Given
+        List<Long> ids;
+        try (Stream<PotDto.Response> pots = potRepositorySupport.streamPots(PotDto.Status.ALL, false, DUE_DATE_BASE, null, 10)) {
+            ids = pots.map(PotDto.Response::getId).collect(Collectors.toList());
+        }
+
+        // When
+        List<Long> secondPage;
+        try (Stream<PotDto.Response> pots = potRepositorySupport.streamPots(PotDto.Status.ALL, false, DUE_DATE_BASE, ids.get(0), 1)) {
+            secondPage = pots.map(PotDto.Response::getId).collect(Collectors.toList());
+        }
+
+        // Then
+        assertThat(ids).hasSize(3).isSorted();
+        assertThat(secondPage).containsExactly(ids.get(1));
+    }
+
+    @Test
+    @DisplayName("내 팟 목록 조회 테스트 - 참가 테이블 조인 SQL 한 번")
+    void findByParticipantUserId_singleStatement() {
+        // Given - 3개 팟 중 2개에 참가
+        List<Long> ids = potRepositorySupport.findPageBySearchCondition(new PotDto.Search(), "+id", null, null, 10)
+                .stream().map(PotDto.Response::getId).collect(Collectors.toList());
+        entityManager.persist(PotParticipant.builder().potId(ids.get(0)).userId("jupiterUser").build());
+        entityManager.persist(PotParticipant.builder().potId(ids.get(2)).userId("jupiterUser").build());
+        entityManager.persist(PotParticipant.builder().potId(ids.get(1)).userId("marsUser").build());
+        entityManager.flush();
+        entityManager.clear();
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+
+        // When
+        List<PotDto.Response> myPots = potRepositorySupport.findByParticipantUserId("jupiterUser");
+
+        // Then - 마감일 내림차순, 실행된 SQL 한 건
+        assertThat(myPots).extracting(PotDto.Response::getTitle).containsExactly("떡볶이 공구", "신전떡볶이 같이 먹어요");
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("ID 목록 팟 조회 테스트 - SQL 한 번")
+    void findByIds_singleStatement() {
+        // Given
+        List<Long> ids = potRepositorySupport.findPageBySearchCondition(new PotDto.Search(), "+id", null, null, 10)
+                .stream().map(PotDto.Response::getId).collect(Collectors.toList());
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+
+        // When
+        List<PotDto.Response> pots = potRepositorySupport.findByIds(new long[]{ids.get(0), ids.get(1)});
+
+        // Then
+        assertThat(pots).extracting(PotDto.Response::getTitle).containsExactly("교촌치킨 반반", "신전떡볶이 같이 먹어요");
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(1);
+    }
+
+    private PotDto.Search search(String keyword) {
+        return PotDto.Search.builder().title(keyword).description(keyword).address(keyword).build();
+    }
+
+    private void persist(String title, String address, int dueDays) {
+        entityManager.persist(Pot.builder()
+                .title(title)
+                .description(title + " 설명")
+                .latitude(37.5665)
+                .longitude(126.9780)
+                .address(address)
+                .maxParticipants(4)
+                .currentParticipants(1)
+                .dueDate(DUE_DATE_BASE.plusDays(dueDays))
+                .createdBy(1L)
+                .createdAt(LocalDateTime.now())
+                .updatedAt(LocalDateTime.now())
+                .build());
+    }
+
+}
@@ -1,6 +1,9 @@
 package com.bbangbuddy.domain.pot.repository;
 
 import com.bbangbuddy.domain.pot.domain.Pot;
+import com.bbangbuddy.domain.pot.dto.PotDistanceProjection;
+import com.bbangbuddy.domain.pot.dto.PotProjection;
+import com.bbangbuddy.global.util.GeoUtils;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -10,8 +13,12 @@ import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
 import org.springframework.test.context.ActiveProfiles;
 
 import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
 import java.util.List;
 import java.util.Optional;
+import java.util.Random;
+import java.util.stream.Collectors;
 
 import static org.assertj.core.api.Assertions.*;
 
@@ -166,4 +173,89 @@ class PotRepositoryTest {
         assertThat(nearbyPots).isNotEmpty();
         // 실제 프로젝트에서는 거리 계산 로직이 정확한지 검증해야 함
     }
-} 
\ No newline at end of file
+
+    @Test
+    @DisplayName("바운딩 박스 선필터 조회 결과와 네이티브 쿼리 결과 일치 테스트")
+    void findNearbyPotsInBoundingBox_matchesNativeQuery() {
+        // Given - 서울 중심 주변 무작위 좌표의 팟 500건
+        Random random = new Random(42);
+        for (int i = 0; i < 500; i++) {
+            entityManager.persist(Pot.builder()
+                    .title("근처 팟 " + i)
+                    .description("바운딩 박스 테스트용 팟")
+                    .latitude(37.40 + random.nextDouble() * 0.35)
+                    .longitude(126.80 + random.nextDouble() * 0.35)
+                    .maxParticipants(4)
+                    .currentParticipants(0)
+                    .dueDate(LocalDateTime.now().plusDays(1))
+                    .createdBy(1L)
+                    .build());
+        }
+        entityManager.flush();
+        entityManager.clear();
+
+        double latitude = 37.5665;
+        double longitude = 126.9780;
+
+        for (int distance : new int[]{0, 1, 3, 5, 10, 50}) {
+            // When
+            List<Long> expected = potRepository.findNearbyPots(latitude, longitude, distance).stream()
+                    .map(PotProjection::getId)
+                    .collect(Collectors.toList());
+            List<Long> actual = potRepository.findNearbyPotsInBoundingBox(latitude, longitude, distance).stream()
+                    .map(PotProjection::getId)
+                    .collect(Collectors.toList());
+
+            // Then
+            assertThat(actual).as("distance=%dkm", distance).containsExactlyInAnyOrderElementsOf(expected);
+        }
+    }
+
+    @Test
+    @DisplayName("거리순 커서 페이지 조회 결과와 전체 거리 정렬 결과 일치 테스트")
+    void findNearestPots_pagesInDistanceOrder() {
+        // Given - 서울 중심 주변 무작위 좌표의 팟 200건
+        Random random = new Random(7);
+        for (int i = 0; i < 200; i++) {
+            entityManager.persist(Pot.builder()
+                    .title("거리순 팟 " + i)
+                    .description("거리순 페이지 테스트용 팟")
+                    .latitude(37.50 + random.nextDouble() * 0.15)
+                    .longitude(126.90 + random.nextDouble() * 0.15)
+                    .maxParticipants(4)
+                    .currentParticipants(0)
+                    .dueDate(LocalDateTime.now().plusDays(1))
+                    .createdBy(1L)
+                    .build());
+        }
+        entityManager.flush();
+        entityManager.clear();
+
+        double latitude = 37.5665;
+        double longitude = 126.9780;
+        int distance = 5;
+        List<Long> expected = potRepository.findNearbyPots(latitude, longitude, distance).stream()
+                .sorted(Comparator.comparingDouble((PotProjection p) -> GeoUtils.distanceKm(latitude, longitude, p.getLatitude(), p.getLongitude()))
+                        .thenComparingLong(PotProjection::getId))
+                .map(PotProjection::getId)
+                .collect(Collectors.toList());
+
+        // When - 7건씩 커서를 넘기며 끝까지 조회
+        List<Long> actual = new ArrayList<>();
+        double lastDistance = -1;
+        long lastId = Long.MIN_VALUE;
+        List<PotDistanceProjection> page;
+        do {
+            page = potRepository.findNearestPots(latitude, longitude, distance, lastDistance, lastId, 7);
+            for (PotDistanceProjection projection : page) {
+                assertThat(projection.getDistance()).isGreaterThanOrEqualTo(lastDistance);
+                actual.add(projection.getId());
+                lastDistance = projection.getDistance();
+                lastId = projection.getId();
+            }
+        } while (page.size() == 7);
+
+        // Then
+        assertThat(actual).isNotEmpty().containsExactlyElementsOf(expected);
+    }
+}
@@ -0,0 +1,335 @@
+package com.bbangbuddy.domain.pot.service;
+
+import com.bbangbuddy.domain.notification.repository.NotificationRepository;
+import com.bbangbuddy.domain.notification.outbox.NotificationOutboxDispatcher;
+import com.bbangbuddy.domain.notification.repository.NotificationOutboxRepository;
+import com.bbangbuddy.domain.notification.service.NotificationOutboxService;
+import com.bbangbuddy.domain.notification.service.NotificationSeqService;
+import com.bbangbuddy.domain.pot.admission.PotSeatAdmission;
+import com.bbangbuddy.domain.pot.admission.PotWaitlistQueue;
+import com.bbangbuddy.domain.pot.cache.PotMembershipCache;
+import com.bbangbuddy.domain.pot.domain.Pot;
+import com.bbangbuddy.domain.pot.domain.PotParticipant;
+import com.bbangbuddy.domain.pot.dto.PotParticipantDto;
+import com.bbangbuddy.domain.pot.repository.PotParticipantRepository;
+import com.bbangbuddy.domain.pot.repository.PotRepository;
+import com.bbangbuddy.domain.pot.repository.PotWaitlistRepository;
+import com.bbangbuddy.domain.user.domain.User;
+import com.bbangbuddy.domain.user.repository.UserRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.mock;
+
+/**
+ * PotParticipantService 동시 참가 테스트
+ *
+ * 테스트 목적: 여러 스레드가 한 팟에 동시에 참가해도 정원을 넘지 않고(참가 행, 참가 인원 모두) 나머지는 대기열에 들어가는지,
+ * 참가가 실패해 롤백되면 예약한 좌석이 반환되는지, 동시에 탈퇴해도 대기자가 순서대로 한 번씩만 승격되는지 실제 트랜잭션(H2)으로 검증
+ */
+@DataJpaTest
+@ActiveProfiles("test")
+@Import({PotParticipantService.class, NotificationOutboxService.class, NotificationSeqService.class, PotSeatAdmission.class, PotWaitlistQueue.class, PotMembershipCache.class})
+@Transactional(propagation = Propagation.NOT_SUPPORTED) // 스레드마다 각자 트랜잭션을 커밋해야 하므로 테스트 트랜잭션 미사용
+@DisplayName("PotParticipantService 동시 참가 테스트")
+class PotParticipantServiceConcurrencyTest {
+
+    private static final int JOIN_REQUESTS = 10_000;
+    private static final int THREADS = 64;
+    private static final int MAX_PARTICIPANTS = 30;
+
+    @Autowired
+    private PotParticipantService potParticipantService;
+
+    @Autowired
+    private PotSeatAdmission potSeatAdmission;
+
+    @Autowired
+    private PotRepository potRepository;
+
+    @Autowired
+    private PotParticipantRepository potParticipantRepository;
+
+    @Autowired
+    private PotWaitlistRepository potWaitlistRepository;
+
+    @Autowired
+    private NotificationRepository notificationRepository;
+
+    @Autowired
+    private NotificationOutboxRepository notificationOutboxRepository;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @MockBean
+    private UserRepository userRepository;
+
+    @MockBean
+    private NotificationOutboxDispatcher notificationOutboxDispatcher;
+
+    @BeforeEach
+    void setUp() {
+        given(userRepository.findByUserId(anyString())).willReturn(Optional.of(mock(User.class)));
+    }
+
+    @AfterEach
+    void tearDown() {
+        notificationOutboxRepository.deleteAll();
+        notificationRepository.deleteAll();
+        potWaitlistRepository.deleteAll();
+        potParticipantRepository.deleteAll();
+        potRepository.deleteAll();
+    }
+
+    @Test
+    @DisplayName("동시 참가 10,000건 정원 초과 없음, 나머지 대기열 등록 테스트")
+    void savePotParticipant_noOversell() throws Exception {
+        // Given
+        Long potId = persistPot(MAX_PARTICIPANTS);
+        ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+        CountDownLatch start = new CountDownLatch(1);
+        AtomicInteger joined = new AtomicInteger();
+        AtomicInteger waitlisted = new AtomicInteger();
+        ConcurrentLinkedQueue<Throwable> unexpected = new ConcurrentLinkedQueue<>();
+
+        // When - 서로 다른 사용자 10,000명이 동시에 참가
+        for (int i = 0; i < JOIN_REQUESTS; i++) {
+            String userId = "user" + i;
+            executor.execute(() -> {
+                try {
+                    start.await();
+                    if (potParticipantService.savePotParticipant(request(potId, userId)).isWaitlisted()) {
+                        waitlisted.incrementAndGet();
+                    } else {
+                        joined.incrementAndGet();
+                    }
+                } catch (RuntimeException | InterruptedException e) {
+                    unexpected.add(e);
+                }
+            });
+        }
+        start.countDown();
+        executor.shutdown();
+        assertThat(executor.awaitTermination(5, TimeUnit.MINUTES)).isTrue();
+
+        // Then - 참가 행, 참가 인원 모두 정원과 같고 나머지는 모두 대기열에 등록
+        assertThat(unexpected).isEmpty();
+        assertThat(joined.get()).isEqualTo(MAX_PARTICIPANTS);
+        assertThat(waitlisted.get()).isEqualTo(JOIN_REQUESTS - MAX_PARTICIPANTS);
+        assertThat(potWaitlistRepository.findUserIdsByPotId(potId)).hasSize(JOIN_REQUESTS - MAX_PARTICIPANTS);
+        assertThat(potParticipantRepository.findByPotId(potId)).hasSize(MAX_PARTICIPANTS);
+        assertThat(potRepository.findById(potId).get().getCurrentParticipants()).isEqualTo(MAX_PARTICIPANTS);
+        assertThat(potSeatAdmission.getRejectionCount()).isGreaterThanOrEqualTo(JOIN_REQUESTS - MAX_PARTICIPANTS);
+    }
+
+    @Test
+    @DisplayName("참가 실패 롤백 시 좌석 반환, 탈퇴 시 좌석 반환 테스트")
+    void savePotParticipant_releaseOnRollback() {
+        // Given - 정원 2명
+        Long potId = persistPot(2);
+        potParticipantService.savePotParticipant(request(potId, "jupiterUser"));
+
+        // When - 중복 참가는 좌석 예약 후 실패해 롤백
+        assertThatThrownBy(() -> potParticipantService.savePotParticipant(request(potId, "jupiterUser")))
+                .hasMessage("이미 참가한 팟입니다.");
+        potParticipantService.savePotParticipant(request(potId, "marsUser"));
+
+        // Then - 반환된 좌석으로 두 번째 사용자가 참가, 이후 대기열 등록
+        assertThat(potParticipantService.savePotParticipant(request(potId, "venusUser")).getWaitlistPosition()).isEqualTo(1);
+        assertThat(potRepository.findById(potId).get().getCurrentParticipants()).isEqualTo(2);
+
+        // When - 대기를 취소하면 탈퇴 시 좌석이 반환되어 다시 참가 가능
+        potParticipantService.deletePotWaitlist(potId, "venusUser");
+        potParticipantService.deletePotParticipant(potId, "marsUser");
+        assertThat(potParticipantService.savePotParticipant(request(potId, "venusUser")).isWaitlisted()).isFalse();
+
+        // Then
+        List<String> userIds = potParticipantRepository.findByPotId(potId).stream()
+                .map(PotParticipant::getUserId)
+                .collect(Collectors.toList());
+        assertThat(userIds).containsExactlyInAnyOrder("jupiterUser", "venusUser");
+        assertThat(potRepository.findById(potId).get().getCurrentParticipants()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("동시 탈퇴 시 대기자 순서대로 한 번씩 승격 테스트")
+    void deletePotParticipant_promoteWaitlist() throws Exception {
+        // Given - 정원 5명이 찬 팟에 대기자 7명
+        Long potId = persistPot(5);
+        for (int i = 0; i < 5; i++) {
+            potParticipantService.savePotParticipant(request(potId, "member" + i));
+        }
+        for (int i = 0; i < 7; i++) {
+            assertThat(potParticipantService.savePotParticipant(request(potId, "waiting" + i)).getWaitlistPosition())
+                    .isEqualTo(i + 1);
+        }
+        assertThatThrownBy(() -> potParticipantService.savePotParticipant(request(potId, "waiting0")))
+                .hasMessage("이미 대기 중인 팟입니다.");
+
+        // When - 참가자 5명이 동시에 탈퇴
+        ExecutorService executor = Executors.newFixedThreadPool(5);
+        CountDownLatch start = new CountDownLatch(1);
+        ConcurrentLinkedQueue<Throwable> unexpected = new ConcurrentLinkedQueue<>();
+        for (int i = 0; i < 5; i++) {
+            String userId = "member" + i;
+            executor.execute(() -> {
+                try {
+                    start.await();
+                    potParticipantService.deletePotParticipant(potId, userId);
+                } catch (RuntimeException | InterruptedException e) {
+                    unexpected.add(e);
+                }
+            });
+        }
+        start.countDown();
+        executor.shutdown();
+        assertThat(executor.awaitTermination(1, TimeUnit.MINUTES)).isTrue();
+
+        // Then - 대기 앞 5명이 한 번씩 승격, 참가 인원 유지, 뒤의 2명은 순서대로 대기
+        List<String> userIds = potParticipantRepository.findByPotId(potId).stream()
+                .map(PotParticipant::getUserId)
+                .collect(Collectors.toList());
+        assertThat(unexpected).isEmpty();
+        assertThat(userIds).containsExactlyInAnyOrder("waiting0", "waiting1", "waiting2", "waiting3", "waiting4");
+        assertThat(potRepository.findById(potId).get().getCurrentParticipants()).isEqualTo(5);
+        assertThat(potWaitlistRepository.findUserIdsByPotId(potId)).containsExactly("waiting5", "waiting6");
+    }
+
+    @Test
+    @DisplayName("대기자가 있으면 빈 자리가 생겨도 새 사용자는 대기자를 앞지르지 않음 테스트")
+    void savePotParticipant_noQueueJump() {
+        // Given - 정원 2명이 찬 팟에 대기자 1명
+        Long potId = persistPot(2);
+        potParticipantService.savePotParticipant(request(potId, "member0"));
+        potParticipantService.savePotParticipant(request(potId, "member1"));
+        assertThat(potParticipantService.savePotParticipant(request(potId, "waiting0")).getWaitlistPosition()).isEqualTo(1);
+
+        // 다른 서버에서 승격 없이 한 자리가 비고, 좌석 카운터가 DB 값으로 다시 채워진 상황
+        potParticipantRepository.deleteAll(potParticipantRepository.findByPotIdAndUserId(potId, "member1"));
+        potRepository.updateCurrentParticipants(potId, -1);
+        potSeatAdmission.invalidate(potId);
+
+        // When - 새 사용자가 참가
+        PotParticipantDto.JoinResult result = potParticipantService.savePotParticipant(request(potId, "newcomer"));
+
+        // Then - 빈 자리는 대기자에게, 새 사용자는 대기열 맨 앞으로
+        List<String> userIds = potParticipantRepository.findByPotId(potId).stream()
+                .map(PotParticipant::getUserId)
+                .collect(Collectors.toList());
+        assertThat(result.isWaitlisted()).isTrue();
+        assertThat(result.getWaitlistPosition()).isEqualTo(1);
+        assertThat(userIds).containsExactlyInAnyOrder("member0", "waiting0");
+        assertThat(potRepository.findById(potId).get().getCurrentParticipants()).isEqualTo(2);
+        assertThat(potWaitlistRepository.findUserIdsByPotId(potId)).containsExactly("newcomer");
+    }
+
+    @Test
+    @DisplayName("정원이 늘면 늘어난 자리만큼 대기자 순서대로 승격 테스트")
+    void fillWaitlist_afterCapacityIncrease() {
+        // Given - 정원 1명이 찬 팟에 대기자 3명
+        Long potId = persistPot(1);
+        potParticipantService.savePotParticipant(request(potId, "member0"));
+        for (int i = 0; i < 3; i++) {
+            potParticipantService.savePotParticipant(request(potId, "waiting" + i));
+        }
+
+        // When - 정원을 3명으로 늘린 뒤 대기열 처리
+        Pot pot = potRepository.findById(potId).get();
+        potRepository.save(pot.toBuilder().maxParticipants(3).build());
+        List<String> promotedUserIds = potParticipantService.fillWaitlist(potId);
+
+        // Then - 앞의 대기자 2명 승격, 새 사용자는 남은 대기자 뒤에 등록
+        assertThat(promotedUserIds).containsExactly("waiting0", "waiting1");
+        assertThat(potRepository.findById(potId).get().getCurrentParticipants()).isEqualTo(3);
+        assertThat(potWaitlistRepository.findUserIdsByPotId(potId)).containsExactly("waiting2");
+        assertThat(potParticipantService.savePotParticipant(request(potId, "newcomer")).getWaitlistPosition()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("커밋 전의 대기자는 동시에 탈퇴해도 대기열에서 빠지지 않음 테스트")
+    void deletePotParticipant_uncommittedWaiter() throws Exception {
+        // Given - 정원 1명이 찬 팟에 대기 등록 트랜잭션이 커밋되지 않은 상태
+        Long potId = persistPot(1);
+        potParticipantService.savePotParticipant(request(potId, "member0"));
+        TransactionTemplate transactionTemplate = new TransactionTemplate(transactionManager);
+        CountDownLatch waitlisted = new CountDownLatch(1);
+        CountDownLatch commit = new CountDownLatch(1);
+        CompletableFuture<PotParticipantDto.JoinResult> waiting = CompletableFuture.supplyAsync(() -> transactionTemplate.execute(status -> {
+            PotParticipantDto.JoinResult result = potParticipantService.savePotParticipant(request(potId, "waiting0"));
+            waitlisted.countDown();
+            try {
+                commit.await(5, TimeUnit.SECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            return result;
+        }));
+        assertThat(waitlisted.await(5, TimeUnit.SECONDS)).isTrue();
+
+        // When - 그 사이 참가자가 탈퇴하고 대기 등록이 커밋된 뒤 새 사용자가 참가
+        potParticipantService.deletePotParticipant(potId, "member0");
+        commit.countDown();
+        assertThat(waiting.get(5, TimeUnit.SECONDS).getWaitlistPosition()).isEqualTo(1);
+        PotParticipantDto.JoinResult result = potParticipantService.savePotParticipant(request(potId, "newcomer"));
+
+        // Then - 비어 있던 자리는 커밋된 대기자에게, 새 사용자는 그 뒤에 대기
+        List<String> userIds = potParticipantRepository.findByPotId(potId).stream()
+                .map(PotParticipant::getUserId)
+                .collect(Collectors.toList());
+        assertThat(userIds).containsExactly("waiting0");
+        assertThat(result.getWaitlistPosition()).isEqualTo(1);
+        assertThat(potWaitlistRepository.findUserIdsByPotId(potId)).containsExactly("newcomer");
+        assertThat(potRepository.findById(potId).get().getCurrentParticipants()).isEqualTo(1);
+    }
+
+    private PotParticipantDto.Request request(Long potId, String userId) {
+        return PotParticipantDto.Request.builder()
+                .potId(potId)
+                .userId(userId)
+                .notificationMessage(userId + " 님이 참가하였습니다.")
+                .build();
+    }
+
+    private Long persistPot(int maxParticipants) {
+        return potRepository.save(Pot.builder()
+                .title("동시 참가 테스트 팟")
+                .latitude(37.5665)
+                .longitude(126.9780)
+                .address("서울시 중구")
+                .maxParticipants(maxParticipants)
+                .currentParticipants(0)
+                .dueDate(LocalDateTime.now().plusDays(1))
+                .createdBy(1L)
+                .createdAt(LocalDateTime.now())
+                .updatedAt(LocalDateTime.now())
+                .build()).getId();
+    }
+
+}
@@ -0,0 +1,252 @@
+package com.bbangbuddy.domain.pot.service;
+
+import com.bbangbuddy.domain.notification.domain.Notification;
+import com.bbangbuddy.domain.notification.domain.NotificationOutbox;
+import com.bbangbuddy.domain.notification.repository.NotificationRepository;
+import com.bbangbuddy.domain.notification.repository.NotificationUserSeqRepository;
+import com.bbangbuddy.domain.notification.outbox.NotificationOutboxDispatcher;
+import com.bbangbuddy.domain.notification.repository.NotificationOutboxRepository;
+import com.bbangbuddy.domain.notification.service.NotificationOutboxService;
+import com.bbangbuddy.domain.notification.service.NotificationSeqService;
+import com.bbangbuddy.domain.pot.admission.PotSeatAdmission;
+import com.bbangbuddy.domain.pot.admission.PotWaitlistQueue;
+import com.bbangbuddy.domain.pot.cache.PotMembershipCache;
+import com.bbangbuddy.domain.pot.domain.Pot;
+import com.bbangbuddy.domain.pot.domain.PotParticipant;
+import com.bbangbuddy.domain.pot.dto.PotParticipantDto;
+import com.bbangbuddy.domain.pot.repository.PotParticipantRepository;
+import com.bbangbuddy.domain.pot.repository.PotRepository;
+import com.bbangbuddy.domain.user.domain.User;
+import com.bbangbuddy.domain.user.repository.UserRepository;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.util.ClassUtils;
+
+import javax.sql.DataSource;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.stream.Collectors;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.*;
+
+/**
+ * PotParticipantService 알림 일괄 저장 테스트
+ *
+ * 테스트 목적: 팟 참가 시 참가자 전원에게 보내는 알림/전송 대기(outbox) insert가 건별 실행이 아닌 JDBC 배치 한 번으로 DB에 전달되고,
+ * 실제 전송은 요청 스레드가 아닌 커밋 후 디스패처에 맡기는지 검증
+ * DataSource를 감싸 PreparedStatement의 executeBatch/executeUpdate 호출을 SQL별로 기록한다.
+ */
+@DataJpaTest
+@ActiveProfiles("test")
+@Import({PotParticipantService.class, NotificationOutboxService.class, NotificationSeqService.class, PotSeatAdmission.class, PotWaitlistQueue.class, PotMembershipCache.class,
+        PotParticipantServiceNotificationTest.JdbcRecorderConfig.class})
+@Transactional(propagation = Propagation.NOT_SUPPORTED) // 커밋 시점의 flush(배치 실행)를 보기 위해 테스트 트랜잭션 미사용
+@DisplayName("PotParticipantService 알림 일괄 저장 테스트")
+class PotParticipantServiceNotificationTest {
+
+    private static final int MEMBERS = 50;
+
+    @Autowired
+    private PotParticipantService potParticipantService;
+
+    @Autowired
+    private PotRepository potRepository;
+
+    @Autowired
+    private PotParticipantRepository potParticipantRepository;
+
+    @Autowired
+    private NotificationRepository notificationRepository;
+
+    @Autowired
+    private NotificationOutboxRepository notificationOutboxRepository;
+
+    @MockBean
+    private UserRepository userRepository;
+
+    @MockBean
+    private NotificationOutboxDispatcher notificationOutboxDispatcher;
+
+    @Autowired
+    private NotificationUserSeqRepository notificationUserSeqRepository;
+
+    @AfterEach
+    void tearDown() {
+        notificationOutboxRepository.deleteAll();
+        notificationRepository.deleteAll();
+        notificationUserSeqRepository.deleteAll();
+        potParticipantRepository.deleteAll();
+        potRepository.deleteAll();
+    }
+
+    @Test
+    @DisplayName("50명 팟 참가 알림 JDBC 배치 한 번 테스트")
+    void savePotParticipant_notificationBatch() throws Exception {
+        // Given - 49명이 참가한 팟에 50번째 사용자 참가
+        given(userRepository.findByUserId(anyString())).willReturn(Optional.of(mock(User.class)));
+        Long potId = potRepository.save(Pot.builder()
+                .title("성수 \"빵\" 투어")
+                .latitude(37.5665)
+                .longitude(126.9780)
+                .address("서울시 중구")
+                .maxParticipants(MEMBERS + 10)
+                .currentParticipants(MEMBERS - 1)
+                .dueDate(LocalDateTime.now().plusDays(1))
+                .createdBy(1L)
+                .createdAt(LocalDateTime.now())
+                .updatedAt(LocalDateTime.now())
+                .build()).getId();
+        List<PotParticipant> members = new ArrayList<>();
+        for (int i = 0; i < MEMBERS - 1; i++) {
+            members.add(PotParticipant.builder().potId(potId).userId("member" + i).build());
+        }
+        potParticipantRepository.saveAll(members);
+        JdbcRecorder.clear();
+
+        // When
+        potParticipantService.savePotParticipant(PotParticipantDto.Request.builder()
+                .potId(potId)
+                .userId("member" + (MEMBERS - 1))
+                .notificationMessage("새 멤버가 참가하였습니다.")
+                .build());
+
+        // Then - 알림 50건과 전송 대기(outbox) 50건이 각각 하나의 배치로 insert, 건별 insert와 요청 스레드의 전송 없음
+        List<String> notificationInserts = JdbcRecorder.executions().stream()
+                .filter(execution -> execution.contains("insert into notification")
+                        && !execution.contains("notification_user_seq"))
+                .collect(Collectors.toList());
+        assertThat(notificationInserts).containsExactlyInAnyOrder(
+                "batch(" + MEMBERS + ") insert into notification",
+                "batch(" + MEMBERS + ") insert into notification_outbox");
+        assertThat(notificationRepository.findAll()).hasSize(MEMBERS);
+        assertThat(notificationOutboxRepository.findAll())
+                .hasSize(MEMBERS)
+                .allMatch(outbox -> outbox.getStatus() == NotificationOutbox.Status.PENDING && outbox.getNotificationId() != null);
+        verify(notificationOutboxDispatcher, times(1)).wakeUp();
+
+        // Then - 사용자별 알림 순번은 처음 받는 사용자 행을 한 배치로 만들고 UPDATE 한 번으로 할당
+        assertThat(JdbcRecorder.executions().stream()
+                .filter(execution -> execution.contains("notification_user_seq"))
+                .collect(Collectors.toList()))
+                .hasSize(2)
+                .contains("batch(" + MEMBERS + ") insert into notification_user_seq")
+                .anyMatch(execution -> execution.startsWith("single update notification_user_seq"));
+        assertThat(notificationRepository.findAll()).extracting(Notification::getSeq).containsOnly(1L);
+
+        // Then - 전송 payload는 한 번 변환한 같은 JSON, 제목의 따옴표도 이스케이프
+        List<String> payloads = notificationOutboxRepository.findAll().stream()
+                .map(NotificationOutbox::getPayload)
+                .distinct()
+                .collect(Collectors.toList());
+        assertThat(payloads).hasSize(1);
+        JsonNode event = new ObjectMapper().readTree(payloads.get(0));
+        assertThat(event.get("title").asText()).isEqualTo("성수 \"빵\" 투어");
+        assertThat(event.get("message").asText()).isEqualTo("성수 \"빵\" 투어 에 새 멤버가 참가하였습니다.");
+    }
+
+    @TestConfiguration
+    static class JdbcRecorderConfig {
+
+        @Bean
+        static BeanPostProcessor jdbcRecorderPostProcessor() {
+            return new BeanPostProcessor() {
+                @Override
+                public Object postProcessAfterInitialization(Object bean, String beanName) {
+                    return bean instanceof DataSource ? JdbcRecorder.wrap(bean) : bean;
+                }
+            };
+        }
+
+    }
+
+    // DataSource → Connection → PreparedStatement를 프록시로 감싸 SQL 실행 방식(배치/건별)을 기록
+    static final class JdbcRecorder {
+
+        private static final ConcurrentLinkedQueue<String> EXECUTIONS = new ConcurrentLinkedQueue<>();
+
+        static void clear() {
+            EXECUTIONS.clear();
+        }
+
+        static List<String> executions() {
+            return new ArrayList<>(EXECUTIONS);
+        }
+
+        static Object wrap(Object target) {
+            return Proxy.newProxyInstance(target.getClass().getClassLoader(),
+                    ClassUtils.getAllInterfaces(target),
+                    (proxy, method, args) -> {
+                        Object result = invoke(target, method, args);
+                        if (result instanceof Connection) {
+                            return wrap(result);
+                        }
+                        if (result instanceof PreparedStatement && method.getName().equals("prepareStatement")) {
+                            return statement((PreparedStatement) result, (String) args[0]);
+                        }
+                        return result;
+                    });
+        }
+
+        private static Object statement(PreparedStatement target, String sql) {
+            String table = sql.toLowerCase(Locale.ROOT)
+                    .replaceAll("/\\*.*?\\*/", "") // use_sql_comments 주석 제거
+                    .replaceAll("\\s+", " ").trim()
+                    .replaceAll(" \\(.*", "");
+            int[] batched = {0};
+            return Proxy.newProxyInstance(target.getClass().getClassLoader(),
+                    ClassUtils.getAllInterfaces(target),
+                    (proxy, method, args) -> {
+                        switch (method.getName()) {
+                            case "addBatch":
+                                batched[0]++;
+                                break;
+                            case "executeBatch":
+                                EXECUTIONS.add("batch(" + batched[0] + ") " + table);
+                                batched[0] = 0;
+                                break;
+                            case "executeUpdate":
+                                EXECUTIONS.add("single " + table);
+                                break;
+                            default:
+                                break;
+                        }
+                        return invoke(target, method, args);
+                    });
+        }
+
+        private static Object invoke(Object target, Method method, Object[] args) throws Throwable {
+            try {
+                return method.invoke(target, args);
+            } catch (InvocationTargetException e) {
+                throw e.getCause();
+            }
+        }
+
+    }
+
+}
@@ -1,12 +1,20 @@
 package com.bbangbuddy.domain.pot.service;
 
-import com.bbangbuddy.domain.notification.service.TelegramService;
+import com.bbangbuddy.domain.notification.service.NotificationOutboxService;
+import com.bbangbuddy.domain.pot.cache.PotChangeLog;
+import com.bbangbuddy.domain.pot.cache.PotMembershipCache;
+import com.bbangbuddy.domain.pot.cache.PotTileCache;
 import com.bbangbuddy.domain.pot.domain.Pot;
-import com.bbangbuddy.domain.pot.domain.PotParticipant;
 import com.bbangbuddy.domain.pot.dto.PotDto;
+import com.bbangbuddy.domain.pot.event.PotChangedEvent;
+import com.bbangbuddy.domain.pot.index.PotClusterIndex;
+import com.bbangbuddy.domain.pot.index.PotSearchIndex;
+import com.bbangbuddy.domain.pot.index.PotSpatialIndex;
+import com.bbangbuddy.domain.pot.index.PotSuggestIndex;
 import com.bbangbuddy.domain.pot.repository.PotParticipantRepository;
 import com.bbangbuddy.domain.pot.repository.PotRepository;
 import com.bbangbuddy.domain.pot.repository.PotRepositorySupport;
+import com.bbangbuddy.domain.pot.repository.PotWaitlistRepository;
 import com.bbangbuddy.domain.user.domain.User;
 import com.bbangbuddy.domain.user.repository.UserRepository;
 import com.bbangbuddy.global.util.FileService;
@@ -17,14 +25,19 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.test.util.ReflectionTestUtils;
 import org.springframework.web.reactive.function.client.WebClient;
 
 import java.time.LocalDateTime;
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
 import java.util.Optional;
+import java.util.stream.Stream;
 
 import static org.assertj.core.api.Assertions.*;
+import static org.mockito.AdditionalMatchers.aryEq;
 import static org.mockito.ArgumentMatchers.*;
 import static org.mockito.BDDMockito.given;
 import static org.mockito.Mockito.*;
@@ -49,13 +62,43 @@ class PotServiceTest {
     private UserRepository userRepository;
     
     @Mock
-    private TelegramService telegramService;
+    private NotificationOutboxService notificationOutboxService;
     
     @Mock
     private WebClient webClient;
     
     @Mock
     private PotRepositorySupport potRepositorySupport;
+
+    @Mock
+    private PotSpatialIndex potSpatialIndex;
+
+    @Mock
+    private PotClusterIndex potClusterIndex;
+
+    @Mock
+    private PotTileCache potTileCache;
+
+    @Mock
+    private PotSearchIndex potSearchIndex;
+
+    @Mock
+    private PotSuggestIndex potSuggestIndex;
+
+    @Mock
+    private PotChangeLog potChangeLog;
+
+    @Mock
+    private PotMembershipCache potMembershipCache;
+
+    @Mock
+    private PotWaitlistRepository potWaitlistRepository;
+
+    @Mock
+    private PotParticipantService potParticipantService;
+
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
     
     @InjectMocks
     private PotService potService;
@@ -103,19 +146,21 @@ class PotServiceTest {
     }
 
     @Test
-    @DisplayName("모든 팟 조회 테스트")
-    void getAllPots_success() {
+    @DisplayName("팟 목록 페이지 조회 테스트 - 한 건 더 조회해 다음 페이지 여부 판단")
+    void streamPotPage_success() {
         // Given
-        List<Pot> expectedPots = Arrays.asList(testPot);
-        given(potRepository.findAll()).willReturn(expectedPots);
+        PotDto.Response first = PotDto.Response.from(testPot);
+        PotDto.Response second = first.toBuilder().id(2L).build();
+        given(potRepositorySupport.streamPots(eq(PotDto.Status.OPEN), eq(false), any(LocalDateTime.class), isNull(), eq(2)))
+                .willReturn(Stream.of(first, second));
 
         // When
-        List<Pot> actualPots = potService.getAllPots();
+        List<PotDto.Response> written = new ArrayList<>();
+        boolean hasNext = potService.streamPotPage(PotDto.Status.OPEN, false, null, 1, written::add);
 
-        // Then
-        assertThat(actualPots).hasSize(1);
-        assertThat(actualPots.get(0).getTitle()).isEqualTo("테스트 팟");
-        verify(potRepository, times(1)).findAll();
+        // Then - 다음 페이지 확인용으로 더 조회한 팟은 응답하지 않는다.
+        assertThat(hasNext).isTrue();
+        assertThat(written).extracting(PotDto.Response::getId).containsExactly(first.getId());
     }
 
     @Test
@@ -137,19 +182,66 @@ class PotServiceTest {
     }
 
     @Test
-    @DisplayName("내 팟 목록 조회 테스트")
+    @DisplayName("팟 검색 테스트 - 검색 인덱스 사용 시 관련도 순 정렬")
+    void searchPots_searchIndex() {
+        // Given - 설명에만 검색어가 있는 팟보다 제목에 있는 팟이 앞에 온다.
+        Pot descriptionPot = testPot.toBuilder().id(2L).title("치킨 팟").description("테스트 메뉴").build();
+        Pot unrelatedPot = testPot.toBuilder().id(3L).title("테 스트").description(null).address(null).build();
+        given(potSearchIndex.isReady()).willReturn(true);
+        given(potSearchIndex.findCandidateIds("테스트")).willReturn(Arrays.asList(1L, 2L, 3L));
+        given(potRepository.findAllById(Arrays.asList(1L, 2L, 3L)))
+                .willReturn(Arrays.asList(descriptionPot, unrelatedPot, testPot));
+
+        // When
+        List<PotDto.Response> result = potService.searchPots("테스트");
+
+        // Then
+        assertThat(result).extracting(PotDto.Response::getId).containsExactly(1L, 2L);
+        assertThat(result.get(0).getScore()).isGreaterThan(result.get(1).getScore());
+        verifyNoInteractions(potRepositorySupport);
+    }
+
+    @Test
+    @DisplayName("팟 검색 키셋 페이지 조회 테스트 - 한 건 더 조회해 다음 페이지 커서 반환")
+    void getSearchPotPage_success() {
+        // Given
+        PotDto.Response first = PotDto.Response.from(testPot);
+        PotDto.Response second = first.toBuilder().id(2L).build();
+        given(potRepositorySupport.findPageBySearchCondition(any(PotDto.Search.class), eq("-dueDate"), isNull(), isNull(), eq(2)))
+                .willReturn(Arrays.asList(first, second));
+
+        // When
+        PotDto.SearchPage result = potService.getSearchPotPage("%테스트%", "-dueDate", 1, null, null);
+
+        // Then
+        assertThat(result.getContent()).extracting(PotDto.Response::getId).containsExactly(first.getId());
+        assertThat(result.isHasNext()).isTrue();
+        assertThat(result.getNextDueDate()).isEqualTo(first.getDueDate());
+        assertThat(result.getNextId()).isEqualTo(first.getId());
+    }
+
+    @Test
+    @DisplayName("검색어 자동완성 테스트 - 최대 추천어 수 제한")
+    void suggestPots_limit() {
+        // Given
+        given(potSuggestIndex.isReady()).willReturn(true);
+        given(potSuggestIndex.suggest("테스", PotSuggestIndex.MAX_SUGGESTIONS)).willReturn(Arrays.asList("테스트 팟"));
+
+        // When
+        List<String> result = potService.suggestPots("테스", 100);
+
+        // Then
+        assertThat(result).containsExactly("테스트 팟");
+    }
+
+    @Test
+    @DisplayName("내 팟 목록 조회 테스트 - 참가 테이블 조인 한 번 조회 후 캐시 저장")
     void getMyPotList_success() {
         // Given
         String userId = "jupiterUser";
-        PotParticipant participant = mock(PotParticipant.class);
-        when(participant.getPotId()).thenReturn(1L);
-        
-        List<PotParticipant> participations = Arrays.asList(participant);
-        List<Long> potIds = Arrays.asList(1L);
-        List<Pot> pots = Arrays.asList(testPot);
-        
-        given(potParticipantRepository.findByUserId(userId)).willReturn(participations);
-        given(potRepository.findAllById(potIds)).willReturn(pots);
+        given(potMembershipCache.get(userId)).willReturn(null);
+        given(potMembershipCache.stamp()).willReturn(3L);
+        given(potRepositorySupport.findByParticipantUserId(userId)).willReturn(Arrays.asList(PotDto.Response.from(testPot)));
 
         // When
         List<PotDto.Response> result = potService.getMyPotList(userId);
@@ -157,8 +249,141 @@ class PotServiceTest {
         // Then
         assertThat(result).hasSize(1);
         assertThat(result.get(0).getTitle()).isEqualTo("테스트 팟");
-        verify(potParticipantRepository).findByUserId(userId);
-        verify(potRepository).findAllById(potIds);
+        verify(potMembershipCache).put(eq(userId), aryEq(new long[]{1L}), eq(3L));
+        verifyNoInteractions(potParticipantRepository, potRepository);
+    }
+
+    @Test
+    @DisplayName("내 팟 목록 조회 테스트 - 참가 팟 ID 캐시 사용")
+    void getMyPotList_membershipCache() {
+        // Given
+        given(potMembershipCache.get("jupiterUser")).willReturn(new long[]{1L});
+        given(potMembershipCache.get("newUser")).willReturn(new long[0]);
+        given(potRepositorySupport.findByIds(aryEq(new long[]{1L}))).willReturn(Arrays.asList(PotDto.Response.from(testPot)));
+
+        // When
+        List<PotDto.Response> result = potService.getMyPotList("jupiterUser");
+        List<PotDto.Response> empty = potService.getMyPotList("newUser");
+
+        // Then - 참가한 팟이 없으면 DB 조회 없음
+        assertThat(result).extracting(PotDto.Response::getTitle).containsExactly("테스트 팟");
+        assertThat(empty).isEmpty();
+        verify(potRepositorySupport, times(1)).findByIds(any());
+        verify(potRepositorySupport, never()).findByParticipantUserId(anyString());
+    }
+
+    @Test
+    @DisplayName("근처 팟 조회 테스트 - 공간 인덱스 사용")
+    void getNearPotList_spatialIndex() {
+        // Given
+        List<Long> potIds = Arrays.asList(1L);
+        given(potSpatialIndex.isReady()).willReturn(true);
+        given(potSpatialIndex.findNearbyIds(37.5665, 126.9780, 3)).willReturn(potIds);
+        given(potRepository.findAllById(potIds)).willReturn(Arrays.asList(testPot));
+
+        // When
+        List<PotDto.Response> result = potService.getNearPotList(37.5665, 126.9780, 3);
+
+        // Then
+        assertThat(result).hasSize(1);
+        assertThat(result.get(0).getTitle()).isEqualTo("테스트 팟");
+        verify(potRepository, never()).findNearbyPots(anyDouble(), anyDouble(), anyInt());
+    }
+
+    @Test
+    @DisplayName("근처 팟 조회 테스트 - 타일 캐시 사용")
+    void getNearPotList_tileCache() {
+        // Given
+        List<PotDto.Response> cached = Arrays.asList(PotDto.Response.from(testPot));
+        given(potTileCache.isEnabled()).willReturn(true);
+        given(potTileCache.findNearby(37.5665, 126.9780, 3)).willReturn(cached);
+
+        // When
+        List<PotDto.Response> result = potService.getNearPotList(37.5665, 126.9780, 3);
+
+        // Then
+        assertThat(result).isSameAs(cached);
+        verifyNoInteractions(potSpatialIndex, potRepository);
+    }
+
+    @Test
+    @DisplayName("근처 팟 조회 테스트 - 바운딩 박스 비활성화 시 네이티브 쿼리 사용")
+    void getNearPotList_fallbackToNativeQuery() {
+        // Given
+        given(potSpatialIndex.isReady()).willReturn(false);
+
+        // When
+        potService.getNearPotList(37.5665, 126.9780, 3);
+
+        // Then
+        verify(potRepository).findNearbyPots(37.5665, 126.9780, 3);
+        verify(potSpatialIndex, never()).findNearbyIds(anyDouble(), anyDouble(), anyDouble());
+    }
+
+    @Test
+    @DisplayName("근처 팟 조회 테스트 - 인덱스 미적재 시 바운딩 박스 쿼리 사용")
+    void getNearPotList_boundingBox() {
+        // Given
+        ReflectionTestUtils.setField(potService, "boundingBoxEnabled", true);
+        given(potSpatialIndex.isReady()).willReturn(false);
+
+        // When
+        potService.getNearPotList(37.5665, 126.9780, 3);
+
+        // Then
+        verify(potRepository).findNearbyPotsInBoundingBox(37.5665, 126.9780, 3);
+        verify(potRepository, never()).findNearbyPots(anyDouble(), anyDouble(), anyInt());
+    }
+
+    @Test
+    @DisplayName("근처 팟 거리순 페이지 조회 테스트 - 다음 페이지 커서 반환")
+    void getNearPotPage_spatialIndex() {
+        // Given - limit 1 요청 시 한 건 더 조회해 다음 페이지 여부를 판단
+        Pot secondPot = testPot.toBuilder().id(2L).title("두 번째 팟").build();
+        given(potSpatialIndex.isReady()).willReturn(true);
+        given(potSpatialIndex.findNearest(37.5665, 126.9780, 3, -1, Long.MIN_VALUE, 2))
+                .willReturn(Arrays.asList(new PotSpatialIndex.Neighbor(1L, 0.1), new PotSpatialIndex.Neighbor(2L, 0.5)));
+        given(potRepository.findAllById(Arrays.asList(1L, 2L))).willReturn(Arrays.asList(secondPot, testPot));
+
+        // When
+        PotDto.NearbyPage result = potService.getNearPotPage(37.5665, 126.9780, 3, 1, null, null);
+
+        // Then
+        assertThat(result.getContent()).extracting(PotDto.Response::getId).containsExactly(1L);
+        assertThat(result.getContent().get(0).getDistance()).isEqualTo(0.1);
+        assertThat(result.isHasNext()).isTrue();
+        assertThat(result.getNextDistance()).isEqualTo(0.1);
+        assertThat(result.getNextId()).isEqualTo(1L);
+    }
+
+    @Test
+    @DisplayName("근처 팟 거리순 페이지 조회 테스트 - 인덱스 미적재 시 정렬 쿼리 사용")
+    void getNearPotPage_fallbackToQuery() {
+        // Given
+        given(potSpatialIndex.isReady()).willReturn(false);
+
+        // When
+        PotDto.NearbyPage result = potService.getNearPotPage(37.5665, 126.9780, 3, 20, 0.5, 2L);
+
+        // Then
+        assertThat(result.getContent()).isEmpty();
+        assertThat(result.isHasNext()).isFalse();
+        verify(potRepository).findNearestPots(37.5665, 126.9780, 3, 0.5, 2L, 21);
+    }
+
+    @Test
+    @DisplayName("지도 클러스터 조회 테스트 - 인덱스 미적재 시 뷰포트 좌표 집계")
+    void getPotClusters_fallbackToQuery() {
+        // Given - 경도 180도를 넘는 뷰포트는 두 범위로 나누어 조회
+        given(potClusterIndex.isReady()).willReturn(false);
+
+        // When
+        List<PotDto.Cluster> result = potService.getPotClusters(-20, -15, 179, -179, 12);
+
+        // Then
+        assertThat(result).isEmpty();
+        verify(potRepository).findCoordinatesInBoundingBox(-20, -15, 179, 180);
+        verify(potRepository).findCoordinatesInBoundingBox(-20, -15, -180, -179);
     }
 
     @Test
@@ -200,6 +425,25 @@ class PotServiceTest {
         assertThat(result).isEqualTo(1L);
         verify(potRepository).findById(1L);
         verify(potRepository).save(any(Pot.class));
+        verify(potParticipantService, never()).fillWaitlist(anyLong());
+    }
+
+    @Test
+    @DisplayName("팟 업데이트 테스트 - 정원이 늘면 대기자 승격")
+    void upsertPot_update_fillWaitlist() throws Exception {
+        // Given - 정원 5명 -> 8명
+        String userId = "jupiterUser";
+        testUpsert.setId(1L);
+        testUpsert.setMaxParticipants(8);
+
+        given(potRepository.findById(1L)).willReturn(Optional.of(testPot));
+        given(potRepository.save(any(Pot.class))).willReturn(testPot);
+
+        // When
+        potService.upsertPot(testUpsert, null, userId);
+
+        // Then
+        verify(potParticipantService).fillWaitlist(1L);
     }
 
     @Test
@@ -214,7 +458,9 @@ class PotServiceTest {
 
         // Then
         verify(potRepository).findById(1L);
+        verify(potWaitlistRepository).deleteByPotId(1L);
         verify(potRepository).deleteById(1L);
+        verify(eventPublisher).publishEvent(any(PotChangedEvent.class));
     }
 
     @Test
@@ -0,0 +1,55 @@
+package com.bbangbuddy.global.util;
+
+import com.bbangbuddy.domain.pot.domain.QPot;
+import com.bbangbuddy.domain.pot.dto.PotDto;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+import java.lang.management.ManagementFactory;
+
+import static org.assertj.core.api.Assertions.*;
+
+/**
+ * ConditionFactory 성능 측정
+ *
+ * 테스트 목적: 검색 요청마다 실행되는 DTO -> Predicate 변환의 호출당 시간과 할당 바이트를 측정
+ * 할당량은 현재 스레드의 누적 할당 바이트(com.sun.management.ThreadMXBean)로 계산한다.
+ * 기본 빌드에서는 제외되며 ./gradlew benchmark 로 실행한다.
+ */
+@Tag("benchmark")
+@DisplayName("ConditionFactory 성능 측정")
+class ConditionFactoryBenchmarkTest {
+
+    private static final int WARMUP = 20_000;
+    private static final int ITERATIONS = 100_000;
+
+    @Test
+    @DisplayName("검색 조건 Predicate 생성 시간과 할당량")
+    void createPredicates_benchmark() {
+        com.sun.management.ThreadMXBean threadMXBean =
+                (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+        long threadId = Thread.currentThread().getId();
+        PotDto.Search search = PotDto.Search.builder()
+                .title("%신전떡볶이%")
+                .description("%신전떡볶이%")
+                .address("%신전떡볶이%")
+                .build();
+
+        assertThat(ConditionFactory.of(QPot.pot, search).getPredicateArray()).hasSize(1);
+        for (int i = 0; i < WARMUP; i++) {
+            ConditionFactory.of(QPot.pot, search).getPredicateArray();
+        }
+
+        long allocatedBefore = threadMXBean.getThreadAllocatedBytes(threadId);
+        long start = System.nanoTime();
+        for (int i = 0; i < ITERATIONS; i++) {
+            ConditionFactory.of(QPot.pot, search).getPredicateArray();
+        }
+        double micros = (System.nanoTime() - start) / 1_000.0 / ITERATIONS;
+        long bytesPerCall = (threadMXBean.getThreadAllocatedBytes(threadId) - allocatedBefore) / ITERATIONS;
+
+        System.out.printf("[benchmark] ConditionFactory.of(pot, search) : %8.3f us/op, %,d B/op%n", micros, bytesPerCall);
+    }
+
+}
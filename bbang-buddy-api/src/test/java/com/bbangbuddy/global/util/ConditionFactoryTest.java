@@ -0,0 +1,81 @@
+package com.bbangbuddy.global.util;
+
+import com.bbangbuddy.domain.pot.domain.QPot;
+import com.bbangbuddy.domain.pot.dto.PotDto;
+import com.querydsl.core.types.Predicate;
+import com.querydsl.jpa.JPQLSerializer;
+import com.querydsl.jpa.JPQLTemplates;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.*;
+
+/**
+ * ConditionFactory 테스트 클래스
+ *
+ * 테스트 목적: 캐시된 필드 실행 계획으로 만든 검색 조건이 dto 값과 연산자에 따라 올바르게 생성되고,
+ * 검색어가 달라도 같은 조건 템플릿(같은 JPQL)을 재사용하는지 검증
+ */
+@DisplayName("ConditionFactory 테스트")
+class ConditionFactoryTest {
+
+    @Test
+    @DisplayName("검색어가 달라도 같은 조건 템플릿 재사용 테스트")
+    void of_reusesTemplate() {
+        // Given
+        PotDto.Search first = PotDto.Search.builder().title("%신전%").address("%신전%").build();
+        PotDto.Search second = PotDto.Search.builder().title("%교촌%").address("교촌%").build();
+
+        // When
+        Predicate[] firstPredicates = ConditionFactory.of(QPot.pot, first).getPredicateArray();
+        Predicate[] secondPredicates = ConditionFactory.of(QPot.pot, second).getPredicateArray();
+
+        // Then - 값이 없는 description은 조건에서 빠지고, 접두 LIKE도 같은 LIKE 템플릿을 쓴다.
+        assertThat(firstPredicates).hasSize(1);
+        assertThat(secondPredicates[0]).isSameAs(firstPredicates[0]);
+        String jpql = toJpql(firstPredicates[0]);
+        assertThat(jpql).contains("pot.title like ?1", "pot.address like ?2").doesNotContain("신전", "description");
+    }
+
+    @Test
+    @DisplayName("연산자별 조건 생성 테스트")
+    void of_operator() {
+        // Given - %가 없으면 EQUAL
+        PotDto.Search search = PotDto.Search.builder().title("신전떡볶이").address("서울%").build();
+
+        // When
+        Predicate[] result = ConditionFactory.of(QPot.pot, search).getPredicateArray();
+
+        // Then
+        assertThat(toJpql(result[0])).contains("pot.title = ?1", "pot.address like ?2");
+    }
+
+    @Test
+    @DisplayName("검색 값이 모두 없으면 조건 없음 테스트")
+    void of_emptySearch() {
+        // When
+        Predicate[] result = ConditionFactory.of(QPot.pot, new PotDto.Search()).getPredicateArray();
+
+        // Then
+        assertThat(result).isEmpty();
+    }
+
+    @Test
+    @DisplayName("엔티티 경로 정보 재사용 테스트")
+    void queryPathBuilder_cached() {
+        // When
+        QueryPathBuilder first = QueryPathBuilder.of(QPot.pot, "title");
+        QueryPathBuilder second = QueryPathBuilder.of(QPot.pot, "title");
+
+        // Then - 엔티티에 없는 필드는 null
+        assertThat(first).isNotNull().isSameAs(second);
+        assertThat(QueryPathBuilder.of(QPot.pot, "unknownField")).isNull();
+    }
+
+    private String toJpql(Predicate predicate) {
+        JPQLSerializer serializer = new JPQLSerializer(JPQLTemplates.DEFAULT);
+        serializer.handle(predicate);
+        return serializer.toString();
+    }
+
+}
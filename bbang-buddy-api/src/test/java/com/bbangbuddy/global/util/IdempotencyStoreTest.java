@@ -0,0 +1,125 @@
+package com.bbangbuddy.global.util;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.ResponseEntity;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.*;
+
+/**
+ * IdempotencyStore 단위 테스트
+ *
+ * 테스트 목적: 같은 Idempotency-Key의 동시 재시도가 한 번만 처리되어 같은 응답을 받는지,
+ * 실패한 요청은 저장하지 않는지, 다른 사용자의 같은 키는 따로 처리되는지 검증
+ */
+@DisplayName("IdempotencyStore 단위 테스트")
+class IdempotencyStoreTest {
+
+    private final IdempotencyStore idempotencyStore = new IdempotencyStore(100, 60);
+
+    @AfterEach
+    void tearDown() {
+        RequestContextHolder.resetRequestAttributes();
+    }
+
+    @Test
+    @DisplayName("같은 키 동시 재시도 한 번만 처리 테스트")
+    void execute_concurrentReplay() throws Exception {
+        // Given
+        AtomicInteger executions = new AtomicInteger();
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        ExecutorService executor = Executors.newFixedThreadPool(8);
+
+        // When - 처음 요청이 처리되는 동안 같은 키로 7번 재시도
+        List<Future<ResponseEntity<Object>>> responses = new ArrayList<>();
+        for (int i = 0; i < 8; i++) {
+            responses.add(executor.submit(() -> {
+                bindRequest("jupiterUser");
+                return idempotencyStore.execute("join-1", () -> {
+                    started.countDown();
+                    await(release);
+                    return ResponseEntity.ok("참가 " + executions.incrementAndGet());
+                });
+            }));
+        }
+        started.await();
+        release.countDown();
+        executor.shutdown();
+
+        // Then - 모두 처음 응답, 재사용된 응답에는 표시 헤더
+        int replayed = 0;
+        for (Future<ResponseEntity<Object>> response : responses) {
+            assertThat(response.get().getBody()).isEqualTo("참가 1");
+            if (response.get().getHeaders().containsKey(IdempotencyStore.REPLAYED_HEADER)) {
+                replayed++;
+            }
+        }
+        assertThat(executions.get()).isEqualTo(1);
+        assertThat(replayed).isEqualTo(7);
+    }
+
+    @Test
+    @DisplayName("실패한 요청은 저장하지 않는 테스트")
+    void execute_failureNotStored() {
+        // Given
+        bindRequest("jupiterUser");
+
+        // When
+        assertThatThrownBy(() -> idempotencyStore.execute("join-2", () -> {
+            throw new RuntimeException("정원이 초과된 팟입니다.");
+        })).hasMessage("정원이 초과된 팟입니다.");
+        ResponseEntity<Object> retry = idempotencyStore.execute("join-2", () -> ResponseEntity.ok("재시도 성공"));
+
+        // Then
+        assertThat(retry.getBody()).isEqualTo("재시도 성공");
+        assertThat(retry.getHeaders().containsKey(IdempotencyStore.REPLAYED_HEADER)).isFalse();
+    }
+
+    @Test
+    @DisplayName("사용자별 키 분리 및 키 없는 요청 테스트")
+    void execute_scope() {
+        // Given
+        AtomicInteger executions = new AtomicInteger();
+
+        // When - 다른 사용자의 같은 키, 키 없는 요청 두 번
+        bindRequest("jupiterUser");
+        idempotencyStore.execute("join-3", () -> ResponseEntity.ok(executions.incrementAndGet()));
+        bindRequest("marsUser");
+        idempotencyStore.execute("join-3", () -> ResponseEntity.ok(executions.incrementAndGet()));
+        idempotencyStore.execute(null, () -> ResponseEntity.ok(executions.incrementAndGet()));
+        idempotencyStore.execute(" ", () -> ResponseEntity.ok(executions.incrementAndGet()));
+
+        // Then
+        assertThat(executions.get()).isEqualTo(4);
+        assertThat(idempotencyStore.size()).isEqualTo(2);
+    }
+
+    private void bindRequest(String userId) {
+        MockHttpServletRequest request = new MockHttpServletRequest("POST", "/api/participant");
+        request.addHeader("userId", userId);
+        RequestContextHolder.setRequestAttributes(new ServletRequestAttributes(request));
+    }
+
+    private void await(CountDownLatch latch) {
+        try {
+            latch.await();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException(e);
+        }
+    }
+
+}
@@ -88,7 +88,12 @@ const useNotification = () => {
           }
 
           try {
-            const notification = JSON.parse(event.data);
+            const payload = JSON.parse(event.data);
+            // 알림 ID는 본문이 아닌 SSE id 필드(lastEventId, "순번-알림 ID")로 전달된다.
+            const notification = {
+              ...payload,
+              id: payload.id ?? event.lastEventId.split('-').pop(),
+            };
 
             if (process.env.NODE_ENV === 'development') {
               console.log('✅ 알림 파싱 성공:', notification);
@@ -1,5 +1,5 @@
 import apiClient from './apiClient';
-import { PotFormData } from '../types/pot';
+import { Pot, PotFormData, PotPage } from '../types/pot';
 import { useAuthStore } from '../store/useAuthStore';
 
 export const createPot = async (potData: PotFormData, image?: File | null) => {
@@ -66,9 +66,18 @@ export const getMyPots = async () => {
   return response.data;
 };
 
-export const getAllPots = async () => {
-  const response = await apiClient.get(`/api/pot`);
-  return response.data;
+// /api/pot은 ID 순 페이지({ content, hasNext, nextId })로 응답하므로 마지막 페이지까지 이어서 조회
+export const getAllPots = async (): Promise<Pot[]> => {
+  const pots: Pot[] = [];
+  let lastId: number | null = null;
+  do {
+    const response: { data: PotPage } = await apiClient.get(`/api/pot`, {
+      params: { includeDescription: true, lastId: lastId ?? undefined },
+    });
+    pots.push(...response.data.content);
+    lastId = response.data.hasNext ? response.data.nextId : null;
+  } while (lastId !== null);
+  return pots;
 };
 
 export const searchPots = async (keyword: string) => {
@@ -44,6 +44,10 @@ const useNotificationStore = create<NotificationState>((set, get) => ({
   },
   addNotification: (notification: Notification) => {
     const { notifications } = get();
+    // 재연결 재전송은 이미 받은 알림과 겹칠 수 있으므로 같은 ID는 한 번만 보관
+    if (notifications.some((n) => String(n.id) === String(notification.id))) {
+      return;
+    }
 
     const safeNotification = {
       ...notification,
@@ -45,6 +45,12 @@ export interface Pot {
   chatRoomUrl?: string;
 }
 
+export interface PotPage {
+  content: Pot[];
+  hasNext: boolean;
+  nextId: number | null;
+}
+
 export interface PotCardProps {
   pot: Pot;
   pageType: 'main' | 'allPot';